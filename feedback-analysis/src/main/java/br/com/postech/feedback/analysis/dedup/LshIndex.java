@@ -0,0 +1,137 @@
+package br.com.postech.feedback.analysis.dedup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Banded LSH index over MinHash signatures. Each signature is cut into {@code bands} bands of
+ * {@code rows} values; two signatures become candidates when any band is identical, and only
+ * candidates are compared position by position. With 16 bands of 4 rows, pairs around 0.5
+ * similarity are found half the time and pairs above 0.8 almost always.
+ * <p>
+ * Entries are kept in arrival order, so expiring the window and enforcing {@code maxEntries} both
+ * remove from the head. Not thread-safe.
+ */
+public final class LshIndex {
+
+    public record Entry(long id, long timestamp, int[] signature) {
+    }
+
+    public record Match(long id, double similarity) {
+    }
+
+    private final int bands;
+    private final int rows;
+    private final int maxEntries;
+    private final ArrayDeque<Indexed> entries = new ArrayDeque<>();
+    private final Map<Long, List<Indexed>> buckets = new HashMap<>();
+
+    private record Indexed(Entry entry, long[] keys) {
+    }
+
+    public LshIndex(int bands, int rows, int maxEntries) {
+        if (bands <= 0 || rows <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("bands, rows and maxEntries must be positive");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.maxEntries = maxEntries;
+    }
+
+    public int signatureLength() {
+        return bands * rows;
+    }
+
+    /** Most similar indexed signature at or above {@code threshold}. */
+    public Optional<Match> findSimilar(int[] signature, double threshold) {
+        checkLength(signature);
+        Indexed best = null;
+        double bestSimilarity = -1;
+        for (int band = 0; band < bands; band++) {
+            List<Indexed> candidates = buckets.get(key(signature, band));
+            if (candidates == null) {
+                continue;
+            }
+            for (Indexed candidate : candidates) {
+                if (candidate == best) {
+                    continue;
+                }
+                double similarity = MinHasher.similarity(signature, candidate.entry().signature());
+                if (similarity > bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        return best != null && bestSimilarity >= threshold
+                ? Optional.of(new Match(best.entry().id(), bestSimilarity))
+                : Optional.empty();
+    }
+
+    /** Adds an entry; timestamps are expected in non-decreasing order. */
+    public void add(Entry entry) {
+        checkLength(entry.signature());
+        long[] keys = new long[bands];
+        Indexed indexed = new Indexed(entry, keys);
+        for (int band = 0; band < bands; band++) {
+            keys[band] = key(entry.signature(), band);
+            buckets.computeIfAbsent(keys[band], key -> new ArrayList<>(1)).add(indexed);
+        }
+        entries.addLast(indexed);
+        while (entries.size() > maxEntries) {
+            remove(entries.pollFirst());
+        }
+    }
+
+    /** Drops entries older than {@code timestamp}; returns how many were removed. */
+    public int expireBefore(long timestamp) {
+        int removed = 0;
+        while (!entries.isEmpty() && entries.peekFirst().entry().timestamp() < timestamp) {
+            remove(entries.pollFirst());
+            removed++;
+        }
+        return removed;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /** Entries in arrival order, for snapshots. */
+    public Collection<Entry> entries() {
+        List<Entry> snapshot = new ArrayList<>(entries.size());
+        entries.forEach(indexed -> snapshot.add(indexed.entry()));
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    private void remove(Indexed indexed) {
+        for (long key : indexed.keys()) {
+            List<Indexed> bucket = buckets.get(key);
+            bucket.remove(indexed);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private long key(int[] signature, int band) {
+        int hash = 1;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = 31 * hash + signature[i];
+        }
+        return ((long) band << 32) | (hash & 0xFFFFFFFFL);
+    }
+
+    private void checkLength(int[] signature) {
+        if (signature.length != bands * rows) {
+            throw new IllegalArgumentException("Signature length " + signature.length
+                    + " does not match " + bands + " bands x " + rows + " rows");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.postech.feedback.analysis.dedup;
+
+import br.com.postech.feedback.core.text.TextFolding;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures of descriptions. Text is normalized first (case and accents folded, every run
+ * of punctuation or whitespace collapsed to one space), then split into character shingles; the
+ * fraction of equal positions in two signatures estimates the Jaccard similarity of their shingle
+ * sets.
+ */
+public final class MinHasher {
+
+    private final int shingleSize;
+    private final int[] seeds;
+
+    public MinHasher(int numHashes, int shingleSize, long seed) {
+        if (numHashes <= 0 || shingleSize <= 0) {
+            throw new IllegalArgumentException("numHashes and shingleSize must be positive");
+        }
+        this.shingleSize = shingleSize;
+        this.seeds = new int[numHashes];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = random.nextInt();
+        }
+    }
+
+    public int numHashes() {
+        return seeds.length;
+    }
+
+    public static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = TextFolding.fold(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /** Signature of the normalized text; {@code null} when nothing is left after normalization. */
+    public int[] signature(String text) {
+        String normalized = text != null ? normalize(text) : "";
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        // Textos menores que o shingle viram um shingle só
+        int last = Math.max(0, normalized.length() - shingleSize);
+        for (int start = 0; start <= last; start++) {
+            int end = Math.min(normalized.length(), start + shingleSize);
+            int shingle = 0;
+            for (int i = start; i < end; i++) {
+                shingle = 31 * shingle + normalized.charAt(i);
+            }
+            for (int h = 0; h < seeds.length; h++) {
+                int value = mix(shingle ^ seeds[h]);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    // finalizador do murmur3
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.postech.feedback.analysis.dedup;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Near-duplicate descriptions within a sliding window, so a complaint submitted dozens of times
+ * raises one alert instead of dozens.
+ * <p>
+ * Signatures are 64 MinHash values over 4-character shingles, indexed with 16 bands of 4 rows;
+ * {@code analysis.dedup.similarity} is the estimated Jaccard similarity above which two
+ * descriptions count as the same. Memory is bounded by {@code analysis.dedup.max-entries}
+ * (about 400 bytes each) besides the {@code analysis.dedup.window-minutes} expiry.
+ * <p>
+ * With {@code analysis.dedup.snapshot-location} the index is written there on shutdown and read
+ * back on startup, skipping entries that expired in between.
+ */
+@Slf4j
+@Component
+public class NearDuplicateDetector {
+
+    static final int BANDS = 16;
+    static final int ROWS = 4;
+    static final int SHINGLE_SIZE = 4;
+    static final long SEED = 0x5EEDL;
+
+    private static final int SNAPSHOT_MAGIC = 0x46424431; // "FBD1"
+
+    public record Duplicate(long originalId, double similarity) {
+    }
+
+    private final boolean enabled;
+    private final Duration window;
+    private final double similarity;
+    private final Path snapshotLocation;
+    private final Clock clock;
+    private final MinHasher hasher = new MinHasher(BANDS * ROWS, SHINGLE_SIZE, SEED);
+    private final LshIndex index;
+
+    @Autowired
+    public NearDuplicateDetector(@Value("${analysis.dedup.enabled:true}") boolean enabled,
+                                 @Value("${analysis.dedup.window-minutes:60}") long windowMinutes,
+                                 @Value("${analysis.dedup.max-entries:10000}") int maxEntries,
+                                 @Value("${analysis.dedup.similarity:0.8}") double similarity,
+                                 @Value("${analysis.dedup.snapshot-location:}") String snapshotLocation) {
+        this(enabled, Duration.ofMinutes(windowMinutes), maxEntries, similarity,
+                snapshotLocation == null || snapshotLocation.isBlank() ? null : Path.of(snapshotLocation),
+                Clock.systemUTC());
+    }
+
+    public NearDuplicateDetector(boolean enabled, Duration window, int maxEntries, double similarity,
+                                 Path snapshotLocation, Clock clock) {
+        if (similarity <= 0 || similarity > 1) {
+            throw new IllegalArgumentException("analysis.dedup.similarity must be in (0, 1]");
+        }
+        this.enabled = enabled;
+        this.window = window;
+        this.similarity = similarity;
+        this.snapshotLocation = snapshotLocation;
+        this.clock = clock;
+        this.index = new LshIndex(BANDS, ROWS, maxEntries);
+        if (enabled && snapshotLocation != null) {
+            restore();
+        }
+        log.info("Near-duplicate detection: {} (window {}, max {} entries, similarity {})",
+                enabled ? "enabled" : "disabled", window, maxEntries, similarity);
+    }
+
+    /**
+     * Returns the earlier feedback this description duplicates, if any. Blank descriptions are
+     * never duplicates. Nothing is recorded: call {@link #record} once the alert has been sent, so
+     * an alert that failed to go out is not a duplicate of itself when the message is redelivered.
+     */
+    public synchronized Optional<Duplicate> findDuplicate(String description) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        int[] signature = hasher.signature(description);
+        if (signature == null) {
+            return Optional.empty();
+        }
+        index.expireBefore(clock.millis() - window.toMillis());
+        return index.findSimilar(signature, similarity)
+                .map(match -> new Duplicate(match.id(), match.similarity()));
+    }
+
+    /** Records the description of a feedback whose alert was sent as the original for later ones. */
+    public synchronized void record(Long id, String description) {
+        if (!enabled) {
+            return;
+        }
+        int[] signature = hasher.signature(description);
+        if (signature != null) {
+            index.add(new LshIndex.Entry(id != null ? id : -1L, clock.millis(), signature));
+        }
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (enabled && snapshotLocation != null) {
+            snapshot();
+        }
+    }
+
+    /** Writes the index to the snapshot location through a temporary file and an atomic move. */
+    public synchronized void snapshot() {
+        try {
+            Path parent = snapshotLocation.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, "dedup", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(index.signatureLength());
+                out.writeInt(index.size());
+                for (LshIndex.Entry entry : index.entries()) {
+                    out.writeLong(entry.id());
+                    out.writeLong(entry.timestamp());
+                    for (int value : entry.signature()) {
+                        out.writeInt(value);
+                    }
+                }
+            }
+            Files.move(temporary, snapshotLocation,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Near-duplicate index saved to {} ({} entries)", snapshotLocation, index.size());
+        } catch (IOException e) {
+            log.error("Failed to save near-duplicate index to {}: {}", snapshotLocation, e.getMessage());
+        }
+    }
+
+    // Snapshot ausente ou inválido não impede a subida: segue com o que foi lido até o erro
+    private void restore() {
+        if (!Files.exists(snapshotLocation)) {
+            return;
+        }
+        long oldest = clock.millis() - window.toMillis();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotLocation)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != index.signatureLength()) {
+                throw new IOException("Incompatible snapshot");
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                long timestamp = in.readLong();
+                int[] signature = new int[index.signatureLength()];
+                for (int k = 0; k < signature.length; k++) {
+                    signature[k] = in.readInt();
+                }
+                if (timestamp >= oldest) {
+                    index.add(new LshIndex.Entry(id, timestamp, signature));
+                }
+            }
+            log.info("Near-duplicate index restored from {} ({} entries)", snapshotLocation, index.size());
+        } catch (IOException e) {
+            log.error("Failed to restore near-duplicate index from {}, continuing with {} entries: {}",
+                    snapshotLocation, index.size(), e.getMessage());
+        }
+    }
+}
@@ -1,20 +1,34 @@
 package br.com.postech.feedback.analysis.service;
 
-import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.analysis.dedup.NearDuplicateDetector;
+import br.com.postech.feedback.analysis.text.TextAnalysis;
+import br.com.postech.feedback.analysis.text.TextAnalyzer;
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.codec.WireFormat;
 import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import br.com.postech.feedback.core.event.EventEnvelope;
+import br.com.postech.feedback.core.rules.Classification;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.core.sentiment.SentimentScorer;
 import com.amazonaws.services.lambda.runtime.events.SQSEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.awspring.cloud.sqs.annotation.SqsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.handler.annotation.Headers;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sns.model.PublishRequest;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -22,11 +36,24 @@ import java.util.function.Consumer;
 public class FeedbackAnalysisService {
 
     private final SnsClient snsClient;
-    private final ObjectMapper objectMapper;
+    private final FeedbackEventCodec feedbackEventCodec;
+    private final FeedbackRules feedbackRules;
+    private final TextAnalyzer textAnalyzer;
+    private final SentimentScorer sentimentScorer;
+    private final NearDuplicateDetector duplicateDetector;
+
+    public static final String SEVERITY_SCORE_ATTRIBUTE = "severity-score";
+    public static final String SEVERITY_TAGS_ATTRIBUTE = "severity-tags";
+    public static final String SENTIMENT_SCORE_ATTRIBUTE = "sentiment-score";
+    public static final String DUPLICATE_OF_ATTRIBUTE = "duplicate-of";
 
     @Value("${SNS_TOPIC_ARN:}")
     private String topicArn;
 
+    // Decide pelo status lido em streaming e repassa o corpo original ao SNS, sem decode/encode
+    @Value("${analysis.pass-through:true}")
+    private boolean passThrough = true;
+
     private void validateTopicArn() {
         if (topicArn == null || topicArn.isBlank()) {
             log.error("❌ [CONFIG ERROR] SNS_TOPIC_ARN não está configurada!");
@@ -48,9 +75,14 @@ public class FeedbackAnalysisService {
                 try {
                     log.info("📩 Processando mensagem ID: {}", record.getMessageId());
 
-                    String body = record.getBody();
-                    FeedbackEventDTO dto = objectMapper.readValue(body, FeedbackEventDTO.class);
-                    processarFeedback(dto);
+                    Map<String, String> attributes = attributes(record);
+                    Optional<EventEnvelope> envelope = EventEnvelope.fromAttributes(attributes::get);
+                    if (!isFeedbackReceived(envelope)) {
+                        return;
+                    }
+
+                    processarMensagem(record.getBody(),
+                            attributes.get(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE), envelope.orElse(null));
 
                 } catch (JsonProcessingException e) {
                     log.error("❌ Erro ao converter JSON da mensagem: {}", e.getMessage(), e);
@@ -63,31 +95,121 @@ public class FeedbackAnalysisService {
     }
 
     @SqsListener("feedback-analysis-queue")
+    public void listen(String body, @Headers Map<String, Object> headers) throws JsonProcessingException {
+        log.info("💻 [LOCAL] Mensagem capturada via SqsListener");
+        Function<String, String> attribute = name -> headers.get(name) != null ? headers.get(name).toString() : null;
+        Optional<EventEnvelope> envelope = EventEnvelope.fromAttributes(attribute);
+        if (!isFeedbackReceived(envelope)) {
+            return;
+        }
+        processarMensagem(body, attribute.apply(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE), envelope.orElse(null));
+    }
+
     public void listen(FeedbackEventDTO event) {
         log.info("💻 [LOCAL] Mensagem capturada via SqsListener");
-        processarFeedback(event);
+        processarFeedback(event, null);
+    }
+
+    private static Map<String, String> attributes(SQSEvent.SQSMessage record) {
+        Map<String, String> attributes = new HashMap<>();
+        if (record.getMessageAttributes() != null) {
+            record.getMessageAttributes().forEach((name, value) -> attributes.put(name, value.getStringValue()));
+        }
+        return attributes;
+    }
+
+    // Mensagens sem envelope são anteriores a ele e continuam sendo tratadas como feedback
+    private static boolean isFeedbackReceived(Optional<EventEnvelope> envelope) {
+        if (envelope.isEmpty() || EventEnvelope.FEEDBACK_RECEIVED.equals(envelope.get().type())) {
+            return true;
+        }
+        log.warn("⏭️ Evento do tipo {} ignorado pela análise", envelope.get().type());
+        return false;
+    }
+
+    private void processarMensagem(String body, String contentType, EventEnvelope envelope)
+            throws JsonProcessingException {
+        if (!passThrough) {
+            processarFeedback(feedbackEventCodec.decode(body, contentType), envelope);
+            return;
+        }
+
+        // Sem horário no resumo: regras com janela de horário valem só na ingestão
+        FeedbackEventCodec.Summary summary = feedbackEventCodec.peek(body, contentType);
+        Classification classification = feedbackRules.classify(
+                summary.rating(), summary.status(), summary.description(), null);
+        TextAnalysis text = textAnalyzer.analyze(summary.description());
+        if (isCritical(summary.id(), summary.rating(), classification, text, envelope)) {
+            // Reencaminha no formato em que chegou; eventos anteriores ao modelo chegam sem sentimento
+            Double sentiment = summary.sentimentScore() != null
+                    ? summary.sentimentScore()
+                    : sentimentScorer.score(summary.description());
+            sendAlert(summary.id(), summary.description(), () -> body,
+                    WireFormat.fromContentType(contentType).getContentType(), text, sentiment, envelope);
+        }
     }
 
-    private void processarFeedback(FeedbackEventDTO event) {
-        log.info("🔍 Analisando feedback ID: {} | Status: {}", event.id(), event.status());
+    private void processarFeedback(FeedbackEventDTO event, EventEnvelope envelope) {
+        TextAnalysis text = textAnalyzer.analyze(event.description());
+        if (isCritical(event.id(), event.rating(), feedbackRules.classify(event), text, envelope)) {
+            // Eventos anteriores ao modelo chegam sem sentimento
+            Double sentiment = event.sentimentScore() != null
+                    ? event.sentimentScore()
+                    : sentimentScorer.score(event.description());
+            sendAlert(event.id(), event.description(), () -> feedbackEventCodec.encode(event),
+                    feedbackEventCodec.getContentType(), text, sentiment, envelope);
+        }
+    }
 
-        if (StatusFeedback.CRITICAL.equals(event.status())) {
-            log.warn("🚨 Feedback CRÍTICO detectado (Nota: {}). Enviando alerta...", event.rating());
-            sendToSns(event);
-        } else {
-            log.info("👍 Feedback analisado como NORMAL. Nenhuma ação necessária.");
+    private boolean isCritical(Long id, Integer rating, Classification classification, TextAnalysis text,
+                               EventEnvelope envelope) {
+        log.info("🔍 Analisando feedback ID: {} | Status: {} | Urgência: {} | Severidade do texto: {} {} | TraceId: {}",
+                id, classification.status(), classification.urgency(), text.score(), text.tags(),
+                envelope != null ? envelope.traceId() : "-");
+
+        if (classification.isCritical()) {
+            log.warn("🚨 Feedback CRÍTICO detectado (Nota: {}). Enviando alerta...", rating);
+            return true;
+        }
+        if (textAnalyzer.shouldEscalate(text)) {
+            log.warn("🚨 Feedback escalado pelo texto (Nota: {}, Severidade: {}, Tags: {}). Enviando alerta...",
+                    rating, text.score(), text.tags());
+            return true;
+        }
+        log.info("👍 Feedback analisado como NORMAL. Nenhuma ação necessária.");
+        return false;
+    }
+
+    // Só alertas publicados entram no índice: um feedback normal repetido não silencia um crítico, e um
+    // alerta cujo publish falhou não vira duplicado de si mesmo quando o SQS reentrega a mensagem
+    private void sendAlert(Long id, String description, Callable<String> body, String contentType,
+                           TextAnalysis text, Double sentiment, EventEnvelope envelope) {
+        NearDuplicateDetector.Duplicate duplicate = duplicateDetector.findDuplicate(description).orElse(null);
+        if (duplicate != null) {
+            log.warn("🔁 Feedback ID: {} quase duplicado do ID: {} (similaridade {}). Alerta marcado com {}.",
+                    id, duplicate.originalId(), duplicate.similarity(), DUPLICATE_OF_ATTRIBUTE);
+        }
+        sendToSns(body, contentType, text, sentiment, duplicate, envelope);
+        if (duplicate == null) {
+            duplicateDetector.record(id, description);
         }
     }
 
-    private void sendToSns(FeedbackEventDTO event) {
+    private void sendToSns(Callable<String> body, String contentType, TextAnalysis text, Double sentiment,
+                           NearDuplicateDetector.Duplicate duplicate, EventEnvelope received) {
         validateTopicArn();
         
         try {
-            String messageBody = objectMapper.writeValueAsString(event);
+            String messageBody = body.call();
+            EventEnvelope envelope = received != null
+                    ? received.next(EventEnvelope.FEEDBACK_CRITICAL, 1)
+                    : EventEnvelope.create(EventEnvelope.FEEDBACK_CRITICAL, 1);
+
             PublishRequest request = PublishRequest.builder()
                     .topicArn(topicArn)
                     .subject("ALERTA: Novo Feedback Crítico")
                     .message(messageBody)
+                    .messageAttributes(messageAttributes(contentType, text, sentiment, duplicate, envelope))
                     .build();
 
             snsClient.publish(request);
@@ -97,4 +219,31 @@ public class FeedbackAnalysisService {
             throw new RuntimeException("Erro na publicação SNS", e);
         }
     }
-}
\ No newline at end of file
+
+    private static Map<String, MessageAttributeValue> messageAttributes(String contentType, TextAnalysis text,
+                                                                        Double sentiment,
+                                                                        NearDuplicateDetector.Duplicate duplicate,
+                                                                        EventEnvelope envelope) {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        attributes.put(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE, stringAttribute(contentType));
+        envelope.toAttributes().forEach((name, value) -> attributes.put(name, stringAttribute(value)));
+        if (text.hasMatches()) {
+            attributes.put(SEVERITY_SCORE_ATTRIBUTE, MessageAttributeValue.builder()
+                    .dataType("Number").stringValue(String.valueOf(text.score())).build());
+            attributes.put(SEVERITY_TAGS_ATTRIBUTE, stringAttribute(String.join(",", text.tags())));
+        }
+        if (sentiment != null) {
+            attributes.put(SENTIMENT_SCORE_ATTRIBUTE, MessageAttributeValue.builder()
+                    .dataType("Number").stringValue(String.valueOf(sentiment)).build());
+        }
+        if (duplicate != null) {
+            attributes.put(DUPLICATE_OF_ATTRIBUTE, MessageAttributeValue.builder()
+                    .dataType("Number").stringValue(String.valueOf(duplicate.originalId())).build());
+        }
+        return attributes;
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+}
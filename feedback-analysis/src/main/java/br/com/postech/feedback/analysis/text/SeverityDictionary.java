@@ -0,0 +1,13 @@
+package br.com.postech.feedback.analysis.text;
+
+import java.util.List;
+
+/**
+ * Terms grouped by tag, one file per language. Positive weights raise the severity of a
+ * description, negative ones (praise) lower it; a tag counts once however many of its terms match.
+ */
+public record SeverityDictionary(String language, List<Entry> entries) {
+
+    public record Entry(String tag, int weight, List<String> terms) {
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.postech.feedback.analysis.text;
+
+import java.util.List;
+
+public record TextAnalysis(int score, List<String> tags) {
+
+    public static final TextAnalysis NONE = new TextAnalysis(0, List.of());
+
+    public boolean hasMatches() {
+        return !tags.isEmpty();
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.postech.feedback.analysis.text;
+
+import br.com.postech.feedback.core.text.AhoCorasickMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Severity of a description from keyword and phrase dictionaries. All terms of all dictionaries
+ * are compiled into one {@link AhoCorasickMatcher}, so each description is scanned once whatever
+ * the dictionary size. Terms match whole words, ignoring case and accents.
+ */
+@Slf4j
+@Component
+public class TextAnalyzer {
+
+    private final AhoCorasickMatcher matcher;
+    private final int[] tagOfPattern;
+    private final String[] tags;
+    private final int[] weights;
+    private final int escalationScore;
+
+    @Autowired
+    public TextAnalyzer(ObjectMapper objectMapper,
+                        @Value("${analysis.text.enabled:true}") boolean enabled,
+                        @Value("${analysis.text.dictionaries:classpath:dictionaries/pt-BR.json,classpath:dictionaries/en.json}")
+                        String[] locations,
+                        @Value("${analysis.text.escalation-score:5}") int escalationScore) {
+        this(enabled ? load(objectMapper, locations) : List.of(), escalationScore);
+    }
+
+    public TextAnalyzer(List<SeverityDictionary> dictionaries, int escalationScore) {
+        if (escalationScore <= 0) {
+            throw new IllegalArgumentException("analysis.text.escalation-score must be positive");
+        }
+        this.escalationScore = escalationScore;
+
+        Map<String, Integer> tagIndex = new LinkedHashMap<>();
+        List<Integer> tagWeights = new ArrayList<>();
+        List<Integer> patternTags = new ArrayList<>();
+        AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder().wholeWords(true);
+        for (SeverityDictionary dictionary : dictionaries) {
+            for (SeverityDictionary.Entry entry : dictionary.entries()) {
+                Integer tag = tagIndex.get(entry.tag());
+                if (tag == null) {
+                    tag = tagIndex.size();
+                    tagIndex.put(entry.tag(), tag);
+                    tagWeights.add(entry.weight());
+                } else if (tagWeights.get(tag) != entry.weight()) {
+                    throw new IllegalArgumentException("Tag '" + entry.tag() + "' has different weights: "
+                            + tagWeights.get(tag) + " and " + entry.weight());
+                }
+                for (String term : entry.terms()) {
+                    builder.add(term);
+                    patternTags.add(tag);
+                }
+            }
+        }
+        this.matcher = builder.build();
+        this.tagOfPattern = patternTags.stream().mapToInt(Integer::intValue).toArray();
+        this.tags = tagIndex.keySet().toArray(String[]::new);
+        this.weights = tagWeights.stream().mapToInt(Integer::intValue).toArray();
+        log.info("Text analysis: {} terms, {} tags", matcher.patternCount(), tags.length);
+    }
+
+    public TextAnalysis analyze(String description) {
+        if (description == null || description.isEmpty() || tags.length == 0) {
+            return TextAnalysis.NONE;
+        }
+        boolean[] matched = new boolean[tags.length];
+        matcher.forEachMatch(description, (patternId, start, end) -> matched[tagOfPattern[patternId]] = true);
+
+        int score = 0;
+        List<String> found = null;
+        for (int tag = 0; tag < tags.length; tag++) {
+            if (matched[tag]) {
+                score += weights[tag];
+                if (found == null) {
+                    found = new ArrayList<>();
+                }
+                found.add(tags[tag]);
+            }
+        }
+        return found == null ? TextAnalysis.NONE : new TextAnalysis(score, List.copyOf(found));
+    }
+
+    public boolean shouldEscalate(TextAnalysis analysis) {
+        return analysis.score() >= escalationScore;
+    }
+
+    public int termCount() {
+        return matcher.patternCount();
+    }
+
+    private static List<SeverityDictionary> load(ObjectMapper objectMapper, String[] locations) {
+        ResourceLoader loader = new DefaultResourceLoader();
+        List<SeverityDictionary> dictionaries = new ArrayList<>();
+        for (String location : locations) {
+            if (location.isBlank()) {
+                continue;
+            }
+            try (InputStream in = loader.getResource(location.trim()).getInputStream()) {
+                dictionaries.add(objectMapper.readValue(in, SeverityDictionary.class));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load severity dictionary " + location, e);
+            }
+        }
+        return dictionaries;
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.postech.feedback.analysis.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LshIndex Tests")
+class LshIndexTest {
+
+    private final MinHasher hasher = new MinHasher(64, 4, 1L);
+
+    @Test
+    @DisplayName("Should find the most similar indexed signature")
+    void shouldFindMostSimilarSignature() {
+        // Arrange
+        LshIndex index = new LshIndex(16, 4, 10);
+        index.add(new LshIndex.Entry(1L, 0, hasher.signature("Fui cobrado duas vezes na mensalidade")));
+        index.add(new LshIndex.Entry(2L, 0, hasher.signature("O aplicativo trava ao abrir a aula gravada")));
+
+        // Act
+        Optional<LshIndex.Match> match = index.findSimilar(hasher.signature("O aplicativo trava ao abrir a aula gravada!"), 0.8);
+
+        // Assert
+        assertTrue(match.isPresent());
+        assertEquals(2L, match.get().id());
+        assertEquals(1.0, match.get().similarity());
+    }
+
+    @Test
+    @DisplayName("Should not match below the threshold")
+    void shouldNotMatchBelowThreshold() {
+        LshIndex index = new LshIndex(16, 4, 10);
+        index.add(new LshIndex.Entry(1L, 0, hasher.signature("Fui cobrado duas vezes na mensalidade")));
+
+        assertTrue(index.findSimilar(hasher.signature("O professor explicou muito bem"), 0.8).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should expire entries older than the window")
+    void shouldExpireOldEntries() {
+        // Arrange
+        LshIndex index = new LshIndex(16, 4, 10);
+        int[] signature = hasher.signature("A plataforma caiu");
+        index.add(new LshIndex.Entry(1L, 100, signature));
+        index.add(new LshIndex.Entry(2L, 200, hasher.signature("Outro assunto qualquer")));
+
+        // Act
+        int removed = index.expireBefore(150);
+
+        // Assert
+        assertEquals(1, removed);
+        assertEquals(1, index.size());
+        assertTrue(index.findSimilar(signature, 0.8).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest entries beyond max entries")
+    void shouldEvictOldestBeyondCapacity() {
+        // Arrange
+        LshIndex index = new LshIndex(16, 4, 2);
+        int[] oldest = hasher.signature("Primeira reclamação sobre o áudio");
+
+        // Act
+        index.add(new LshIndex.Entry(1L, 1, oldest));
+        index.add(new LshIndex.Entry(2L, 2, hasher.signature("Segunda reclamação sobre o vídeo")));
+        index.add(new LshIndex.Entry(3L, 3, hasher.signature("Terceira sobre a cobrança")));
+
+        // Assert
+        assertEquals(2, index.size());
+        assertTrue(index.findSimilar(oldest, 0.9).isEmpty());
+        assertEquals(2L, index.entries().iterator().next().id());
+    }
+
+    @Test
+    @DisplayName("Should reject signatures of the wrong length")
+    void shouldRejectWrongSignatureLength() {
+        LshIndex index = new LshIndex(16, 4, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> index.findSimilar(new int[10], 0.8));
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.postech.feedback.analysis.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MinHasher Tests")
+class MinHasherTest {
+
+    private final MinHasher hasher = new MinHasher(64, 4, 1L);
+
+    @Test
+    @DisplayName("Should normalize case, accents, punctuation and whitespace")
+    void shouldNormalizeText() {
+        assertEquals("nao consigo acessar a aula", MinHasher.normalize("  Não consigo   ACESSAR... a aula!!! "));
+    }
+
+    @Test
+    @DisplayName("Should give identical signatures for texts that normalize the same")
+    void shouldGiveIdenticalSignaturesForEquivalentTexts() {
+        int[] a = hasher.signature("Não consigo acessar a aula!");
+        int[] b = hasher.signature("nao consigo acessar a aula");
+
+        assertArrayEquals(a, b);
+        assertEquals(1.0, MinHasher.similarity(a, b));
+    }
+
+    @Test
+    @DisplayName("Should estimate high similarity for near duplicates and low for unrelated texts")
+    void shouldEstimateSimilarity() {
+        int[] original = hasher.signature("A plataforma caiu durante a prova de ontem e perdi tudo");
+        int[] nearDuplicate = hasher.signature("A plataforma caiu durante a prova de ontem, perdi tudo");
+        int[] unrelated = hasher.signature("Fui cobrado duas vezes na mensalidade");
+
+        assertTrue(MinHasher.similarity(original, nearDuplicate) >= 0.8);
+        assertTrue(MinHasher.similarity(original, unrelated) < 0.2);
+    }
+
+    @Test
+    @DisplayName("Should return null when nothing is left after normalization")
+    void shouldReturnNullForEmptyText() {
+        assertNull(hasher.signature(null));
+        assertNull(hasher.signature(" ?! "));
+        assertEquals(64, hasher.signature("ok").length);
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.postech.feedback.analysis.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NearDuplicateDetector Tests")
+class NearDuplicateDetectorTest {
+
+    private static final Instant START = Instant.parse("2026-01-15T10:00:00Z");
+
+    /** Relógio ajustável para simular a passagem do tempo na janela. */
+    private static final class MutableClock extends Clock {
+        private Instant now = START;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sliding window")
+    class SlidingWindowTests {
+
+        @Test
+        @DisplayName("Should flag repeats within the window and point to the original")
+        void shouldFlagRepeatsWithinWindow() {
+            // Arrange
+            NearDuplicateDetector detector = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, null, new MutableClock());
+
+            // Act
+            Optional<NearDuplicateDetector.Duplicate> first = detector.findDuplicate("O vídeo da aula 3 não carrega");
+            detector.record(1L, "O vídeo da aula 3 não carrega");
+            Optional<NearDuplicateDetector.Duplicate> second = detector.findDuplicate("o video da aula 3 nao carrega!!");
+
+            // Assert
+            assertTrue(first.isEmpty());
+            assertTrue(second.isPresent());
+            assertEquals(1L, second.get().originalId());
+            assertEquals(1, detector.size());
+        }
+
+        @Test
+        @DisplayName("Should not match descriptions that were checked but never recorded")
+        void shouldNotMatchUnrecordedDescriptions() {
+            // Arrange
+            NearDuplicateDetector detector = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, null, new MutableClock());
+
+            // Act
+            Optional<NearDuplicateDetector.Duplicate> first = detector.findDuplicate("O vídeo da aula 3 não carrega");
+            Optional<NearDuplicateDetector.Duplicate> redelivered = detector.findDuplicate("O vídeo da aula 3 não carrega");
+
+            // Assert
+            assertTrue(first.isEmpty());
+            assertTrue(redelivered.isEmpty());
+            assertEquals(0, detector.size());
+        }
+
+        @Test
+        @DisplayName("Should treat repeats after the window as new originals")
+        void shouldForgetAfterWindow() {
+            // Arrange
+            MutableClock clock = new MutableClock();
+            NearDuplicateDetector detector = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, null, clock);
+            detector.record(1L, "O vídeo da aula 3 não carrega");
+
+            // Act
+            clock.advance(Duration.ofMinutes(61));
+            Optional<NearDuplicateDetector.Duplicate> later = detector.findDuplicate("O vídeo da aula 3 não carrega");
+
+            // Assert
+            assertTrue(later.isEmpty());
+            assertEquals(0, detector.size());
+        }
+
+        @Test
+        @DisplayName("Should do nothing when disabled or description is blank")
+        void shouldDoNothingWhenDisabledOrBlank() {
+            NearDuplicateDetector disabled = new NearDuplicateDetector(
+                    false, Duration.ofMinutes(60), 100, 0.8, null, new MutableClock());
+            NearDuplicateDetector enabled = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, null, new MutableClock());
+
+            disabled.record(1L, "Mesmo texto");
+            assertTrue(disabled.findDuplicate("Mesmo texto").isEmpty());
+            enabled.record(3L, "  ");
+            enabled.record(4L, null);
+            assertTrue(enabled.findDuplicate("  ").isEmpty());
+            assertTrue(enabled.findDuplicate(null).isEmpty());
+            assertEquals(0, enabled.size());
+        }
+
+        @Test
+        @DisplayName("Should reject similarity outside (0, 1]")
+        void shouldRejectInvalidSimilarity() {
+            assertThrows(IllegalArgumentException.class, () -> new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 1.5, null, new MutableClock()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot")
+    class SnapshotTests {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("Should restore the index from the snapshot on startup")
+        void shouldRestoreFromSnapshot() {
+            // Arrange
+            Path snapshot = tempDir.resolve("dedup/index.bin");
+            MutableClock clock = new MutableClock();
+            NearDuplicateDetector before = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, snapshot, clock);
+            before.record(7L, "Fui cobrado duas vezes na mensalidade");
+            before.close();
+
+            // Act
+            clock.advance(Duration.ofMinutes(10));
+            NearDuplicateDetector after = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, snapshot, clock);
+
+            // Assert
+            assertEquals(1, after.size());
+            assertEquals(7L, after.findDuplicate("Fui cobrado duas vezes na mensalidade").orElseThrow().originalId());
+        }
+
+        @Test
+        @DisplayName("Should skip entries that expired while stopped")
+        void shouldSkipExpiredEntriesOnRestore() {
+            // Arrange
+            Path snapshot = tempDir.resolve("index.bin");
+            MutableClock clock = new MutableClock();
+            NearDuplicateDetector before = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, snapshot, clock);
+            before.record(7L, "Fui cobrado duas vezes na mensalidade");
+            before.close();
+
+            // Act
+            clock.advance(Duration.ofHours(2));
+            NearDuplicateDetector after = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, snapshot, clock);
+
+            // Assert
+            assertEquals(0, after.size());
+        }
+
+        @Test
+        @DisplayName("Should start empty from a corrupt snapshot")
+        void shouldStartEmptyFromCorruptSnapshot() throws Exception {
+            // Arrange
+            Path snapshot = tempDir.resolve("index.bin");
+            Files.writeString(snapshot, "not a snapshot");
+
+            // Act
+            NearDuplicateDetector detector = new NearDuplicateDetector(
+                    true, Duration.ofMinutes(60), 100, 0.8, snapshot, new MutableClock());
+
+            // Assert
+            assertEquals(0, detector.size());
+        }
+    }
+}
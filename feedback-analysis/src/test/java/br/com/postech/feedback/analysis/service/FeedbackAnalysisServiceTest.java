@@ -1,7 +1,14 @@
 package br.com.postech.feedback.analysis.service;
 
+import br.com.postech.feedback.analysis.dedup.NearDuplicateDetector;
+import br.com.postech.feedback.analysis.text.TextAnalyzer;
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.codec.WireFormat;
 import br.com.postech.feedback.core.domain.StatusFeedback;
 import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import br.com.postech.feedback.core.event.EventEnvelope;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.core.sentiment.SentimentScorer;
 import com.amazonaws.services.lambda.runtime.events.SQSEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,12 +21,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sns.model.PublishRequest;
 import software.amazon.awssdk.services.sns.model.PublishResponse;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +47,7 @@ class FeedbackAnalysisServiceTest {
     private ObjectMapper objectMapper;
     private FeedbackAnalysisService service;
 
+    private static final String[] DICTIONARIES = {"classpath:dictionaries/pt-BR.json", "classpath:dictionaries/en.json"};
     private static final String VALID_TOPIC_ARN = "arn:aws:sns:us-east-2:123456789012:feedback-notifications";
 
     @BeforeEach
@@ -43,7 +55,9 @@ class FeedbackAnalysisServiceTest {
         objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules();
 
-        service = new FeedbackAnalysisService(snsClient, objectMapper);
+        service = new FeedbackAnalysisService(snsClient, new FeedbackEventCodec(objectMapper), new FeedbackRules(),
+                new TextAnalyzer(objectMapper, true, DICTIONARIES, 5), SentimentScorer.defaults(),
+                new NearDuplicateDetector(false, Duration.ofHours(1), 100, 0.8, null, Clock.systemUTC()));
         ReflectionTestUtils.setField(service, "topicArn", VALID_TOPIC_ARN);
     }
 
@@ -178,6 +192,267 @@ class FeedbackAnalysisServiceTest {
             assertEquals("ALERTA: Novo Feedback Crítico", capturedRequest.subject());
             assertTrue(capturedRequest.message().contains("100"));
             assertTrue(capturedRequest.message().contains("CRITICAL"));
+            assertEquals(WireFormat.JSON.getContentType(), capturedRequest.messageAttributes()
+                    .get(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE).stringValue());
+        }
+
+        @Test
+        @DisplayName("Should forward Smile messages unchanged with their content type")
+        void shouldForwardSmileMessagesWithTheirContentType() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    101L,
+                    "Feedback binário",
+                    1,
+                    StatusFeedback.CRITICAL,
+                    LocalDateTime.now()
+            );
+            String body = new FeedbackEventCodec(objectMapper, WireFormat.SMILE).encode(feedbackEvent);
+
+            SQSEvent sqsEvent = createSqsEvent(body);
+            SQSEvent.MessageAttribute contentType = new SQSEvent.MessageAttribute();
+            contentType.setDataType("String");
+            contentType.setStringValue(WireFormat.SMILE.getContentType());
+            sqsEvent.getRecords().get(0).setMessageAttributes(
+                    Map.of(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE, contentType));
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-124").build());
+
+            // Act
+            service.analyzeFeedback().accept(sqsEvent);
+
+            // Assert
+            verify(snsClient).publish(requestCaptor.capture());
+            assertEquals(body, requestCaptor.getValue().message());
+            assertEquals(WireFormat.SMILE.getContentType(), requestCaptor.getValue().messageAttributes()
+                    .get(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE).stringValue());
+        }
+
+        @Test
+        @DisplayName("Should re-encode Smile messages when pass-through is disabled")
+        void shouldReEncodeSmileMessagesWhenPassThroughIsDisabled() throws Exception {
+            // Arrange
+            ReflectionTestUtils.setField(service, "passThrough", false);
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    103L,
+                    "Feedback binário",
+                    1,
+                    StatusFeedback.CRITICAL,
+                    LocalDateTime.now()
+            );
+            String body = new FeedbackEventCodec(objectMapper, WireFormat.SMILE).encode(feedbackEvent);
+
+            SQSEvent sqsEvent = createSqsEvent(body);
+            sqsEvent.getRecords().get(0).setMessageAttributes(sqsAttributes(
+                    Map.of(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE, WireFormat.SMILE.getContentType())));
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-126").build());
+
+            // Act
+            service.analyzeFeedback().accept(sqsEvent);
+
+            // Assert
+            verify(snsClient).publish(requestCaptor.capture());
+            assertTrue(requestCaptor.getValue().message().contains("Feedback binário"));
+            assertEquals(WireFormat.JSON.getContentType(), requestCaptor.getValue().messageAttributes()
+                    .get(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE).stringValue());
+        }
+
+        @Test
+        @DisplayName("Should forward the original JSON body byte for byte")
+        void shouldForwardOriginalJsonBody() {
+            // Arrange
+            String body = "{ \"id\": 104, \"description\": \"Mantido como veio\", \"rating\": 0, "
+                    + "\"status\": \"CRITICAL\", \"createdAt\": \"2026-02-10T15:30:00\" }";
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-127").build());
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEvent(body));
+
+            // Assert
+            verify(snsClient).publish(requestCaptor.capture());
+            assertSame(body, requestCaptor.getValue().message());
+            assertEquals(WireFormat.JSON.getContentType(), requestCaptor.getValue().messageAttributes()
+                    .get(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE).stringValue());
+        }
+
+        @Test
+        @DisplayName("Should escalate normal feedback with severe description")
+        void shouldEscalateNormalFeedbackWithSevereDescription() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    106L, "App crashed, lost my data", 6, StatusFeedback.NORMAL, LocalDateTime.now());
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-128").build());
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEvent(objectMapper.writeValueAsString(feedbackEvent)));
+
+            // Assert
+            verify(snsClient).publish(requestCaptor.capture());
+            var attributes = requestCaptor.getValue().messageAttributes();
+            assertEquals("8", attributes.get(FeedbackAnalysisService.SEVERITY_SCORE_ATTRIBUTE).stringValue());
+            assertEquals("Number", attributes.get(FeedbackAnalysisService.SEVERITY_SCORE_ATTRIBUTE).dataType());
+            assertEquals("perda-de-dados,falha-tecnica",
+                    attributes.get(FeedbackAnalysisService.SEVERITY_TAGS_ATTRIBUTE).stringValue());
+        }
+
+        @Test
+        @DisplayName("Should score sentiment of forwarded bodies")
+        void shouldScoreSentimentOfForwardedBodies() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    108L, "Aula péssima, não recomendo", 2, StatusFeedback.CRITICAL, LocalDateTime.now());
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-130").build());
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEvent(objectMapper.writeValueAsString(feedbackEvent)));
+
+            // Assert
+            verify(snsClient).publish(requestCaptor.capture());
+            MessageAttributeValue sentiment = requestCaptor.getValue().messageAttributes()
+                    .get(FeedbackAnalysisService.SENTIMENT_SCORE_ATTRIBUTE);
+            assertEquals("Number", sentiment.dataType());
+            assertTrue(Double.parseDouble(sentiment.stringValue()) < 0);
+        }
+
+        @Test
+        @DisplayName("Should forward the carried sentiment score without re-scoring on pass-through")
+        void shouldForwardCarriedSentimentScoreOnPassThrough() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    110L, "Aula excelente", 1, StatusFeedback.CRITICAL, LocalDateTime.now(), -0.25);
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-132").build());
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEvent(objectMapper.writeValueAsString(feedbackEvent)));
+
+            // Assert
+            verify(snsClient).publish(requestCaptor.capture());
+            assertEquals("-0.25", requestCaptor.getValue().messageAttributes()
+                    .get(FeedbackAnalysisService.SENTIMENT_SCORE_ATTRIBUTE).stringValue());
+        }
+
+        @Test
+        @DisplayName("Should forward the sentiment score carried by the event")
+        void shouldForwardSentimentScoreCarriedByEvent() throws Exception {
+            // Arrange
+            ReflectionTestUtils.setField(service, "passThrough", false);
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    109L, "Aula excelente", 1, StatusFeedback.CRITICAL, LocalDateTime.now(), -0.25);
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-131").build());
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEvent(objectMapper.writeValueAsString(feedbackEvent)));
+
+            // Assert
+            verify(snsClient).publish(requestCaptor.capture());
+            assertEquals("-0.25", requestCaptor.getValue().messageAttributes()
+                    .get(FeedbackAnalysisService.SENTIMENT_SCORE_ATTRIBUTE).stringValue());
+        }
+
+        @Test
+        @DisplayName("Should escalate severe description when pass-through is disabled")
+        void shouldEscalateSevereDescriptionWithoutPassThrough() throws Exception {
+            // Arrange
+            ReflectionTestUtils.setField(service, "passThrough", false);
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    107L, "O app travou e perdi meus dados", 7, StatusFeedback.NORMAL, LocalDateTime.now());
+
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-129").build());
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEvent(objectMapper.writeValueAsString(feedbackEvent)));
+
+            // Assert
+            verify(snsClient).publish(any(PublishRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should not escalate mild complaints")
+        void shouldNotEscalateMildComplaints() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    108L, "Travou uma vez, mas excelente aula", 8, StatusFeedback.NORMAL, LocalDateTime.now());
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEvent(objectMapper.writeValueAsString(feedbackEvent)));
+
+            // Assert
+            verify(snsClient, never()).publish(any(PublishRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should not publish messages with an unknown status")
+        void shouldNotPublishMessagesWithUnknownStatus() {
+            // Arrange
+            SQSEvent sqsEvent = createSqsEvent("{\"id\":105,\"rating\":1,\"status\":\"URGENTE\"}");
+
+            // Act
+            assertDoesNotThrow(() -> service.analyzeFeedback().accept(sqsEvent));
+
+            // Assert
+            verify(snsClient, never()).publish(any(PublishRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should publish FeedbackCritical envelope keeping the trace id")
+        void shouldPublishCriticalEnvelopeKeepingTraceId() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    102L, "Rastreado", 2, StatusFeedback.CRITICAL, LocalDateTime.now());
+            EventEnvelope received = EventEnvelope.create(EventEnvelope.FEEDBACK_RECEIVED, 1);
+
+            SQSEvent sqsEvent = createSqsEvent(objectMapper.writeValueAsString(feedbackEvent));
+            sqsEvent.getRecords().get(0).setMessageAttributes(sqsAttributes(received.toAttributes()));
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-125").build());
+
+            // Act
+            service.analyzeFeedback().accept(sqsEvent);
+
+            // Assert
+            verify(snsClient).publish(requestCaptor.capture());
+            var attributes = requestCaptor.getValue().messageAttributes();
+            assertEquals(EventEnvelope.FEEDBACK_CRITICAL, attributes.get(EventEnvelope.TYPE_ATTRIBUTE).stringValue());
+            assertEquals(received.traceId(), attributes.get(EventEnvelope.TRACE_ID_ATTRIBUTE).stringValue());
+            assertNotEquals(received.id(), attributes.get(EventEnvelope.ID_ATTRIBUTE).stringValue());
+        }
+
+        @Test
+        @DisplayName("Should skip other event types without reading the body")
+        void shouldSkipOtherEventTypesWithoutReadingBody() {
+            // Arrange
+            SQSEvent sqsEvent = createSqsEvent("not a feedback event");
+            sqsEvent.getRecords().get(0).setMessageAttributes(
+                    sqsAttributes(EventEnvelope.create(EventEnvelope.REPORT_READY, 1).toAttributes()));
+
+            // Act
+            assertDoesNotThrow(() -> service.analyzeFeedback().accept(sqsEvent));
+
+            // Assert
+            verify(snsClient, never()).publish(any(PublishRequest.class));
         }
 
         @Test
@@ -793,6 +1068,114 @@ class FeedbackAnalysisServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Near-duplicate Alerts")
+    class NearDuplicateTests {
+
+        @BeforeEach
+        void enableDeduplication() {
+            ReflectionTestUtils.setField(service, "duplicateDetector",
+                    new NearDuplicateDetector(true, Duration.ofHours(1), 100, 0.8, null, Clock.systemUTC()));
+        }
+
+        @Test
+        @DisplayName("Should tag repeated critical complaints with the original alert")
+        void shouldTagRepeatedComplaintsWithOriginal() throws Exception {
+            // Arrange
+            String first = objectMapper.writeValueAsString(new FeedbackEventDTO(
+                    301L, "A plataforma caiu de novo durante a prova!!!", 1, StatusFeedback.CRITICAL, LocalDateTime.now()));
+            String repeated = objectMapper.writeValueAsString(new FeedbackEventDTO(
+                    302L, "a plataforma caiu de novo durante a prova", 2, StatusFeedback.CRITICAL, LocalDateTime.now()));
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-301").build());
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEventWithMultipleMessages(first, repeated, repeated));
+
+            // Assert
+            verify(snsClient, times(3)).publish(requestCaptor.capture());
+            List<PublishRequest> requests = requestCaptor.getAllValues();
+            assertNull(requests.get(0).messageAttributes().get(FeedbackAnalysisService.DUPLICATE_OF_ATTRIBUTE));
+            for (PublishRequest request : requests.subList(1, 3)) {
+                MessageAttributeValue duplicateOf = request.messageAttributes()
+                        .get(FeedbackAnalysisService.DUPLICATE_OF_ATTRIBUTE);
+                assertEquals("301", duplicateOf.stringValue());
+                assertEquals("Number", duplicateOf.dataType());
+            }
+        }
+
+        @Test
+        @DisplayName("Should alert again when the message is redelivered after a failed publish")
+        void shouldAlertAgainAfterFailedPublish() throws Exception {
+            // Arrange
+            String body = objectMapper.writeValueAsString(new FeedbackEventDTO(
+                    307L, "A plataforma caiu durante a prova", 1, StatusFeedback.CRITICAL, LocalDateTime.now()));
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenThrow(new RuntimeException("SNS indisponível"))
+                    .thenReturn(PublishResponse.builder().messageId("msg-307").build());
+            Consumer<SQSEvent> consumer = service.analyzeFeedback();
+
+            // Act
+            assertThrows(RuntimeException.class, () -> consumer.accept(createSqsEvent(body)));
+            consumer.accept(createSqsEvent(body));
+
+            // Assert
+            verify(snsClient, times(2)).publish(requestCaptor.capture());
+            assertNull(requestCaptor.getAllValues().get(1).messageAttributes()
+                    .get(FeedbackAnalysisService.DUPLICATE_OF_ATTRIBUTE));
+        }
+
+        @Test
+        @DisplayName("Should publish alerts for different critical complaints")
+        void shouldPublishAlertsForDifferentComplaints() throws Exception {
+            // Arrange
+            String first = objectMapper.writeValueAsString(new FeedbackEventDTO(
+                    303L, "A plataforma caiu durante a prova", 1, StatusFeedback.CRITICAL, LocalDateTime.now()));
+            String second = objectMapper.writeValueAsString(new FeedbackEventDTO(
+                    304L, "Fui cobrado duas vezes na mensalidade", 2, StatusFeedback.CRITICAL, LocalDateTime.now()));
+
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-303").build());
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEventWithMultipleMessages(first, second));
+
+            // Assert
+            verify(snsClient, times(2)).publish(requestCaptor.capture());
+            assertTrue(requestCaptor.getAllValues().stream().noneMatch(request ->
+                    request.messageAttributes().containsKey(FeedbackAnalysisService.DUPLICATE_OF_ATTRIBUTE)));
+        }
+
+        @Test
+        @DisplayName("Should not let normal feedback silence a critical one")
+        void shouldNotLetNormalFeedbackSilenceCriticalOne() throws Exception {
+            // Arrange
+            String normal = objectMapper.writeValueAsString(new FeedbackEventDTO(
+                    305L, "O professor explicou bem a matéria", 9, StatusFeedback.NORMAL, LocalDateTime.now()));
+            String critical = objectMapper.writeValueAsString(new FeedbackEventDTO(
+                    306L, "O professor explicou bem a matéria", 1, StatusFeedback.CRITICAL, LocalDateTime.now()));
+
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-305").build());
+
+            ArgumentCaptor<PublishRequest> requestCaptor = ArgumentCaptor.forClass(PublishRequest.class);
+
+            // Act
+            service.analyzeFeedback().accept(createSqsEventWithMultipleMessages(normal, critical));
+
+            // Assert
+            verify(snsClient, times(1)).publish(requestCaptor.capture());
+            assertFalse(requestCaptor.getValue().messageAttributes()
+                    .containsKey(FeedbackAnalysisService.DUPLICATE_OF_ATTRIBUTE));
+        }
+    }
+
     // Helper methods
     private SQSEvent createSqsEvent(String messageBody) {
         SQSEvent sqsEvent = new SQSEvent();
@@ -803,6 +1186,17 @@ class FeedbackAnalysisServiceTest {
         return sqsEvent;
     }
 
+    private Map<String, SQSEvent.MessageAttribute> sqsAttributes(Map<String, String> values) {
+        Map<String, SQSEvent.MessageAttribute> attributes = new java.util.HashMap<>();
+        values.forEach((name, value) -> {
+            SQSEvent.MessageAttribute attribute = new SQSEvent.MessageAttribute();
+            attribute.setDataType("String");
+            attribute.setStringValue(value);
+            attributes.put(name, attribute);
+        });
+        return attributes;
+    }
+
     private SQSEvent createSqsEventWithMultipleMessages(String... messageBodies) {
         SQSEvent sqsEvent = new SQSEvent();
         List<SQSEvent.SQSMessage> messages = new java.util.ArrayList<>();
@@ -0,0 +1,116 @@
+package br.com.postech.feedback.analysis.text;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TextAnalyzer Tests")
+class TextAnalyzerTest {
+
+    private static final String[] DICTIONARIES = {"classpath:dictionaries/pt-BR.json", "classpath:dictionaries/en.json"};
+
+    private TextAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new TextAnalyzer(new ObjectMapper(), true, DICTIONARIES, 5);
+    }
+
+    @Nested
+    @DisplayName("Bundled Dictionaries Tests")
+    class BundledDictionariesTests {
+
+        @Test
+        @DisplayName("Should escalate crash with data loss in English")
+        void shouldEscalateCrashWithDataLossInEnglish() {
+            TextAnalysis analysis = analyzer.analyze("App crashed, lost my data");
+
+            assertEquals(8, analysis.score());
+            assertEquals(List.of("perda-de-dados", "falha-tecnica"), analysis.tags());
+            assertTrue(analyzer.shouldEscalate(analysis));
+        }
+
+        @Test
+        @DisplayName("Should escalate Portuguese description without accents")
+        void shouldEscalatePortugueseWithoutAccents() {
+            TextAnalysis analysis = analyzer.analyze("Nao consigo acessar e fui cobrado duas vezes");
+
+            assertEquals(List.of("acesso", "financeiro"), analysis.tags());
+            assertTrue(analyzer.shouldEscalate(analysis));
+        }
+
+        @Test
+        @DisplayName("Should count each tag once")
+        void shouldCountEachTagOnce() {
+            TextAnalysis analysis = analyzer.analyze("Travou, travou de novo, caiu e travou");
+
+            assertEquals(3, analysis.score());
+            assertFalse(analyzer.shouldEscalate(analysis));
+        }
+
+        @Test
+        @DisplayName("Should lower score with praise")
+        void shouldLowerScoreWithPraise() {
+            TextAnalysis analysis = analyzer.analyze("Excelente aula, só travou uma vez");
+
+            assertEquals(1, analysis.score());
+        }
+
+        @Test
+        @DisplayName("Should match whole words only")
+        void shouldMatchWholeWordsOnly() {
+            assertSame(TextAnalysis.NONE, analyzer.analyze("Vou debugar o exercício com a turma"));
+        }
+
+        @Test
+        @DisplayName("Should return no matches for empty descriptions")
+        void shouldReturnNoMatchesForEmptyDescriptions() {
+            assertSame(TextAnalysis.NONE, analyzer.analyze(null));
+            assertSame(TextAnalysis.NONE, analyzer.analyze(""));
+            assertSame(TextAnalysis.NONE, analyzer.analyze("Aula normal"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration Tests")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("Should do nothing when disabled")
+        void shouldDoNothingWhenDisabled() {
+            TextAnalyzer disabled = new TextAnalyzer(new ObjectMapper(), false, DICTIONARIES, 5);
+
+            assertEquals(0, disabled.termCount());
+            assertSame(TextAnalysis.NONE, disabled.analyze("App crashed, lost my data"));
+        }
+
+        @Test
+        @DisplayName("Should reject conflicting tag weights")
+        void shouldRejectConflictingTagWeights() {
+            List<SeverityDictionary> dictionaries = List.of(
+                    new SeverityDictionary("a", List.of(new SeverityDictionary.Entry("x", 1, List.of("um")))),
+                    new SeverityDictionary("b", List.of(new SeverityDictionary.Entry("x", 2, List.of("dois")))));
+
+            assertThrows(IllegalArgumentException.class, () -> new TextAnalyzer(dictionaries, 5));
+        }
+
+        @Test
+        @DisplayName("Should fail on missing dictionary")
+        void shouldFailOnMissingDictionary() {
+            assertThrows(IllegalStateException.class, () -> new TextAnalyzer(new ObjectMapper(), true,
+                    new String[]{"classpath:dictionaries/xx.json"}, 5));
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive escalation score")
+        void shouldRejectNonPositiveEscalationScore() {
+            assertThrows(IllegalArgumentException.class, () -> new TextAnalyzer(List.of(), 0));
+        }
+    }
+}
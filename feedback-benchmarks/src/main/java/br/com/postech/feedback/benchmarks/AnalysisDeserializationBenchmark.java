@@ -0,0 +1,99 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.analysis.dedup.NearDuplicateDetector;
+import br.com.postech.feedback.analysis.service.FeedbackAnalysisService;
+import br.com.postech.feedback.analysis.text.TextAnalyzer;
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.core.sentiment.SentimentScorer;
+import br.com.postech.feedback.core.utils.FeedbackMapper;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Analysis consume path: parsing SQS bodies into {@link FeedbackEventDTO}, peeking just the routing
+ * fields, and a full batch through the {@code analyzeFeedback} function with and without pass-through.
+ * The batch only carries NORMAL feedbacks so no SNS call is made.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalysisDeserializationBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    @Param({"true", "false"})
+    private boolean passThrough;
+
+    private FeedbackEventCodec codec;
+    private String body;
+    private SQSEvent batch;
+    private Consumer<SQSEvent> analyzeFeedback;
+
+    @Setup
+    public void setUp() throws Exception {
+        codec = new FeedbackEventCodec(new JsonConfig().objectMapper());
+        body = codec.encode(FeedbackMapper.toEvent(SyntheticFeedbacks.feedback(12345L, 3)));
+
+        List<SQSEvent.SQSMessage> records = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            SQSEvent.SQSMessage message = new SQSEvent.SQSMessage();
+            message.setMessageId("message-" + i);
+            message.setBody(codec.encode(
+                    FeedbackMapper.toEvent(SyntheticFeedbacks.feedback(i + 1L, 8))));
+            records.add(message);
+        }
+        batch = new SQSEvent();
+        batch.setRecords(records);
+
+        FeedbackAnalysisService service = new FeedbackAnalysisService(null, codec, new FeedbackRules(),
+                new TextAnalyzer(new JsonConfig().objectMapper(), true, TextAnalysisBenchmark.DICTIONARIES, 5),
+                SentimentScorer.defaults(),
+                new NearDuplicateDetector(false, Duration.ofHours(1), 1, 0.8, null, Clock.systemUTC()));
+        Field passThroughField = FeedbackAnalysisService.class.getDeclaredField("passThrough");
+        passThroughField.setAccessible(true);
+        passThroughField.setBoolean(service, passThrough);
+        analyzeFeedback = service.analyzeFeedback();
+    }
+
+    @Benchmark
+    public FeedbackEventDTO decode() throws JsonProcessingException {
+        return codec.decode(body);
+    }
+
+    @Benchmark
+    public FeedbackEventCodec.Summary peek() throws JsonProcessingException {
+        return codec.peek(body, null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void analyzeFeedbackBatch() {
+        analyzeFeedback.accept(batch);
+    }
+}
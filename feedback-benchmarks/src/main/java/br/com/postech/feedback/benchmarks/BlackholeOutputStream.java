@@ -0,0 +1,33 @@
+package br.com.postech.feedback.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+
+/**
+ * Discards written bytes while keeping the writes observable to the JIT.
+ */
+final class BlackholeOutputStream extends OutputStream {
+
+    private final Blackhole blackhole;
+    private long count;
+
+    BlackholeOutputStream(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void write(int b) {
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        blackhole.consume(b);
+        count += len;
+    }
+
+    long count() {
+        return count;
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import br.com.postech.feedback.reporting.writer.CsvReportWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detail-heavy weekly CSV: one million feedbacks written to a counting sink.
+ * <p>
+ * {@code java -jar feedback-benchmarks/target/benchmarks.jar CsvReportWriterBenchmark -prof gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CsvReportWriterBenchmark {
+
+    private static final String[] DESCRIPTIONS = {
+            "Ótima aula, conteúdo muito claro",
+            "Professor atrasou; áudio ruim e \"slides\" desatualizados",
+            "Poderia ter mais exercícios práticos\nsobre o tema",
+            "Excelente didática 👍",
+            "  Não consegui acessar a gravação  "
+    };
+    private static final String[] URGENCIES = {"LOW", "MEDIUM", "HIGH", "LOW", "LOW"};
+
+    @Param({"1000000"})
+    private int rows;
+
+    private final CsvReportWriter writer = new CsvReportWriter();
+    private final LocalDateTime generatedAt = LocalDateTime.of(2026, 1, 15, 10, 30);
+    private ReportMetrics metrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DateTimeFormatter isoFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        LocalDateTime start = generatedAt.minusDays(7);
+        List<FeedbackDetail> feedbacks = new ArrayList<>(rows);
+        Map<String, Long> byUrgency = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime createdAt = start.plusSeconds(i % 604_800);
+            String urgency = URGENCIES[i % URGENCIES.length];
+            feedbacks.add(FeedbackDetail.builder()
+                    .id((long) i)
+                    .description(DESCRIPTIONS[i % DESCRIPTIONS.length] + " #" + i)
+                    .urgency(urgency)
+                    .rating(i % 11)
+                    .createdAt(createdAt.format(isoFormatter))
+                    .createdAtDateTime(createdAt)
+                    .build());
+            byUrgency.merge(urgency, 1L, Long::sum);
+        }
+        metrics = ReportMetrics.builder()
+                .totalFeedbacks((long) rows)
+                .averageScore(6.4)
+                .feedbacksByDay(Map.of("2026-01-08", (long) rows))
+                .feedbacksByUrgency(byUrgency)
+                .feedbacks(feedbacks)
+                .build();
+    }
+
+    @Benchmark
+    public long writeCsv(Blackhole blackhole) throws IOException {
+        BlackholeOutputStream out = new BlackholeOutputStream(blackhole);
+        writer.write(metrics, generatedAt, out);
+        return out.count();
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.postech.feedback.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thymeleaf rendering of the notification e-mails, resolved from the notification module's
+ * {@code templates/} with caching on, as Spring Boot configures it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private TemplateEngine templateEngine;
+    private Context criticalFeedback;
+    private Context weeklyReport;
+
+    static TemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+
+        TemplateEngine engine = new TemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+
+    @Setup
+    public void setUp() {
+        templateEngine = templateEngine();
+
+        criticalFeedback = new Context();
+        criticalFeedback.setVariable("feedbackId", 12345L);
+        criticalFeedback.setVariable("description", "Professor atrasou; áudio ruim e <slides> desatualizados");
+        criticalFeedback.setVariable("rating", 2);
+        criticalFeedback.setVariable("urgency", "CRITICAL");
+        criticalFeedback.setVariable("sentDate", "15/01/2026 10:30:00");
+
+        weeklyReport = new Context();
+        weeklyReport.setVariable("reportLink",
+                "https://bucket.s3.amazonaws.com/reports/2026/01/relatorio-semanal-2026-01-15.csv?X-Amz-Signature=abc");
+        weeklyReport.setVariable("totalFeedbacks", 1500L);
+        weeklyReport.setVariable("averageScore", "7.40");
+        weeklyReport.setVariable("generatedAt", "15/01/2026 10:30:00");
+    }
+
+    @Benchmark
+    public String renderCriticalFeedbackEmail() {
+        return templateEngine.process("critical-feedback-email", criticalFeedback);
+    }
+
+    @Benchmark
+    public String renderWeeklyReportEmail() {
+        return templateEngine.process("weekly-report-email", weeklyReport);
+    }
+}
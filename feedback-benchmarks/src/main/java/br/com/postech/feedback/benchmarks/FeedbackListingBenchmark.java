@@ -0,0 +1,171 @@
+package br.com.postech.feedback.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /feedbacks} page reads with the SQL shape {@code FeedbackRepositoryImpl} generates:
+ * keyset pages at the top and in the middle of the table, with and without filters, against the
+ * OFFSET paging they replace.
+ * <p>
+ * Runs on an in-memory H2 by default; pass {@code -p jdbcUrl=jdbc:postgresql://...} to measure the
+ * covering indexes of migration {@code V4__Create_feedback_indexes} on PostgreSQL. Data goes to a
+ * scratch {@code listing_bench} table, never to {@code feedbacks}. Row {@code x} has rating {@code x % 11}
+ * and is CRITICAL when the rating is at most 3.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class FeedbackListingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    // Sem OPTIMIZE_REUSE_RESULTS=0 o H2 devolve o resultado anterior da mesma consulta sem executá-la
+    private static final String H2_URL = "jdbc:h2:mem:listing;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=0";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final String COLUMNS =
+            "SELECT id, description, rating, status, sentiment_score, created_at, updated_at FROM listing_bench ";
+    private static final String ORDER = "ORDER BY created_at DESC, id DESC ";
+    private static final String AFTER_CURSOR = "created_at <= ? AND (created_at < ? OR id < ?) ";
+
+    @Param({"10000000"})
+    private int rows;
+
+    @Param({""})
+    private String jdbcUrl;
+
+    private Connection connection;
+    private PreparedStatement firstPage;
+    private PreparedStatement keysetPage;
+    private PreparedStatement filteredKeysetPage;
+    private PreparedStatement offsetPage;
+    private Timestamp middleCreatedAt;
+    private long middleId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        boolean postgres = jdbcUrl.startsWith("jdbc:postgresql:");
+        connection = DriverManager.getConnection(jdbcUrl.isEmpty() ? H2_URL : jdbcUrl);
+        populate(postgres);
+
+        firstPage = connection.prepareStatement(COLUMNS + ORDER + "FETCH FIRST " + (PAGE_SIZE + 1) + " ROWS ONLY");
+        keysetPage = connection.prepareStatement(COLUMNS + "WHERE " + AFTER_CURSOR + ORDER
+                + "FETCH FIRST " + (PAGE_SIZE + 1) + " ROWS ONLY");
+        filteredKeysetPage = connection.prepareStatement(COLUMNS + "WHERE status = 'CRITICAL' AND rating >= 1 AND "
+                + AFTER_CURSOR + ORDER + "FETCH FIRST " + (PAGE_SIZE + 1) + " ROWS ONLY");
+        offsetPage = connection.prepareStatement(COLUMNS + ORDER
+                + "OFFSET ? ROWS FETCH NEXT " + (PAGE_SIZE + 1) + " ROWS ONLY");
+
+        middleId = rows / 2;
+        middleCreatedAt = Timestamp.valueOf(BASE.plusSeconds(middleId));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS listing_bench");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void keysetFirstPage(Blackhole blackhole) throws SQLException {
+        consume(firstPage, blackhole);
+    }
+
+    @Benchmark
+    public void keysetMiddlePage(Blackhole blackhole) throws SQLException {
+        bindCursor(keysetPage);
+        consume(keysetPage, blackhole);
+    }
+
+    @Benchmark
+    public void keysetMiddlePageFiltered(Blackhole blackhole) throws SQLException {
+        bindCursor(filteredKeysetPage);
+        consume(filteredKeysetPage, blackhole);
+    }
+
+    @Benchmark
+    public void offsetMiddlePage(Blackhole blackhole) throws SQLException {
+        offsetPage.setLong(1, rows - middleId);
+        consume(offsetPage, blackhole);
+    }
+
+    private void bindCursor(PreparedStatement statement) throws SQLException {
+        statement.setTimestamp(1, middleCreatedAt);
+        statement.setTimestamp(2, middleCreatedAt);
+        statement.setLong(3, middleId);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                blackhole.consume(result.getLong(1));
+                blackhole.consume(result.getString(2));
+                blackhole.consume(result.getInt(3));
+                blackhole.consume(result.getString(4));
+                blackhole.consume(result.getObject(5));
+                blackhole.consume(result.getTimestamp(6));
+                blackhole.consume(result.getTimestamp(7));
+            }
+        }
+    }
+
+    // Mesmos índices da migração V4__Create_feedback_indexes; o H2 não tem INCLUDE
+    private void populate(boolean postgres) throws SQLException {
+        String createdAt = postgres
+                ? "TIMESTAMP '2025-01-01 00:00:00' + x * INTERVAL '1 second'"
+                : "DATEADD(SECOND, x, TIMESTAMP '2025-01-01 00:00:00')";
+        String source = postgres ? "generate_series(1, ?) AS s(x)" : "(SELECT X AS x FROM SYSTEM_RANGE(1, ?)) AS s";
+        String include = postgres ? " INCLUDE (status, rating)" : "";
+        String includeRating = postgres ? " INCLUDE (rating)" : "";
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS listing_bench");
+            statement.execute("CREATE TABLE listing_bench (id BIGINT PRIMARY KEY, description VARCHAR(255) NOT NULL, "
+                    + "rating INTEGER NOT NULL, status VARCHAR(255) NOT NULL, sentiment_score DOUBLE PRECISION, "
+                    + "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO listing_bench "
+                + "SELECT x, CONCAT('Feedback sintético ', x), MOD(x, 11), "
+                + "CASE WHEN MOD(x, 11) <= 3 THEN 'CRITICAL' ELSE 'NORMAL' END, NULL, "
+                + createdAt + ", " + createdAt + " FROM " + source)) {
+            insert.setInt(1, rows);
+            insert.executeUpdate();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX listing_bench_created_at_id ON listing_bench (created_at DESC, id DESC)"
+                    + include);
+            statement.execute("CREATE INDEX listing_bench_status_created_at_id "
+                    + "ON listing_bench (status, created_at DESC, id DESC)" + includeRating);
+            if (postgres) {
+                statement.execute("VACUUM ANALYZE listing_bench");
+            }
+        }
+    }
+}
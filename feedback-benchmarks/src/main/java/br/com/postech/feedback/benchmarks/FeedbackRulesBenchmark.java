@@ -0,0 +1,80 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.rules.Classification;
+import br.com.postech.feedback.core.rules.CompiledRuleSet;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.core.rules.RuleDefinition;
+import br.com.postech.feedback.core.rules.RuleSetDefinition;
+import br.com.postech.feedback.core.rules.Urgency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classification of a batch of feedbacks with the built-in rules and with a larger set that adds
+ * keyword and time-window rules. Run with {@code -prof gc} to confirm nothing is allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedbackRulesBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"defaults", "keywords"})
+    private String ruleSet;
+
+    private FeedbackRules rules;
+    private List<Feedback> feedbacks;
+
+    @Setup
+    public void setUp() {
+        rules = new FeedbackRules("defaults".equals(ruleSet)
+                ? CompiledRuleSet.defaults()
+                : CompiledRuleSet.compile(withKeywords()));
+        feedbacks = SyntheticFeedbacks.feedbacks(BATCH_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void classify(Blackhole blackhole) {
+        for (Feedback feedback : feedbacks) {
+            blackhole.consume(rules.classify(feedback));
+        }
+    }
+
+    private static RuleSetDefinition withKeywords() {
+        List<RuleDefinition> rules = new ArrayList<>();
+        rules.add(new RuleDefinition("plataforma-fora",
+                new RuleDefinition.Condition(null, null, null, List.of("caiu", "fora do ar", "não consegui acessar"), null, null),
+                new Classification(StatusFeedback.CRITICAL, Urgency.HIGH)));
+        rules.add(new RuleDefinition("madrugada",
+                new RuleDefinition.Condition(0, 6, null, null, LocalTime.of(22, 0), LocalTime.of(6, 0)),
+                new Classification(StatusFeedback.CRITICAL, Urgency.HIGH)));
+        rules.add(new RuleDefinition("reclamacao-audio",
+                new RuleDefinition.Condition(0, 7, null, List.of("áudio", "audio", "som"), null, null),
+                new Classification(StatusFeedback.CRITICAL, Urgency.MEDIUM)));
+        rules.addAll(RuleSetDefinition.defaults().rules());
+        return new RuleSetDefinition(rules, RuleSetDefinition.defaults().fallback());
+    }
+}
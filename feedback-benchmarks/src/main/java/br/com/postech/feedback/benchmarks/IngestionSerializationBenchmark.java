@@ -0,0 +1,58 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import br.com.postech.feedback.core.utils.FeedbackMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestion publish path: entity to event DTO, then the SQS message body with the production codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestionSerializationBenchmark {
+
+    private FeedbackEventCodec codec;
+    private Feedback feedback;
+    private FeedbackEventDTO event;
+
+    @Setup
+    public void setUp() {
+        codec = new FeedbackEventCodec(new JsonConfig().objectMapper());
+        feedback = SyntheticFeedbacks.feedback(12345L, 3);
+        event = FeedbackMapper.toEvent(feedback);
+    }
+
+    @Benchmark
+    public FeedbackEventDTO toEvent() {
+        return FeedbackMapper.toEvent(feedback);
+    }
+
+    @Benchmark
+    public String encode() throws JsonProcessingException {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public String toEventAndEncode() throws JsonProcessingException {
+        return codec.encode(FeedbackMapper.toEvent(feedback));
+    }
+}
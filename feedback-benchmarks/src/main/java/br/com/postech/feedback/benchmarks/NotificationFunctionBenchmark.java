@@ -0,0 +1,90 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.codec.WireFormat;
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.utils.FeedbackMapper;
+import br.com.postech.feedback.notification.dto.NotificationResponseDTO;
+import br.com.postech.feedback.notification.metrics.NotificationMetrics;
+import br.com.postech.feedback.notification.service.FeedbackNotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Notification entry point with SES disabled. Each payload shape drives a different branch of
+ * {@code extractMessage}/{@code isReportReadyEvent} before the event is parsed and validated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationFunctionBenchmark {
+
+    @Param({"sns-message", "sns-records", "sns-records-smile", "report-ready"})
+    private String payloadType;
+
+    private Function<String, NotificationResponseDTO> processNotification;
+    private String payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new JsonConfig().objectMapper();
+        NotificationMetrics metrics = new NotificationMetrics(new SimpleMeterRegistry());
+        metrics.init();
+
+        FeedbackNotificationService service = new FeedbackNotificationService(
+                null,
+                objectMapper,
+                new FeedbackEventCodec(objectMapper),
+                EmailTemplateBenchmark.templateEngine(),
+                metrics,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        Field sesEnabled = FeedbackNotificationService.class.getDeclaredField("sesEnabled");
+        sesEnabled.setAccessible(true);
+        sesEnabled.setBoolean(service, false);
+        processNotification = service.processNotification();
+
+        String event = objectMapper.writeValueAsString(FeedbackMapper.toEvent(SyntheticFeedbacks.feedback(12345L, 2)));
+        payload = switch (payloadType) {
+            case "sns-message" -> objectMapper.writeValueAsString(Map.of("Type", "Notification", "Message", event));
+            case "sns-records" -> objectMapper.writeValueAsString(
+                    Map.of("Records", new Object[]{Map.of("Sns", Map.of("Message", event))}));
+            case "sns-records-smile" -> objectMapper.writeValueAsString(Map.of("Records", new Object[]{Map.of("Sns", Map.of(
+                    "Message", new FeedbackEventCodec(objectMapper, WireFormat.SMILE)
+                            .encode(FeedbackMapper.toEvent(SyntheticFeedbacks.feedback(12345L, 2))),
+                    "MessageAttributes", Map.of(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE,
+                            Map.of("Type", "String", "Value", WireFormat.SMILE.getContentType()))))}));
+            case "report-ready" -> objectMapper.writeValueAsString(Map.of(
+                    "eventType", "ReportReady",
+                    "reportLink", "https://bucket.s3.amazonaws.com/reports/2026/01/relatorio-semanal-2026-01-15.csv",
+                    "totalFeedbacks", 1500,
+                    "averageScore", 7.4,
+                    "generatedAt", "2026-01-15T10:30:00Z"));
+            default -> throw new IllegalArgumentException("Unknown payload type: " + payloadType);
+        };
+    }
+
+    @Benchmark
+    public NotificationResponseDTO processNotification() {
+        return processNotification.apply(payload);
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.repository.FeedbackRepository;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import br.com.postech.feedback.reporting.service.DatabaseQueryService;
+import br.com.postech.feedback.reporting.service.ReportGeneratorService;
+import br.com.postech.feedback.reporting.writer.CsvReportWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weekly report pipeline without the database: {@link DatabaseQueryService} grouping over an
+ * in-memory repository, then CSV generation through {@link ReportGeneratorService}.
+ * <p>
+ * The 10M-row case needs about 8 GB of heap; narrow it with {@code -p rows=10000,100000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class ReportingPipelineBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int rows;
+
+    private DatabaseQueryService databaseQueryService;
+    private ReportGeneratorService reportGeneratorService;
+    private ReportMetrics metrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Feedback> feedbacks = SyntheticFeedbacks.feedbacks(rows);
+        double average = feedbacks.stream().mapToInt(Feedback::getRating).average().orElse(0.0);
+
+        databaseQueryService = new DatabaseQueryService(inMemoryRepository(feedbacks, average), new FeedbackRules(),
+                Optional.empty());
+        reportGeneratorService = new ReportGeneratorService("csv", List.of(new CsvReportWriter()));
+        metrics = databaseQueryService.fetchMetrics();
+    }
+
+    @Benchmark
+    public ReportMetrics fetchMetrics() {
+        return databaseQueryService.fetchMetrics();
+    }
+
+    @Benchmark
+    public void generateCsv(Blackhole blackhole) {
+        reportGeneratorService.writeReport(metrics, SyntheticFeedbacks.REFERENCE_TIME, new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void fetchMetricsAndGenerateCsv(Blackhole blackhole) {
+        reportGeneratorService.writeReport(databaseQueryService.fetchMetrics(), SyntheticFeedbacks.REFERENCE_TIME,
+                new BlackholeOutputStream(blackhole));
+    }
+
+    private static FeedbackRepository inMemoryRepository(List<Feedback> feedbacks, double average) {
+        return (FeedbackRepository) Proxy.newProxyInstance(
+                FeedbackRepository.class.getClassLoader(),
+                new Class<?>[]{FeedbackRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "countTotalFeedbacks" -> (long) feedbacks.size();
+                    case "calculateAverageScore" -> average;
+                    case "findAllFeedbacksForReport" -> feedbacks;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.core.sentiment.SentimentModel;
+import br.com.postech.feedback.core.sentiment.SentimentScorer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sentiment scoring against the analysis Lambda budget: an SQS batch is at most 10 messages
+ * (template.yaml) and the function times out at 30 s, so {@code scoreBatch} is the per-invocation
+ * cost the model adds. {@code loadModel} is the one-off cold-start cost of reading the bundled
+ * weights.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SentimentBenchmark {
+
+    private static final int SQS_BATCH_SIZE = 10;
+
+    private static final String[] BATCH = {
+            "O app travou no meio da prova e perdi meus dados, péssimo",
+            "Ótima aula, conteúdo muito claro e bem organizado. Parabéns ao professor!",
+            "The app crashed, lost my data and nobody answered the support ticket",
+            "Poderia ter mais exercícios práticos sobre o tema da semana, mas no geral foi bom",
+            "Não consigo acessar a gravação da aula desde ontem, já tentei em dois navegadores diferentes",
+            "Fui cobrado duas vezes na mensalidade e ainda não recebi o estorno",
+            "Material complementar muito bom, recomendo",
+            "Gostei, mas o ritmo foi rápido demais e o áudio cortou algumas vezes durante a explicação",
+            "Great lecture, really clear, highly recommend",
+            "Não gostei"
+    };
+
+    private SentimentScorer scorer;
+
+    @Setup
+    public void setUp() {
+        scorer = SentimentScorer.defaults();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SQS_BATCH_SIZE)
+    public void scoreDescription(Blackhole blackhole) {
+        for (String description : BATCH) {
+            blackhole.consume(scorer.score(description));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void scoreBatch(Blackhole blackhole) {
+        for (String description : BATCH) {
+            blackhole.consume(scorer.score(description));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SentimentModel loadModel() {
+        return SentimentModel.load(SentimentScorer.DEFAULT_MODEL);
+    }
+}
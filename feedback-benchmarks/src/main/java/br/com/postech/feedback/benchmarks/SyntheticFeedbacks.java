@@ -0,0 +1,66 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic feedback datasets shared by the benchmarks. Descriptions come from a small pool so
+ * large datasets measure the code under test rather than string allocation in the fixture.
+ */
+final class SyntheticFeedbacks {
+
+    static final LocalDateTime REFERENCE_TIME = LocalDateTime.of(2026, 1, 15, 10, 30);
+
+    private static final String[] DESCRIPTIONS = {
+            "Ótima aula, conteúdo muito claro e bem organizado",
+            "Professor atrasou; áudio ruim e \"slides\" desatualizados",
+            "Poderia ter mais exercícios práticos\nsobre o tema da semana",
+            "Excelente didática 👍",
+            "Não consegui acessar a gravação da aula",
+            "Material complementar muito bom, recomendo",
+            "A plataforma caiu duas vezes durante a prova",
+            "Gostei, mas o ritmo foi rápido demais"
+    };
+    private static final int WEEK_IN_SECONDS = 7 * 24 * 60 * 60;
+
+    private SyntheticFeedbacks() {
+    }
+
+    static List<Feedback> feedbacks(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Feedback> feedbacks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            feedbacks.add(feedback(i + 1L, random));
+        }
+        return feedbacks;
+    }
+
+    static Feedback feedback(long id, SplittableRandom random) {
+        int rating = random.nextInt(0, 11);
+        LocalDateTime createdAt = REFERENCE_TIME.minusSeconds(random.nextInt(WEEK_IN_SECONDS));
+        return new Feedback(
+                id,
+                DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                rating,
+                rating < 5 ? StatusFeedback.CRITICAL : StatusFeedback.NORMAL,
+                null,
+                createdAt,
+                createdAt);
+    }
+
+    static Feedback feedback(long id, int rating) {
+        return new Feedback(
+                id,
+                DESCRIPTIONS[(int) (id % DESCRIPTIONS.length)],
+                rating,
+                rating < 5 ? StatusFeedback.CRITICAL : StatusFeedback.NORMAL,
+                null,
+                REFERENCE_TIME,
+                REFERENCE_TIME);
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.analysis.text.SeverityDictionary;
+import br.com.postech.feedback.analysis.text.TextAnalysis;
+import br.com.postech.feedback.analysis.text.TextAnalyzer;
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.text.TextFolding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Severity scoring of descriptions as the dictionary grows. {@code extraTerms} synthetic terms are
+ * added to the bundled pt-BR/en dictionaries: the Aho–Corasick analyzer should stay flat, while
+ * {@code naiveScan}, one {@code regionMatches} search per term, grows with the dictionary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextAnalysisBenchmark {
+
+    static final String[] DICTIONARIES = {"classpath:dictionaries/pt-BR.json", "classpath:dictionaries/en.json"};
+
+    private static final String[] DESCRIPTIONS = {
+            "O app travou no meio da prova e perdi meus dados, péssimo",
+            "Ótima aula, conteúdo muito claro e bem organizado. Parabéns ao professor!",
+            "The app crashed, lost my data and nobody answered the support ticket",
+            "Poderia ter mais exercícios práticos sobre o tema da semana, mas no geral foi bom",
+            "Não consigo acessar a gravação da aula desde ontem, já tentei em dois navegadores diferentes",
+            "Fui cobrado duas vezes na mensalidade e ainda não recebi o estorno",
+            "Material complementar muito bom, recomendo",
+            "Gostei, mas o ritmo foi rápido demais e o áudio cortou algumas vezes durante a explicação"
+    };
+
+    private static final int DESCRIPTION_COUNT = 8;
+
+    @Param({"0", "1000", "10000"})
+    private int extraTerms;
+
+    private TextAnalyzer analyzer;
+    private String[] foldedTerms;
+    private String[] foldedDescriptions;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new JsonConfig().objectMapper();
+        List<SeverityDictionary> dictionaries = new ArrayList<>();
+        for (String location : DICTIONARIES) {
+            String resource = "/" + location.substring("classpath:".length());
+            try (InputStream in = TextAnalysisBenchmark.class.getResourceAsStream(resource)) {
+                dictionaries.add(objectMapper.readValue(in, SeverityDictionary.class));
+            }
+        }
+        dictionaries.add(syntheticDictionary(extraTerms));
+        analyzer = new TextAnalyzer(dictionaries, 5);
+
+        List<String> terms = new ArrayList<>();
+        dictionaries.forEach(dictionary -> dictionary.entries().forEach(entry -> terms.addAll(entry.terms())));
+        foldedTerms = terms.stream().map(TextFolding::fold).toArray(String[]::new);
+        foldedDescriptions = new String[DESCRIPTIONS.length];
+        for (int i = 0; i < DESCRIPTIONS.length; i++) {
+            foldedDescriptions[i] = TextFolding.fold(DESCRIPTIONS[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DESCRIPTION_COUNT)
+    public void ahoCorasick(Blackhole blackhole) {
+        for (String description : DESCRIPTIONS) {
+            TextAnalysis analysis = analyzer.analyze(description);
+            blackhole.consume(analysis);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DESCRIPTION_COUNT)
+    public void naiveScan(Blackhole blackhole) {
+        for (String description : foldedDescriptions) {
+            int matches = 0;
+            for (String term : foldedTerms) {
+                if (description.contains(term)) {
+                    matches++;
+                }
+            }
+            blackhole.consume(matches);
+        }
+    }
+
+    private static SeverityDictionary syntheticDictionary(int size) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<String> terms = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StringBuilder term = new StringBuilder();
+            int words = random.nextInt(1, 4);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    term.append(' ');
+                }
+                int letters = random.nextInt(4, 10);
+                for (int l = 0; l < letters; l++) {
+                    term.append((char) ('a' + random.nextInt(26)));
+                }
+            }
+            terms.add(term.toString());
+        }
+        return new SeverityDictionary("synthetic", size == 0
+                ? List.of()
+                : List.of(new SeverityDictionary.Entry("sintetico", 1, terms)));
+    }
+}
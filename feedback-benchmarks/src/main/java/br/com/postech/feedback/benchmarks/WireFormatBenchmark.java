@@ -0,0 +1,68 @@
+package br.com.postech.feedback.benchmarks;
+
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.codec.WireFormat;
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import br.com.postech.feedback.core.utils.FeedbackMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event body ser/de with the indented mapper the services used to publish with ({@code pretty},
+ * untyped {@code writeValueAsString}/{@code readValue}) against the compact wire codec in JSON
+ * ({@code wire}) and base64-framed Smile ({@code smile}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"pretty", "wire", "smile"})
+    public String mapper;
+
+    private ObjectMapper prettyMapper;
+    private FeedbackEventCodec codec;
+    private FeedbackEventDTO event;
+    private String body;
+    private String contentType;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        JsonConfig jsonConfig = new JsonConfig();
+        prettyMapper = jsonConfig.prettyObjectMapper();
+        codec = new FeedbackEventCodec(jsonConfig.objectMapper(),
+                "smile".equals(mapper) ? WireFormat.SMILE : WireFormat.JSON);
+        contentType = codec.getContentType();
+        event = FeedbackMapper.toEvent(SyntheticFeedbacks.feedback(12345L, 3));
+        body = serialize();
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return "pretty".equals(mapper) ? prettyMapper.writeValueAsString(event) : codec.encode(event);
+    }
+
+    @Benchmark
+    public FeedbackEventDTO deserialize() throws JsonProcessingException {
+        return "pretty".equals(mapper)
+                ? prettyMapper.readValue(body, FeedbackEventDTO.class)
+                : codec.decode(body, contentType);
+    }
+}
@@ -0,0 +1,179 @@
+package br.com.postech.feedback.core.codec;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Message body codec for {@link FeedbackEventDTO}. The reader and writer are bound to the type up
+ * front, so the root serializer and deserializer are resolved once instead of on every message.
+ * <p>
+ * Producers encode with {@code messaging.format} ({@code json} or {@code smile}) and tag the
+ * message with {@link #getContentType()}; consumers decode whatever the attribute says, so the
+ * format can be switched once every consumer understands both.
+ * <p>
+ * {@link #peek(String, String)} streams just the routing fields out of a body, for consumers that
+ * forward the body unchanged instead of decoding and re-encoding it.
+ */
+@Component
+public class FeedbackEventCodec {
+
+    public static final String CONTENT_TYPE_ATTRIBUTE = "content-type";
+
+    private final WireFormat format;
+    private final ObjectWriter jsonWriter;
+    private final ObjectReader jsonReader;
+    private final ObjectWriter smileWriter;
+    private final ObjectReader smileReader;
+    private final JsonFactory jsonFactory;
+    private final JsonFactory smileFactory;
+
+    /** Fields of an event needed to route it, read without binding the whole body. */
+    public record Summary(Long id, String description, Integer rating, StatusFeedback status,
+                          Double sentimentScore) {
+    }
+
+    @Autowired
+    public FeedbackEventCodec(ObjectMapper objectMapper, @Value("${messaging.format:json}") String format) {
+        this(objectMapper, WireFormat.fromName(format));
+    }
+
+    public FeedbackEventCodec(ObjectMapper objectMapper) {
+        this(objectMapper, WireFormat.JSON);
+    }
+
+    public FeedbackEventCodec(ObjectMapper objectMapper, WireFormat format) {
+        // Mesmos módulos e features do mapper JSON, só muda o formato
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.format = format;
+        this.jsonWriter = objectMapper.writerFor(FeedbackEventDTO.class);
+        this.jsonReader = objectMapper.readerFor(FeedbackEventDTO.class);
+        this.smileWriter = smileMapper.writerFor(FeedbackEventDTO.class);
+        this.smileReader = smileMapper.readerFor(FeedbackEventDTO.class);
+        this.jsonFactory = objectMapper.getFactory();
+        this.smileFactory = smileMapper.getFactory();
+    }
+
+    public WireFormat getFormat() {
+        return format;
+    }
+
+    public String getContentType() {
+        return format.getContentType();
+    }
+
+    public String encode(FeedbackEventDTO event) throws JsonProcessingException {
+        return switch (format) {
+            case JSON -> jsonWriter.writeValueAsString(event);
+            case SMILE -> Base64.getEncoder().encodeToString(smileWriter.writeValueAsBytes(event));
+        };
+    }
+
+    /** Decodes a body without content type, i.e. JSON. */
+    public FeedbackEventDTO decode(String body) throws JsonProcessingException {
+        return jsonReader.readValue(body);
+    }
+
+    public FeedbackEventDTO decode(String body, String contentType) throws JsonProcessingException {
+        return switch (WireFormat.fromContentType(contentType)) {
+            case JSON -> jsonReader.readValue(body);
+            case SMILE -> decodeSmile(body);
+        };
+    }
+
+    /**
+     * Reads {@code id}, {@code description}, {@code rating}, {@code status} and
+     * {@code sentimentScore} with a streaming parser. Other fields are skipped without being
+     * materialized, and parsing stops as soon as those five have been seen.
+     */
+    public Summary peek(String body, String contentType) throws JsonProcessingException {
+        try (JsonParser parser = switch (WireFormat.fromContentType(contentType)) {
+            case JSON -> jsonFactory.createParser(body);
+            case SMILE -> smileFactory.createParser(smileBytes(body));
+        }) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Feedback event body is not an object");
+            }
+            Long id = null;
+            String description = null;
+            Integer rating = null;
+            StatusFeedback status = null;
+            Double sentimentScore = null;
+            int seen = 0;
+            while (seen != 0b11111 && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                boolean isNull = parser.nextToken() == JsonToken.VALUE_NULL;
+                switch (field) {
+                    case "id" -> {
+                        id = isNull ? null : parser.getValueAsLong();
+                        seen |= 0b0001;
+                    }
+                    case "description" -> {
+                        description = isNull ? null : parser.getValueAsString();
+                        seen |= 0b1000;
+                    }
+                    case "rating" -> {
+                        rating = isNull ? null : parser.getValueAsInt();
+                        seen |= 0b0010;
+                    }
+                    case "status" -> {
+                        status = isNull ? null : status(parser);
+                        seen |= 0b0100;
+                    }
+                    case "sentimentScore" -> {
+                        sentimentScore = isNull ? null : parser.getValueAsDouble();
+                        seen |= 0b10000;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            return new Summary(id, description, rating, status, sentimentScore);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read event summary", e);
+        }
+    }
+
+    private static StatusFeedback status(JsonParser parser) throws IOException {
+        String value = parser.getValueAsString();
+        try {
+            return StatusFeedback.valueOf(value);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new JsonParseException(parser, "Unknown feedback status: " + value);
+        }
+    }
+
+    private static byte[] smileBytes(String body) {
+        try {
+            return Base64.getDecoder().decode(body.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Smile event body is not valid base64", e);
+        }
+    }
+
+    private FeedbackEventDTO decodeSmile(String body) throws JsonProcessingException {
+        byte[] bytes = smileBytes(body);
+        try {
+            return smileReader.readValue(bytes);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to decode Smile event", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.postech.feedback.core.codec;
+
+import java.util.Locale;
+
+/**
+ * Encodings for event message bodies. The content type travels as a message attribute
+ * ({@link FeedbackEventCodec#CONTENT_TYPE_ATTRIBUTE}) with a {@code v} parameter, e.g.
+ * {@code application/x-jackson-smile;v=1}; a message without it is JSON.
+ */
+public enum WireFormat {
+
+    JSON("application/json"),
+    /** Binary Smile, base64-encoded because SQS and SNS bodies are text. */
+    SMILE("application/x-jackson-smile");
+
+    public static final int VERSION = 1;
+
+    private final String mediaType;
+
+    WireFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getContentType() {
+        return mediaType + ";v=" + VERSION;
+    }
+
+    public static WireFormat fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return JSON;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported messaging format: " + name);
+        }
+    }
+
+    public static WireFormat fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return JSON;
+        }
+        String[] parts = contentType.split(";");
+        String mediaType = parts[0].trim().toLowerCase(Locale.ROOT);
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("v=") && !String.valueOf(VERSION).equals(parameter.substring(2).trim())) {
+                throw new IllegalArgumentException("Unsupported event format version: " + contentType);
+            }
+        }
+        for (WireFormat format : values()) {
+            if (format.mediaType.equals(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported event content type: " + contentType);
+    }
+}
@@ -8,6 +8,7 @@ public class AwsConfigConstants {
     public static final String QUEUE_INGESTION_ANALYSIS = "feedback-analysis-queue";
     public static final String TOPIC_NOTIFICATION = "feedback-notification-topic";
     public static final String BUCKET_REPORTS = "postech-feedback-reports";
+    public static final String BUCKET_ARCHIVE = "postech-feedback-archive";
 
     public static final String DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
 }
\ No newline at end of file
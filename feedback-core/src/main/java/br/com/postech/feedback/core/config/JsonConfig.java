@@ -3,16 +3,34 @@ package br.com.postech.feedback.core.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+/**
+ * Two mappers: the {@link Primary} one is the compact wire format used for SQS/SNS messages and
+ * HTTP payloads; {@link #PRETTY_OBJECT_MAPPER} is indented and meant for output read by people.
+ */
 @Configuration
 public class JsonConfig {
 
+    public static final String PRETTY_OBJECT_MAPPER = "prettyObjectMapper";
+
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        // Acessores gerados via LambdaMetafactory em vez de reflexão
+        mapper.registerModule(new BlackbirdModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(SerializationFeature.INDENT_OUTPUT);
+        return mapper;
+    }
+
+    @Bean(PRETTY_OBJECT_MAPPER)
+    public ObjectMapper prettyObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -20,4 +38,4 @@ public class JsonConfig {
         return mapper;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package br.com.postech.feedback.core.config;
+
+import br.com.postech.feedback.core.datasource.ReplicaLagMonitor;
+import br.com.postech.feedback.core.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Read replica for {@code @Transactional(readOnly = true)} work, enabled by setting
+ * {@code feedback.datasource.replica.url}. Without it the service keeps the single DataSource
+ * auto-configured by Spring Boot.
+ * <p>
+ * Both pools take the {@code spring.datasource.hikari.*} settings; the replica reuses the primary
+ * credentials unless {@code feedback.datasource.replica.username}/{@code password} are set. Reads
+ * fall back to the primary while the replica lags more than {@code max-lag-seconds} (checked at most
+ * every {@code lag-check-interval-seconds}) or does not hand out a connection within
+ * {@code connection-timeout-seconds}.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("!'${feedback.datasource.replica.url:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${feedback.datasource.replica.url}") String replicaUrl,
+            @Value("${feedback.datasource.replica.username:}") String replicaUsername,
+            @Value("${feedback.datasource.replica.password:}") String replicaPassword,
+            @Value("${feedback.datasource.replica.max-lag-seconds:30}") long maxLagSeconds,
+            @Value("${feedback.datasource.replica.lag-check-interval-seconds:5}") long lagCheckIntervalSeconds,
+            @Value("${feedback.datasource.replica.connection-timeout-seconds:2}") long connectionTimeoutSeconds) {
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        bindHikari(environment, primary);
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        bindHikari(environment, replica);
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(replicaUrl);
+        if (!replicaUsername.isBlank()) {
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+        }
+        replica.setReadOnly(true);
+        // Réplica fora do ar não pode segurar a leitura pelo connection-timeout do primário
+        replica.setConnectionTimeout(Duration.ofSeconds(connectionTimeoutSeconds).toMillis());
+
+        log.info("Read replica enabled: read-only transactions go to {} while its lag is within {}s",
+                replicaUrl, maxLagSeconds);
+        return new ReplicaRoutingDataSource(primary, replica, new ReplicaLagMonitor(replica,
+                Duration.ofSeconds(maxLagSeconds), Duration.ofSeconds(lagCheckIntervalSeconds)));
+    }
+
+    private static void bindHikari(Environment environment, HikariDataSource dataSource) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    }
+}
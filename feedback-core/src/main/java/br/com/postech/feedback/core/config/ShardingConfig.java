@@ -0,0 +1,77 @@
+package br.com.postech.feedback.core.config;
+
+import br.com.postech.feedback.core.shard.ShardRouter;
+import br.com.postech.feedback.core.shard.ShardedFeedbackRepository;
+import br.com.postech.feedback.core.shard.SnowflakeIdGenerator;
+import br.com.postech.feedback.core.shard.WorkerLease;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feedbacks sharded over several PostgreSQL databases, enabled by listing the extra ones in
+ * {@code feedback.shards.additional-urls} (comma separated). Shard 0 is always the service's own
+ * DataSource, which keeps the rows written before sharding. {@code feedback-migration} migrates and
+ * the reporting archival archives the same list of shards.
+ * <p>
+ * The additional pools take the {@code spring.datasource} credentials and {@code hikari.*} settings.
+ * <p>
+ * Each instance leases its id worker number on shard 0 for {@code feedback.shards.worker-lease-seconds}
+ * (see {@link WorkerLease}): at most {@value SnowflakeIdGenerator#WORKERS} instances can write within
+ * one lease, and writes fail past that instead of sharing a worker.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("!'${feedback.shards.additional-urls:}'.isBlank()")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(DataSource dataSource,
+                                   DataSourceProperties properties,
+                                   Environment environment,
+                                   @Value("${feedback.shards.additional-urls}") String additionalUrls) {
+        List<HikariDataSource> additional = new ArrayList<>();
+        for (String url : additionalUrls.split(",")) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource shard = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(shard));
+            shard.setPoolName("shard-" + (additional.size() + 1));
+            shard.setJdbcUrl(url.trim());
+            additional.add(shard);
+        }
+
+        log.info("Feedback sharding enabled: {} shards (shard 0 is spring.datasource)", additional.size() + 1);
+        return new ShardRouter(dataSource, additional);
+    }
+
+    @Bean(destroyMethod = "close")
+    public WorkerLease feedbackIdWorkerLease(ShardRouter shardRouter,
+                                             @Value("${feedback.shards.worker-lease-seconds:600}") long leaseSeconds) {
+        // Arrendado no primeiro id: a subida continua sem ir ao banco
+        return new WorkerLease(shardRouter.shard(0).getDataSource(), leaseSeconds);
+    }
+
+    @Bean
+    public SnowflakeIdGenerator feedbackIdGenerator(WorkerLease feedbackIdWorkerLease) {
+        return new SnowflakeIdGenerator(feedbackIdWorkerLease);
+    }
+
+    @Bean
+    public ShardedFeedbackRepository shardedFeedbackRepository(ShardRouter shardRouter,
+                                                               SnowflakeIdGenerator feedbackIdGenerator) {
+        return new ShardedFeedbackRepository(shardRouter, feedbackIdGenerator);
+    }
+}
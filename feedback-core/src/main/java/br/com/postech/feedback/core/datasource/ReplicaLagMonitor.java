@@ -0,0 +1,109 @@
+package br.com.postech.feedback.core.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether the read replica is fresh enough to serve reads. The lag is measured on demand,
+ * at most once per {@code checkInterval}, instead of by a background thread: Lambda freezes the
+ * process between invocations, so a polled value could be arbitrarily old. Only one caller runs
+ * the check; the others keep the last answer meanwhile, and until the first check completes the
+ * replica is not used. A replica that cannot be queried counts as lagging.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * Seconds of replay lag on a streaming standby. A standby that replayed everything it received
+     * is up to date even if the primary has been idle for hours, so the timestamp of the last
+     * replayed transaction only counts while WAL is still waiting to be replayed or no WAL receiver
+     * is running.
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                            AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver) THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 'Infinity')
+                   END""";
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+    // Standby que ainda não reaplicou nenhuma transação
+    private static final Duration UNKNOWN_LAG = Duration.ofSeconds(Long.MAX_VALUE);
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final long checkIntervalNanos;
+    private final LongSupplier nanoTime;
+    private final ReentrantLock checking = new ReentrantLock();
+
+    private volatile boolean usable;
+    private volatile long nextCheck;
+    private volatile boolean checked;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval) {
+        this(replica, maxLag, checkInterval, System::nanoTime);
+    }
+
+    ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval, LongSupplier nanoTime) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.checkIntervalNanos = checkInterval.toNanos();
+        this.nanoTime = nanoTime;
+        this.nextCheck = nanoTime.getAsLong();
+    }
+
+    public boolean isReplicaUsable() {
+        long now = nanoTime.getAsLong();
+        if (now - nextCheck >= 0 && checking.tryLock()) {
+            try {
+                if (now - nextCheck >= 0) {
+                    update(measureLag());
+                    nextCheck = nanoTime.getAsLong() + checkIntervalNanos;
+                }
+            } finally {
+                checking.unlock();
+            }
+        }
+        return usable;
+    }
+
+    /** Replay lag of the replica, or {@code null} when it could not be measured. */
+    Duration measureLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet result = statement.executeQuery(LAG_QUERY)) {
+                result.next();
+                double seconds = result.getDouble(1);
+                return Double.isInfinite(seconds) ? UNKNOWN_LAG : Duration.ofNanos((long) (seconds * 1e9));
+            }
+        } catch (SQLException e) {
+            if (usable || !checked) {
+                log.warn("Failed to check read replica lag, reads stay on the primary: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private void update(Duration lag) {
+        boolean fresh = lag != null && lag.compareTo(maxLag) <= 0;
+        if (fresh && (!usable || !checked)) {
+            log.info("Read replica lag {}ms is within {}s: read-only transactions go to the replica",
+                    lag.toMillis(), maxLag.toSeconds());
+        } else if (!fresh && lag != null && (usable || !checked)) {
+            log.warn("Read replica lag {} exceeds {}s: read-only transactions go to the primary",
+                    lag.equals(UNKNOWN_LAG) ? "unknown" : lag.toSeconds() + "s", maxLag.toSeconds());
+        }
+        usable = fresh;
+        checked = true;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.postech.feedback.core.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the read replica and everything else,
+ * including reads outside a transaction, to the primary. The replica is skipped while
+ * {@link ReplicaLagMonitor} reports it as lagging.
+ * <p>
+ * The routing is wrapped in a {@link LazyConnectionDataSourceProxy}: the JPA transaction manager
+ * asks for the connection before the transaction is marked read-only, so the physical connection
+ * is only chosen at the first statement.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+
+        AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return currentRoute();
+            }
+        };
+        router.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.setLenientFallback(false);
+        router.afterPropertiesSet();
+
+        // Valores padrão explícitos: sem eles o proxy abriria uma conexão só para descobri-los
+        setDefaultAutoCommit(primary.isAutoCommit());
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    /** Where a connection requested by the current thread goes. */
+    public Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaUsable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
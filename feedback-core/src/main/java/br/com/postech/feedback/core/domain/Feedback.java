@@ -1,5 +1,6 @@
 package br.com.postech.feedback.core.domain;
 
+import br.com.postech.feedback.core.rules.CompiledRuleSet;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,6 +19,8 @@ import jakarta.validation.constraints.NotNull;
 @AllArgsConstructor
 public class Feedback {
 
+    private static final CompiledRuleSet DEFAULT_RULES = CompiledRuleSet.defaults();
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -35,6 +38,10 @@ public class Feedback {
     @Column(nullable = false)
     private StatusFeedback status;
 
+    // -1 (negativo) a 1 (positivo); nulo quando o modelo de sentimento está desligado
+    @Column(name = "sentiment_score")
+    private Double sentimentScore;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -47,7 +54,7 @@ public class Feedback {
         this.rating = rating;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
-        this.status = calcularStatus(rating);
+        this.status = calcularStatus(description, rating);
     }
 
     private void validarRating(Integer rating) {
@@ -56,8 +63,20 @@ public class Feedback {
         }
     }
 
-    private StatusFeedback calcularStatus(Integer rating) {
-        return (rating < 5) ? StatusFeedback.CRITICAL : StatusFeedback.NORMAL;
+    // Regras padrão; a ingestão reclassifica com as regras configuradas (FeedbackRules)
+    private StatusFeedback calcularStatus(String description, Integer rating) {
+        return DEFAULT_RULES.classify(rating, null, description, CompiledRuleSet.UNKNOWN_TIME).status();
+    }
+
+    // created_at é a chave de partição da tabela e não aceita nulo
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+        if (this.updatedAt == null) {
+            this.updatedAt = this.createdAt;
+        }
     }
 
     @PreUpdate
@@ -0,0 +1,45 @@
+package br.com.postech.feedback.core.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the listing, ordered by {@code created_at DESC, id DESC}: the next page starts right
+ * after this row. Clients only see the opaque {@link #encode()} form.
+ */
+public record FeedbackCursor(LocalDateTime createdAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public FeedbackCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("createdAt is required");
+        }
+    }
+
+    public static FeedbackCursor after(FeedbackView view) {
+        return new FeedbackCursor(view.createdAt(), view.id());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Decodes a cursor returned by {@link #encode()}; {@code null} or blank means the first page. */
+    public static FeedbackCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new FeedbackCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
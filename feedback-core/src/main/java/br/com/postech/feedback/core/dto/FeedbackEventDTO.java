@@ -3,6 +3,7 @@ package br.com.postech.feedback.core.dto;
 import br.com.postech.feedback.core.config.AwsConfigConstants;
 import br.com.postech.feedback.core.domain.StatusFeedback;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -14,6 +15,13 @@ public record FeedbackEventDTO(
         StatusFeedback status,
 
         @JsonFormat(pattern = AwsConfigConstants.DATE_PATTERN)
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Double sentimentScore
 ) implements Serializable {
+
+    public FeedbackEventDTO(Long id, String description, Integer rating, StatusFeedback status, LocalDateTime createdAt) {
+        this(id, description, rating, status, createdAt, null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package br.com.postech.feedback.core.dto;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Optional filters of the feedback listing; {@code null} means "any". Ratings are inclusive,
+ * {@code from} is inclusive and {@code to} exclusive.
+ */
+public record FeedbackFilter(
+        StatusFeedback status,
+        Integer minRating,
+        Integer maxRating,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+
+    private static final FeedbackFilter NONE = new FeedbackFilter(null, null, null, null, null);
+
+    public FeedbackFilter {
+        if (minRating != null && maxRating != null && minRating > maxRating) {
+            throw new IllegalArgumentException("minRating deve ser menor ou igual a maxRating");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from deve ser anterior a to");
+        }
+    }
+
+    public static FeedbackFilter none() {
+        return NONE;
+    }
+
+    /** Builds a filter from raw query parameters, rejecting malformed values with {@link IllegalArgumentException}. */
+    public static FeedbackFilter parse(String status, String minRating, String maxRating, String from, String to) {
+        return new FeedbackFilter(parseStatus(status), parseInt("minRating", minRating), parseInt("maxRating", maxRating),
+                parseDateTime("from", from), parseDateTime("to", to));
+    }
+
+    private static StatusFeedback parseStatus(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return StatusFeedback.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("status inválido: " + value);
+        }
+    }
+
+    private static Integer parseInt(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " deve ser numérico: " + value);
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " deve estar no formato ISO (2026-01-15T10:30:00): " + value);
+        }
+    }
+}
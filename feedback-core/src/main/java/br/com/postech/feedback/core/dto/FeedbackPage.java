@@ -0,0 +1,7 @@
+package br.com.postech.feedback.core.dto;
+
+import java.util.List;
+
+/** One page of the listing; {@code nextCursor} is {@code null} on the last page. */
+public record FeedbackPage(List<FeedbackView> items, String nextCursor) {
+}
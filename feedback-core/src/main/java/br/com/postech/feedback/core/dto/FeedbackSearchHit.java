@@ -0,0 +1,5 @@
+package br.com.postech.feedback.core.dto;
+
+/** Full-text match with its {@code ts_rank_cd} relevance; higher is better. */
+public record FeedbackSearchHit(FeedbackView feedback, double rank) {
+}
@@ -0,0 +1,7 @@
+package br.com.postech.feedback.core.dto;
+
+import java.util.List;
+
+/** One page of search results, best first; {@code nextPage} is {@code null} on the last page. */
+public record FeedbackSearchPage(List<FeedbackSearchHit> hits, Integer nextPage) {
+}
@@ -0,0 +1,19 @@
+package br.com.postech.feedback.core.dto;
+
+/**
+ * Count and rating sum of a set of feedbacks. Partial totals of several shards add up exactly,
+ * which averages of each shard would not.
+ */
+public record FeedbackTotals(long count, long ratingSum) {
+
+    public static final FeedbackTotals EMPTY = new FeedbackTotals(0, 0);
+
+    public FeedbackTotals plus(FeedbackTotals other) {
+        return new FeedbackTotals(count + other.count, ratingSum + other.ratingSum);
+    }
+
+    /** Average rating, 0.0 without feedbacks (as {@code COALESCE(AVG(rating), 0.0)}). */
+    public double averageRating() {
+        return count == 0 ? 0.0 : (double) ratingSum / count;
+    }
+}
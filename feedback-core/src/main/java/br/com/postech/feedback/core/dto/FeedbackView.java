@@ -0,0 +1,26 @@
+package br.com.postech.feedback.core.dto;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a feedback. Repository queries build it with a constructor expression,
+ * so reads skip entity hydration and persistence-context tracking.
+ */
+public record FeedbackView(
+        Long id,
+        String description,
+        Integer rating,
+        StatusFeedback status,
+        Double sentimentScore,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static FeedbackView of(Feedback feedback) {
+        return new FeedbackView(feedback.getId(), feedback.getDescription(), feedback.getRating(),
+                feedback.getStatus(), feedback.getSentimentScore(), feedback.getCreatedAt(), feedback.getUpdatedAt());
+    }
+}
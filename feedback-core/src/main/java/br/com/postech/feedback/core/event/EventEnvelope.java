@@ -0,0 +1,98 @@
+package br.com.postech.feedback.core.event;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Metadata of every event published between the services. It travels as SQS/SNS message
+ * attributes rather than inside the body, so consumers and SNS filter policies can route on
+ * {@link #type()} without deserializing the payload.
+ */
+public record EventEnvelope(
+        String type,
+        int version,
+        String id,
+        Instant timestamp,
+        String traceId
+) {
+
+    public static final String TYPE_ATTRIBUTE = "event-type";
+    public static final String VERSION_ATTRIBUTE = "event-version";
+    public static final String ID_ATTRIBUTE = "event-id";
+    public static final String TIMESTAMP_ATTRIBUTE = "event-timestamp";
+    public static final String TRACE_ID_ATTRIBUTE = "trace-id";
+
+    /** Ingestion -> analysis (SQS). */
+    public static final String FEEDBACK_RECEIVED = "FeedbackReceived";
+    /** Analysis -> notification (SNS). */
+    public static final String FEEDBACK_CRITICAL = "FeedbackCritical";
+    /** Reporting -> notification (SNS). */
+    public static final String REPORT_READY = "ReportReady";
+
+    public static EventEnvelope create(String type, int version) {
+        return new EventEnvelope(type, version, UUID.randomUUID().toString(), Instant.now(),
+                UUID.randomUUID().toString());
+    }
+
+    /** Envelope for an event caused by this one: new id and timestamp, same trace. */
+    public EventEnvelope next(String nextType, int nextVersion) {
+        String trace = traceId != null ? traceId : UUID.randomUUID().toString();
+        return new EventEnvelope(nextType, nextVersion, UUID.randomUUID().toString(), Instant.now(), trace);
+    }
+
+    public Map<String, String> toAttributes() {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put(TYPE_ATTRIBUTE, type);
+        attributes.put(VERSION_ATTRIBUTE, String.valueOf(version));
+        attributes.put(ID_ATTRIBUTE, id);
+        attributes.put(TIMESTAMP_ATTRIBUTE, timestamp.toString());
+        if (traceId != null) {
+            attributes.put(TRACE_ID_ATTRIBUTE, traceId);
+        }
+        return attributes;
+    }
+
+    /**
+     * Reads the envelope from message attributes; empty when the message predates the envelope
+     * (no {@value #TYPE_ATTRIBUTE} attribute).
+     */
+    public static Optional<EventEnvelope> fromAttributes(Function<String, String> attribute) {
+        String type = attribute.apply(TYPE_ATTRIBUTE);
+        if (type == null || type.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(new EventEnvelope(
+                type,
+                parseVersion(attribute.apply(VERSION_ATTRIBUTE)),
+                attribute.apply(ID_ATTRIBUTE),
+                parseTimestamp(attribute.apply(TIMESTAMP_ATTRIBUTE)),
+                attribute.apply(TRACE_ID_ATTRIBUTE)));
+    }
+
+    private static int parseVersion(String value) {
+        if (value == null || value.isBlank()) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid event version: " + value);
+        }
+    }
+
+    private static Instant parseTimestamp(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package br.com.postech.feedback.core.repository;
 
 import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
+public interface FeedbackRepository extends JpaRepository<Feedback, Long>, FeedbackRepositoryCustom {
 
     @Query("SELECT COUNT(f) FROM Feedback f")
     Long countTotalFeedbacks();
@@ -24,6 +29,24 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
     @Query("SELECT f FROM Feedback f ORDER BY f.createdAt DESC")
     List<Feedback> findAllFeedbacksForReport();
 
+    @Query("SELECT COUNT(f) FROM Feedback f WHERE f.createdAt >= :startDate")
+    Long countFeedbacksSince(@Param("startDate") LocalDateTime startDate);
+
+    @Query("SELECT COALESCE(AVG(f.rating), 0.0) FROM Feedback f WHERE f.createdAt >= :startDate")
+    Double calculateAverageScoreSince(@Param("startDate") LocalDateTime startDate);
+
     @Query("SELECT f FROM Feedback f WHERE f.createdAt >= :startDate ORDER BY f.createdAt DESC")
     List<Feedback> findFeedbacksSince(@Param("startDate") LocalDateTime startDate);
-}
\ No newline at end of file
+
+    @Query("SELECT new br.com.postech.feedback.core.dto.FeedbackView(f.id, f.description, f.rating, f.status, "
+            + "f.sentimentScore, f.createdAt, f.updatedAt) FROM Feedback f WHERE f.id = :id")
+    Optional<FeedbackView> findViewById(@Param("id") Long id);
+
+    // Uma transação curta por lote; o intervalo de created_at restringe a busca às partições do lote
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Feedback f WHERE f.id IN :ids AND f.createdAt >= :from AND f.createdAt <= :to")
+    int deleteArchived(@Param("ids") Collection<Long> ids,
+                       @Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,47 @@
+package br.com.postech.feedback.core.repository;
+
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FeedbackRepositoryCustom {
+
+    /**
+     * Native query behind {@link #searchViews}, with the named parameters {@code query}, {@code candidates},
+     * {@code offset} and {@code limit}; also run over plain JDBC by the ingestion {@code lean} profile.
+     */
+    String SEARCH_SQL = """
+            SELECT c.id, c.description, c.rating, c.status, c.sentiment_score, c.created_at, c.updated_at,
+                   round(CAST(ts_rank_cd(c.description_tsv, q) AS numeric), 4) AS rank
+            FROM websearch_to_tsquery('portuguese', :query) q,
+                 LATERAL (SELECT f.* FROM feedbacks f
+                          WHERE f.description_tsv @@ q
+                          ORDER BY f.created_at DESC, f.id DESC
+                          LIMIT :candidates) c
+            ORDER BY rank DESC, c.id DESC
+            OFFSET :offset LIMIT :limit
+            """;
+
+    /**
+     * Up to {@code limit} feedbacks matching {@code filter}, newest first, strictly after
+     * {@code after} in {@code created_at DESC, id DESC} order ({@code null} for the first page).
+     */
+    List<FeedbackView> findViews(FeedbackFilter filter, FeedbackCursor after, int limit);
+
+    /**
+     * Full-text search over descriptions (PostgreSQL only). Takes the {@code candidates} most recent
+     * matches of {@code query} (web search syntax: quotes, {@code or}, {@code -word}), ranks them and
+     * returns {@code limit} of them from {@code offset}, best first.
+     */
+    List<FeedbackSearchHit> searchViews(String query, int candidates, int offset, int limit);
+
+    /**
+     * Up to {@code limit} feedbacks created before {@code before}, oldest first, strictly after
+     * {@code after} in {@code created_at, id} order ({@code null} to start from the oldest row).
+     */
+    List<FeedbackView> findArchivable(LocalDateTime before, FeedbackCursor after, int limit);
+}
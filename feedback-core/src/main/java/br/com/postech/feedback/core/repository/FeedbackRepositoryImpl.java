@@ -0,0 +1,136 @@
+package br.com.postech.feedback.core.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset listing. Only the filters that are present become predicates, so each combination is a
+ * plain range condition the planner can match against the {@code idx_feedbacks_*} indexes (see
+ * migration {@code V4__Create_feedback_indexes}) instead of a catch-all {@code :param IS NULL OR ...}.
+ * <p>
+ * The cursor condition is written as {@code created_at <= :c AND (created_at < :c OR id < :id)}:
+ * the first conjunct bounds the index range, so reading page N costs the same as page 1.
+ * <p>
+ * Search ranks only the most recent matches: the inner query walks {@code idx_feedbacks_created_at_id}
+ * (or the GIN index, for rare terms) and stops after {@code candidates} rows, so a term present in
+ * millions of descriptions costs about the same as a rare one.
+ * <p>
+ * Archival walks the same index backwards, oldest first, with the mirrored cursor condition; resuming
+ * from the cursor skips the index entries of rows already archived and deleted but not yet vacuumed.
+ */
+class FeedbackRepositoryImpl implements FeedbackRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FeedbackView> findViews(FeedbackFilter filter, FeedbackCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FeedbackView> query = cb.createQuery(FeedbackView.class);
+        Root<Feedback> feedback = query.from(Feedback.class);
+        Path<LocalDateTime> createdAt = feedback.get("createdAt");
+        Path<Long> id = feedback.get("id");
+        Path<Integer> rating = feedback.get("rating");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.status() != null) {
+            predicates.add(cb.equal(feedback.get("status"), filter.status()));
+        }
+        if (filter.minRating() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(rating, filter.minRating()));
+        }
+        if (filter.maxRating() != null) {
+            predicates.add(cb.lessThanOrEqualTo(rating, filter.maxRating()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThan(createdAt, filter.to()));
+        }
+        if (after != null) {
+            predicates.add(cb.lessThanOrEqualTo(createdAt, after.createdAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.lessThan(id, after.id())));
+        }
+
+        query.select(cb.construct(FeedbackView.class, id, feedback.get("description"), rating,
+                        feedback.get("status"), feedback.get("sentimentScore"), createdAt, feedback.get("updatedAt")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<FeedbackView> findArchivable(LocalDateTime before, FeedbackCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FeedbackView> query = cb.createQuery(FeedbackView.class);
+        Root<Feedback> feedback = query.from(Feedback.class);
+        Path<LocalDateTime> createdAt = feedback.get("createdAt");
+        Path<Long> id = feedback.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.lessThan(createdAt, before));
+        if (after != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, after.createdAt()));
+            predicates.add(cb.or(
+                    cb.greaterThan(createdAt, after.createdAt()),
+                    cb.greaterThan(id, after.id())));
+        }
+
+        query.select(cb.construct(FeedbackView.class, id, feedback.get("description"), feedback.get("rating"),
+                        feedback.get("status"), feedback.get("sentimentScore"), createdAt, feedback.get("updatedAt")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(createdAt), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FeedbackSearchHit> searchViews(String query, int candidates, int offset, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH_SQL)
+                .setParameter("query", query)
+                .setParameter("candidates", candidates)
+                .setParameter("offset", offset)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new FeedbackSearchHit(new FeedbackView(
+                        ((Number) row[0]).longValue(),
+                        (String) row[1],
+                        ((Number) row[2]).intValue(),
+                        StatusFeedback.valueOf((String) row[3]),
+                        row[4] != null ? ((Number) row[4]).doubleValue() : null,
+                        toLocalDateTime(row[5]),
+                        toLocalDateTime(row[6])),
+                        ((Number) row[7]).doubleValue()))
+                .toList();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
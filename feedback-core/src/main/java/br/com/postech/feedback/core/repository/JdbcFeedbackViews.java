@@ -0,0 +1,106 @@
+package br.com.postech.feedback.core.repository;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@link FeedbackView} reads of {@link FeedbackRepositoryCustom} over plain JDBC, for callers
+ * without Hibernate: the ingestion {@code lean} profile and each shard of
+ * {@link br.com.postech.feedback.core.shard.ShardedFeedbackRepository}. Listing builds the same
+ * predicates as {@code FeedbackRepositoryImpl}, only for the filters present.
+ */
+public final class JdbcFeedbackViews {
+
+    public static final String COLUMNS =
+            "SELECT id, description, rating, status, sentiment_score, created_at, updated_at FROM feedbacks ";
+
+    public static final RowMapper<FeedbackView> VIEW = (result, row) -> new FeedbackView(
+            result.getLong("id"),
+            result.getString("description"),
+            result.getInt("rating"),
+            StatusFeedback.valueOf(result.getString("status")),
+            result.getObject("sentiment_score", Double.class),
+            result.getObject("created_at", LocalDateTime.class),
+            result.getObject("updated_at", LocalDateTime.class));
+
+    private JdbcFeedbackViews() {
+    }
+
+    public static Optional<FeedbackView> findViewById(JdbcTemplate jdbcTemplate, Long id) {
+        return jdbcTemplate.query(COLUMNS + "WHERE id = ?", VIEW, id).stream().findFirst();
+    }
+
+    /** @see FeedbackRepositoryCustom#findViews */
+    public static List<FeedbackView> findViews(JdbcTemplate jdbcTemplate, FeedbackFilter filter,
+                                               FeedbackCursor after, int limit) {
+        List<String> predicates = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (filter.status() != null) {
+            predicates.add("status = ?");
+            args.add(filter.status().name());
+        }
+        if (filter.minRating() != null) {
+            predicates.add("rating >= ?");
+            args.add(filter.minRating());
+        }
+        if (filter.maxRating() != null) {
+            predicates.add("rating <= ?");
+            args.add(filter.maxRating());
+        }
+        if (filter.from() != null) {
+            predicates.add("created_at >= ?");
+            args.add(filter.from());
+        }
+        if (filter.to() != null) {
+            predicates.add("created_at < ?");
+            args.add(filter.to());
+        }
+        if (after != null) {
+            predicates.add("created_at <= ?");
+            predicates.add("(created_at < ? OR id < ?)");
+            args.add(after.createdAt());
+            args.add(after.createdAt());
+            args.add(after.id());
+        }
+        args.add(limit);
+
+        String where = predicates.isEmpty() ? "" : "WHERE " + String.join(" AND ", predicates) + " ";
+        return jdbcTemplate.query(COLUMNS + where + "ORDER BY created_at DESC, id DESC LIMIT ?", VIEW, args.toArray());
+    }
+
+    /** @see FeedbackRepositoryCustom#findArchivable */
+    public static List<FeedbackView> findArchivable(JdbcTemplate jdbcTemplate, LocalDateTime before,
+                                                    FeedbackCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(COLUMNS + "WHERE created_at < ? ORDER BY created_at, id LIMIT ?",
+                    VIEW, before, limit);
+        }
+        return jdbcTemplate.query(COLUMNS + "WHERE created_at < ? AND created_at >= ? AND (created_at > ? OR id > ?) "
+                        + "ORDER BY created_at, id LIMIT ?",
+                VIEW, before, after.createdAt(), after.createdAt(), after.id(), limit);
+    }
+
+    /** @see FeedbackRepositoryCustom#searchViews */
+    public static List<FeedbackSearchHit> searchViews(NamedParameterJdbcTemplate jdbcTemplate, String query,
+                                                      int candidates, int offset, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("candidates", candidates)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FeedbackRepositoryCustom.SEARCH_SQL, parameters,
+                (result, row) -> new FeedbackSearchHit(VIEW.mapRow(result, row), result.getDouble("rank")));
+    }
+}
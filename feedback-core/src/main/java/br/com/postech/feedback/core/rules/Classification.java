@@ -0,0 +1,17 @@
+package br.com.postech.feedback.core.rules;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+
+/** Outcome of the rules for one feedback: the status stored at ingestion and the report urgency. */
+public record Classification(StatusFeedback status, Urgency urgency) {
+
+    public Classification {
+        if (status == null || urgency == null) {
+            throw new IllegalArgumentException("Classification requires status and urgency");
+        }
+    }
+
+    public boolean isCritical() {
+        return status == StatusFeedback.CRITICAL;
+    }
+}
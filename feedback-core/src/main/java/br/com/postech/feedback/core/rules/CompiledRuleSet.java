@@ -0,0 +1,197 @@
+package br.com.postech.feedback.core.rules;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.text.AhoCorasickMatcher;
+
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link RuleSetDefinition} compiled into lookup tables. Each rule is one bit of a {@code long};
+ * rating, status and time-of-day conditions are precomputed into masks of the rules they allow, so
+ * classifying is a few array reads and ANDs. Keywords of all rules share one
+ * {@link AhoCorasickMatcher}, so the description is scanned once, and only when a surviving rule
+ * has keywords. Nothing is allocated per call: the returned {@link Classification} is the instance
+ * compiled for the matching rule.
+ * <p>
+ * Immutable and thread-safe.
+ */
+public final class CompiledRuleSet {
+
+    public static final int MAX_RULES = Long.SIZE;
+
+    /** Minute of day for facts without a time; rules with a time window never match it. */
+    public static final int UNKNOWN_TIME = -1;
+
+    private static final int MIN_RATING = 0;
+    private static final int MAX_RATING = 10;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final StatusFeedback[] STATUSES = StatusFeedback.values();
+
+    private final String[] names;
+    private final Classification[] outcomes;
+    private final Classification fallback;
+    // Índice 0 = valor desconhecido (nulo ou fora da faixa)
+    private final long[] allowedByRating;
+    private final long[] allowedByStatus;
+    private final long[] allowedByMinute;
+    private final long keywordRules;
+    private final AhoCorasickMatcher keywords;
+
+    private CompiledRuleSet(String[] names, Classification[] outcomes, Classification fallback,
+                            long[] allowedByRating, long[] allowedByStatus, long[] allowedByMinute,
+                            long keywordRules, AhoCorasickMatcher keywords) {
+        this.names = names;
+        this.outcomes = outcomes;
+        this.fallback = fallback;
+        this.allowedByRating = allowedByRating;
+        this.allowedByStatus = allowedByStatus;
+        this.allowedByMinute = allowedByMinute;
+        this.keywordRules = keywordRules;
+        this.keywords = keywords;
+    }
+
+    public static CompiledRuleSet defaults() {
+        return compile(RuleSetDefinition.defaults());
+    }
+
+    public static CompiledRuleSet compile(RuleSetDefinition definition) {
+        if (definition == null || definition.fallback() == null) {
+            throw new IllegalArgumentException("Rule set requires a fallback classification");
+        }
+        List<RuleDefinition> rules = definition.rules() != null ? definition.rules() : List.of();
+        if (rules.size() > MAX_RULES) {
+            throw new IllegalArgumentException("Rule set supports at most " + MAX_RULES + " rules, got " + rules.size());
+        }
+
+        int size = rules.size();
+        String[] names = new String[size];
+        Classification[] outcomes = new Classification[size];
+        long[] allowedByRating = new long[MAX_RATING - MIN_RATING + 2];
+        long[] allowedByStatus = new long[STATUSES.length + 1];
+        long[] allowedByMinute = new long[MINUTES_PER_DAY + 1];
+        long keywordRules = 0;
+        AhoCorasickMatcher.Builder keywords = AhoCorasickMatcher.builder();
+        Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < size; i++) {
+            RuleDefinition rule = rules.get(i);
+            long bit = 1L << i;
+            String name = validate(rule, seen);
+            RuleDefinition.Condition when = rule.when() != null
+                    ? rule.when()
+                    : new RuleDefinition.Condition(null, null, null, null, null, null);
+
+            names[i] = name;
+            outcomes[i] = rule.then();
+
+            if (when.minRating() == null && when.maxRating() == null) {
+                allowedByRating[0] |= bit;
+            }
+            int min = when.minRating() != null ? when.minRating() : MIN_RATING;
+            int max = when.maxRating() != null ? when.maxRating() : MAX_RATING;
+            for (int rating = Math.max(min, MIN_RATING); rating <= Math.min(max, MAX_RATING); rating++) {
+                allowedByRating[rating - MIN_RATING + 1] |= bit;
+            }
+
+            if (when.status() == null) {
+                allowedByStatus[0] |= bit;
+            }
+            for (StatusFeedback status : STATUSES) {
+                if (when.status() == null || when.status() == status) {
+                    allowedByStatus[status.ordinal() + 1] |= bit;
+                }
+            }
+
+            if (when.from() == null) {
+                allowedByMinute[0] |= bit;
+            }
+            for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+                if (when.from() == null || inWindow(minute, minuteOf(when.from()), minuteOf(when.to()))) {
+                    allowedByMinute[minute + 1] |= bit;
+                }
+            }
+
+            if (when.keywords() != null && !when.keywords().isEmpty()) {
+                keywordRules |= bit;
+                when.keywords().forEach(keyword -> keywords.add(keyword, bit));
+            }
+        }
+
+        return new CompiledRuleSet(names, outcomes, definition.fallback(),
+                allowedByRating, allowedByStatus, allowedByMinute, keywordRules, keywords.build());
+    }
+
+    /**
+     * @param rating      0..10, or {@code null} when unknown
+     * @param status      status already assigned to the feedback, or {@code null} at ingestion
+     * @param description text searched for keywords, or {@code null} when not available
+     * @param minuteOfDay 0..1439, or {@link #UNKNOWN_TIME}
+     */
+    public Classification classify(Integer rating, StatusFeedback status, String description, int minuteOfDay) {
+        long candidates = allowedByRating[ratingIndex(rating)]
+                & allowedByStatus[status != null ? status.ordinal() + 1 : 0]
+                & allowedByMinute[minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY ? minuteOfDay + 1 : 0];
+
+        if ((candidates & keywordRules) != 0) {
+            candidates &= ~keywordRules | keywords.matchBits(description);
+        }
+        return candidates != 0 ? outcomes[Long.numberOfTrailingZeros(candidates)] : fallback;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public List<String> ruleNames() {
+        return List.of(names);
+    }
+
+    private static int ratingIndex(Integer rating) {
+        if (rating == null || rating < MIN_RATING || rating > MAX_RATING) {
+            return 0;
+        }
+        return rating - MIN_RATING + 1;
+    }
+
+    private static boolean inWindow(int minute, int from, int to) {
+        // Janela que passa da meia-noite, ex.: 22:00 -> 06:00
+        return from <= to ? minute >= from && minute < to : minute >= from || minute < to;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static String validate(RuleDefinition rule, Set<String> seen) {
+        if (rule == null || rule.name() == null || rule.name().isBlank()) {
+            throw new IllegalArgumentException("Every rule requires a name");
+        }
+        String name = rule.name();
+        if (!seen.add(name)) {
+            throw new IllegalArgumentException("Duplicate rule name: " + name);
+        }
+        if (rule.then() == null) {
+            throw new IllegalArgumentException("Rule '" + name + "' has no classification");
+        }
+        RuleDefinition.Condition when = rule.when();
+        if (when == null) {
+            return name;
+        }
+        if (when.minRating() != null && when.maxRating() != null && when.minRating() > when.maxRating()) {
+            throw new IllegalArgumentException("Rule '" + name + "' has minRating greater than maxRating");
+        }
+        if ((when.from() == null) != (when.to() == null)) {
+            throw new IllegalArgumentException("Rule '" + name + "' must set both from and to");
+        }
+        if (when.from() != null && when.from().equals(when.to())) {
+            throw new IllegalArgumentException("Rule '" + name + "' has an empty time window");
+        }
+        if (when.keywords() != null && when.keywords().stream().anyMatch(k -> k == null || k.isBlank())) {
+            throw new IllegalArgumentException("Rule '" + name + "' has a blank keyword");
+        }
+        return name;
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.postech.feedback.core.rules;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Classification rules shared by ingestion, analysis and reporting.
+ * <p>
+ * Without {@code feedback.rules.location} the built-in {@link RuleSetDefinition#defaults()} are
+ * used. With it, the JSON file is compiled at startup and polled every
+ * {@code feedback.rules.refresh-seconds}; a changed file is compiled off the hot path and swapped
+ * in atomically, and a file that fails to load keeps the previous rules in place.
+ */
+@Slf4j
+@Component
+public class FeedbackRules {
+
+    private final AtomicReference<CompiledRuleSet> current;
+    private final ObjectMapper objectMapper;
+    private final Path location;
+    private final ScheduledExecutorService watcher;
+    private FileTime loadedVersion;
+
+    public FeedbackRules() {
+        this(CompiledRuleSet.defaults());
+    }
+
+    public FeedbackRules(CompiledRuleSet rules) {
+        this.current = new AtomicReference<>(rules);
+        this.objectMapper = null;
+        this.location = null;
+        this.watcher = null;
+    }
+
+    @Autowired
+    public FeedbackRules(ObjectMapper objectMapper,
+                         @Value("${feedback.rules.location:}") String location,
+                         @Value("${feedback.rules.refresh-seconds:30}") long refreshSeconds) {
+        this.objectMapper = objectMapper;
+        this.location = location == null || location.isBlank() ? null : Path.of(location);
+
+        if (this.location == null) {
+            this.current = new AtomicReference<>(CompiledRuleSet.defaults());
+            this.watcher = null;
+            log.info("Feedback rules: built-in defaults ({} rules)", current.get().size());
+            return;
+        }
+
+        this.current = new AtomicReference<>(load());
+        log.info("Feedback rules loaded from {}: {}", this.location, current.get().ruleNames());
+
+        if (refreshSeconds > 0) {
+            this.watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "feedback-rules-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watcher.scheduleWithFixedDelay(this::reloadIfChanged, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        } else {
+            this.watcher = null;
+        }
+    }
+
+    public Classification classify(Integer rating, StatusFeedback status, String description, LocalDateTime at) {
+        return current.get().classify(rating, status, description, minuteOfDay(at));
+    }
+
+    public Classification classify(Feedback feedback) {
+        return classify(feedback.getRating(), feedback.getStatus(), feedback.getDescription(), feedback.getCreatedAt());
+    }
+
+    public Classification classify(FeedbackEventDTO event) {
+        return classify(event.rating(), event.status(), event.description(), event.createdAt());
+    }
+
+    public CompiledRuleSet current() {
+        return current.get();
+    }
+
+    /** Replaces the active rules, e.g. from an admin endpoint or a test. */
+    public void update(RuleSetDefinition definition) {
+        current.set(CompiledRuleSet.compile(definition));
+    }
+
+    /** Reloads the rules file if its modification time changed; returns whether rules were swapped. */
+    public synchronized boolean reloadIfChanged() {
+        if (location == null) {
+            return false;
+        }
+        try {
+            FileTime modified = Files.getLastModifiedTime(location);
+            if (modified.equals(loadedVersion)) {
+                return false;
+            }
+            current.set(load());
+            log.info("Feedback rules reloaded from {}: {}", location, current.get().ruleNames());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to reload feedback rules from {}, keeping previous rules: {}", location, e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+        }
+    }
+
+    private synchronized CompiledRuleSet load() {
+        try {
+            FileTime modified = Files.getLastModifiedTime(location);
+            CompiledRuleSet rules = CompiledRuleSet.compile(
+                    objectMapper.readValue(location.toFile(), RuleSetDefinition.class));
+            loadedVersion = modified;
+            return rules;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load feedback rules from " + location, e);
+        }
+    }
+
+    private static int minuteOfDay(LocalDateTime at) {
+        return at != null ? at.getHour() * 60 + at.getMinute() : CompiledRuleSet.UNKNOWN_TIME;
+    }
+}
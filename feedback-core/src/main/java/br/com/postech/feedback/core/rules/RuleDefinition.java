@@ -0,0 +1,23 @@
+package br.com.postech.feedback.core.rules;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * One rule as written in configuration. Every condition that is set must hold; unset conditions
+ * match anything. {@code from}/{@code to} is a time-of-day window and may wrap past midnight.
+ */
+public record RuleDefinition(String name, Condition when, Classification then) {
+
+    public record Condition(
+            Integer minRating,
+            Integer maxRating,
+            StatusFeedback status,
+            List<String> keywords,
+            LocalTime from,
+            LocalTime to
+    ) {
+    }
+}
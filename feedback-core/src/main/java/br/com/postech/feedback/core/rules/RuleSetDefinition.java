@@ -0,0 +1,28 @@
+package br.com.postech.feedback.core.rules;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+
+import java.util.List;
+
+/** Ordered rules, first match wins; {@code fallback} applies when none matches. */
+public record RuleSetDefinition(List<RuleDefinition> rules, Classification fallback) {
+
+    /**
+     * Same thresholds the services used before the rules engine: rating below 5 is critical at
+     * ingestion, and reports rank critical or rating up to 2 as HIGH and up to 4 as MEDIUM.
+     */
+    public static RuleSetDefinition defaults() {
+        return new RuleSetDefinition(
+                List.of(
+                        new RuleDefinition("status-critico",
+                                new RuleDefinition.Condition(null, null, StatusFeedback.CRITICAL, null, null, null),
+                                new Classification(StatusFeedback.CRITICAL, Urgency.HIGH)),
+                        new RuleDefinition("nota-muito-baixa",
+                                new RuleDefinition.Condition(0, 2, null, null, null, null),
+                                new Classification(StatusFeedback.CRITICAL, Urgency.HIGH)),
+                        new RuleDefinition("nota-baixa",
+                                new RuleDefinition.Condition(3, 4, null, null, null, null),
+                                new Classification(StatusFeedback.CRITICAL, Urgency.MEDIUM))),
+                new Classification(StatusFeedback.NORMAL, Urgency.LOW));
+    }
+}
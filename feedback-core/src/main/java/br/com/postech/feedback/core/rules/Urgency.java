@@ -0,0 +1,7 @@
+package br.com.postech.feedback.core.rules;
+
+public enum Urgency {
+    HIGH,
+    MEDIUM,
+    LOW
+}
@@ -0,0 +1,195 @@
+package br.com.postech.feedback.core.sentiment;
+
+import br.com.postech.feedback.core.text.TextFolding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Hashed n-gram logistic regression over feedback descriptions.
+ * <p>
+ * Descriptions are folded ({@link TextFolding}), split on anything that is not a letter or digit,
+ * and every unigram and adjacent bigram is hashed into one of {@code 2^k} buckets. The score is
+ * {@code 2 * sigmoid(bias + sum(weights[bucket])) - 1}, so -1 is clearly negative and +1 clearly
+ * positive. Bigrams are what let "nao gostei" outweigh "gostei".
+ * <p>
+ * Scoring walks the text once and touches only the {@code float[]}; nothing is allocated per
+ * token. Instances are immutable and thread-safe.
+ * <p>
+ * File layout (little endian): magic {@code FBS1}, format version, bucket count, bias, then one
+ * float per bucket. Files on disk are memory mapped; classpath resources inside a jar are read
+ * from the stream.
+ */
+public final class SentimentModel {
+
+    static final int MAGIC = 0x31534246; // "FBS1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+
+    private static final int FNV_OFFSET = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final int BIGRAM_SEED = 0x9E3779B1;
+
+    private final float[] weights;
+    private final float bias;
+    private final int mask;
+
+    SentimentModel(float[] weights, float bias) {
+        if (Integer.bitCount(weights.length) != 1) {
+            throw new IllegalArgumentException("Bucket count must be a power of two: " + weights.length);
+        }
+        this.weights = weights;
+        this.bias = bias;
+        this.mask = weights.length - 1;
+    }
+
+    /** Loads {@code classpath:...} resources or file system paths. */
+    public static SentimentModel load(String location) {
+        try {
+            if (location.startsWith("classpath:")) {
+                String resource = location.substring("classpath:".length()).replaceFirst("^/", "");
+                URL url = SentimentModel.class.getClassLoader().getResource(resource);
+                if (url == null) {
+                    throw new IOException("Resource not found: " + resource);
+                }
+                if ("file".equals(url.getProtocol())) {
+                    return map(Path.of(url.toURI()));
+                }
+                try (InputStream in = url.openStream()) {
+                    return read(ByteBuffer.wrap(in.readAllBytes()));
+                }
+            }
+            return map(Path.of(location));
+        } catch (IOException | URISyntaxException e) {
+            throw new IllegalStateException("Failed to load sentiment model from " + location, e);
+        }
+    }
+
+    public static SentimentModel map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static SentimentModel read(ByteBuffer buffer) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a sentiment model file");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported sentiment model version: " + version);
+        }
+        int buckets = buffer.getInt();
+        float bias = buffer.getFloat();
+        if (buckets <= 0 || buffer.remaining() != (long) buckets * Float.BYTES) {
+            throw new IOException("Truncated sentiment model: expected " + buckets + " weights");
+        }
+        float[] weights = new float[buckets];
+        buffer.asFloatBuffer().get(weights);
+        return new SentimentModel(weights, bias);
+    }
+
+    public void write(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    public void write(OutputStream out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + weights.length * Float.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(weights.length).putFloat(bias);
+        buffer.asFloatBuffer().put(weights);
+        out.write(buffer.array());
+    }
+
+    /** Sentiment in [-1, 1]; empty or unknown text scores close to the bias. */
+    public double score(CharSequence text) {
+        double z = bias;
+        if (text != null) {
+            int length = text.length();
+            int previous = 0;
+            int hash = FNV_OFFSET;
+            boolean inToken = false;
+            for (int i = 0; i <= length; i++) {
+                char c = i < length ? TextFolding.fold(text.charAt(i)) : ' ';
+                if (Character.isLetterOrDigit(c)) {
+                    hash = (hash ^ c) * FNV_PRIME;
+                    inToken = true;
+                } else if (inToken) {
+                    z += weights[bucket(hash)];
+                    if (previous != 0) {
+                        z += weights[bucket(bigram(previous, hash))];
+                    }
+                    previous = hash;
+                    hash = FNV_OFFSET;
+                    inToken = false;
+                }
+            }
+        }
+        return 2.0 / (1.0 + Math.exp(-z)) - 1.0;
+    }
+
+    /** Buckets touched by the text, in order, with repeats; used for training. */
+    int[] features(CharSequence text) {
+        int[] features = new int[text.length() + 1];
+        int count = 0;
+        int length = text.length();
+        int previous = 0;
+        int hash = FNV_OFFSET;
+        boolean inToken = false;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? TextFolding.fold(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                hash = (hash ^ c) * FNV_PRIME;
+                inToken = true;
+            } else if (inToken) {
+                features[count++] = bucket(hash);
+                if (previous != 0) {
+                    features[count++] = bucket(bigram(previous, hash));
+                }
+                previous = hash;
+                hash = FNV_OFFSET;
+                inToken = false;
+            }
+        }
+        return Arrays.copyOf(features, count);
+    }
+
+    public int buckets() {
+        return weights.length;
+    }
+
+    float bias() {
+        return bias;
+    }
+
+    float[] weights() {
+        return weights;
+    }
+
+    private int bucket(int feature) {
+        // finalizador do murmur3: espalha os bits altos antes da máscara
+        feature ^= feature >>> 16;
+        feature *= 0x85EBCA6B;
+        feature ^= feature >>> 13;
+        feature *= 0xC2B2AE35;
+        feature ^= feature >>> 16;
+        return feature & mask;
+    }
+
+    private static int bigram(int previous, int current) {
+        return previous * BIGRAM_SEED + current;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.postech.feedback.core.sentiment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sentiment of a feedback description as a score in [-1, 1], rounded to three decimals so the
+ * value persisted by ingestion and the one carried on the event are identical.
+ * <p>
+ * The model is loaded once at startup from {@code feedback.sentiment.model}; with
+ * {@code feedback.sentiment.enabled=false} every score is {@code null}.
+ */
+@Slf4j
+@Component
+public class SentimentScorer {
+
+    public static final String DEFAULT_MODEL = "classpath:sentiment/feedback-sentiment.bin";
+
+    private final SentimentModel model;
+
+    public SentimentScorer(SentimentModel model) {
+        this.model = model;
+    }
+
+    @Autowired
+    public SentimentScorer(@Value("${feedback.sentiment.enabled:true}") boolean enabled,
+                           @Value("${feedback.sentiment.model:" + DEFAULT_MODEL + "}") String location) {
+        if (!enabled) {
+            this.model = null;
+            log.info("Sentiment scoring disabled");
+            return;
+        }
+        this.model = SentimentModel.load(location);
+        log.info("Sentiment model loaded from {} ({} buckets)", location, model.buckets());
+    }
+
+    public static SentimentScorer defaults() {
+        return new SentimentScorer(SentimentModel.load(DEFAULT_MODEL));
+    }
+
+    public Double score(String description) {
+        if (model == null || description == null || description.isBlank()) {
+            return null;
+        }
+        return Math.round(model.score(description) * 1000) / 1000.0;
+    }
+
+    public boolean isEnabled() {
+        return model != null;
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.postech.feedback.core.sentiment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Offline trainer for {@link SentimentModel}: plain SGD on the logistic loss with L2, seeded so the
+ * same corpus always produces the same file.
+ * <p>
+ * Corpus format: one example per line, {@code label<TAB>text}, label {@code 1} positive and
+ * {@code 0} negative; blank lines and lines starting with {@code #} are ignored.
+ * <pre>
+ * java -cp feedback-core.jar br.com.postech.feedback.core.sentiment.SentimentTrainer \
+ *     corpus.tsv feedback-sentiment.bin
+ * </pre>
+ */
+public final class SentimentTrainer {
+
+    public static final int DEFAULT_BUCKETS = 1 << 14;
+
+    private final int buckets;
+    private final int epochs;
+    private final double learningRate;
+    private final double l2;
+    private final long seed;
+
+    public SentimentTrainer() {
+        this(DEFAULT_BUCKETS, 40, 0.2, 1e-5, 42L);
+    }
+
+    public SentimentTrainer(int buckets, int epochs, double learningRate, double l2, long seed) {
+        this.buckets = buckets;
+        this.epochs = epochs;
+        this.learningRate = learningRate;
+        this.l2 = l2;
+        this.seed = seed;
+    }
+
+    public record Example(String text, boolean positive) {
+    }
+
+    public static List<Example> readCorpus(Path path) throws IOException {
+        List<Example> examples = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            if (tab < 0) {
+                throw new IllegalArgumentException("Expected label<TAB>text: " + line);
+            }
+            examples.add(new Example(line.substring(tab + 1), "1".equals(line.substring(0, tab).trim())));
+        }
+        return examples;
+    }
+
+    public SentimentModel train(List<Example> examples) {
+        float[] weights = new float[buckets];
+        SentimentModel model = new SentimentModel(weights, 0f);
+        List<int[]> features = new ArrayList<>(examples.size());
+        for (Example example : examples) {
+            features.add(model.features(example.text()));
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < examples.size(); i++) {
+            order.add(i);
+        }
+        Random random = new Random(seed);
+        double bias = 0;
+        for (int epoch = 0; epoch < epochs; epoch++) {
+            Collections.shuffle(order, random);
+            double rate = learningRate / (1 + epoch * 0.1);
+            for (int index : order) {
+                int[] x = features.get(index);
+                double z = bias;
+                for (int bucket : x) {
+                    z += weights[bucket];
+                }
+                double gradient = (examples.get(index).positive() ? 1 : 0) - 1.0 / (1.0 + Math.exp(-z));
+                bias += rate * gradient;
+                for (int bucket : x) {
+                    weights[bucket] += (float) (rate * (gradient - l2 * weights[bucket]));
+                }
+            }
+        }
+        return new SentimentModel(weights, (float) bias);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: SentimentTrainer <corpus.tsv> <modelo.bin>");
+            System.exit(2);
+        }
+        List<Example> examples = readCorpus(Path.of(args[0]));
+        SentimentModel model = new SentimentTrainer().train(examples);
+        model.write(Path.of(args[1]));
+
+        long correct = examples.stream()
+                .filter(example -> model.score(example.text()) > 0 == example.positive())
+                .count();
+        System.out.printf("%d exemplos, %d buckets, acurácia no treino %.1f%%%n",
+                examples.size(), model.buckets(), 100.0 * correct / examples.size());
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.postech.feedback.core.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The feedback databases, by shard number. Shard 0 is the service's own DataSource (the original
+ * database, owned by Spring); the others are the pools passed in, closed with the router.
+ * <p>
+ * Queries that need every shard go through {@link #fanOut}, one virtual thread per shard, so a
+ * report costs the slowest shard instead of the sum of all of them. Each runs in a read-only
+ * transaction of its own thread: the caller's {@code @Transactional(readOnly = true)} does not reach
+ * the virtual threads, and without it a replica behind shard 0 would never be used.
+ */
+public class ShardRouter implements Closeable {
+
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+    private final List<TransactionTemplate> reads = new ArrayList<>();
+    private final List<HikariDataSource> additional;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger nextWrite = new AtomicInteger();
+
+    public ShardRouter(DataSource primary, List<HikariDataSource> additional) {
+        if (additional.size() + 1 > SnowflakeIdGenerator.MAX_SHARDS) {
+            throw new IllegalArgumentException("At most " + SnowflakeIdGenerator.MAX_SHARDS + " shards are supported");
+        }
+        this.additional = List.copyOf(additional);
+        add(primary);
+        additional.forEach(this::add);
+    }
+
+    private void add(DataSource dataSource) {
+        shards.add(new JdbcTemplate(dataSource));
+        TransactionTemplate read = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        read.setReadOnly(true);
+        reads.add(read);
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    public JdbcTemplate shard(int index) {
+        return shards.get(index);
+    }
+
+    /** Shard holding the feedback with this id; empty when the id names a shard not configured here. */
+    public Optional<JdbcTemplate> shardFor(long id) {
+        int shard = SnowflakeIdGenerator.shardOf(id);
+        return shard < shards.size() ? Optional.of(shards.get(shard)) : Optional.empty();
+    }
+
+    /** Shard for a new feedback: round robin, so writes spread evenly. */
+    public int nextShard() {
+        return Math.floorMod(nextWrite.getAndIncrement(), shards.size());
+    }
+
+    /**
+     * Runs the read-only {@code query} on every shard in parallel, each in a read-only transaction,
+     * and returns the results in shard order. If any shard fails the others are cancelled and the
+     * failure is rethrown with the shard number.
+     */
+    public <T> List<T> fanOut(Function<JdbcTemplate, T> query) {
+        if (shards.size() == 1) {
+            return List.of(read(0, query));
+        }
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            int shard = i;
+            futures.add(executor.submit(() -> read(shard, query)));
+        }
+
+        List<T> results = new ArrayList<>(shards.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Failed to query shard " + i, e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    private <T> T read(int shard, Function<JdbcTemplate, T> query) {
+        return reads.get(shard).execute(status -> query.apply(shards.get(shard)));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        additional.forEach(HikariDataSource::close);
+    }
+}
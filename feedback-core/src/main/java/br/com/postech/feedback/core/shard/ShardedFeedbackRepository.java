@@ -0,0 +1,166 @@
+package br.com.postech.feedback.core.shard;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackTotals;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.core.repository.JdbcFeedbackViews;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Feedbacks spread over the {@link ShardRouter} shards. A feedback has no owner to shard by, so
+ * the shard key is its id: new feedbacks go round robin to the shards and {@link SnowflakeIdGenerator}
+ * writes the shard into the id, which routes every later point read.
+ * <p>
+ * Listings and report queries fan out to all shards and merge the partial results: each shard
+ * returns its own first {@code limit} rows in the global order, so the first {@code limit} of the
+ * merge are exact. Search ranks the {@code candidates} most recent matches of each shard.
+ * <p>
+ * Archival walks the shards one at a time instead ({@link #findArchivable}, {@link #deleteArchived}),
+ * reading each on its primary since it deletes what it read.
+ */
+public class ShardedFeedbackRepository {
+
+    static final String INSERT = "INSERT INTO feedbacks "
+            + "(id, description, rating, status, sentiment_score, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    static final String TOTALS = "SELECT count(*) AS total, COALESCE(sum(rating), 0) AS rating_sum FROM feedbacks ";
+
+    static final String SINCE = "WHERE created_at >= ? ";
+
+    static final String NEWEST_FIRST = "ORDER BY created_at DESC, id DESC";
+
+    static final String DELETE_ARCHIVED = "DELETE FROM feedbacks WHERE id IN (:ids) "
+            + "AND created_at >= :from AND created_at <= :to";
+
+    private static final Comparator<FeedbackView> VIEW_ORDER = Comparator
+            .comparing(FeedbackView::createdAt, Comparator.reverseOrder())
+            .thenComparing(FeedbackView::id, Comparator.reverseOrder());
+
+    private static final Comparator<Feedback> FEEDBACK_ORDER = Comparator
+            .comparing(Feedback::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Feedback::getId, Comparator.reverseOrder());
+
+    private static final Comparator<FeedbackSearchHit> HIT_ORDER = Comparator
+            .comparingDouble(FeedbackSearchHit::rank).reversed()
+            .thenComparing(hit -> hit.feedback().id(), Comparator.reverseOrder());
+
+    private static final RowMapper<Feedback> FEEDBACK = (result, row) -> {
+        Feedback feedback = new Feedback();
+        feedback.setId(result.getLong("id"));
+        feedback.setDescription(result.getString("description"));
+        feedback.setRating(result.getInt("rating"));
+        feedback.setStatus(StatusFeedback.valueOf(result.getString("status")));
+        feedback.setSentimentScore(result.getObject("sentiment_score", Double.class));
+        feedback.setCreatedAt(result.getObject("created_at", LocalDateTime.class));
+        feedback.setUpdatedAt(result.getObject("updated_at", LocalDateTime.class));
+        return feedback;
+    };
+
+    private final ShardRouter router;
+    private final SnowflakeIdGenerator idGenerator;
+
+    public ShardedFeedbackRepository(ShardRouter router, SnowflakeIdGenerator idGenerator) {
+        this.router = router;
+        this.idGenerator = idGenerator;
+    }
+
+    /** Inserts a new feedback on the next shard and sets its id. */
+    public Feedback save(Feedback feedback) {
+        // Mesmo preenchimento de datas que o @PrePersist faria
+        feedback.prePersist();
+        int shard = router.nextShard();
+        long id = idGenerator.nextId(shard);
+        router.shard(shard).update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT);
+            statement.setLong(1, id);
+            statement.setString(2, feedback.getDescription());
+            statement.setInt(3, feedback.getRating());
+            statement.setString(4, feedback.getStatus().name());
+            statement.setObject(5, feedback.getSentimentScore(), Types.DOUBLE);
+            statement.setObject(6, feedback.getCreatedAt(), Types.TIMESTAMP);
+            statement.setObject(7, feedback.getUpdatedAt(), Types.TIMESTAMP);
+            return statement;
+        });
+        feedback.setId(id);
+        return feedback;
+    }
+
+    public Optional<FeedbackView> findViewById(Long id) {
+        return router.shardFor(id).flatMap(shard -> JdbcFeedbackViews.findViewById(shard, id));
+    }
+
+    /** @see br.com.postech.feedback.core.repository.FeedbackRepositoryCustom#findViews */
+    public List<FeedbackView> findViews(FeedbackFilter filter, FeedbackCursor after, int limit) {
+        List<List<FeedbackView>> pages = router.fanOut(shard -> JdbcFeedbackViews.findViews(shard, filter, after, limit));
+        return merge(pages, VIEW_ORDER, 0, limit);
+    }
+
+    /** @see br.com.postech.feedback.core.repository.FeedbackRepositoryCustom#searchViews */
+    public List<FeedbackSearchHit> searchViews(String query, int candidates, int offset, int limit) {
+        // A página global pode vir toda de um shard: cada um devolve as offset + limit primeiras
+        List<List<FeedbackSearchHit>> pages = router.fanOut(shard -> JdbcFeedbackViews.searchViews(
+                new NamedParameterJdbcTemplate(shard), query, candidates, 0, offset + limit));
+        return merge(pages, HIT_ORDER, offset, limit);
+    }
+
+    /** Totals of the feedbacks created since {@code since}, or of all of them when it is {@code null}. */
+    public FeedbackTotals totalsSince(LocalDateTime since) {
+        return router.fanOut(shard -> shard.queryForObject(since == null ? TOTALS : TOTALS + SINCE,
+                        (result, row) -> new FeedbackTotals(result.getLong("total"), result.getLong("rating_sum")),
+                        since == null ? new Object[0] : new Object[]{since}))
+                .stream()
+                .reduce(FeedbackTotals.EMPTY, FeedbackTotals::plus);
+    }
+
+    /** Feedbacks created since {@code since} (all of them when {@code null}), newest first. */
+    public List<Feedback> findFeedbacksSince(LocalDateTime since) {
+        List<List<Feedback>> parts = router.fanOut(shard -> since == null
+                ? shard.query(JdbcFeedbackViews.COLUMNS + NEWEST_FIRST, FEEDBACK)
+                : shard.query(JdbcFeedbackViews.COLUMNS + SINCE + NEWEST_FIRST, FEEDBACK, since));
+        return merge(parts, FEEDBACK_ORDER, 0, Integer.MAX_VALUE);
+    }
+
+    public int shards() {
+        return router.size();
+    }
+
+    /** @see br.com.postech.feedback.core.repository.FeedbackRepositoryCustom#findArchivable */
+    public List<FeedbackView> findArchivable(int shard, LocalDateTime before, FeedbackCursor after, int limit) {
+        return JdbcFeedbackViews.findArchivable(router.shard(shard), before, after, limit);
+    }
+
+    /** @see br.com.postech.feedback.core.repository.FeedbackRepository#deleteArchived */
+    public int deleteArchived(int shard, Collection<Long> ids, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("from", from)
+                .addValue("to", to);
+        return new NamedParameterJdbcTemplate(router.shard(shard)).update(DELETE_ARCHIVED, parameters);
+    }
+
+    // Cada parte já vem ordenada: o sort do List (TimSort) só intercala as sequências
+    private static <T> List<T> merge(List<List<T>> parts, Comparator<T> order, int offset, int limit) {
+        List<T> all = new ArrayList<>();
+        parts.forEach(all::addAll);
+        all.sort(order);
+        int from = Math.min(offset, all.size());
+        int to = (int) Math.min((long) from + limit, all.size());
+        return new ArrayList<>(all.subList(from, to));
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.postech.feedback.core.shard;
+
+import java.time.Instant;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Globally unique feedback ids that carry the shard they were written to, so a point read goes
+ * straight to one database. Layout, from the most significant bit:
+ * <pre>
+ *   0 | 41 bits: ms since {@link #EPOCH} | 6 bits: shard | 8 bits: worker | 8 bits: sequence
+ * </pre>
+ * The worker number tells apart instances writing to the same shard in the same millisecond. It is
+ * read from {@code workerId} on every id, so a {@link WorkerLease} can renew or replace it; two live
+ * instances must never hold the same one.
+ * <p>
+ * Ids below {@link #LEGACY_ID_LIMIT} come from the {@code feedbacks_id_seq} of the original single
+ * database and belong to shard 0; every generated id is above it.
+ */
+public class SnowflakeIdGenerator {
+
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    static final int SEQUENCE_BITS = 8;
+    static final int WORKER_BITS = 8;
+    static final int SHARD_BITS = 6;
+
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final int WORKERS = 1 << WORKER_BITS;
+    public static final long LEGACY_ID_LIMIT = 1L << 40;
+
+    private static final int WORKER_SHIFT = SEQUENCE_BITS;
+    private static final int SHARD_SHIFT = WORKER_SHIFT + WORKER_BITS;
+    private static final int TIMESTAMP_SHIFT = SHARD_SHIFT + SHARD_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final IntSupplier workerId;
+    private final LongSupplier currentMillis;
+
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public SnowflakeIdGenerator(IntSupplier workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(IntSupplier workerId, LongSupplier currentMillis) {
+        this.workerId = workerId;
+        this.currentMillis = currentMillis;
+    }
+
+    /** Shard of a feedback id; legacy ids are on shard 0. */
+    public static int shardOf(long id) {
+        if (id < LEGACY_ID_LIMIT) {
+            return 0;
+        }
+        return (int) (id >>> SHARD_SHIFT) & (MAX_SHARDS - 1);
+    }
+
+    public synchronized long nextId(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("shard must be between 0 and " + (MAX_SHARDS - 1) + ": " + shard);
+        }
+        int worker = workerId.getAsInt();
+        if (worker < 0 || worker >= WORKERS) {
+            throw new IllegalStateException("Feedback id worker must be between 0 and " + (WORKERS - 1) + ": " + worker);
+        }
+
+        // Relógio que volta não repete id: segue do último milissegundo usado até o relógio alcançá-lo
+        long timestamp = Math.max(currentMillis.getAsLong() - EPOCH.toEpochMilli(), lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // Sequência esgotada no milissegundo: usa o próximo em vez de esperar por ele
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return timestamp << TIMESTAMP_SHIFT
+                | (long) shard << SHARD_SHIFT
+                | (long) worker << WORKER_SHIFT
+                | sequence;
+    }
+}
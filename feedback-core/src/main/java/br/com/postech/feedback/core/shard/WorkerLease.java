@@ -0,0 +1,132 @@
+package br.com.postech.feedback.core.shard;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Worker number of this instance for {@link SnowflakeIdGenerator}, leased from the
+ * {@code feedback_id_worker_slots} table on shard 0 so two live instances never share one.
+ * <p>
+ * The first id claims a slot whose lease has expired ({@code FOR UPDATE SKIP LOCKED}, so concurrent
+ * cold starts take different slots). Once half the lease has passed, the next id renews it first;
+ * an instance frozen past its lease finds the slot taken, or renews it if nobody did, before writing
+ * again. A crashed instance frees its slot when the lease expires. Each statement takes its own
+ * connection and commits on its own, outside any transaction of the caller.
+ * <p>
+ * This bounds the writers: at most {@link SnowflakeIdGenerator#WORKERS} instances may write within
+ * one lease period. Past that, writes fail with {@link IllegalStateException} rather than reuse a
+ * live worker. Instances must also agree on the time within half a lease.
+ */
+@Slf4j
+public class WorkerLease implements IntSupplier, Closeable {
+
+    static final String CLAIM = "UPDATE feedback_id_worker_slots "
+            + "SET owner = ?, leased_until = now() + ? * interval '1 second' "
+            + "WHERE worker = (SELECT worker FROM feedback_id_worker_slots WHERE leased_until < now() "
+            + "ORDER BY leased_until LIMIT 1 FOR UPDATE SKIP LOCKED) "
+            + "RETURNING worker";
+
+    static final String RENEW = "UPDATE feedback_id_worker_slots SET leased_until = now() + ? * interval '1 second' "
+            + "WHERE worker = ? AND owner = ?";
+
+    static final String RELEASE = "UPDATE feedback_id_worker_slots SET leased_until = now() "
+            + "WHERE worker = ? AND owner = ?";
+
+    private final DataSource dataSource;
+    private final long leaseSeconds;
+    private final String owner;
+    private final LongSupplier currentMillis;
+
+    private int worker = -1;
+    private long renewAt;
+
+    public WorkerLease(DataSource dataSource, long leaseSeconds) {
+        // Relógio monotônico: ajuste do relógio de parede não adia a renovação
+        this(dataSource, leaseSeconds, UUID.randomUUID().toString(), () -> System.nanoTime() / 1_000_000);
+    }
+
+    WorkerLease(DataSource dataSource, long leaseSeconds, String owner, LongSupplier currentMillis) {
+        if (leaseSeconds < 2) {
+            throw new IllegalArgumentException("feedback.shards.worker-lease-seconds must be at least 2");
+        }
+        this.dataSource = dataSource;
+        this.leaseSeconds = leaseSeconds;
+        this.owner = owner;
+        this.currentMillis = currentMillis;
+    }
+
+    @Override
+    public synchronized int getAsInt() {
+        // Medido antes do banco: o prazo local nunca passa do que o banco registrou
+        long now = currentMillis.getAsLong();
+        if (worker >= 0 && now < renewAt) {
+            return worker;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (worker >= 0) {
+                if (renew(connection)) {
+                    renewAt = now + leaseSeconds * 500;
+                    return worker;
+                }
+                log.warn("Feedback id worker {} lease was taken over after it expired; leasing another", worker);
+                worker = -1;
+            }
+            worker = claim(connection);
+            renewAt = now + leaseSeconds * 500;
+            log.info("Feedback id worker {} leased for {}s", worker, leaseSeconds);
+            return worker;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to lease a feedback id worker", e);
+        }
+    }
+
+    /** Frees the slot right away instead of at the end of the lease. */
+    @Override
+    public synchronized void close() {
+        if (worker < 0) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(RELEASE)) {
+            statement.setInt(1, worker);
+            statement.setString(2, owner);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            log.warn("Failed to release feedback id worker {}, it frees when the lease expires: {}",
+                    worker, e.getMessage());
+        }
+        worker = -1;
+    }
+
+    private boolean renew(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(RENEW)) {
+            statement.setLong(1, leaseSeconds);
+            statement.setInt(2, worker);
+            statement.setString(3, owner);
+            return statement.executeUpdate() == 1;
+        }
+    }
+
+    private int claim(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(CLAIM)) {
+            statement.setString(1, owner);
+            statement.setLong(2, leaseSeconds);
+            try (ResultSet result = statement.executeQuery()) {
+                if (!result.next()) {
+                    throw new IllegalStateException("Failed to lease a feedback id worker: all "
+                            + SnowflakeIdGenerator.WORKERS + " are held by live instances");
+                }
+                return result.getInt(1);
+            }
+        }
+    }
+}
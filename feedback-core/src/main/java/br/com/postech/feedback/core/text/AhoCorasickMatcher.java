@@ -0,0 +1,247 @@
+package br.com.postech.feedback.core.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Multi-pattern matcher: every pattern is found in one left-to-right pass over the text, so the
+ * cost depends on the text length and the number of matches, not on how many patterns there are.
+ * <p>
+ * Matching ignores case and Latin accents ({@link TextFolding}). The automaton is compiled into a
+ * full transition table over the characters that occur in the patterns, so each text character is
+ * one table read with no failure-link walking, and nothing is allocated while matching.
+ * <p>
+ * Immutable and thread-safe once built.
+ */
+public final class AhoCorasickMatcher {
+
+    /** Receives each match; {@code start} inclusive, {@code end} exclusive, in text coordinates. */
+    @FunctionalInterface
+    public interface MatchHandler {
+        void onMatch(int patternId, int start, int end);
+    }
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final String[] patterns;
+    private final int[] lengths;
+    private final long[] bits;
+    private final boolean wholeWords;
+    private final int[] asciiSymbols;
+    private final char[] otherChars;
+    private final int[] otherSymbols;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    private AhoCorasickMatcher(Builder builder) {
+        int count = builder.patterns.size();
+        this.patterns = builder.patterns.toArray(String[]::new);
+        this.bits = builder.bits.stream().mapToLong(Long::longValue).toArray();
+        this.wholeWords = builder.wholeWords;
+        this.lengths = new int[count];
+
+        // Alfabeto compacto: só os caracteres (já normalizados) que aparecem nos padrões; 0 = qualquer outro
+        TreeSet<Character> alphabet = new TreeSet<>();
+        String[] folded = new String[count];
+        for (int i = 0; i < count; i++) {
+            folded[i] = TextFolding.fold(patterns[i]);
+            lengths[i] = folded[i].length();
+            for (char c : folded[i].toCharArray()) {
+                alphabet.add(c);
+            }
+        }
+        this.asciiSymbols = new int[128];
+        List<Character> others = new ArrayList<>();
+        int symbol = 1;
+        for (char c : alphabet) {
+            if (c < 128) {
+                asciiSymbols[c] = symbol++;
+            } else {
+                others.add(c);
+            }
+        }
+        this.otherChars = new char[others.size()];
+        this.otherSymbols = new int[others.size()];
+        for (int i = 0; i < others.size(); i++) {
+            otherChars[i] = others.get(i);
+            otherSymbols[i] = symbol++;
+        }
+        this.alphabetSize = symbol;
+
+        // Trie
+        List<Map<Integer, Integer>> children = new ArrayList<>();
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        children.add(new HashMap<>());
+        stateOutputs.add(new ArrayList<>());
+        for (int i = 0; i < count; i++) {
+            int state = 0;
+            for (int k = 0; k < folded[i].length(); k++) {
+                int s = symbolOf(folded[i].charAt(k));
+                Integer next = children.get(state).get(s);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    stateOutputs.add(new ArrayList<>());
+                    children.get(state).put(s, next);
+                }
+                state = next;
+            }
+            stateOutputs.get(state).add(i);
+        }
+
+        // Falhas em largura, já resolvidas numa tabela de transição completa
+        int states = children.size();
+        this.transitions = new int[states * alphabetSize];
+        int[] fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int s = 0; s < alphabetSize; s++) {
+            Integer next = children.get(0).get(s);
+            if (next != null) {
+                transitions[s] = next;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            stateOutputs.get(state).addAll(stateOutputs.get(fail[state]));
+            for (int s = 0; s < alphabetSize; s++) {
+                Integer next = children.get(state).get(s);
+                if (next != null) {
+                    fail[next] = transitions[fail[state] * alphabetSize + s];
+                    transitions[state * alphabetSize + s] = next;
+                    queue.add(next);
+                } else {
+                    transitions[state * alphabetSize + s] = transitions[fail[state] * alphabetSize + s];
+                }
+            }
+        }
+
+        this.outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            List<Integer> out = stateOutputs.get(state);
+            outputs[state] = out.isEmpty() ? NO_OUTPUT : out.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int patternCount() {
+        return patterns.length;
+    }
+
+    public String pattern(int patternId) {
+        return patterns[patternId];
+    }
+
+    public int stateCount() {
+        return outputs.length;
+    }
+
+    public void forEachMatch(CharSequence text, MatchHandler handler) {
+        if (text == null) {
+            return;
+        }
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            state = transitions[state * alphabetSize + symbolOf(TextFolding.fold(text.charAt(i)))];
+            for (int patternId : outputs[state]) {
+                int start = i + 1 - lengths[patternId];
+                if (!wholeWords || isWholeWord(text, start, i + 1)) {
+                    handler.onMatch(patternId, start, i + 1);
+                }
+            }
+        }
+    }
+
+    /** OR of the bits given to {@link Builder#add(String, long)} for every pattern found in the text. */
+    public long matchBits(CharSequence text) {
+        if (text == null) {
+            return 0L;
+        }
+        long matched = 0L;
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            state = transitions[state * alphabetSize + symbolOf(TextFolding.fold(text.charAt(i)))];
+            for (int patternId : outputs[state]) {
+                if (!wholeWords || isWholeWord(text, i + 1 - lengths[patternId], i + 1)) {
+                    matched |= bits[patternId];
+                }
+            }
+        }
+        return matched;
+    }
+
+    public boolean containsAny(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            state = transitions[state * alphabetSize + symbolOf(TextFolding.fold(text.charAt(i)))];
+            for (int patternId : outputs[state]) {
+                if (!wholeWords || isWholeWord(text, i + 1 - lengths[patternId], i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int symbolOf(char c) {
+        if (c < 128) {
+            return asciiSymbols[c];
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index >= 0 ? otherSymbols[index] : 0;
+    }
+
+    private static boolean isWholeWord(CharSequence text, int start, int end) {
+        return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+
+    public static final class Builder {
+
+        private final List<String> patterns = new ArrayList<>();
+        private final List<Long> bits = new ArrayList<>();
+        private boolean wholeWords;
+
+        private Builder() {
+        }
+
+        /** Only report matches not surrounded by letters or digits. */
+        public Builder wholeWords(boolean wholeWords) {
+            this.wholeWords = wholeWords;
+            return this;
+        }
+
+        /** Adds a pattern and returns its id. */
+        public int add(String pattern) {
+            return add(pattern, 0L);
+        }
+
+        public int add(String pattern, long patternBits) {
+            if (pattern == null || pattern.isBlank()) {
+                throw new IllegalArgumentException("Pattern must not be blank");
+            }
+            patterns.add(pattern);
+            bits.add(patternBits);
+            return patterns.size() - 1;
+        }
+
+        public AhoCorasickMatcher build() {
+            return new AhoCorasickMatcher(this);
+        }
+    }
+}
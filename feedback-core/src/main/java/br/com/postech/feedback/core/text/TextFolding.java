@@ -0,0 +1,43 @@
+package br.com.postech.feedback.core.text;
+
+import java.text.Normalizer;
+
+/**
+ * Lower case without Latin accents ("Não" -> "nao"), one char per char so offsets into the
+ * original text stay valid. Backed by a table built once, so folding a char is one array read.
+ */
+public final class TextFolding {
+
+    private static final char[] FOLDED = foldingTable();
+
+    private TextFolding() {
+    }
+
+    public static char fold(char c) {
+        return FOLDED[c];
+    }
+
+    public static String fold(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = FOLDED[chars[i]];
+        }
+        return new String(chars);
+    }
+
+    private static char[] foldingTable() {
+        char[] table = new char[Character.MAX_VALUE + 1];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            table[c] = Character.toLowerCase((char) c);
+        }
+        // Latin-1 e Latin Extended-A: remove o diacrítico quando a decomposição começa por letra ASCII
+        for (char c = '\u00C0'; c <= '\u017F'; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            char base = decomposed.charAt(0);
+            if (decomposed.length() > 1 && base < 128 && Character.isLetter(base)) {
+                table[c] = Character.toLowerCase(base);
+            }
+        }
+        return table;
+    }
+}
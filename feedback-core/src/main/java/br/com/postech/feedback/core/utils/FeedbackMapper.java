@@ -15,7 +15,8 @@ public class FeedbackMapper {
                 feedback.getDescription(),
                 feedback.getRating(),
                 feedback.getStatus(),
-                feedback.getCreatedAt()
+                feedback.getCreatedAt(),
+                feedback.getSentimentScore()
         );
     }
 }
\ No newline at end of file
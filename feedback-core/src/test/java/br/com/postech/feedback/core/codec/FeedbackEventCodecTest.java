@@ -0,0 +1,184 @@
+package br.com.postech.feedback.core.codec;
+
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FeedbackEventCodec Tests")
+class FeedbackEventCodecTest {
+
+    private FeedbackEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new FeedbackEventCodec(new JsonConfig().objectMapper());
+    }
+
+    @Nested
+    @DisplayName("Encode Tests")
+    class EncodeTests {
+
+        @Test
+        @DisplayName("Should encode event as compact JSON")
+        void shouldEncodeEventAsCompactJson() throws Exception {
+            FeedbackEventDTO event = new FeedbackEventDTO(
+                    42L, "Aula confusa", 3, StatusFeedback.CRITICAL, LocalDateTime.of(2026, 2, 10, 15, 30, 45));
+
+            String json = codec.encode(event);
+
+            assertEquals("{\"id\":42,\"description\":\"Aula confusa\",\"rating\":3,\"status\":\"CRITICAL\","
+                    + "\"createdAt\":\"2026-02-10T15:30:45\"}", json);
+        }
+    }
+
+    @Nested
+    @DisplayName("Decode Tests")
+    class DecodeTests {
+
+        @Test
+        @DisplayName("Should decode encoded event")
+        void shouldDecodeEncodedEvent() throws Exception {
+            FeedbackEventDTO event = new FeedbackEventDTO(
+                    7L, "Ótimo conteúdo 😀", 10, StatusFeedback.NORMAL, LocalDateTime.of(2026, 2, 10, 15, 30));
+
+            assertEquals(event, codec.decode(codec.encode(event)));
+        }
+
+        @Test
+        @DisplayName("Should decode indented payloads")
+        void shouldDecodeIndentedPayloads() throws Exception {
+            String json = """
+                    {
+                      "id" : 1,
+                      "description" : "Teste",
+                      "rating" : 8,
+                      "status" : "NORMAL",
+                      "createdAt" : "2026-02-10T15:30:00"
+                    }
+                    """;
+
+            FeedbackEventDTO event = codec.decode(json);
+
+            assertEquals(1L, event.id());
+            assertEquals(StatusFeedback.NORMAL, event.status());
+        }
+
+        @Test
+        @DisplayName("Should decode Smile events by content type")
+        void shouldDecodeSmileEventsByContentType() throws Exception {
+            FeedbackEventCodec smileCodec = new FeedbackEventCodec(new JsonConfig().objectMapper(), WireFormat.SMILE);
+            FeedbackEventDTO event = new FeedbackEventDTO(
+                    9L, "Aula boa, mas o áudio falhou", 6, StatusFeedback.NORMAL, LocalDateTime.of(2026, 2, 10, 8, 0));
+
+            String body = smileCodec.encode(event);
+
+            assertEquals("application/x-jackson-smile;v=1", smileCodec.getContentType());
+            assertFalse(body.contains("Aula"));
+            assertEquals(event, smileCodec.decode(body, smileCodec.getContentType()));
+            assertEquals(event, codec.decode(body, smileCodec.getContentType()));
+        }
+
+        @Test
+        @DisplayName("Should decode JSON when the content type is absent")
+        void shouldDecodeJsonWithoutContentType() throws Exception {
+            FeedbackEventDTO event = new FeedbackEventDTO(
+                    3L, "Sem atributo", 9, StatusFeedback.NORMAL, LocalDateTime.of(2026, 2, 10, 8, 0));
+
+            assertEquals(event, codec.decode(codec.encode(event), null));
+        }
+
+        @Test
+        @DisplayName("Should reject Smile body that is not base64")
+        void shouldRejectInvalidSmileBody() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> codec.decode("{not base64}", WireFormat.SMILE.getContentType()));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid JSON")
+        void shouldRejectInvalidJson() {
+            assertThrows(JsonProcessingException.class, () -> codec.decode("not json"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Peek Tests")
+    class PeekTests {
+
+        @Test
+        @DisplayName("Should read routing fields from JSON")
+        void shouldReadRoutingFieldsFromJson() throws Exception {
+            FeedbackEventDTO event = new FeedbackEventDTO(
+                    42L, "Aula confusa", 3, StatusFeedback.CRITICAL, LocalDateTime.of(2026, 2, 10, 15, 30));
+
+            FeedbackEventCodec.Summary summary = codec.peek(codec.encode(event), null);
+
+            assertEquals(new FeedbackEventCodec.Summary(42L, "Aula confusa", 3, StatusFeedback.CRITICAL, null), summary);
+        }
+
+        @Test
+        @DisplayName("Should read routing fields from Smile")
+        void shouldReadRoutingFieldsFromSmile() throws Exception {
+            FeedbackEventCodec smileCodec = new FeedbackEventCodec(new JsonConfig().objectMapper(), WireFormat.SMILE);
+            FeedbackEventDTO event = new FeedbackEventDTO(
+                    8L, "Binário", 9, StatusFeedback.NORMAL, LocalDateTime.of(2026, 2, 10, 15, 30));
+
+            FeedbackEventCodec.Summary summary = codec.peek(smileCodec.encode(event), WireFormat.SMILE.getContentType());
+
+            assertEquals(new FeedbackEventCodec.Summary(8L, "Binário", 9, StatusFeedback.NORMAL, null), summary);
+        }
+
+        @Test
+        @DisplayName("Should read the sentiment score when the event carries one")
+        void shouldReadSentimentScore() throws Exception {
+            FeedbackEventDTO event = new FeedbackEventDTO(
+                    43L, "Aula ótima", 9, StatusFeedback.NORMAL, LocalDateTime.of(2026, 2, 10, 15, 30), 0.75);
+
+            FeedbackEventCodec.Summary summary = codec.peek(codec.encode(event), null);
+
+            assertEquals(new FeedbackEventCodec.Summary(43L, "Aula ótima", 9, StatusFeedback.NORMAL, 0.75), summary);
+        }
+
+        @Test
+        @DisplayName("Should skip nested and unknown fields in any order")
+        void shouldSkipNestedAndUnknownFields() throws Exception {
+            String json = "{\"extra\":{\"status\":\"NORMAL\",\"list\":[1,2]},\"status\":\"CRITICAL\","
+                    + "\"rating\":null,\"id\":5}";
+
+            assertEquals(new FeedbackEventCodec.Summary(5L, null, null, StatusFeedback.CRITICAL, null), codec.peek(json, null));
+        }
+
+        @Test
+        @DisplayName("Should return nulls for missing fields")
+        void shouldReturnNullsForMissingFields() throws Exception {
+            assertEquals(new FeedbackEventCodec.Summary(null, null, null, null, null), codec.peek("{}", null));
+        }
+
+        @Test
+        @DisplayName("Should stop reading once routing fields are known")
+        void shouldStopOnceRoutingFieldsAreKnown() throws Exception {
+            String truncated = "{\"id\":1,\"description\":\"Ok\",\"rating\":2,\"status\":\"NORMAL\","
+                    + "\"sentimentScore\":-0.5,\"createdAt\":";
+
+            assertEquals(new FeedbackEventCodec.Summary(1L, "Ok", 2, StatusFeedback.NORMAL, -0.5),
+                    codec.peek(truncated, null));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown status and non-object bodies")
+        void shouldRejectInvalidBodies() {
+            assertThrows(JsonProcessingException.class, () -> codec.peek("{\"status\":\"URGENTE\"}", null));
+            assertThrows(JsonProcessingException.class, () -> codec.peek("[1]", null));
+            assertThrows(JsonProcessingException.class, () -> codec.peek("not json", null));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.postech.feedback.core.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WireFormat Tests")
+class WireFormatTest {
+
+    @Nested
+    @DisplayName("Content Type Tests")
+    class ContentTypeTests {
+
+        @Test
+        @DisplayName("Should carry the format version in the content type")
+        void shouldCarryVersionInContentType() {
+            assertEquals("application/json;v=1", WireFormat.JSON.getContentType());
+            assertEquals("application/x-jackson-smile;v=1", WireFormat.SMILE.getContentType());
+        }
+
+        @Test
+        @DisplayName("Should treat missing content type as JSON")
+        void shouldTreatMissingContentTypeAsJson() {
+            assertEquals(WireFormat.JSON, WireFormat.fromContentType(null));
+            assertEquals(WireFormat.JSON, WireFormat.fromContentType(" "));
+        }
+
+        @Test
+        @DisplayName("Should resolve content types with or without version")
+        void shouldResolveContentTypes() {
+            assertEquals(WireFormat.SMILE, WireFormat.fromContentType("application/x-jackson-smile;v=1"));
+            assertEquals(WireFormat.SMILE, WireFormat.fromContentType("Application/X-Jackson-Smile"));
+            assertEquals(WireFormat.JSON, WireFormat.fromContentType("application/json; charset=UTF-8"));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown versions and media types")
+        void shouldRejectUnknownVersionsAndMediaTypes() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> WireFormat.fromContentType("application/x-jackson-smile;v=2"));
+            assertThrows(IllegalArgumentException.class, () -> WireFormat.fromContentType("application/avro"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration Name Tests")
+    class NameTests {
+
+        @Test
+        @DisplayName("Should resolve configured format names")
+        void shouldResolveConfiguredNames() {
+            assertEquals(WireFormat.JSON, WireFormat.fromName(null));
+            assertEquals(WireFormat.SMILE, WireFormat.fromName(" Smile "));
+            assertThrows(IllegalArgumentException.class, () -> WireFormat.fromName("cbor"));
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package br.com.postech.feedback.core.config;
 
 import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackEventDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -50,10 +52,25 @@ class JsonConfigTest {
         }
 
         @Test
-        @DisplayName("Should enable INDENT_OUTPUT")
-        void shouldEnableIndentOutput() {
+        @DisplayName("Should disable INDENT_OUTPUT on the wire mapper")
+        void shouldDisableIndentOutput() {
             ObjectMapper objectMapper = jsonConfig.objectMapper();
+            assertFalse(objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT));
+        }
+
+        @Test
+        @DisplayName("Should register BlackbirdModule on the wire mapper")
+        void shouldRegisterBlackbirdModule() {
+            ObjectMapper objectMapper = jsonConfig.objectMapper();
+            assertTrue(objectMapper.getRegisteredModuleIds().contains(new BlackbirdModule().getTypeId()));
+        }
+
+        @Test
+        @DisplayName("Should enable INDENT_OUTPUT on the pretty mapper")
+        void shouldEnableIndentOutputOnPrettyMapper() {
+            ObjectMapper objectMapper = jsonConfig.prettyObjectMapper();
             assertTrue(objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT));
+            assertFalse(objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
         }
 
         @Test
@@ -154,7 +171,7 @@ class JsonConfigTest {
         @Test
         @DisplayName("Should format JSON with indentation")
         void shouldFormatJsonWithIndentation() throws Exception {
-            ObjectMapper objectMapper = jsonConfig.objectMapper();
+            ObjectMapper objectMapper = jsonConfig.prettyObjectMapper();
             Map<String, Object> data = new HashMap<>();
             data.put("key1", "value1");
             data.put("key2", "value2");
@@ -168,7 +185,7 @@ class JsonConfigTest {
         @Test
         @DisplayName("Should format complex objects with indentation")
         void shouldFormatComplexObjectsWithIndentation() throws Exception {
-            ObjectMapper objectMapper = jsonConfig.objectMapper();
+            ObjectMapper objectMapper = jsonConfig.prettyObjectMapper();
             Map<String, Object> nested = new HashMap<>();
             nested.put("inner", "value");
             Map<String, Object> data = new HashMap<>();
@@ -179,6 +196,21 @@ class JsonConfigTest {
             assertTrue(json.contains("\n"));
             assertTrue(json.contains("  ")); // Should have indentation spaces
         }
+
+        @Test
+        @DisplayName("Should write event payloads without whitespace on the wire mapper")
+        void shouldWriteCompactEventPayloads() throws Exception {
+            FeedbackEventDTO event = new FeedbackEventDTO(
+                    1L, "Aula excelente", 9, StatusFeedback.NORMAL, LocalDateTime.of(2026, 2, 10, 15, 30));
+
+            String wire = jsonConfig.objectMapper().writeValueAsString(event);
+            String pretty = jsonConfig.prettyObjectMapper().writeValueAsString(event);
+
+            assertFalse(wire.contains("\n"));
+            assertFalse(wire.contains(": "));
+            assertTrue(wire.length() < pretty.length());
+            assertEquals(event, jsonConfig.objectMapper().readValue(pretty, FeedbackEventDTO.class));
+        }
     }
 
     @Nested
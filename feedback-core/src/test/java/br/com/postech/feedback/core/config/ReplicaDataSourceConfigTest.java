@@ -0,0 +1,50 @@
+package br.com.postech.feedback.core.config;
+
+import br.com.postech.feedback.core.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaDataSourceConfig Tests")
+class ReplicaDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(ReplicaDataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:config-primary;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.hikari.maximum-pool-size=3");
+
+    @Test
+    @DisplayName("Should keep the auto-configured DataSource without a replica URL")
+    void shouldKeepSingleDataSourceWithoutReplica() {
+        contextRunner
+                .withPropertyValues("feedback.datasource.replica.url=")
+                .run(context -> {
+                    assertInstanceOf(HikariDataSource.class, context.getBean(DataSource.class));
+                    assertTrue(context.getBeansOfType(ReplicaRoutingDataSource.class).isEmpty());
+                });
+    }
+
+    @Test
+    @DisplayName("Should route through the replica when its URL is set")
+    void shouldCreateRoutingDataSourceWithReplica() {
+        contextRunner
+                .withPropertyValues("feedback.datasource.replica.url=jdbc:h2:mem:config-replica;DB_CLOSE_DELAY=-1")
+                .run(context -> {
+                    DataSource dataSource = context.getBean(DataSource.class);
+
+                    assertInstanceOf(ReplicaRoutingDataSource.class, dataSource);
+                    assertEquals(ReplicaRoutingDataSource.Route.PRIMARY,
+                            ((ReplicaRoutingDataSource) dataSource).currentRoute());
+                });
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.postech.feedback.core.config;
+
+import br.com.postech.feedback.core.shard.ShardRouter;
+import br.com.postech.feedback.core.shard.ShardedFeedbackRepository;
+import br.com.postech.feedback.core.shard.SnowflakeIdGenerator;
+import br.com.postech.feedback.core.shard.WorkerLease;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardingConfig Tests")
+class ShardingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(ShardingConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:shards-0;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=sa");
+
+    @Test
+    @DisplayName("Should not shard without additional URLs")
+    void shouldNotShardWithoutUrls() {
+        contextRunner
+                .withPropertyValues("feedback.shards.additional-urls=")
+                .run(context -> assertTrue(context.getBeansOfType(ShardedFeedbackRepository.class).isEmpty()));
+    }
+
+    @Test
+    @DisplayName("Should put the DataSource first and one pool per additional URL after it")
+    void shouldCreateShards() {
+        contextRunner
+                .withPropertyValues("feedback.shards.additional-urls="
+                        + "jdbc:h2:mem:shards-1;DB_CLOSE_DELAY=-1, jdbc:h2:mem:shards-2;DB_CLOSE_DELAY=-1")
+                .run(context -> {
+                    ShardRouter router = context.getBean(ShardRouter.class);
+
+                    assertEquals(3, router.size());
+                    assertEquals("SHARDS-2", router.shard(2).queryForObject("SELECT DATABASE()", String.class));
+                    assertNotNull(context.getBean(ShardedFeedbackRepository.class));
+                });
+    }
+
+    @Test
+    @DisplayName("Should feed the id generator from a worker lease")
+    void shouldLeaseWorker() {
+        contextRunner
+                .withPropertyValues("feedback.shards.additional-urls=jdbc:h2:mem:shards-3;DB_CLOSE_DELAY=-1")
+                .run(context -> {
+                    assertNotNull(context.getBean(WorkerLease.class));
+                    assertNotNull(context.getBean(SnowflakeIdGenerator.class));
+                });
+    }
+
+    @Test
+    @DisplayName("Should refuse a lease too short to renew")
+    void shouldRejectShortLease() {
+        contextRunner
+                .withPropertyValues(
+                        "feedback.shards.additional-urls=jdbc:h2:mem:shards-4;DB_CLOSE_DELAY=-1",
+                        "feedback.shards.worker-lease-seconds=1")
+                .run(context -> assertInstanceOf(IllegalArgumentException.class,
+                        context.getStartupFailure().getCause().getCause()));
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.postech.feedback.core.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaLagMonitor Tests")
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(30);
+    private static final Duration INTERVAL = Duration.ofSeconds(5);
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet result;
+
+    private final AtomicLong now = new AtomicLong();
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(replica, MAX_LAG, INTERVAL, now::get);
+    }
+
+    private void replicaReportsLag(double... seconds) throws SQLException {
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaLagMonitor.LAG_QUERY)).thenReturn(result);
+        when(result.next()).thenReturn(true);
+        Double[] rest = new Double[seconds.length - 1];
+        for (int i = 1; i < seconds.length; i++) {
+            rest[i - 1] = seconds[i];
+        }
+        when(result.getDouble(1)).thenReturn(seconds[0], rest);
+    }
+
+    @Nested
+    @DisplayName("Lag threshold Tests")
+    class ThresholdTests {
+
+        @Test
+        @DisplayName("Should use the replica while the lag is within the threshold")
+        void shouldUseReplicaWithinThreshold() throws SQLException {
+            // Arrange
+            replicaReportsLag(0.4);
+
+            // Act & Assert
+            assertTrue(monitor.isReplicaUsable());
+            verify(statement).setQueryTimeout(anyInt());
+            verify(connection).close();
+        }
+
+        @Test
+        @DisplayName("Should fall back to the primary when the lag exceeds the threshold")
+        void shouldFallBackWhenLagging() throws SQLException {
+            replicaReportsLag(31);
+
+            assertFalse(monitor.isReplicaUsable());
+        }
+
+        @Test
+        @DisplayName("Should treat a standby that replayed nothing yet as lagging")
+        void shouldTreatUnknownLagAsLagging() throws SQLException {
+            replicaReportsLag(Double.POSITIVE_INFINITY);
+
+            assertFalse(monitor.isReplicaUsable());
+        }
+
+        @Test
+        @DisplayName("Should treat an unreachable replica as lagging")
+        void shouldTreatUnreachableReplicaAsLagging() throws SQLException {
+            when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+            assertFalse(monitor.isReplicaUsable());
+        }
+    }
+
+    @Nested
+    @DisplayName("Check interval Tests")
+    class IntervalTests {
+
+        @Test
+        @DisplayName("Should reuse the last answer until the interval elapses")
+        void shouldCheckAtMostOncePerInterval() throws SQLException {
+            // Arrange
+            replicaReportsLag(0, 120, 0);
+
+            // Act & Assert
+            assertTrue(monitor.isReplicaUsable());
+            now.addAndGet(INTERVAL.toNanos() - 1);
+            assertTrue(monitor.isReplicaUsable());
+            verify(replica, times(1)).getConnection();
+
+            now.addAndGet(1);
+            assertFalse(monitor.isReplicaUsable());
+
+            now.addAndGet(INTERVAL.toNanos());
+            assertTrue(monitor.isReplicaUsable());
+            verify(replica, times(3)).getConnection();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.postech.feedback.core.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    /** Lag set by the test instead of queried from a standby. */
+    static class FixedLagMonitor extends ReplicaLagMonitor {
+
+        Duration lag = Duration.ZERO;
+
+        FixedLagMonitor(HikariDataSource replica) {
+            super(replica, Duration.ofSeconds(30), Duration.ZERO);
+        }
+
+        @Override
+        Duration measureLag() {
+            return lag;
+        }
+    }
+
+    private ReplicaRoutingDataSource dataSource;
+    private FixedLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    // Cada banco H2 sabe quem é: a consulta mostra para onde a conexão foi roteada
+    private static HikariDataSource database(String name) throws SQLException {
+        String url = "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+            statement.execute("DELETE FROM node");
+            statement.execute("INSERT INTO node VALUES ('" + name + "')");
+        }
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(url);
+        pool.setPoolName(name);
+        return pool;
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        HikariDataSource primary = database("primary");
+        HikariDataSource replica = database("replica");
+        replica.setReadOnly(true);
+        lagMonitor = new FixedLagMonitor(replica);
+        dataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("Should keep read-write transactions and reads outside transactions on the primary")
+    void shouldKeepOtherWorkOnPrimary() {
+        assertEquals("primary", readWrite.execute(status -> node()));
+        assertEquals("primary", node());
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, dataSource.currentRoute());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags and return when it catches up")
+    void shouldFallBackWhileReplicaLags() {
+        // Arrange
+        lagMonitor.lag = Duration.ofMinutes(2);
+
+        // Act & Assert
+        assertEquals("primary", readOnly.execute(status -> node()));
+
+        lagMonitor.lag = Duration.ofSeconds(1);
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("Should close both pools")
+    void shouldCloseBothPools() {
+        // Act
+        dataSource.close();
+
+        // Assert
+        assertThrows(Exception.class, this::node);
+    }
+}
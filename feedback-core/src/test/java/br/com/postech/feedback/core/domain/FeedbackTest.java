@@ -102,7 +102,7 @@ class FeedbackTest {
             LocalDateTime now = LocalDateTime.now();
 
             // Act
-            Feedback feedback = new Feedback(1L, "Test description", 7, StatusFeedback.NORMAL, now, now);
+            Feedback feedback = new Feedback(1L, "Test description", 7, StatusFeedback.NORMAL, null, now, now);
 
             // Assert
             assertEquals(1L, feedback.getId());
@@ -199,8 +199,8 @@ class FeedbackTest {
         void shouldBeEqualForSameIdAndProperties() {
             // Arrange
             LocalDateTime now = LocalDateTime.now();
-            Feedback feedback1 = new Feedback(1L, "Test", 5, StatusFeedback.NORMAL, now, now);
-            Feedback feedback2 = new Feedback(1L, "Test", 5, StatusFeedback.NORMAL, now, now);
+            Feedback feedback1 = new Feedback(1L, "Test", 5, StatusFeedback.NORMAL, null, now, now);
+            Feedback feedback2 = new Feedback(1L, "Test", 5, StatusFeedback.NORMAL, null, now, now);
 
             // Assert
             assertEquals(feedback1, feedback2);
@@ -212,8 +212,8 @@ class FeedbackTest {
         void shouldNotBeEqualForDifferentIds() {
             // Arrange
             LocalDateTime now = LocalDateTime.now();
-            Feedback feedback1 = new Feedback(1L, "Test", 5, StatusFeedback.NORMAL, now, now);
-            Feedback feedback2 = new Feedback(2L, "Test", 5, StatusFeedback.NORMAL, now, now);
+            Feedback feedback1 = new Feedback(1L, "Test", 5, StatusFeedback.NORMAL, null, now, now);
+            Feedback feedback2 = new Feedback(2L, "Test", 5, StatusFeedback.NORMAL, null, now, now);
 
             // Assert
             assertNotEquals(feedback1, feedback2);
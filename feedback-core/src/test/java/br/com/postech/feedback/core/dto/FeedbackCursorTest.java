@@ -0,0 +1,56 @@
+package br.com.postech.feedback.core.dto;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FeedbackCursor Tests")
+class FeedbackCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through the opaque form, keeping microseconds")
+    void shouldRoundTrip() {
+        // Arrange
+        FeedbackCursor cursor = new FeedbackCursor(LocalDateTime.of(2026, 1, 15, 10, 30, 0, 123_456_000), 42L);
+
+        // Act
+        String encoded = cursor.encode();
+
+        // Assert
+        assertEquals(cursor, FeedbackCursor.decode(encoded));
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), "URL-safe without padding");
+    }
+
+    @Test
+    @DisplayName("Should point after the given view")
+    void shouldPointAfterView() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 10, 30);
+        FeedbackView view = new FeedbackView(7L, "Boa aula", 8, StatusFeedback.NORMAL, null, createdAt, createdAt);
+
+        assertEquals(new FeedbackCursor(createdAt, 7L), FeedbackCursor.after(view));
+    }
+
+    @Test
+    @DisplayName("Should treat null or blank as the first page")
+    void shouldTreatBlankAsFirstPage() {
+        assertNull(FeedbackCursor.decode(null));
+        assertNull(FeedbackCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors with IllegalArgumentException")
+    void shouldRejectMalformedCursors() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-01-15T10:30".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2026-01-15T10:30|x".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> FeedbackCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackCursor.decode(noSeparator));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackCursor.decode(badId));
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.postech.feedback.core.dto;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FeedbackFilter Tests")
+class FeedbackFilterTest {
+
+    @Nested
+    @DisplayName("parse() Tests")
+    class ParseTests {
+
+        @Test
+        @DisplayName("Should parse every parameter")
+        void shouldParseEveryParameter() {
+            FeedbackFilter filter = FeedbackFilter.parse("critical", "0", " 3 ", "2026-01-01T00:00", "2026-02-01T00:00");
+
+            assertEquals(new FeedbackFilter(StatusFeedback.CRITICAL, 0, 3,
+                    LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 2, 1, 0, 0)), filter);
+        }
+
+        @Test
+        @DisplayName("Should treat missing and blank parameters as no filter")
+        void shouldTreatMissingAsNoFilter() {
+            assertEquals(FeedbackFilter.none(), FeedbackFilter.parse(null, "", " ", null, ""));
+        }
+
+        @Test
+        @DisplayName("Should reject malformed values")
+        void shouldRejectMalformedValues() {
+            assertThrows(IllegalArgumentException.class, () -> FeedbackFilter.parse("URGENTE", null, null, null, null));
+            assertThrows(IllegalArgumentException.class, () -> FeedbackFilter.parse(null, "dez", null, null, null));
+            assertThrows(IllegalArgumentException.class, () -> FeedbackFilter.parse(null, null, null, "15/01/2026", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Range Validation Tests")
+    class RangeValidationTests {
+
+        @Test
+        @DisplayName("Should reject inverted rating and date ranges")
+        void shouldRejectInvertedRanges() {
+            LocalDateTime day = LocalDateTime.of(2026, 1, 15, 0, 0);
+
+            assertThrows(IllegalArgumentException.class, () -> new FeedbackFilter(null, 8, 2, null, null));
+            assertThrows(IllegalArgumentException.class, () -> new FeedbackFilter(null, null, null, day, day));
+            assertDoesNotThrow(() -> new FeedbackFilter(null, 5, 5, day, day.plusDays(1)));
+        }
+    }
+}
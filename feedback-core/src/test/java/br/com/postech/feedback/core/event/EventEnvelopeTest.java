@@ -0,0 +1,90 @@
+package br.com.postech.feedback.core.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventEnvelope Tests")
+class EventEnvelopeTest {
+
+    @Nested
+    @DisplayName("Creation Tests")
+    class CreationTests {
+
+        @Test
+        @DisplayName("Should create envelope with id, timestamp and trace id")
+        void shouldCreateEnvelope() {
+            EventEnvelope envelope = EventEnvelope.create(EventEnvelope.FEEDBACK_RECEIVED, 1);
+
+            assertEquals(EventEnvelope.FEEDBACK_RECEIVED, envelope.type());
+            assertEquals(1, envelope.version());
+            assertNotNull(envelope.id());
+            assertNotNull(envelope.timestamp());
+            assertNotNull(envelope.traceId());
+        }
+
+        @Test
+        @DisplayName("Should keep the trace id on caused events")
+        void shouldKeepTraceIdOnNextEvent() {
+            EventEnvelope received = EventEnvelope.create(EventEnvelope.FEEDBACK_RECEIVED, 1);
+
+            EventEnvelope critical = received.next(EventEnvelope.FEEDBACK_CRITICAL, 1);
+
+            assertEquals(EventEnvelope.FEEDBACK_CRITICAL, critical.type());
+            assertEquals(received.traceId(), critical.traceId());
+            assertNotEquals(received.id(), critical.id());
+        }
+    }
+
+    @Nested
+    @DisplayName("Attribute Tests")
+    class AttributeTests {
+
+        @Test
+        @DisplayName("Should round-trip through message attributes")
+        void shouldRoundTripThroughAttributes() {
+            EventEnvelope envelope = new EventEnvelope(EventEnvelope.REPORT_READY, 2, "event-1",
+                    Instant.parse("2026-02-10T15:30:00Z"), "trace-1");
+
+            Map<String, String> attributes = envelope.toAttributes();
+
+            assertEquals("ReportReady", attributes.get(EventEnvelope.TYPE_ATTRIBUTE));
+            assertEquals("2", attributes.get(EventEnvelope.VERSION_ATTRIBUTE));
+            assertEquals(envelope, EventEnvelope.fromAttributes(attributes::get).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should be empty for messages without event type")
+        void shouldBeEmptyWithoutEventType() {
+            assertTrue(EventEnvelope.fromAttributes(new HashMap<String, String>()::get).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should default missing version and tolerate missing fields")
+        void shouldDefaultMissingFields() {
+            EventEnvelope envelope = EventEnvelope.fromAttributes(
+                    Map.of(EventEnvelope.TYPE_ATTRIBUTE, "FeedbackCritical")::get).orElseThrow();
+
+            assertEquals(1, envelope.version());
+            assertNull(envelope.timestamp());
+            assertNull(envelope.traceId());
+            assertNotNull(envelope.next(EventEnvelope.FEEDBACK_CRITICAL, 1).traceId());
+        }
+
+        @Test
+        @DisplayName("Should reject a non-numeric version")
+        void shouldRejectInvalidVersion() {
+            Map<String, String> attributes = Map.of(
+                    EventEnvelope.TYPE_ATTRIBUTE, "FeedbackCritical",
+                    EventEnvelope.VERSION_ATTRIBUTE, "v1");
+
+            assertThrows(IllegalArgumentException.class, () -> EventEnvelope.fromAttributes(attributes::get));
+        }
+    }
+}
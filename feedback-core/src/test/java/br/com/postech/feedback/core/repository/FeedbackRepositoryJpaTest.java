@@ -0,0 +1,185 @@
+package br.com.postech.feedback.core.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@DisplayName("FeedbackRepository JPA Tests")
+class FeedbackRepositoryJpaTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(basePackageClasses = FeedbackRepository.class)
+    @EntityScan(basePackageClasses = Feedback.class)
+    static class JpaTestConfig {
+    }
+
+    @Autowired
+    private FeedbackRepository repository;
+
+    // Os testes aninhados não herdam o rollback do @DataJpaTest
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("Projections")
+    class ProjectionTests {
+
+        @Test
+        @DisplayName("Should read a single feedback as a view")
+        void shouldReadSingleFeedbackAsView() {
+            // Arrange
+            Feedback saved = repository.save(feedback("Aula ótima", 9, LocalDateTime.of(2026, 1, 15, 10, 0)));
+
+            // Act
+            Optional<FeedbackView> view = repository.findViewById(saved.getId());
+
+            // Assert
+            assertTrue(view.isPresent());
+            assertEquals(saved.getId(), view.get().id());
+            assertEquals("Aula ótima", view.get().description());
+            assertEquals(0.5, view.get().sentimentScore());
+            assertTrue(repository.findViewById(saved.getId() + 1000).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("findViews() Tests")
+    class FindViewsTests {
+
+        private final LocalDateTime base = LocalDateTime.of(2026, 1, 15, 10, 0);
+
+        @Test
+        @DisplayName("Should list most recent views first, limited")
+        void shouldListMostRecentViewsFirst() {
+            // Arrange
+            repository.save(feedback("Primeiro", 5, base));
+            repository.save(feedback("Terceiro", 5, base.plusMinutes(2)));
+            repository.save(feedback("Segundo", 5, base.plusMinutes(1)));
+
+            // Act
+            List<FeedbackView> views = repository.findViews(FeedbackFilter.none(), null, 2);
+
+            // Assert
+            assertEquals(List.of("Terceiro", "Segundo"), descriptions(views));
+        }
+
+        @Test
+        @DisplayName("Should page past rows sharing the same created_at by id")
+        void shouldPagePastTiesById() {
+            // Arrange
+            for (int i = 1; i <= 5; i++) {
+                repository.save(feedback("Empate " + i, 5, base));
+            }
+
+            // Act
+            List<FeedbackView> first = repository.findViews(FeedbackFilter.none(), null, 2);
+            List<FeedbackView> second = repository.findViews(FeedbackFilter.none(), FeedbackCursor.after(first.get(1)), 2);
+            List<FeedbackView> third = repository.findViews(FeedbackFilter.none(), FeedbackCursor.after(second.get(1)), 2);
+
+            // Assert
+            assertEquals(List.of("Empate 5", "Empate 4"), descriptions(first));
+            assertEquals(List.of("Empate 3", "Empate 2"), descriptions(second));
+            assertEquals(List.of("Empate 1"), descriptions(third));
+        }
+
+        @Test
+        @DisplayName("Should combine status, rating range and date range filters")
+        void shouldCombineFilters() {
+            // Arrange
+            repository.save(feedback("Crítico antigo", 1, StatusFeedback.CRITICAL, base.minusDays(1)));
+            repository.save(feedback("Crítico", 2, StatusFeedback.CRITICAL, base));
+            repository.save(feedback("Crítico nota zero", 0, StatusFeedback.CRITICAL, base.plusMinutes(1)));
+            repository.save(feedback("Normal", 2, StatusFeedback.NORMAL, base.plusMinutes(2)));
+            repository.save(feedback("Crítico depois", 2, StatusFeedback.CRITICAL, base.plusDays(1)));
+            FeedbackFilter filter = new FeedbackFilter(StatusFeedback.CRITICAL, 1, 3, base, base.plusDays(1));
+
+            // Act
+            List<FeedbackView> views = repository.findViews(filter, null, 10);
+
+            // Assert
+            assertEquals(List.of("Crítico"), descriptions(views));
+        }
+    }
+
+    @Nested
+    @DisplayName("Archival Tests")
+    class ArchivalTests {
+
+        private final LocalDateTime base = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+        @Test
+        @DisplayName("Should walk rows before the cutoff oldest first, resuming after the cursor")
+        void shouldWalkOldRowsOldestFirst() {
+            // Arrange
+            repository.save(feedback("Recente", 5, base.plusDays(30)));
+            repository.save(feedback("Segundo", 5, base));
+            repository.save(feedback("Primeiro", 5, base.minusDays(1)));
+            repository.save(feedback("Terceiro", 5, base));
+
+            // Act
+            List<FeedbackView> first = repository.findArchivable(base.plusDays(1), null, 2);
+            List<FeedbackView> second = repository.findArchivable(base.plusDays(1), FeedbackCursor.after(first.get(1)), 2);
+
+            // Assert
+            assertEquals(List.of("Primeiro", "Segundo"), descriptions(first));
+            assertEquals(List.of("Terceiro"), descriptions(second));
+        }
+
+        @Test
+        @DisplayName("Should delete only the listed ids inside the created_at range")
+        void shouldDeleteListedIdsInsideRange() {
+            // Arrange
+            Feedback old = repository.save(feedback("Antigo", 5, base));
+            Feedback outside = repository.save(feedback("Fora do intervalo", 5, base.plusDays(2)));
+            Feedback kept = repository.save(feedback("Mantido", 5, base));
+
+            // Act
+            int deleted = repository.deleteArchived(List.of(old.getId(), outside.getId()), base, base.plusDays(1));
+
+            // Assert
+            assertEquals(1, deleted);
+            assertEquals(List.of("Fora do intervalo", "Mantido"),
+                    repository.findAll().stream().map(Feedback::getDescription).sorted().toList());
+            assertTrue(repository.findViewById(kept.getId()).isPresent());
+        }
+    }
+
+    private static List<String> descriptions(List<FeedbackView> views) {
+        return views.stream().map(FeedbackView::description).toList();
+    }
+
+    private static Feedback feedback(String description, int rating, LocalDateTime createdAt) {
+        return feedback(description, rating, StatusFeedback.NORMAL, createdAt);
+    }
+
+    private static Feedback feedback(String description, int rating, StatusFeedback status, LocalDateTime createdAt) {
+        Feedback feedback = new Feedback(description, rating);
+        feedback.setStatus(status);
+        feedback.setSentimentScore(0.5);
+        feedback.setCreatedAt(createdAt);
+        feedback.setUpdatedAt(createdAt);
+        return feedback;
+    }
+}
@@ -0,0 +1,178 @@
+package br.com.postech.feedback.core.rules;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompiledRuleSet Tests")
+class CompiledRuleSetTest {
+
+    private static final Classification CRITICAL_HIGH = new Classification(StatusFeedback.CRITICAL, Urgency.HIGH);
+    private static final Classification NORMAL_LOW = new Classification(StatusFeedback.NORMAL, Urgency.LOW);
+
+    @Nested
+    @DisplayName("Default Rules Tests")
+    class DefaultRulesTests {
+
+        private final CompiledRuleSet rules = CompiledRuleSet.defaults();
+
+        @Test
+        @DisplayName("Should mark ratings below 5 as critical at ingestion")
+        void shouldMarkRatingsBelowFiveAsCritical() {
+            assertEquals(StatusFeedback.CRITICAL, rules.classify(0, null, "Qualquer", CompiledRuleSet.UNKNOWN_TIME).status());
+            assertEquals(StatusFeedback.CRITICAL, rules.classify(4, null, "Qualquer", CompiledRuleSet.UNKNOWN_TIME).status());
+            assertEquals(StatusFeedback.NORMAL, rules.classify(5, null, "Qualquer", CompiledRuleSet.UNKNOWN_TIME).status());
+            assertEquals(StatusFeedback.NORMAL, rules.classify(10, null, "Qualquer", CompiledRuleSet.UNKNOWN_TIME).status());
+        }
+
+        @Test
+        @DisplayName("Should rank urgency like the report did")
+        void shouldRankUrgencyLikeTheReport() {
+            assertEquals(Urgency.HIGH, rules.classify(1, StatusFeedback.NORMAL, null, 0).urgency());
+            assertEquals(Urgency.HIGH, rules.classify(2, StatusFeedback.NORMAL, null, 0).urgency());
+            assertEquals(Urgency.MEDIUM, rules.classify(3, StatusFeedback.NORMAL, null, 0).urgency());
+            assertEquals(Urgency.MEDIUM, rules.classify(4, StatusFeedback.NORMAL, null, 0).urgency());
+            assertEquals(Urgency.LOW, rules.classify(5, StatusFeedback.NORMAL, null, 0).urgency());
+            assertEquals(Urgency.HIGH, rules.classify(9, StatusFeedback.CRITICAL, null, 0).urgency());
+            assertEquals(Urgency.HIGH, rules.classify(3, StatusFeedback.CRITICAL, null, 0).urgency());
+        }
+
+        @Test
+        @DisplayName("Should fall back for unknown rating")
+        void shouldFallBackForUnknownRating() {
+            assertEquals(NORMAL_LOW, rules.classify(null, null, null, CompiledRuleSet.UNKNOWN_TIME));
+            assertEquals(NORMAL_LOW, rules.classify(42, StatusFeedback.NORMAL, null, 600));
+            assertEquals(CRITICAL_HIGH, rules.classify(null, StatusFeedback.CRITICAL, null, 600));
+        }
+
+        @Test
+        @DisplayName("Should return the compiled classification instances")
+        void shouldReturnCompiledInstances() {
+            assertSame(rules.classify(1, null, null, 0), rules.classify(2, null, null, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Condition Tests")
+    class ConditionTests {
+
+        @Test
+        @DisplayName("Should match keywords ignoring case")
+        void shouldMatchKeywordsIgnoringCase() {
+            CompiledRuleSet rules = compile(new RuleDefinition("plataforma",
+                    new RuleDefinition.Condition(null, null, null, List.of("Fora do Ar"), null, null), CRITICAL_HIGH));
+
+            assertEquals(CRITICAL_HIGH, rules.classify(9, null, "A plataforma ficou FORA DO AR", 600));
+            assertEquals(NORMAL_LOW, rules.classify(9, null, "Tudo certo", 600));
+            assertEquals(NORMAL_LOW, rules.classify(9, null, null, 600));
+        }
+
+        @Test
+        @DisplayName("Should match keywords ignoring accents")
+        void shouldMatchKeywordsIgnoringAccents() {
+            CompiledRuleSet rules = compile(new RuleDefinition("audio",
+                    new RuleDefinition.Condition(null, null, null, List.of("audio"), null, null), CRITICAL_HIGH));
+
+            assertEquals(CRITICAL_HIGH, rules.classify(9, null, "O áudio falhou", 600));
+        }
+
+        @Test
+        @DisplayName("Should match time windows that wrap past midnight")
+        void shouldMatchTimeWindowsWrappingMidnight() {
+            CompiledRuleSet rules = compile(new RuleDefinition("madrugada",
+                    new RuleDefinition.Condition(null, null, null, null, LocalTime.of(22, 0), LocalTime.of(6, 0)),
+                    CRITICAL_HIGH));
+
+            assertEquals(CRITICAL_HIGH, rules.classify(8, null, null, 23 * 60));
+            assertEquals(CRITICAL_HIGH, rules.classify(8, null, null, 5 * 60 + 59));
+            assertEquals(NORMAL_LOW, rules.classify(8, null, null, 6 * 60));
+            assertEquals(NORMAL_LOW, rules.classify(8, null, null, CompiledRuleSet.UNKNOWN_TIME));
+        }
+
+        @Test
+        @DisplayName("Should require every condition of a rule")
+        void shouldRequireEveryCondition() {
+            CompiledRuleSet rules = compile(new RuleDefinition("audio-ruim",
+                    new RuleDefinition.Condition(0, 6, StatusFeedback.NORMAL, List.of("áudio"), null, null),
+                    CRITICAL_HIGH));
+
+            assertEquals(CRITICAL_HIGH, rules.classify(6, StatusFeedback.NORMAL, "Áudio ruim", 0));
+            assertEquals(NORMAL_LOW, rules.classify(7, StatusFeedback.NORMAL, "Áudio ruim", 0));
+            assertEquals(NORMAL_LOW, rules.classify(6, StatusFeedback.CRITICAL, "Áudio ruim", 0));
+            assertEquals(NORMAL_LOW, rules.classify(6, null, "Áudio ruim", 0));
+        }
+
+        @Test
+        @DisplayName("Should apply the first matching rule")
+        void shouldApplyFirstMatchingRule() {
+            Classification medium = new Classification(StatusFeedback.CRITICAL, Urgency.MEDIUM);
+            CompiledRuleSet rules = compile(
+                    new RuleDefinition("primeira", new RuleDefinition.Condition(0, 5, null, null, null, null), medium),
+                    new RuleDefinition("segunda", new RuleDefinition.Condition(0, 10, null, null, null, null), CRITICAL_HIGH));
+
+            assertEquals(medium, rules.classify(3, null, null, 0));
+            assertEquals(CRITICAL_HIGH, rules.classify(8, null, null, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject inverted rating range")
+        void shouldRejectInvertedRatingRange() {
+            assertThrows(IllegalArgumentException.class, () -> compile(new RuleDefinition("invertida",
+                    new RuleDefinition.Condition(5, 2, null, null, null, null), CRITICAL_HIGH)));
+        }
+
+        @Test
+        @DisplayName("Should reject half-open time window")
+        void shouldRejectHalfOpenTimeWindow() {
+            assertThrows(IllegalArgumentException.class, () -> compile(new RuleDefinition("janela",
+                    new RuleDefinition.Condition(null, null, null, null, LocalTime.NOON, null), CRITICAL_HIGH)));
+        }
+
+        @Test
+        @DisplayName("Should reject duplicate names and missing fallback")
+        void shouldRejectDuplicateNamesAndMissingFallback() {
+            RuleDefinition rule = new RuleDefinition("dup", null, CRITICAL_HIGH);
+
+            assertThrows(IllegalArgumentException.class, () -> compile(rule, rule));
+            assertThrows(IllegalArgumentException.class,
+                    () -> CompiledRuleSet.compile(new RuleSetDefinition(List.of(rule), null)));
+        }
+
+        @Test
+        @DisplayName("Should reject more rules than fit in the mask")
+        void shouldRejectTooManyRules() {
+            List<RuleDefinition> rules = IntStream.rangeClosed(0, CompiledRuleSet.MAX_RULES)
+                    .mapToObj(i -> new RuleDefinition("r" + i, null, CRITICAL_HIGH))
+                    .toList();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> CompiledRuleSet.compile(new RuleSetDefinition(rules, NORMAL_LOW)));
+        }
+
+        @Test
+        @DisplayName("Should accept empty rule list")
+        void shouldAcceptEmptyRuleList() {
+            CompiledRuleSet rules = CompiledRuleSet.compile(new RuleSetDefinition(Collections.emptyList(), NORMAL_LOW));
+
+            assertEquals(0, rules.size());
+            assertEquals(NORMAL_LOW, rules.classify(0, StatusFeedback.CRITICAL, "x", 0));
+        }
+    }
+
+    private static CompiledRuleSet compile(RuleDefinition... rules) {
+        return CompiledRuleSet.compile(new RuleSetDefinition(List.of(rules), NORMAL_LOW));
+    }
+}
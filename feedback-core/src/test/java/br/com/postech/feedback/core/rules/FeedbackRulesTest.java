@@ -0,0 +1,109 @@
+package br.com.postech.feedback.core.rules;
+
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FeedbackRules Tests")
+class FeedbackRulesTest {
+
+    private static final String KEYWORD_RULES = """
+            {
+              "rules": [
+                {"name": "plataforma", "when": {"keywords": ["caiu"]}, "then": {"status": "CRITICAL", "urgency": "HIGH"}},
+                {"name": "madrugada", "when": {"from": "22:00", "to": "06:00"}, "then": {"status": "CRITICAL", "urgency": "MEDIUM"}}
+              ],
+              "fallback": {"status": "NORMAL", "urgency": "LOW"}
+            }
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Default Rules Tests")
+    class DefaultRulesTests {
+
+        @Test
+        @DisplayName("Should use built-in rules without location")
+        void shouldUseBuiltInRulesWithoutLocation() {
+            FeedbackRules rules = new FeedbackRules(new JsonConfig().objectMapper(), "", 30);
+
+            assertEquals(StatusFeedback.CRITICAL, rules.classify(new Feedback("Ruim", 4)).status());
+            assertEquals(StatusFeedback.NORMAL, rules.classify(new Feedback("Bom", 5)).status());
+            assertFalse(rules.reloadIfChanged());
+        }
+    }
+
+    @Nested
+    @DisplayName("File Rules Tests")
+    class FileRulesTests {
+
+        @Test
+        @DisplayName("Should load rules from JSON file")
+        void shouldLoadRulesFromJsonFile() throws Exception {
+            Path file = Files.writeString(tempDir.resolve("rules.json"), KEYWORD_RULES);
+
+            FeedbackRules rules = new FeedbackRules(new JsonConfig().objectMapper(), file.toString(), 0);
+
+            LocalDateTime night = LocalDateTime.of(2026, 2, 10, 23, 15);
+            LocalDateTime day = LocalDateTime.of(2026, 2, 10, 14, 0);
+            assertEquals(Urgency.HIGH, rules.classify(9, null, "O sistema caiu", day).urgency());
+            assertEquals(Urgency.MEDIUM, rules.classify(9, null, "Tudo bem", night).urgency());
+            assertEquals(StatusFeedback.NORMAL, rules.classify(1, null, "Tudo bem", day).status());
+        }
+
+        @Test
+        @DisplayName("Should fail fast when the initial file is invalid")
+        void shouldFailFastWhenInitialFileIsInvalid() throws Exception {
+            Path file = Files.writeString(tempDir.resolve("rules.json"), "{\"rules\": []}");
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new FeedbackRules(new JsonConfig().objectMapper(), file.toString(), 0));
+        }
+
+        @Test
+        @DisplayName("Should hot reload changed file")
+        void shouldHotReloadChangedFile() throws Exception {
+            Path file = Files.writeString(tempDir.resolve("rules.json"), KEYWORD_RULES);
+            FeedbackRules rules = new FeedbackRules(new JsonConfig().objectMapper(), file.toString(), 0);
+            CompiledRuleSet before = rules.current();
+
+            assertFalse(rules.reloadIfChanged());
+
+            Files.writeString(file, KEYWORD_RULES.replace("\"caiu\"", "\"lento\""));
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+
+            assertTrue(rules.reloadIfChanged());
+            assertNotSame(before, rules.current());
+            assertEquals(Urgency.HIGH, rules.classify(9, null, "Muito lento", null).urgency());
+            assertEquals(Urgency.LOW, rules.classify(9, null, "O sistema caiu", null).urgency());
+        }
+
+        @Test
+        @DisplayName("Should keep previous rules when reload fails")
+        void shouldKeepPreviousRulesWhenReloadFails() throws Exception {
+            Path file = Files.writeString(tempDir.resolve("rules.json"), KEYWORD_RULES);
+            FeedbackRules rules = new FeedbackRules(new JsonConfig().objectMapper(), file.toString(), 0);
+            CompiledRuleSet before = rules.current();
+
+            Files.writeString(file, "{ not json");
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+
+            assertFalse(rules.reloadIfChanged());
+            assertSame(before, rules.current());
+        }
+    }
+}
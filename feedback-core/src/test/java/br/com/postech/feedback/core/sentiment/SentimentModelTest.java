@@ -0,0 +1,117 @@
+package br.com.postech.feedback.core.sentiment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SentimentModel Tests")
+class SentimentModelTest {
+
+    private static final SentimentModel BUNDLED = SentimentModel.load(SentimentScorer.DEFAULT_MODEL);
+
+    @Nested
+    @DisplayName("Bundled model")
+    class BundledModelTests {
+
+        @Test
+        @DisplayName("Should score positive descriptions above zero")
+        void shouldScorePositiveDescriptionsAboveZero() {
+            assertTrue(BUNDLED.score("A professora é excelente, aprendi muito. Parabéns!") > 0);
+            assertTrue(BUNDLED.score("Great lecture, really clear, highly recommend") > 0);
+        }
+
+        @Test
+        @DisplayName("Should score negative descriptions below zero")
+        void shouldScoreNegativeDescriptionsBelowZero() {
+            assertTrue(BUNDLED.score("O aplicativo trava e o suporte não responde") < 0);
+            assertTrue(BUNDLED.score("Terrible platform, the video keeps freezing") < 0);
+        }
+
+        @Test
+        @DisplayName("Should use bigrams to flip negated sentiment")
+        void shouldUseBigramsToFlipNegatedSentiment() {
+            assertTrue(BUNDLED.score("Gostei muito") > 0);
+            assertTrue(BUNDLED.score("Não gostei") < 0);
+        }
+
+        @Test
+        @DisplayName("Should ignore case and accents")
+        void shouldIgnoreCaseAndAccents() {
+            assertEquals(BUNDLED.score("Não gostei, péssima aula"), BUNDLED.score("NAO GOSTEI, PESSIMA AULA"));
+        }
+
+        @Test
+        @DisplayName("Should stay within [-1, 1] and handle null or empty text")
+        void shouldStayWithinBoundsAndHandleEmptyText() {
+            double empty = BUNDLED.score("");
+
+            assertEquals(empty, BUNDLED.score(null));
+            assertTrue(Math.abs(BUNDLED.score("ruim ".repeat(10_000))) <= 1.0);
+            assertTrue(Math.abs(empty) < 0.5);
+        }
+    }
+
+    @Nested
+    @DisplayName("File format")
+    class FileFormatTests {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("Should round-trip through a memory-mapped file")
+        void shouldRoundTripThroughMemoryMappedFile() throws IOException {
+            // Arrange
+            Path file = tempDir.resolve("model.bin");
+            BUNDLED.write(file);
+
+            // Act
+            SentimentModel mapped = SentimentModel.load(file.toString());
+
+            // Assert
+            assertEquals(BUNDLED.buckets(), mapped.buckets());
+            assertEquals(SentimentModel.HEADER_BYTES + BUNDLED.buckets() * Float.BYTES, Files.size(file));
+            assertEquals(BUNDLED.score("Aula excelente"), mapped.score("Aula excelente"));
+        }
+
+        @Test
+        @DisplayName("Should reject files with wrong magic")
+        void shouldRejectFilesWithWrongMagic() {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[SentimentModel.HEADER_BYTES + 4]);
+
+            IOException exception = assertThrows(IOException.class, () -> SentimentModel.read(buffer));
+
+            assertEquals("Not a sentiment model file", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject truncated files")
+        void shouldRejectTruncatedFiles() throws IOException {
+            // Arrange
+            Path file = tempDir.resolve("truncated.bin");
+            BUNDLED.write(file);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+            // Act & Assert
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> SentimentModel.load(file.toString()));
+            assertTrue(exception.getMessage().startsWith("Failed to load sentiment model"));
+        }
+
+        @Test
+        @DisplayName("Should fail on missing classpath resource")
+        void shouldFailOnMissingClasspathResource() {
+            assertThrows(IllegalStateException.class, () -> SentimentModel.load("classpath:sentiment/missing.bin"));
+        }
+    }
+}
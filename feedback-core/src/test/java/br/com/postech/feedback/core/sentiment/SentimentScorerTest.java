@@ -0,0 +1,38 @@
+package br.com.postech.feedback.core.sentiment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SentimentScorer Tests")
+class SentimentScorerTest {
+
+    @Test
+    @DisplayName("Should round scores to three decimals")
+    void shouldRoundScoresToThreeDecimals() {
+        Double score = SentimentScorer.defaults().score("Curso excelente, recomendo");
+
+        assertNotNull(score);
+        assertEquals(score, Math.round(score * 1000) / 1000.0);
+        assertTrue(score > 0);
+    }
+
+    @Test
+    @DisplayName("Should return null for blank descriptions")
+    void shouldReturnNullForBlankDescriptions() {
+        SentimentScorer scorer = SentimentScorer.defaults();
+
+        assertNull(scorer.score(null));
+        assertNull(scorer.score("   "));
+    }
+
+    @Test
+    @DisplayName("Should return null when disabled")
+    void shouldReturnNullWhenDisabled() {
+        SentimentScorer scorer = new SentimentScorer(false, SentimentScorer.DEFAULT_MODEL);
+
+        assertFalse(scorer.isEnabled());
+        assertNull(scorer.score("Curso excelente"));
+    }
+}
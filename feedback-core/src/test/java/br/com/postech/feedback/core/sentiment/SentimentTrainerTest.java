@@ -0,0 +1,51 @@
+package br.com.postech.feedback.core.sentiment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SentimentTrainer Tests")
+class SentimentTrainerTest {
+
+    @Test
+    @DisplayName("Should generalize to held-out examples of the seed corpus")
+    void shouldGeneralizeToHeldOutExamples() throws Exception {
+        // Arrange
+        List<SentimentTrainer.Example> corpus = SentimentTrainer.readCorpus(corpusPath());
+        List<SentimentTrainer.Example> train = new ArrayList<>();
+        List<SentimentTrainer.Example> test = new ArrayList<>();
+        for (int i = 0; i < corpus.size(); i++) {
+            (i % 5 == 0 ? test : train).add(corpus.get(i));
+        }
+
+        // Act
+        SentimentModel model = new SentimentTrainer().train(train);
+
+        // Assert
+        long correct = test.stream().filter(example -> model.score(example.text()) > 0 == example.positive()).count();
+        assertTrue(correct >= test.size() * 0.9, "held-out accuracy " + correct + "/" + test.size());
+    }
+
+    @Test
+    @DisplayName("Should produce the same weights for the same corpus and seed")
+    void shouldBeDeterministic() throws Exception {
+        List<SentimentTrainer.Example> corpus = SentimentTrainer.readCorpus(corpusPath());
+
+        SentimentModel first = new SentimentTrainer().train(corpus);
+        SentimentModel second = new SentimentTrainer().train(corpus);
+
+        assertArrayEquals(first.weights(), second.weights());
+        assertEquals(first.bias(), second.bias());
+    }
+
+    private static Path corpusPath() throws URISyntaxException {
+        return Path.of(Objects.requireNonNull(SentimentTrainerTest.class.getResource("/sentiment/corpus.tsv")).toURI());
+    }
+}
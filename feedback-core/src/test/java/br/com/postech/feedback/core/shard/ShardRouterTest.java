@@ -0,0 +1,135 @@
+package br.com.postech.feedback.core.shard;
+
+import br.com.postech.feedback.core.datasource.ReplicaLagMonitor;
+import br.com.postech.feedback.core.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardRouter Tests")
+class ShardRouterTest {
+
+    private HikariDataSource shard1;
+    private HikariDataSource shard2;
+    private ShardRouter router;
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setPoolName(name);
+        return pool;
+    }
+
+    @BeforeEach
+    void setUp() {
+        shard1 = pool("router-1");
+        shard2 = pool("router-2");
+        router = new ShardRouter(new DriverManagerDataSource("jdbc:h2:mem:router-0;DB_CLOSE_DELAY=-1"),
+                List.of(shard1, shard2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.close();
+    }
+
+    @Test
+    @DisplayName("Should hand out the shards for new feedbacks round robin")
+    void shouldRoundRobinWrites() {
+        assertEquals(List.of(0, 1, 2, 0), List.of(router.nextShard(), router.nextShard(),
+                router.nextShard(), router.nextShard()));
+    }
+
+    @Test
+    @DisplayName("Should find the shard of an id, and none for a shard not configured")
+    void shouldRouteIds() {
+        // Arrange
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 0);
+
+        // Act / Assert
+        assertSame(router.shard(2), router.shardFor(generator.nextId(2)).orElseThrow());
+        assertSame(router.shard(0), router.shardFor(42L).orElseThrow());
+        assertTrue(router.shardFor(generator.nextId(3)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should query every shard and return the results in shard order")
+    void shouldFanOutInShardOrder() {
+        List<String> databases = router.fanOut(shard -> shard.queryForObject("SELECT DATABASE()", String.class));
+
+        assertEquals(List.of("ROUTER-0", "ROUTER-1", "ROUTER-2"), databases);
+    }
+
+    @Test
+    @DisplayName("Should report which shard failed")
+    void shouldNameFailedShard() {
+        // Arrange
+        shard2.close();
+
+        // Act
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> router.fanOut(shard -> shard.queryForObject("SELECT 1", Integer.class)));
+
+        // Assert
+        assertEquals("Failed to query shard 2", error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should read shard 0 from its replica while it is fresh")
+    void shouldFanOutThroughReplica() {
+        // Arrange
+        boolean[] lagging = {false};
+        HikariDataSource replica = node("fanout-replica");
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(30), Duration.ZERO) {
+            @Override
+            public boolean isReplicaUsable() {
+                return !lagging[0];
+            }
+        };
+        ReplicaRoutingDataSource primary = new ReplicaRoutingDataSource(node("fanout-primary"), replica, lagMonitor);
+        ShardRouter replicated = new ShardRouter(primary, List.of(node("fanout-1")));
+
+        try {
+            // Act
+            List<String> fresh = replicated.fanOut(ShardRouterTest::nodeName);
+            lagging[0] = true;
+            List<String> lagged = replicated.fanOut(ShardRouterTest::nodeName);
+
+            // Assert
+            assertEquals(List.of("fanout-replica", "fanout-1"), fresh);
+            assertEquals(List.of("fanout-primary", "fanout-1"), lagged);
+        } finally {
+            replicated.close();
+            primary.close();
+        }
+    }
+
+    private static String nodeName(JdbcTemplate shard) {
+        return shard.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    // Banco que responde o próprio nome: mostra para onde a consulta foi
+    private static HikariDataSource node(String name) {
+        HikariDataSource pool = pool(name);
+        new JdbcTemplate(pool).execute("CREATE TABLE IF NOT EXISTS node AS SELECT '" + name + "' AS name");
+        return pool;
+    }
+
+    @Test
+    @DisplayName("Should close the additional pools with the router")
+    void shouldCloseAdditionalPools() {
+        router.close();
+
+        assertTrue(shard1.isClosed());
+        assertTrue(shard2.isClosed());
+    }
+}
@@ -0,0 +1,210 @@
+package br.com.postech.feedback.core.shard;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackTotals;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ShardedFeedbackRepository Tests")
+class ShardedFeedbackRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private ShardRouter router;
+    private ShardedFeedbackRepository repository;
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setPoolName(name);
+        return pool;
+    }
+
+    @BeforeEach
+    void setUp() {
+        router = new ShardRouter(new DriverManagerDataSource("jdbc:h2:mem:sharded-0;DB_CLOSE_DELAY=-1"),
+                List.of(pool("sharded-1"), pool("sharded-2")));
+        for (int shard = 0; shard < router.size(); shard++) {
+            JdbcTemplate jdbcTemplate = router.shard(shard);
+            jdbcTemplate.execute("DROP TABLE IF EXISTS feedbacks");
+            jdbcTemplate.execute("CREATE TABLE feedbacks (id BIGINT PRIMARY KEY, description VARCHAR(255) NOT NULL, "
+                    + "rating INTEGER NOT NULL, status VARCHAR(255) NOT NULL, sentiment_score DOUBLE PRECISION, "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP)");
+        }
+        repository = new ShardedFeedbackRepository(router, new SnowflakeIdGenerator(() -> 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.close();
+    }
+
+    // Feedback x: nota x % 11, criado x horas após BASE; os saves alternam entre os três shards
+    private List<Feedback> saveFeedbacks(int count) {
+        List<Feedback> saved = new ArrayList<>();
+        for (int x = 1; x <= count; x++) {
+            Feedback feedback = new Feedback("Feedback " + x, x % 11);
+            feedback.setCreatedAt(BASE.plusHours(x));
+            feedback.setUpdatedAt(BASE.plusHours(x));
+            saved.add(repository.save(feedback));
+        }
+        return saved;
+    }
+
+    private int rows(int shard) {
+        return router.shard(shard).queryForObject("SELECT count(*) FROM feedbacks", Integer.class);
+    }
+
+    @Nested
+    @DisplayName("Write and Point Read Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should spread writes over the shards and write the shard into the id")
+        void shouldSpreadWrites() {
+            // Act
+            List<Feedback> saved = saveFeedbacks(6);
+
+            // Assert
+            assertEquals(List.of(2, 2, 2), List.of(rows(0), rows(1), rows(2)));
+            for (int i = 0; i < saved.size(); i++) {
+                assertEquals(i % 3, SnowflakeIdGenerator.shardOf(saved.get(i).getId()));
+            }
+        }
+
+        @Test
+        @DisplayName("Should read a feedback back from the shard in its id")
+        void shouldFindViewById() {
+            // Arrange
+            Feedback saved = saveFeedbacks(3).get(2);
+
+            // Act / Assert
+            assertEquals(FeedbackView.of(saved), repository.findViewById(saved.getId()).orElseThrow());
+            assertTrue(repository.findViewById(new SnowflakeIdGenerator(() -> 0).nextId(5)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should find rows written before sharding on shard 0")
+        void shouldFindLegacyIdsOnShardZero() {
+            router.shard(0).update("INSERT INTO feedbacks VALUES (42, 'Antigo', 7, 'NORMAL', NULL, ?, ?)", BASE, BASE);
+
+            assertEquals("Antigo", repository.findViewById(42L).orElseThrow().description());
+        }
+    }
+
+    @Nested
+    @DisplayName("Fan-out Tests")
+    class FanOutTests {
+
+        @Test
+        @DisplayName("Should merge the pages of every shard newest first")
+        void shouldMergeListing() {
+            // Arrange
+            saveFeedbacks(10);
+
+            // Act
+            List<FeedbackView> first = repository.findViews(FeedbackFilter.none(), null, 4);
+            List<FeedbackView> second = repository.findViews(FeedbackFilter.none(), FeedbackCursor.after(first.get(3)), 4);
+
+            // Assert
+            assertEquals(List.of("Feedback 10", "Feedback 9", "Feedback 8", "Feedback 7"),
+                    first.stream().map(FeedbackView::description).toList());
+            assertEquals(List.of("Feedback 6", "Feedback 5", "Feedback 4", "Feedback 3"),
+                    second.stream().map(FeedbackView::description).toList());
+        }
+
+        @Test
+        @DisplayName("Should add up the totals of the shards")
+        void shouldAddUpTotals() {
+            // Arrange
+            saveFeedbacks(10);
+
+            // Act
+            FeedbackTotals all = repository.totalsSince(null);
+            FeedbackTotals recent = repository.totalsSince(BASE.plusHours(8));
+
+            // Assert
+            assertEquals(new FeedbackTotals(10, 55), all);
+            assertEquals(5.5, all.averageRating());
+            assertEquals(new FeedbackTotals(3, 27), recent);
+        }
+
+        @Test
+        @DisplayName("Should return the report feedbacks of every shard newest first")
+        void shouldMergeReportFeedbacks() {
+            // Arrange
+            saveFeedbacks(5);
+
+            // Act
+            List<Feedback> all = repository.findFeedbacksSince(null);
+            List<Feedback> recent = repository.findFeedbacksSince(BASE.plusHours(4));
+
+            // Assert
+            assertEquals(List.of("Feedback 5", "Feedback 4", "Feedback 3", "Feedback 2", "Feedback 1"),
+                    all.stream().map(Feedback::getDescription).toList());
+            assertEquals(List.of("Feedback 5", "Feedback 4"), recent.stream().map(Feedback::getDescription).toList());
+        }
+
+        @Test
+        @DisplayName("Should report no feedbacks when every shard is empty")
+        void shouldHandleEmptyShards() {
+            assertEquals(FeedbackTotals.EMPTY, repository.totalsSince(null));
+            assertEquals(0.0, repository.totalsSince(null).averageRating());
+            assertTrue(repository.findViews(FeedbackFilter.none(), null, 20).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Archive Tests")
+    class ArchiveTests {
+
+        @Test
+        @DisplayName("Should page through the old rows of one shard oldest first")
+        void shouldFindArchivableInShard() {
+            // Arrange
+            saveFeedbacks(7);
+            LocalDateTime before = BASE.plusHours(6);
+
+            // Act
+            List<FeedbackView> first = repository.findArchivable(1, before, null, 1);
+            List<FeedbackView> second = repository.findArchivable(1, before, FeedbackCursor.after(first.get(0)), 1);
+            List<FeedbackView> rest = repository.findArchivable(1, before, FeedbackCursor.after(second.get(0)), 1);
+
+            // Assert
+            assertEquals(List.of("Feedback 2"), first.stream().map(FeedbackView::description).toList());
+            assertEquals(List.of("Feedback 5"), second.stream().map(FeedbackView::description).toList());
+            assertTrue(rest.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should delete archived rows only from their shard")
+        void shouldDeleteArchivedInShard() {
+            // Arrange
+            List<Feedback> saved = saveFeedbacks(6);
+            List<Long> ids = List.of(saved.get(1).getId(), saved.get(4).getId());
+
+            // Act
+            int deleted = repository.deleteArchived(1, ids, BASE.plusHours(2), BASE.plusHours(5));
+
+            // Assert
+            assertEquals(2, deleted);
+            assertEquals(List.of(2, 0, 2), List.of(rows(0), rows(1), rows(2)));
+            assertEquals(3, repository.shards());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.postech.feedback.core.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SnowflakeIdGenerator Tests")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH.toEpochMilli() + 86_400_000L;
+
+    @Nested
+    @DisplayName("Layout Tests")
+    class LayoutTests {
+
+        @Test
+        @DisplayName("Should encode the shard, readable back from the id")
+        void shouldEncodeShard() {
+            // Arrange
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 7, () -> NOW);
+
+            // Act
+            long first = generator.nextId(0);
+            long last = generator.nextId(SnowflakeIdGenerator.MAX_SHARDS - 1);
+
+            // Assert
+            assertEquals(0, SnowflakeIdGenerator.shardOf(first));
+            assertEquals(SnowflakeIdGenerator.MAX_SHARDS - 1, SnowflakeIdGenerator.shardOf(last));
+            assertTrue(first > SnowflakeIdGenerator.LEGACY_ID_LIMIT);
+        }
+
+        @Test
+        @DisplayName("Should place ids of the original sequence on shard 0")
+        void shouldRouteLegacyIdsToShardZero() {
+            assertEquals(0, SnowflakeIdGenerator.shardOf(1L));
+            assertEquals(0, SnowflakeIdGenerator.shardOf(100_000L));
+            assertEquals(0, SnowflakeIdGenerator.shardOf(SnowflakeIdGenerator.LEGACY_ID_LIMIT - 1));
+        }
+
+        @Test
+        @DisplayName("Should reject a shard outside the id layout")
+        void shouldRejectInvalidShard() {
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 0, () -> NOW);
+
+            assertThrows(IllegalArgumentException.class, () -> generator.nextId(-1));
+            assertThrows(IllegalArgumentException.class, () -> generator.nextId(SnowflakeIdGenerator.MAX_SHARDS));
+        }
+
+        @Test
+        @DisplayName("Should read the worker number on every id")
+        void shouldReadWorkerOnEveryId() {
+            // Arrange
+            AtomicInteger worker = new AtomicInteger(3);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(worker::get, () -> NOW);
+
+            // Act
+            long first = generator.nextId(1);
+            worker.set(4);
+            long second = generator.nextId(1);
+
+            // Assert
+            assertEquals(3, (first >>> SnowflakeIdGenerator.SEQUENCE_BITS) & (SnowflakeIdGenerator.WORKERS - 1));
+            assertEquals(4, (second >>> SnowflakeIdGenerator.SEQUENCE_BITS) & (SnowflakeIdGenerator.WORKERS - 1));
+        }
+
+        @Test
+        @DisplayName("Should refuse a worker number outside the worker bits instead of wrapping it")
+        void shouldRejectWorkerOutsideBits() {
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> SnowflakeIdGenerator.WORKERS + 3, () -> NOW);
+
+            assertThrows(IllegalStateException.class, () -> generator.nextId(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Uniqueness Tests")
+    class UniquenessTests {
+
+        @Test
+        @DisplayName("Should keep ids unique and increasing past the sequence of one millisecond")
+        void shouldMoveToNextMillisecondWhenSequenceIsExhausted() {
+            // Arrange
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 0, () -> NOW);
+            Set<Long> ids = new HashSet<>();
+            long previous = 0;
+
+            // Act / Assert
+            for (int i = 0; i < 1000; i++) {
+                long id = generator.nextId(2);
+                assertTrue(id > previous);
+                assertTrue(ids.add(id));
+                previous = id;
+            }
+        }
+
+        @Test
+        @DisplayName("Should not repeat ids when the clock goes back")
+        void shouldStayMonotonicWhenClockGoesBack() {
+            // Arrange
+            AtomicLong clock = new AtomicLong(NOW);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(() -> 0, clock::get);
+            long before = generator.nextId(0);
+
+            // Act
+            clock.addAndGet(-5_000);
+            long after = generator.nextId(0);
+
+            // Assert
+            assertTrue(after > before);
+        }
+    }
+}
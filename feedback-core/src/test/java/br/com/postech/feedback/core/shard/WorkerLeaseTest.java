@@ -0,0 +1,183 @@
+package br.com.postech.feedback.core.shard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("WorkerLease Tests")
+class WorkerLeaseTest {
+
+    private static final long LEASE_SECONDS = 60;
+
+    private DataSource dataSource;
+    private PreparedStatement claim;
+    private PreparedStatement renew;
+    private PreparedStatement release;
+    private ResultSet claimed;
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private WorkerLease lease;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        claim = mock(PreparedStatement.class);
+        renew = mock(PreparedStatement.class);
+        release = mock(PreparedStatement.class);
+        claimed = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(WorkerLease.CLAIM)).thenReturn(claim);
+        when(connection.prepareStatement(WorkerLease.RENEW)).thenReturn(renew);
+        when(connection.prepareStatement(WorkerLease.RELEASE)).thenReturn(release);
+        when(claim.executeQuery()).thenReturn(claimed);
+        when(claimed.next()).thenReturn(true);
+        when(claimed.getInt(1)).thenReturn(42, 43);
+        lease = new WorkerLease(dataSource, LEASE_SECONDS, "owner-1", now::get);
+    }
+
+    @Nested
+    @DisplayName("Lease Tests")
+    class LeaseTests {
+
+        @Test
+        @DisplayName("Should claim a free slot on the first id")
+        void shouldClaimOnFirstId() throws SQLException {
+            // Act
+            int worker = lease.getAsInt();
+
+            // Assert
+            assertEquals(42, worker);
+            verify(claim).setString(1, "owner-1");
+            verify(claim).setLong(2, LEASE_SECONDS);
+        }
+
+        @Test
+        @DisplayName("Should keep the worker without the database until half the lease has passed")
+        void shouldCacheUntilHalfLease() throws SQLException {
+            // Arrange
+            lease.getAsInt();
+            now.addAndGet(LEASE_SECONDS * 500 - 1);
+
+            // Act
+            int worker = lease.getAsInt();
+
+            // Assert
+            assertEquals(42, worker);
+            verify(dataSource, times(1)).getConnection();
+        }
+
+        @Test
+        @DisplayName("Should renew the lease once half of it has passed")
+        void shouldRenewAfterHalfLease() throws SQLException {
+            // Arrange
+            when(renew.executeUpdate()).thenReturn(1);
+            lease.getAsInt();
+            now.addAndGet(LEASE_SECONDS * 500);
+
+            // Act
+            int worker = lease.getAsInt();
+
+            // Assert
+            assertEquals(42, worker);
+            verify(renew).setInt(2, 42);
+            verify(renew).setString(3, "owner-1");
+            verify(claim, times(1)).executeQuery();
+        }
+
+        @Test
+        @DisplayName("Should lease another worker when the old lease was taken over")
+        void shouldClaimAgainWhenLeaseLost() throws SQLException {
+            // Arrange
+            when(renew.executeUpdate()).thenReturn(0);
+            lease.getAsInt();
+            now.addAndGet(LEASE_SECONDS * 1000);
+
+            // Act
+            int worker = lease.getAsInt();
+
+            // Assert
+            assertEquals(43, worker);
+            verify(claim, times(2)).executeQuery();
+        }
+
+        @Test
+        @DisplayName("Should fail instead of sharing a worker when every slot is leased")
+        void shouldFailWhenAllSlotsLeased() throws SQLException {
+            // Arrange
+            when(claimed.next()).thenReturn(false);
+
+            // Act & Assert
+            IllegalStateException exception = assertThrows(IllegalStateException.class, lease::getAsInt);
+            assertTrue(exception.getMessage().contains("all 256"));
+        }
+
+        @Test
+        @DisplayName("Should fail when the database cannot be reached")
+        void shouldFailWhenDatabaseFails() throws SQLException {
+            // Arrange
+            when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+            // Act & Assert
+            assertThrows(IllegalStateException.class, lease::getAsInt);
+        }
+
+        @Test
+        @DisplayName("Should refuse a lease too short to renew")
+        void shouldRejectShortLease() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new WorkerLease(dataSource, 1, "owner-1", now::get));
+        }
+    }
+
+    @Nested
+    @DisplayName("Release Tests")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("Should free the slot on close")
+        void shouldReleaseOnClose() throws SQLException {
+            // Arrange
+            lease.getAsInt();
+
+            // Act
+            lease.close();
+
+            // Assert
+            verify(release).setInt(1, 42);
+            verify(release).setString(2, "owner-1");
+            verify(release).executeUpdate();
+        }
+
+        @Test
+        @DisplayName("Should not touch the database on close when no worker was leased")
+        void shouldSkipReleaseWithoutWorker() throws SQLException {
+            // Act
+            lease.close();
+
+            // Assert
+            verify(dataSource, never()).getConnection();
+        }
+
+        @Test
+        @DisplayName("Should not fail the shutdown when the release fails")
+        void shouldIgnoreReleaseFailure() throws SQLException {
+            // Arrange
+            lease.getAsInt();
+            when(release.executeUpdate()).thenThrow(new SQLException("connection reset"));
+
+            // Act & Assert
+            assertDoesNotThrow(lease::close);
+        }
+    }
+}
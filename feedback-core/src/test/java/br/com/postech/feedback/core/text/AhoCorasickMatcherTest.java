@@ -0,0 +1,124 @@
+package br.com.postech.feedback.core.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AhoCorasickMatcher Tests")
+class AhoCorasickMatcherTest {
+
+    @Nested
+    @DisplayName("Matching Tests")
+    class MatchingTests {
+
+        @Test
+        @DisplayName("Should find overlapping patterns in one pass")
+        void shouldFindOverlappingPatterns() {
+            AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder();
+            int he = builder.add("he");
+            int she = builder.add("she");
+            int his = builder.add("his");
+            int hers = builder.add("hers");
+            AhoCorasickMatcher matcher = builder.build();
+
+            List<String> matches = new ArrayList<>();
+            matcher.forEachMatch("ushers", (id, start, end) -> matches.add(id + "@" + start + "-" + end));
+
+            assertEquals(List.of(she + "@1-4", he + "@2-4", hers + "@2-6"), matches);
+            assertFalse(matches.stream().anyMatch(m -> m.startsWith(his + "@")));
+        }
+
+        @Test
+        @DisplayName("Should ignore case and accents")
+        void shouldIgnoreCaseAndAccents() {
+            AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder();
+            builder.add("não consigo acessar");
+            AhoCorasickMatcher matcher = builder.build();
+
+            assertTrue(matcher.containsAny("Eu NAO CONSIGO ACESSAR a aula"));
+            assertTrue(matcher.containsAny("Não consigo acessar"));
+            assertFalse(matcher.containsAny("Consigo acessar sim"));
+        }
+
+        @Test
+        @DisplayName("Should report offsets in the original text")
+        void shouldReportOffsetsInOriginalText() {
+            AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder();
+            builder.add("péssimo");
+            AhoCorasickMatcher matcher = builder.build();
+            String text = "Foi PÉSSIMO!";
+
+            List<String> found = new ArrayList<>();
+            matcher.forEachMatch(text, (id, start, end) -> found.add(text.substring(start, end)));
+
+            assertEquals(List.of("PÉSSIMO"), found);
+        }
+
+        @Test
+        @DisplayName("Should only match whole words when requested")
+        void shouldOnlyMatchWholeWordsWhenRequested() {
+            AhoCorasickMatcher.Builder substring = AhoCorasickMatcher.builder();
+            substring.add("bug");
+            AhoCorasickMatcher.Builder words = AhoCorasickMatcher.builder().wholeWords(true);
+            words.add("bug");
+
+            assertTrue(substring.build().containsAny("debugar"));
+            assertFalse(words.build().containsAny("debugar"));
+            assertTrue(words.build().containsAny("deu bug, de novo"));
+            assertTrue(words.build().containsAny("bug"));
+        }
+
+        @Test
+        @DisplayName("Should OR the bits of every matched pattern")
+        void shouldOrBitsOfMatchedPatterns() {
+            AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder();
+            builder.add("caiu", 0b001);
+            builder.add("lento", 0b010);
+            builder.add("travou", 0b100);
+            AhoCorasickMatcher matcher = builder.build();
+
+            assertEquals(0b101, matcher.matchBits("Travou e depois caiu"));
+            assertEquals(0L, matcher.matchBits("Tudo certo"));
+            assertEquals(0L, matcher.matchBits(null));
+        }
+
+        @Test
+        @DisplayName("Should handle characters outside the pattern alphabet")
+        void shouldHandleCharactersOutsideAlphabet() {
+            AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder();
+            builder.add("erro");
+            AhoCorasickMatcher matcher = builder.build();
+
+            assertTrue(matcher.containsAny("😀 deu erro 😀"));
+            assertFalse(matcher.containsAny("日本語のテキスト"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Builder Tests")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("Should reject blank patterns")
+        void shouldRejectBlankPatterns() {
+            AhoCorasickMatcher.Builder builder = AhoCorasickMatcher.builder();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.add(" "));
+            assertThrows(IllegalArgumentException.class, () -> builder.add(null));
+        }
+
+        @Test
+        @DisplayName("Should match nothing without patterns")
+        void shouldMatchNothingWithoutPatterns() {
+            AhoCorasickMatcher matcher = AhoCorasickMatcher.builder().build();
+
+            assertEquals(0, matcher.patternCount());
+            assertFalse(matcher.containsAny("qualquer texto"));
+        }
+    }
+}
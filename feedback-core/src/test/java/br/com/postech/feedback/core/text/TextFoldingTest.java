@@ -0,0 +1,26 @@
+package br.com.postech.feedback.core.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TextFolding Tests")
+class TextFoldingTest {
+
+    @Test
+    @DisplayName("Should fold case and Latin accents")
+    void shouldFoldCaseAndAccents() {
+        assertEquals("acao rapida e util", TextFolding.fold("AÇÃO Rápida e Útil"));
+    }
+
+    @Test
+    @DisplayName("Should keep length and non-Latin characters")
+    void shouldKeepLengthAndNonLatinCharacters() {
+        String text = "Ñandú 😀 日本";
+
+        assertEquals(text.length(), TextFolding.fold(text).length());
+        assertEquals("nandu 😀 日本", TextFolding.fold(text));
+        assertEquals('c', TextFolding.fold('Ç'));
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reads the source, converts each record into a {@link Feedback} and hands chunks of
+ * {@code chunkSize} records to the writers, one thread per writer. At most two chunks per writer
+ * are in memory, so reading never runs ahead of the database. The first failed chunk stops the
+ * import; everything committed before it is kept and skipped on the next run.
+ */
+class BulkImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImporter.class);
+
+    private final int chunkSize;
+    private final List<ChunkWriter> writers;
+    private final CommittedRanges committed;
+    private final EventPublisher eventPublisher;
+    private final RejectSink rejectSink;
+    private final Duration progressInterval;
+
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+    private final AtomicLong eventsSent = new AtomicLong();
+    private final AtomicLong eventsFailed = new AtomicLong();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private volatile long records;
+
+    BulkImporter(int chunkSize, List<ChunkWriter> writers, CommittedRanges committed,
+                 EventPublisher eventPublisher, RejectSink rejectSink, Duration progressInterval) {
+        this.chunkSize = chunkSize;
+        this.writers = writers;
+        this.committed = committed;
+        this.eventPublisher = eventPublisher;
+        this.rejectSink = rejectSink;
+        this.progressInterval = progressInterval;
+    }
+
+    ImportResult run(RecordReader reader) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        BlockingQueue<ChunkWriter> idle = new ArrayBlockingQueue<>(writers.size(), false, writers);
+        Semaphore inFlight = new Semaphore(writers.size() * 2);
+        ExecutorService pool = Executors.newFixedThreadPool(writers.size());
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(() -> logProgress(start), progressInterval.toMillis(),
+                progressInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        LocalDateTime importedAt = LocalDateTime.now();
+        long skipped = 0;
+        ChunkBuilder chunk = new ChunkBuilder();
+        try {
+            SourceRecord record;
+            while (failure.get() == null && (record = reader.next()) != null) {
+                records = record.number();
+                if (committed.contains(record.number())) {
+                    skipped++;
+                    // Um lote não atravessa um intervalo já gravado: o checkpoint é um intervalo contínuo
+                    submit(chunk.take(), idle, inFlight, pool);
+                    continue;
+                }
+                chunk.add(record, importedAt);
+                if (chunk.size() == chunkSize) {
+                    submit(chunk.take(), idle, inFlight, pool);
+                }
+            }
+            submit(chunk.take(), idle, inFlight, pool);
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            progress.shutdownNow();
+        }
+
+        Exception error = failure.get();
+        if (error != null) {
+            throw new IllegalStateException("Failed to import " + error.getMessage(), error.getCause());
+        }
+        return new ImportResult(records, skipped, imported.get(), rejected.get(), chunks.get(),
+                eventsSent.get(), eventsFailed.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void submit(Chunk chunk, BlockingQueue<ChunkWriter> idle, Semaphore inFlight, ExecutorService pool)
+            throws InterruptedException {
+        if (chunk == null || failure.get() != null) {
+            return;
+        }
+        inFlight.acquire();
+        pool.execute(() -> {
+            try {
+                write(chunk, idle);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void write(Chunk chunk, BlockingQueue<ChunkWriter> idle) {
+        if (failure.get() != null) {
+            return;
+        }
+        ChunkWriter writer = null;
+        try {
+            writer = idle.take();
+            writer.write(chunk);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            fail(chunk, e);
+            return;
+        } finally {
+            if (writer != null) {
+                idle.add(writer);
+            }
+        }
+
+        imported.addAndGet(chunk.feedbacks().size());
+        rejected.addAndGet(chunk.rejections().size());
+        chunks.incrementAndGet();
+        try {
+            rejectSink.write(chunk.rejections());
+            if (eventPublisher != null && !chunk.feedbacks().isEmpty()) {
+                int sent = eventPublisher.publish(chunk.feedbacks());
+                eventsSent.addAndGet(sent);
+                eventsFailed.addAndGet(chunk.feedbacks().size() - sent);
+            }
+        } catch (RuntimeException e) {
+            fail(chunk, e);
+        }
+    }
+
+    private void fail(Chunk chunk, Exception cause) {
+        failure.compareAndSet(null, new Exception(
+                "records " + chunk.firstRecord() + "-" + chunk.lastRecord() + ": " + cause.getMessage(), cause));
+    }
+
+    private void logProgress(long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        logger.info("Progresso: registro {} | {} importados | {} rejeitados | {} lotes | {} linhas/s",
+                records, imported.get(), rejected.get(), chunks.get(), Math.round(imported.get() / seconds));
+    }
+
+    /** Accumulates a contiguous range of records. */
+    private static final class ChunkBuilder {
+
+        private long first;
+        private long last;
+        private List<Feedback> feedbacks = new ArrayList<>();
+        private List<Chunk.Rejection> rejections = new ArrayList<>();
+
+        void add(SourceRecord record, LocalDateTime importedAt) {
+            if (size() == 0) {
+                first = record.number();
+            }
+            last = record.number();
+            try {
+                feedbacks.add(record.toFeedback(importedAt));
+            } catch (IllegalArgumentException e) {
+                rejections.add(new Chunk.Rejection(record, e.getMessage()));
+            }
+        }
+
+        int size() {
+            return feedbacks.size() + rejections.size();
+        }
+
+        Chunk take() {
+            if (size() == 0) {
+                return null;
+            }
+            Chunk chunk = new Chunk(first, last, feedbacks, rejections);
+            feedbacks = new ArrayList<>();
+            rejections = new ArrayList<>();
+            return chunk;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+
+import java.util.List;
+
+/**
+ * A contiguous range of source records, written in one transaction together with its checkpoint.
+ * Rejected records count towards the range, so a resumed import skips them too.
+ */
+record Chunk(long firstRecord, long lastRecord, List<Feedback> feedbacks, List<Rejection> rejections) {
+
+    record Rejection(SourceRecord record, String reason) {
+    }
+
+    int size() {
+        return (int) (lastRecord - firstRecord + 1);
+    }
+}
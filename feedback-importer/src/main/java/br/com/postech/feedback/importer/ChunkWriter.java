@@ -0,0 +1,19 @@
+package br.com.postech.feedback.importer;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Writes chunks on one database connection; the importer runs one writer per parallel stream.
+ */
+interface ChunkWriter extends AutoCloseable {
+
+    /**
+     * Writes the feedbacks of {@code chunk} and its checkpoint atomically: either both are
+     * committed or neither is. When ids are requested they are set on the feedbacks.
+     */
+    void write(Chunk chunk) throws SQLException, IOException;
+
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,67 @@
+package br.com.postech.feedback.importer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Record ranges already committed by earlier runs of the same import, read from
+ * {@code feedback_import_chunks}. Records inside them are skipped, so rerunning an interrupted
+ * import neither duplicates nor loses rows.
+ */
+class CommittedRanges {
+
+    static final String SELECT = "SELECT first_record, last_record, imported FROM feedback_import_chunks "
+            + "WHERE import_id = ? ORDER BY first_record";
+    private static final String TABLE_EXISTS = "SELECT to_regclass('feedback_import_chunks') IS NOT NULL";
+
+    private final TreeMap<Long, Long> ranges = new TreeMap<>();
+    private long imported;
+
+    static CommittedRanges load(Connection connection, String importId) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(TABLE_EXISTS)) {
+            if (!result.next() || !result.getBoolean(1)) {
+                throw new IllegalStateException(
+                        "Table feedback_import_chunks not found; run feedback-migration before importing");
+            }
+        }
+        CommittedRanges committed = new CommittedRanges();
+        try (PreparedStatement statement = connection.prepareStatement(SELECT)) {
+            statement.setString(1, importId);
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    committed.add(result.getLong(1), result.getLong(2), result.getInt(3));
+                }
+            }
+        }
+        return committed;
+    }
+
+    void add(long firstRecord, long lastRecord, int importedRows) {
+        ranges.put(firstRecord, lastRecord);
+        imported += importedRows;
+    }
+
+    boolean contains(long record) {
+        Map.Entry<Long, Long> range = ranges.floorEntry(record);
+        return range != null && record <= range.getValue();
+    }
+
+    boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    int chunks() {
+        return ranges.size();
+    }
+
+    /** Rows imported by the committed chunks. */
+    long imported() {
+        return imported;
+    }
+}
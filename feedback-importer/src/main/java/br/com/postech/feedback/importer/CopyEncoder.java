@@ -0,0 +1,51 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes feedbacks in the text format of {@code COPY ... FROM STDIN}: tab separated columns, one
+ * row per line, {@code \N} for null and backslash escapes for backslash, tab and line breaks.
+ */
+final class CopyEncoder {
+
+    private CopyEncoder() {
+    }
+
+    /** Columns in the order of {@link PostgresChunkWriter#COPY}, preceded by {@code id} when {@code withIds}. */
+    static byte[] encode(List<Feedback> feedbacks, boolean withIds) {
+        StringBuilder buffer = new StringBuilder(feedbacks.size() * 128);
+        for (Feedback feedback : feedbacks) {
+            if (withIds) {
+                buffer.append(feedback.getId()).append('\t');
+            }
+            escape(buffer, feedback.getDescription());
+            buffer.append('\t').append(feedback.getRating())
+                    .append('\t').append(feedback.getStatus().name())
+                    .append('\t').append(feedback.getCreatedAt())
+                    .append('\t');
+            if (feedback.getUpdatedAt() == null) {
+                buffer.append("\\N");
+            } else {
+                buffer.append(feedback.getUpdatedAt());
+            }
+            buffer.append('\n');
+        }
+        return buffer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static void escape(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+}
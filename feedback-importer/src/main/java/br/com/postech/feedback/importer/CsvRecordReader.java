@@ -0,0 +1,114 @@
+package br.com.postech.feedback.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 CSV with a header line: fields may be quoted, with {@code ""} for a quote and line breaks
+ * inside quotes. Columns are found by name ({@code description}, {@code rating} and optionally
+ * {@code created_at}/{@code createdAt}), in any order; other columns are ignored.
+ */
+class CsvRecordReader implements RecordReader {
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private final int descriptionColumn;
+    private final int ratingColumn;
+    private final int createdAtColumn;
+    private long number;
+
+    CsvRecordReader(BufferedReader reader, char delimiter) throws IOException {
+        this.reader = reader;
+        this.delimiter = delimiter;
+
+        List<String> header = readFields();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        List<String> names = header.stream().map(CsvRecordReader::normalize).toList();
+        this.descriptionColumn = names.indexOf("description");
+        this.ratingColumn = names.indexOf("rating");
+        this.createdAtColumn = names.indexOf("createdat");
+        if (descriptionColumn < 0 || ratingColumn < 0) {
+            throw new IllegalArgumentException("CSV header must have description and rating columns: " + header);
+        }
+    }
+
+    @Override
+    public SourceRecord next() throws IOException {
+        List<String> fields = readFields();
+        if (fields == null) {
+            return null;
+        }
+        number++;
+        return new SourceRecord(number, field(fields, descriptionColumn), field(fields, ratingColumn),
+                field(fields, createdAtColumn), null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column) : null;
+    }
+
+    // Planilhas exportadas costumam trazer BOM e nomes como "Created At"
+    private static String normalize(String name) {
+        return name.replace("\uFEFF", "").replace("_", "").replace(" ", "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Lê linha a linha; um campo entre aspas que não fecha na linha continua na seguinte
+    private List<String> readFields() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isEmpty()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted field in CSV record " + (number + 1));
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+
+import java.util.List;
+
+/**
+ * Announces imported feedbacks downstream once their chunk is committed. Delivery is at most once:
+ * events of a chunk committed right before a crash are not resent when the import resumes.
+ */
+interface EventPublisher {
+
+    /** Returns how many of the events were accepted; failures are logged, not thrown. */
+    int publish(List<Feedback> feedbacks);
+}
@@ -0,0 +1,156 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.migration.config.FeedbackPartitionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.SqsClientBuilder;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Offline backfill of historical feedbacks from CSV or NDJSON straight into PostgreSQL with
+ * {@code COPY}, bypassing the ingestion API. Chunks are checkpointed in
+ * {@code feedback_import_chunks}, so rerunning the same command after a failure resumes it.
+ */
+public final class FeedbackImporterApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackImporterApplication.class);
+
+    // Mesmo padrão do feedback-migration
+    private static final int PARTITION_MONTHS_AHEAD = 3;
+    private static final int READ_BUFFER = 1 << 16;
+
+    private FeedbackImporterApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(ImportConfig.USAGE);
+            return;
+        }
+
+        ImportConfig config;
+        try {
+            config = ImportConfig.parse(System.getenv(), args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(ImportConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        logger.info("Importação: {}", config);
+        try {
+            ImportResult result = run(config);
+            logger.info("Concluído em {}s: {} registros lidos, {} já importados antes, {} importados, {} rejeitados, "
+                            + "{} lotes, {} linhas/s", String.format("%.1f", result.elapsed().toMillis() / 1000.0),
+                    result.records(), result.skipped(), result.imported(), result.rejected(), result.chunks(),
+                    Math.round(result.rowsPerSecond()));
+            if (config.events() == ImportConfig.Events.BATCH) {
+                logger.info("Eventos FeedbackReceived: {} enviados, {} com falha", result.eventsSent(),
+                        result.eventsFailed());
+            }
+        } catch (Exception e) {
+            logger.error("Importação interrompida: {}", e.getMessage(), e);
+            logger.error("Rode o mesmo comando (mesmo --import-id) para retomar do último lote gravado");
+            System.exit(1);
+        }
+    }
+
+    static ImportResult run(ImportConfig config) throws Exception {
+        List<ChunkWriter> writers = new ArrayList<>();
+        SqsClient sqsClient = null;
+        try (RejectSink rejectSink = new RejectSink(config.rejects())) {
+            Connection first = connect(config);
+            CommittedRanges committed;
+            PartitionGuard partitionGuard = null;
+            try {
+                committed = CommittedRanges.load(first, config.importId());
+                FeedbackPartitionManager partitionManager =
+                        new FeedbackPartitionManager(PARTITION_MONTHS_AHEAD, 0, Clock.systemUTC());
+                if (partitionManager.isPartitioned(first)) {
+                    partitionGuard = new PartitionGuard(partitionManager);
+                }
+            } catch (SQLException | RuntimeException e) {
+                first.close();
+                throw e;
+            }
+            if (!committed.isEmpty()) {
+                logger.info("Retomando {}: {} lotes já gravados ({} feedbacks) serão pulados",
+                        config.importId(), committed.chunks(), committed.imported());
+            }
+
+            boolean events = config.events() == ImportConfig.Events.BATCH;
+            writers.add(new PostgresChunkWriter(first, config.importId(), events, partitionGuard));
+            for (int i = 1; i < config.parallel(); i++) {
+                writers.add(new PostgresChunkWriter(connect(config), config.importId(), events, partitionGuard));
+            }
+
+            EventPublisher eventPublisher = null;
+            if (events) {
+                sqsClient = sqsClient(config);
+                eventPublisher = new SqsEventPublisher(sqsClient, config.queueUrl(),
+                        new FeedbackEventCodec(new JsonConfig().objectMapper()), new RatePacer(config.eventsRate()));
+            }
+
+            BulkImporter importer = new BulkImporter(config.chunkSize(), writers, committed, eventPublisher,
+                    rejectSink, config.progressInterval());
+            try (RecordReader reader = open(config)) {
+                return importer.run(reader);
+            }
+        } finally {
+            for (ChunkWriter writer : writers) {
+                writer.close();
+            }
+            if (sqsClient != null) {
+                sqsClient.close();
+            }
+        }
+    }
+
+    private static Connection connect(ImportConfig config) throws SQLException {
+        return DriverManager.getConnection(config.jdbcUrl(), config.username(), config.password());
+    }
+
+    private static RecordReader open(ImportConfig config) throws Exception {
+        InputStream input = Files.newInputStream(config.file());
+        if (config.gzip()) {
+            input = new GZIPInputStream(input, READ_BUFFER);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER);
+        try {
+            return RecordReader.open(config.format(), reader, config.delimiter());
+        } catch (Exception e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private static SqsClient sqsClient(ImportConfig config) {
+        SqsClientBuilder builder = SqsClient.builder()
+                .region(Region.of(config.region()))
+                .httpClient(UrlConnectionHttpClient.create());
+        if (config.awsEndpoint() != null) {
+            builder.endpointOverride(URI.create(config.awsEndpoint()));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.postech.feedback.importer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options. Every option is {@code --name=value}; database options fall back to the
+ * {@code SPRING_DATASOURCE_*} variables used by the Lambdas and then to the docker-compose defaults.
+ */
+record ImportConfig(
+        Path file,
+        Format format,
+        char delimiter,
+        String importId,
+        String jdbcUrl,
+        String username,
+        String password,
+        int chunkSize,
+        int parallel,
+        Events events,
+        String queueUrl,
+        double eventsRate,
+        String awsEndpoint,
+        String region,
+        Path rejects,
+        Duration progressInterval
+) {
+
+    enum Format { CSV, NDJSON }
+
+    /** What happens downstream of the imported rows. */
+    enum Events {
+        /** Nothing is sent: historical rows do not go through analysis. */
+        SKIP,
+        /** One FeedbackReceived per row, sent in SQS batches of 10 at most {@code --events-rate} per second. */
+        BATCH
+    }
+
+    static final int MAX_PARALLEL = 16;
+
+    static final String USAGE = """
+            Uso: java -jar importer.jar --file=ARQUIVO [opções]
+
+              --file=ARQUIVO          CSV ou NDJSON, opcionalmente .gz (obrigatório)
+              --format=csv            csv | ndjson (padrão: pela extensão do arquivo)
+              --delimiter=;           separador do CSV (padrão: ,)
+              --import-id=NOME        identifica os checkpoints para retomar (padrão: nome do arquivo)
+              --jdbc-url=URL          banco (padrão: SPRING_DATASOURCE_URL ou jdbc:postgresql://localhost:5439/feedback_db)
+              --user=NOME             usuário (padrão: SPRING_DATASOURCE_USERNAME ou user_feedback)
+              --password=SENHA        senha (padrão: SPRING_DATASOURCE_PASSWORD ou password_feedback)
+              --chunk-size=10000      registros por COPY; cada lote é um checkpoint (padrão: 10000)
+              --parallel=1            streams de COPY simultâneos, até 16 (padrão: 1)
+              --events=skip           skip | batch: envia FeedbackReceived para a análise (padrão: skip)
+              --queue-url=URL         fila SQS da análise (obrigatória com --events=batch)
+              --events-rate=50        eventos por segundo com --events=batch (padrão: 50)
+              --aws-endpoint=URL      endpoint alternativo, ex. LocalStack (padrão: AWS)
+              --region=us-east-2      região AWS (padrão: us-east-2)
+              --rejects=ARQUIVO       registros rejeitados em NDJSON (padrão: apenas no log)
+              --progress=10s          intervalo do log de progresso (padrão: 10s)
+            """;
+
+    static ImportConfig parse(Map<String, String> env, String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        String file = options.get("file");
+        if (file == null || file.isBlank()) {
+            throw new IllegalArgumentException("--file is required");
+        }
+        Path path = Path.of(file);
+        String delimiter = options.getOrDefault("delimiter", ",");
+        if (delimiter.length() != 1) {
+            throw new IllegalArgumentException("delimiter must be a single character: " + delimiter);
+        }
+
+        ImportConfig config = new ImportConfig(
+                path,
+                options.containsKey("format")
+                        ? Format.valueOf(options.get("format").toUpperCase(Locale.ROOT))
+                        : formatOf(path),
+                delimiter.charAt(0),
+                options.getOrDefault("import-id", path.getFileName().toString()),
+                options.getOrDefault("jdbc-url",
+                        env.getOrDefault("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5439/feedback_db")),
+                options.getOrDefault("user", env.getOrDefault("SPRING_DATASOURCE_USERNAME", "user_feedback")),
+                options.getOrDefault("password", env.getOrDefault("SPRING_DATASOURCE_PASSWORD", "password_feedback")),
+                Integer.parseInt(options.getOrDefault("chunk-size", "10000")),
+                Integer.parseInt(options.getOrDefault("parallel", "1")),
+                Events.valueOf(options.getOrDefault("events", "skip").toUpperCase(Locale.ROOT)),
+                options.get("queue-url"),
+                Double.parseDouble(options.getOrDefault("events-rate", "50")),
+                options.get("aws-endpoint"),
+                options.getOrDefault("region", "us-east-2"),
+                options.containsKey("rejects") ? Path.of(options.get("rejects")) : null,
+                parseDuration(options.getOrDefault("progress", "10s")));
+
+        if (config.chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk-size must be positive");
+        }
+        if (config.parallel <= 0 || config.parallel > MAX_PARALLEL) {
+            throw new IllegalArgumentException("parallel must be between 1 and " + MAX_PARALLEL);
+        }
+        if (config.importId.isBlank() || config.importId.length() > 255) {
+            throw new IllegalArgumentException("import-id must have 1 to 255 characters");
+        }
+        if (config.events == Events.BATCH) {
+            if (config.queueUrl == null || config.queueUrl.isBlank()) {
+                throw new IllegalArgumentException("--queue-url is required with --events=batch");
+            }
+            if (config.eventsRate <= 0) {
+                throw new IllegalArgumentException("events-rate must be positive");
+            }
+        }
+        return config;
+    }
+
+    // .csv, .ndjson, .jsonl e as mesmas com .gz (os arquivos do arquivamento são .ndjson.gz)
+    static Format formatOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        if (name.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return Format.NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot infer the format of " + file + "; use --format=csv|ndjson");
+    }
+
+    static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+
+    boolean gzip() {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    /** Same options with the password masked, for the log. */
+    @Override
+    public String toString() {
+        return "file=" + file + ", format=" + format + ", importId=" + importId + ", jdbcUrl=" + jdbcUrl
+                + ", user=" + username + ", chunkSize=" + chunkSize + ", parallel=" + parallel
+                + ", events=" + events + (events == Events.BATCH ? " (" + eventsRate + "/s)" : "");
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.postech.feedback.importer;
+
+import java.time.Duration;
+
+/**
+ * Totals of one run. {@code skipped} are records committed by earlier runs of the same import.
+ */
+record ImportResult(long records, long skipped, long imported, long rejected, long chunks,
+                    long eventsSent, long eventsFailed, Duration elapsed) {
+
+    double rowsPerSecond() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : imported / seconds;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.postech.feedback.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * One JSON object per line, such as the {@code FeedbackView} lines of the S3 archive: {@code description},
+ * {@code rating} and optionally {@code createdAt}/{@code created_at}. Other fields, {@code id} included,
+ * are ignored; a line that is not a JSON object becomes a rejected record instead of stopping the import.
+ */
+class NdjsonRecordReader implements RecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private long number;
+
+    NdjsonRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public SourceRecord next() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        number++;
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return SourceRecord.malformed(number, "JSON inválido: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return SourceRecord.malformed(number, "linha não é um objeto JSON");
+        }
+        JsonNode createdAt = node.has("createdAt") ? node.get("createdAt") : node.get("created_at");
+        return new SourceRecord(number, text(node.get("description")), text(node.get("rating")), text(createdAt), null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String text(JsonNode value) {
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.migration.config.FeedbackPartitionManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Creates the monthly partitions of historical rows before they are copied, so a backfill does not
+ * pile up in {@code feedbacks_default}. Shared by all writers: each month is handled once per run.
+ */
+class PartitionGuard {
+
+    private final FeedbackPartitionManager partitionManager;
+    private final Set<YearMonth> handled = new HashSet<>();
+
+    PartitionGuard(FeedbackPartitionManager partitionManager) {
+        this.partitionManager = partitionManager;
+    }
+
+    /**
+     * Must run outside the chunk transaction: creating a partition locks {@code feedbacks}, and
+     * holding that lock while copying would serialize every writer.
+     */
+    synchronized int ensure(Connection connection, List<Feedback> feedbacks) throws SQLException {
+        Set<YearMonth> months = new TreeSet<>();
+        for (Feedback feedback : feedbacks) {
+            YearMonth month = YearMonth.from(feedback.getCreatedAt());
+            if (!handled.contains(month)) {
+                months.add(month);
+            }
+        }
+        if (months.isEmpty()) {
+            return 0;
+        }
+        // Meses que falharem (ex.: já com linhas na default) também não são tentados de novo
+        int created = partitionManager.createPartitions(connection, months);
+        handled.addAll(months);
+        return created;
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes a chunk with one {@code COPY} instead of one {@code INSERT} per row, and records the
+ * checkpoint in the same transaction.
+ */
+class PostgresChunkWriter implements ChunkWriter {
+
+    static final String COPY =
+            "COPY feedbacks (description, rating, status, created_at, updated_at) FROM STDIN";
+    static final String COPY_WITH_IDS =
+            "COPY feedbacks (id, description, rating, status, created_at, updated_at) FROM STDIN";
+    // Os eventos precisam dos ids; COPY não tem RETURNING, então eles são reservados antes
+    static final String NEXT_IDS = "SELECT nextval('feedbacks_id_seq') FROM generate_series(1, ?)";
+    static final String CHECKPOINT = "INSERT INTO feedback_import_chunks "
+            + "(import_id, first_record, last_record, imported, rejected) VALUES (?, ?, ?, ?, ?)";
+
+    private final Connection connection;
+    private final CopyManager copyManager;
+    private final String importId;
+    private final boolean assignIds;
+    private final PartitionGuard partitionGuard;
+
+    PostgresChunkWriter(Connection connection, String importId, boolean assignIds, PartitionGuard partitionGuard)
+            throws SQLException {
+        this(connection, connection.unwrap(PGConnection.class).getCopyAPI(), importId, assignIds, partitionGuard);
+    }
+
+    PostgresChunkWriter(Connection connection, CopyManager copyManager, String importId, boolean assignIds,
+                        PartitionGuard partitionGuard) {
+        this.connection = connection;
+        this.copyManager = copyManager;
+        this.importId = importId;
+        this.assignIds = assignIds;
+        this.partitionGuard = partitionGuard;
+    }
+
+    @Override
+    public void write(Chunk chunk) throws SQLException, IOException {
+        List<Feedback> feedbacks = chunk.feedbacks();
+        if (partitionGuard != null && !feedbacks.isEmpty()) {
+            partitionGuard.ensure(connection, feedbacks);
+        }
+
+        connection.setAutoCommit(false);
+        try {
+            if (!feedbacks.isEmpty()) {
+                if (assignIds) {
+                    assignIds(feedbacks);
+                }
+                copyManager.copyIn(assignIds ? COPY_WITH_IDS : COPY,
+                        new ByteArrayInputStream(CopyEncoder.encode(feedbacks, assignIds)));
+            }
+            try (PreparedStatement statement = connection.prepareStatement(CHECKPOINT)) {
+                statement.setString(1, importId);
+                statement.setLong(2, chunk.firstRecord());
+                statement.setLong(3, chunk.lastRecord());
+                statement.setInt(4, feedbacks.size());
+                statement.setInt(5, chunk.rejections().size());
+                statement.executeUpdate();
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+        } catch (SQLException | IOException | RuntimeException e) {
+            // Com a conexão perdida o rollback também falha; o erro original é o que interessa
+            try {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            } catch (SQLException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+            }
+            if (assignIds) {
+                feedbacks.forEach(feedback -> feedback.setId(null));
+            }
+            throw e;
+        }
+    }
+
+    private void assignIds(List<Feedback> feedbacks) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(NEXT_IDS)) {
+            statement.setInt(1, feedbacks.size());
+            try (ResultSet result = statement.executeQuery()) {
+                for (Feedback feedback : feedbacks) {
+                    if (!result.next()) {
+                        throw new SQLException("Failed to reserve feedback ids: sequence returned too few values");
+                    }
+                    feedback.setId(result.getLong(1));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+}
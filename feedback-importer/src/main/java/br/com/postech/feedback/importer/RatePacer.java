@@ -0,0 +1,48 @@
+package br.com.postech.feedback.importer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spaces permits evenly at {@code permitsPerSecond}, shared by all writer threads. Unlike a token
+ * bucket it has no burst: after an idle period the next permits are still spaced out.
+ */
+class RatePacer {
+
+    private final long intervalNanos;
+    private final Clock clock;
+    private long next;
+
+    interface Clock {
+        long nanoTime();
+
+        default void sleep(long nanos) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+
+    RatePacer(double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    RatePacer(double permitsPerSecond, Clock clock) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.clock = clock;
+        this.next = clock.nanoTime();
+    }
+
+    /** Blocks until {@code permits} can be used; returns the nanoseconds waited. */
+    long acquire(int permits) {
+        long wait;
+        synchronized (this) {
+            long now = clock.nanoTime();
+            long start = Math.max(now, next);
+            next = start + intervalNanos * permits;
+            wait = start - now;
+        }
+        if (wait > 0) {
+            clock.sleep(wait);
+        }
+        return wait;
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.postech.feedback.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the source file one record at a time, so the import never holds more than a chunk in memory.
+ */
+interface RecordReader extends Closeable {
+
+    /** The next record, or {@code null} at the end of the file. */
+    SourceRecord next() throws IOException;
+
+    static RecordReader open(ImportConfig.Format format, BufferedReader reader, char delimiter) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRecordReader(reader, delimiter);
+            case NDJSON -> new NdjsonRecordReader(reader);
+        };
+    }
+}
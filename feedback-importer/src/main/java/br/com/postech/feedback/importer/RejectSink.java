@@ -0,0 +1,68 @@
+package br.com.postech.feedback.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Where rejected records go: one NDJSON line each in {@code --rejects}, or only the log. Lines are
+ * written after their chunk commits and the file is appended to, so a resumed import does not list
+ * a record twice.
+ */
+class RejectSink implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RejectSink.class);
+
+    // Sem arquivo, o log mostra só os primeiros para não inundar a saída
+    private static final int LOGGED_REJECTIONS = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BufferedWriter writer;
+    private long logged;
+
+    RejectSink(Path file) throws IOException {
+        this.writer = file == null ? null : Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    synchronized void write(List<Chunk.Rejection> rejections) {
+        for (Chunk.Rejection rejection : rejections) {
+            SourceRecord record = rejection.record();
+            if (writer == null) {
+                if (logged++ < LOGGED_REJECTIONS) {
+                    logger.warn("Registro {} rejeitado: {}", record.number(), rejection.reason());
+                }
+                continue;
+            }
+            ObjectNode line = objectMapper.createObjectNode()
+                    .put("record", record.number())
+                    .put("reason", rejection.reason())
+                    .put("description", record.description())
+                    .put("rating", record.rating())
+                    .put("createdAt", record.createdAt());
+            try {
+                writer.write(line.toString());
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write rejected record " + record.number(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * One record of the source file, still as text. {@code number} counts records from 1 (CSV header
+ * excluded), so it is stable across runs and identifies checkpoints; {@code error} is set when the
+ * record could not even be parsed.
+ */
+record SourceRecord(long number, String description, String rating, String createdAt, String error) {
+
+    static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    static SourceRecord malformed(long number, String error) {
+        return new SourceRecord(number, null, null, null, error);
+    }
+
+    /**
+     * The feedback this record becomes: rating validation and status come from the {@link Feedback}
+     * constructor, as in the ingestion. Without {@code created_at} the row is dated {@code importedAt}.
+     *
+     * @throws IllegalArgumentException with the reason the record is rejected
+     */
+    Feedback toFeedback(LocalDateTime importedAt) {
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        // Sem estas checagens uma única linha derrubaria o COPY do lote inteiro
+        if (description == null || description.isBlank()) {
+            throw new IllegalArgumentException("description vazia");
+        }
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("description com mais de " + MAX_DESCRIPTION_LENGTH + " caracteres");
+        }
+        if (description.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("description com caractere NUL");
+        }
+
+        Feedback feedback = new Feedback(description, parseRating(rating));
+        LocalDateTime created = createdAt == null || createdAt.isBlank() ? importedAt : parseDateTime(createdAt);
+        feedback.setCreatedAt(created);
+        feedback.setUpdatedAt(created);
+        return feedback;
+    }
+
+    private static Integer parseRating(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("rating inválido: '" + value + "'");
+        }
+    }
+
+    // ISO-8601 com 'T' ou espaço; com fuso é convertido para UTC, como gravam as Lambdas
+    static LocalDateTime parseDateTime(String value) {
+        String text = value.trim().replace(' ', 'T');
+        try {
+            if (text.length() == 10) {
+                return LocalDate.parse(text).atStartOfDay();
+            }
+            if (text.endsWith("Z") || text.lastIndexOf('+') > 10 || text.lastIndexOf('-') > 10) {
+                return OffsetDateTime.parse(text).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+            }
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("created_at inválido: '" + value + "'");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.event.EventEnvelope;
+import br.com.postech.feedback.core.utils.FeedbackMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the same {@code FeedbackReceived} message as the ingestion, in batches of ten (the SQS
+ * limit), paced so a backfill does not starve the analysis of live traffic.
+ */
+class SqsEventPublisher implements EventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqsEventPublisher.class);
+
+    static final int MAX_BATCH = 10;
+    // Com a fila fora do ar cada lote falharia com a mesma mensagem
+    private static final int LOGGED_FAILURES = 20;
+
+    private final SqsClient sqsClient;
+    private final String queueUrl;
+    private final FeedbackEventCodec codec;
+    private final RatePacer pacer;
+    private final AtomicLong failures = new AtomicLong();
+
+    SqsEventPublisher(SqsClient sqsClient, String queueUrl, FeedbackEventCodec codec, RatePacer pacer) {
+        this.sqsClient = sqsClient;
+        this.queueUrl = queueUrl;
+        this.codec = codec;
+        this.pacer = pacer;
+    }
+
+    @Override
+    public int publish(List<Feedback> feedbacks) {
+        int sent = 0;
+        for (int from = 0; from < feedbacks.size(); from += MAX_BATCH) {
+            List<Feedback> batch = feedbacks.subList(from, Math.min(from + MAX_BATCH, feedbacks.size()));
+            pacer.acquire(batch.size());
+            try {
+                SendMessageBatchResponse response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                        .queueUrl(queueUrl)
+                        .entries(entries(batch))
+                        .build());
+                sent += response.successful().size();
+                if (!response.failed().isEmpty() && failures.getAndIncrement() < LOGGED_FAILURES) {
+                    logger.warn("{} eventos recusados pelo SQS: {}", response.failed().size(),
+                            response.failed().get(0).message());
+                }
+            } catch (RuntimeException | JsonProcessingException e) {
+                if (failures.getAndIncrement() < LOGGED_FAILURES) {
+                    logger.warn("Falha ao enviar {} eventos para o SQS: {}", batch.size(), e.getMessage());
+                }
+            }
+        }
+        return sent;
+    }
+
+    private List<SendMessageBatchRequestEntry> entries(List<Feedback> batch) throws JsonProcessingException {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            EventEnvelope envelope = EventEnvelope.create(EventEnvelope.FEEDBACK_RECEIVED, 1);
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(Integer.toString(i))
+                    .messageBody(codec.encode(FeedbackMapper.toEvent(batch.get(i))))
+                    .messageAttributes(messageAttributes(envelope))
+                    .build());
+        }
+        return entries;
+    }
+
+    private Map<String, MessageAttributeValue> messageAttributes(EventEnvelope envelope) {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        attributes.put(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE, stringAttribute(codec.getContentType()));
+        envelope.toAttributes().forEach((name, value) -> attributes.put(name, stringAttribute(value)));
+        return attributes;
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+}
@@ -0,0 +1,191 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BulkImporterTest {
+
+    /** Keeps the committed chunks in memory, like the checkpoint table; can fail on a given chunk. */
+    static class FakeWriter implements ChunkWriter {
+
+        final List<Chunk> written = Collections.synchronizedList(new ArrayList<>());
+        long failOnFirstRecord = -1;
+
+        @Override
+        public void write(Chunk chunk) throws SQLException {
+            if (chunk.firstRecord() == failOnFirstRecord) {
+                throw new SQLException("conexão perdida");
+            }
+            written.add(chunk);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        CommittedRanges committed() {
+            CommittedRanges committed = new CommittedRanges();
+            written.forEach(chunk -> committed.add(chunk.firstRecord(), chunk.lastRecord(), chunk.feedbacks().size()));
+            return committed;
+        }
+
+        List<String> descriptions() {
+            return written.stream().flatMap(chunk -> chunk.feedbacks().stream())
+                    .map(Feedback::getDescription).sorted().toList();
+        }
+    }
+
+    // Registro n: "Feedback n" com nota n % 11; os múltiplos de 7 têm nota inválida
+    private static RecordReader source(int records) {
+        String lines = IntStream.rangeClosed(1, records)
+                .mapToObj(n -> "Feedback " + String.format("%03d", n) + "," + (n % 7 == 0 ? "x" : n % 11))
+                .collect(Collectors.joining("\n", "description,rating\n", "\n"));
+        try {
+            return new CsvRecordReader(new BufferedReader(new StringReader(lines)), ',');
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BulkImporter importer(int chunkSize, List<ChunkWriter> writers, CommittedRanges committed,
+                                         EventPublisher events, RejectSink rejects) {
+        return new BulkImporter(chunkSize, writers, committed, events, rejects, Duration.ofMinutes(1));
+    }
+
+    @Nested
+    @DisplayName("Lotes e checkpoints")
+    class ChunkTests {
+
+        @Test
+        @DisplayName("Deve dividir o arquivo em intervalos contínuos, contando os rejeitados")
+        void shouldSplitIntoContiguousChunks() throws Exception {
+            FakeWriter writer = new FakeWriter();
+
+            ImportResult result = importer(10, List.of(writer), new CommittedRanges(), null, new RejectSink(null))
+                    .run(source(25));
+
+            assertThat(writer.written).extracting(Chunk::firstRecord, Chunk::lastRecord)
+                    .containsExactly(tuple(1L, 10L),
+                            tuple(11L, 20L),
+                            tuple(21L, 25L));
+            assertThat(writer.written.get(0).rejections()).extracting(r -> r.record().number()).containsExactly(7L);
+            assertThat(result.records()).isEqualTo(25);
+            assertThat(result.imported()).isEqualTo(22);
+            assertThat(result.rejected()).isEqualTo(3);
+            assertThat(result.chunks()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Deve distribuir os lotes entre os writers paralelos sem perder registros")
+        void shouldUseAllWriters() throws Exception {
+            List<FakeWriter> writers = List.of(new FakeWriter(), new FakeWriter(), new FakeWriter());
+
+            ImportResult result = importer(5, new ArrayList<>(writers), new CommittedRanges(), null,
+                    new RejectSink(null)).run(source(200));
+
+            long written = writers.stream().mapToLong(w -> w.written.stream().mapToLong(Chunk::size).sum()).sum();
+            assertThat(written).isEqualTo(200);
+            assertThat(result.imported() + result.rejected()).isEqualTo(200);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retomada")
+    class ResumeTests {
+
+        @Test
+        @DisplayName("Deve parar no primeiro lote com falha e retomar sem duplicar nem perder linhas")
+        void shouldResumeAfterFailure() throws Exception {
+            FakeWriter writer = new FakeWriter();
+            writer.failOnFirstRecord = 21;
+
+            assertThatThrownBy(() -> importer(10, List.of(writer), new CommittedRanges(), null, new RejectSink(null))
+                    .run(source(45)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("records 21-30")
+                    .hasRootCauseMessage("conexão perdida");
+            assertThat(writer.written).hasSize(2);
+
+            writer.failOnFirstRecord = -1;
+            ImportResult resumed = importer(10, List.of(writer), writer.committed(), null, new RejectSink(null))
+                    .run(source(45));
+
+            assertThat(resumed.skipped()).isEqualTo(20);
+            assertThat(resumed.chunks()).isEqualTo(3);
+            assertThat(writer.descriptions()).doesNotHaveDuplicates().hasSize(39);
+        }
+
+        @Test
+        @DisplayName("Não deve formar lotes que atravessem intervalos já gravados")
+        void shouldNotSpanCommittedRanges() throws Exception {
+            CommittedRanges committed = new CommittedRanges();
+            committed.add(4, 6, 3);
+            FakeWriter writer = new FakeWriter();
+
+            importer(100, List.of(writer), committed, null, new RejectSink(null)).run(source(10));
+
+            assertThat(writer.written).extracting(Chunk::firstRecord, Chunk::lastRecord)
+                    .containsExactly(tuple(1L, 3L),
+                            tuple(7L, 10L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejeitados e eventos")
+    class AfterCommitTests {
+
+        @Test
+        @DisplayName("Deve gravar os rejeitados só depois do commit do lote")
+        void shouldWriteRejectsOfCommittedChunks(@TempDir Path dir) throws Exception {
+            Path rejects = dir.resolve("rejeitados.ndjson");
+            FakeWriter writer = new FakeWriter();
+            writer.failOnFirstRecord = 11;
+
+            try (RejectSink sink = new RejectSink(rejects)) {
+                assertThatThrownBy(() -> importer(10, List.of(writer), new CommittedRanges(), null, sink)
+                        .run(source(20))).isInstanceOf(IllegalStateException.class);
+            }
+
+            assertThat(Files.readAllLines(rejects)).containsExactly(
+                    "{\"record\":7,\"reason\":\"rating inválido: 'x'\",\"description\":\"Feedback 007\","
+                            + "\"rating\":\"x\",\"createdAt\":null}");
+        }
+
+        @Test
+        @DisplayName("Deve publicar os feedbacks de cada lote gravado e contar as falhas")
+        void shouldPublishCommittedFeedbacks() throws Exception {
+            List<Feedback> published = Collections.synchronizedList(new ArrayList<>());
+            EventPublisher publisher = feedbacks -> {
+                published.addAll(feedbacks);
+                return feedbacks.size() - 1;
+            };
+
+            ImportResult result = importer(10, List.of(new FakeWriter()), new CommittedRanges(), publisher,
+                    new RejectSink(null)).run(source(25));
+
+            assertThat(published).hasSize(22);
+            assertThat(result.eventsSent()).isEqualTo(19);
+            assertThat(result.eventsFailed()).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CopyEncoderTest {
+
+    private static Feedback feedback(String description, int rating) {
+        Feedback feedback = new Feedback(description, rating);
+        feedback.setCreatedAt(LocalDateTime.of(2024, 2, 3, 10, 15, 30, 123_000_000));
+        feedback.setUpdatedAt(feedback.getCreatedAt());
+        return feedback;
+    }
+
+    @Test
+    @DisplayName("Deve gerar uma linha por feedback com colunas separadas por tab")
+    void shouldEncodeRows() {
+        byte[] encoded = CopyEncoder.encode(List.of(feedback("Ótimo", 9), feedback("Ruim", 1)), false);
+
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo(
+                "Ótimo\t9\tNORMAL\t2024-02-03T10:15:30.123\t2024-02-03T10:15:30.123\n"
+                        + "Ruim\t1\tCRITICAL\t2024-02-03T10:15:30.123\t2024-02-03T10:15:30.123\n");
+    }
+
+    @Test
+    @DisplayName("Deve escapar barra invertida, tab e quebras de linha e usar \\N para nulo")
+    void shouldEscapeSpecialCharacters() {
+        Feedback feedback = feedback("a\\b\tc\r\nd", 5);
+        feedback.setId(42L);
+        feedback.setUpdatedAt(null);
+
+        String encoded = new String(CopyEncoder.encode(List.of(feedback), true), StandardCharsets.UTF_8);
+
+        assertThat(encoded).isEqualTo("42\ta\\\\b\\tc\\r\\nd\t5\tNORMAL\t2024-02-03T10:15:30.123\t\\N\n");
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.postech.feedback.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportConfigTest {
+
+    @Test
+    @DisplayName("Deve usar os padrões do docker-compose e inferir o formato pela extensão")
+    void shouldUseDefaults() {
+        ImportConfig config = ImportConfig.parse(Map.of(), "--file=/tmp/2023/feedbacks.ndjson.gz");
+
+        assertThat(config.format()).isEqualTo(ImportConfig.Format.NDJSON);
+        assertThat(config.gzip()).isTrue();
+        assertThat(config.importId()).isEqualTo("feedbacks.ndjson.gz");
+        assertThat(config.jdbcUrl()).isEqualTo("jdbc:postgresql://localhost:5439/feedback_db");
+        assertThat(config.chunkSize()).isEqualTo(10_000);
+        assertThat(config.parallel()).isEqualTo(1);
+        assertThat(config.events()).isEqualTo(ImportConfig.Events.SKIP);
+        assertThat(config.rejects()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve preferir as opções às variáveis SPRING_DATASOURCE_*")
+    void shouldReadDatasourceFromEnvironment() {
+        Map<String, String> env = Map.of(
+                "SPRING_DATASOURCE_URL", "jdbc:postgresql://db:5432/feedback_db",
+                "SPRING_DATASOURCE_USERNAME", "lambda",
+                "SPRING_DATASOURCE_PASSWORD", "segredo");
+
+        ImportConfig config = ImportConfig.parse(env, "--file=legado.txt", "--format=csv", "--delimiter=;",
+                "--user=importer", "--parallel=4", "--progress=500ms", "--rejects=rejeitados.ndjson");
+
+        assertThat(config.jdbcUrl()).isEqualTo("jdbc:postgresql://db:5432/feedback_db");
+        assertThat(config.username()).isEqualTo("importer");
+        assertThat(config.password()).isEqualTo("segredo");
+        assertThat(config.format()).isEqualTo(ImportConfig.Format.CSV);
+        assertThat(config.delimiter()).isEqualTo(';');
+        assertThat(config.parallel()).isEqualTo(4);
+        assertThat(config.progressInterval()).isEqualTo(Duration.ofMillis(500));
+        assertThat(config.rejects()).isEqualTo(Path.of("rejeitados.ndjson"));
+        assertThat(config.toString()).doesNotContain("segredo");
+    }
+
+    @Test
+    @DisplayName("Deve exigir a fila e uma taxa positiva para enviar eventos")
+    void shouldRequireQueueForEvents() {
+        assertThatThrownBy(() -> ImportConfig.parse(Map.of(), "--file=a.csv", "--events=batch"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--queue-url");
+        assertThatThrownBy(() -> ImportConfig.parse(Map.of(), "--file=a.csv", "--events=batch",
+                "--queue-url=http://localhost:4566/000000000000/feedback-analysis-queue", "--events-rate=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar opções inválidas")
+    void shouldRejectInvalidOptions() {
+        assertThatThrownBy(() -> ImportConfig.parse(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ImportConfig.parse(Map.of(), "--file=a.xlsx"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ImportConfig.parse(Map.of(), "--file=a.csv", "--parallel=17"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ImportConfig.parse(Map.of(), "--file=a.csv", "--delimiter=;;"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ImportConfig.parse(Map.of(), "a.csv"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.postgresql.copy.CopyManager;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgresChunkWriterTest {
+
+    private Connection connection;
+    private CopyManager copyManager;
+    private PreparedStatement checkpoint;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        copyManager = mock(CopyManager.class);
+        checkpoint = mock(PreparedStatement.class);
+        when(connection.prepareStatement(PostgresChunkWriter.CHECKPOINT)).thenReturn(checkpoint);
+    }
+
+    private static Chunk chunk(Feedback... feedbacks) {
+        return new Chunk(11, 13, List.of(feedbacks),
+                List.of(new Chunk.Rejection(new SourceRecord(12, "", "5", null, null), "description vazia")));
+    }
+
+    @Test
+    @DisplayName("Deve gravar o COPY e o checkpoint na mesma transação")
+    void shouldCopyAndCheckpointInOneTransaction() throws Exception {
+        PostgresChunkWriter writer = new PostgresChunkWriter(connection, copyManager, "legado.csv", false, null);
+
+        writer.write(chunk(new Feedback("Bom", 8), new Feedback("Ruim", 1)));
+
+        InOrder order = inOrder(connection, copyManager, checkpoint);
+        order.verify(connection).setAutoCommit(false);
+        order.verify(copyManager).copyIn(eq(PostgresChunkWriter.COPY), any(InputStream.class));
+        order.verify(checkpoint).setString(1, "legado.csv");
+        order.verify(checkpoint).setLong(2, 11);
+        order.verify(checkpoint).setLong(3, 13);
+        order.verify(checkpoint).setInt(4, 2);
+        order.verify(checkpoint).setInt(5, 1);
+        order.verify(checkpoint).executeUpdate();
+        order.verify(connection).commit();
+    }
+
+    @Test
+    @DisplayName("Deve gravar só o checkpoint quando todos os registros do lote foram rejeitados")
+    void shouldCheckpointRejectedOnlyChunk() throws Exception {
+        PostgresChunkWriter writer = new PostgresChunkWriter(connection, copyManager, "legado.csv", false, null);
+
+        writer.write(chunk());
+
+        verify(copyManager, never()).copyIn(any(String.class), any(InputStream.class));
+        verify(checkpoint).executeUpdate();
+        verify(connection).commit();
+    }
+
+    @Test
+    @DisplayName("Deve reservar os ids na sequência quando os eventos precisam deles")
+    void shouldAssignIds() throws Exception {
+        PreparedStatement nextIds = mock(PreparedStatement.class);
+        ResultSet ids = mock(ResultSet.class);
+        when(connection.prepareStatement(PostgresChunkWriter.NEXT_IDS)).thenReturn(nextIds);
+        when(nextIds.executeQuery()).thenReturn(ids);
+        when(ids.next()).thenReturn(true, true, false);
+        when(ids.getLong(1)).thenReturn(101L, 102L);
+        Feedback first = new Feedback("Bom", 8);
+        Feedback second = new Feedback("Ruim", 1);
+
+        new PostgresChunkWriter(connection, copyManager, "legado.csv", true, null).write(chunk(first, second));
+
+        verify(nextIds).setInt(1, 2);
+        verify(copyManager).copyIn(eq(PostgresChunkWriter.COPY_WITH_IDS), any(InputStream.class));
+        assertThat(List.of(first.getId(), second.getId())).containsExactly(101L, 102L);
+    }
+
+    @Test
+    @DisplayName("Deve desfazer o lote inteiro e limpar os ids quando o checkpoint falha")
+    void shouldRollbackOnFailure() throws Exception {
+        PreparedStatement nextIds = mock(PreparedStatement.class);
+        ResultSet ids = mock(ResultSet.class);
+        when(connection.prepareStatement(PostgresChunkWriter.NEXT_IDS)).thenReturn(nextIds);
+        when(nextIds.executeQuery()).thenReturn(ids);
+        when(ids.next()).thenReturn(true);
+        when(ids.getLong(1)).thenReturn(101L);
+        when(checkpoint.executeUpdate()).thenThrow(new SQLException("duplicate key value violates unique constraint"));
+        Feedback feedback = new Feedback("Bom", 8);
+
+        assertThatThrownBy(() -> new PostgresChunkWriter(connection, copyManager, "legado.csv", true, null)
+                .write(chunk(feedback)))
+                .isInstanceOf(SQLException.class);
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+        assertThat(feedback.getId()).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.postech.feedback.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordReaderTest {
+
+    private static List<SourceRecord> readAll(RecordReader reader) throws IOException {
+        List<SourceRecord> records = new ArrayList<>();
+        SourceRecord record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static RecordReader csv(String content, char delimiter) throws IOException {
+        return new CsvRecordReader(new BufferedReader(new StringReader(content)), delimiter);
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Deve localizar as colunas pelo cabeçalho, em qualquer ordem")
+        void shouldMapColumnsByHeader() throws IOException {
+            List<SourceRecord> records = readAll(csv("""
+                    \uFEFFid;Created At;Rating;Description
+                    7;2023-05-10 14:30:00;9;Ótimo atendimento
+                    8;;2;Demorou
+                    """, ';'));
+
+            assertThat(records).containsExactly(
+                    new SourceRecord(1, "Ótimo atendimento", "9", "2023-05-10 14:30:00", null),
+                    new SourceRecord(2, "Demorou", "2", "", null));
+        }
+
+        @Test
+        @DisplayName("Deve tratar aspas, aspas duplicadas e quebras de linha dentro de aspas")
+        void shouldParseQuotedFields() throws IOException {
+            List<SourceRecord> records = readAll(csv("""
+                    description,rating
+                    "Disse ""péssimo"", depois voltou",3
+
+                    "Primeira linha
+                    segunda linha",8
+                    """, ','));
+
+            assertThat(records).extracting(SourceRecord::description)
+                    .containsExactly("Disse \"péssimo\", depois voltou", "Primeira linha\nsegunda linha");
+            assertThat(records).extracting(SourceRecord::number).containsExactly(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("Deve deixar nulos os campos de uma linha curta")
+        void shouldLeaveMissingFieldsNull() throws IOException {
+            List<SourceRecord> records = readAll(csv("rating,description\n5\n", ','));
+
+            assertThat(records).containsExactly(new SourceRecord(1, null, "5", null, null));
+        }
+
+        @Test
+        @DisplayName("Deve exigir as colunas description e rating")
+        void shouldRequireColumns() {
+            assertThatThrownBy(() -> csv("texto,nota\nBom,9\n", ','))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Deve falhar com aspas não fechadas no fim do arquivo")
+        void shouldFailOnUnterminatedQuote() throws IOException {
+            RecordReader reader = csv("description,rating\n\"sem fim,3\n", ',');
+
+            assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Deve ler as linhas do arquivamento e linhas com created_at")
+        void shouldReadArchiveLines() throws IOException {
+            RecordReader reader = new NdjsonRecordReader(new BufferedReader(new StringReader("""
+                    {"id":1,"description":"Bom","rating":8,"status":"NORMAL","createdAt":"2024-02-03T10:15:30"}
+
+                    {"description":"Ruim","rating":"1","created_at":null}
+                    """)));
+
+            assertThat(readAll(reader)).containsExactly(
+                    new SourceRecord(1, "Bom", "8", "2024-02-03T10:15:30", null),
+                    new SourceRecord(2, "Ruim", "1", null, null));
+        }
+
+        @Test
+        @DisplayName("Deve transformar linhas inválidas em registros rejeitados sem parar a leitura")
+        void shouldKeepReadingAfterMalformedLine() throws IOException {
+            RecordReader reader = new NdjsonRecordReader(new BufferedReader(new StringReader("""
+                    {"description":"Bom",
+                    [1,2]
+                    {"description":"Ok","rating":6}
+                    """)));
+
+            List<SourceRecord> records = readAll(reader);
+
+            assertThat(records).hasSize(3);
+            assertThat(records.get(0).error()).startsWith("JSON inválido");
+            assertThat(records.get(1).error()).isEqualTo("linha não é um objeto JSON");
+            assertThat(records.get(2)).isEqualTo(new SourceRecord(3, "Ok", "6", null, null));
+        }
+    }
+}
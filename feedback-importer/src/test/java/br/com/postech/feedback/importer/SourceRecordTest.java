@@ -0,0 +1,70 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SourceRecordTest {
+
+    private static final LocalDateTime IMPORTED_AT = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Test
+    @DisplayName("Deve classificar como a ingestão e manter a data de origem")
+    void shouldConvertToFeedback() {
+        Feedback feedback = new SourceRecord(1, "Produto quebrado", "2", "2023-05-10T14:30:00", null)
+                .toFeedback(IMPORTED_AT);
+
+        assertThat(feedback.getId()).isNull();
+        assertThat(feedback.getRating()).isEqualTo(2);
+        assertThat(feedback.getStatus()).isEqualTo(StatusFeedback.CRITICAL);
+        assertThat(feedback.getCreatedAt()).isEqualTo(LocalDateTime.of(2023, 5, 10, 14, 30));
+        assertThat(feedback.getUpdatedAt()).isEqualTo(feedback.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Deve usar o horário da importação quando não há created_at")
+    void shouldDefaultCreatedAt() {
+        Feedback feedback = new SourceRecord(1, "Bom", " 8 ", "", null).toFeedback(IMPORTED_AT);
+
+        assertThat(feedback.getRating()).isEqualTo(8);
+        assertThat(feedback.getCreatedAt()).isEqualTo(IMPORTED_AT);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar data sem hora, espaço no lugar do T e fuso convertido para UTC")
+    void shouldParseDateVariants() {
+        assertThat(SourceRecord.parseDateTime("2023-05-10")).isEqualTo(LocalDateTime.of(2023, 5, 10, 0, 0));
+        assertThat(SourceRecord.parseDateTime("2023-05-10 14:30:15.5"))
+                .isEqualTo(LocalDateTime.of(2023, 5, 10, 14, 30, 15, 500_000_000));
+        assertThat(SourceRecord.parseDateTime("2023-05-10T14:30:00Z")).isEqualTo(LocalDateTime.of(2023, 5, 10, 14, 30));
+        assertThat(SourceRecord.parseDateTime("2023-05-10T11:30:00-03:00"))
+                .isEqualTo(LocalDateTime.of(2023, 5, 10, 14, 30));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com o motivo registros que fariam o COPY falhar")
+    void shouldRejectInvalidRecords() {
+        assertThatThrownBy(() -> new SourceRecord(1, " ", "5", null, null).toFeedback(IMPORTED_AT))
+                .hasMessage("description vazia");
+        assertThatThrownBy(() -> new SourceRecord(1, "x".repeat(256), "5", null, null).toFeedback(IMPORTED_AT))
+                .hasMessageContaining("255");
+        assertThatThrownBy(() -> new SourceRecord(1, "a\0b", "5", null, null).toFeedback(IMPORTED_AT))
+                .hasMessageContaining("NUL");
+        assertThatThrownBy(() -> new SourceRecord(1, "Bom", "8.5", null, null).toFeedback(IMPORTED_AT))
+                .hasMessage("rating inválido: '8.5'");
+        assertThatThrownBy(() -> new SourceRecord(1, "Bom", "11", null, null).toFeedback(IMPORTED_AT))
+                .hasMessage("Rating deve estar entre 0 e 10");
+        assertThatThrownBy(() -> new SourceRecord(1, "Bom", null, null, null).toFeedback(IMPORTED_AT))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SourceRecord(1, "Bom", "5", "10/05/2023", null).toFeedback(IMPORTED_AT))
+                .hasMessage("created_at inválido: '10/05/2023'");
+        assertThatThrownBy(() -> SourceRecord.malformed(1, "linha não é um objeto JSON").toFeedback(IMPORTED_AT))
+                .hasMessage("linha não é um objeto JSON");
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.postech.feedback.importer;
+
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.event.EventEnvelope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SqsEventPublisherTest {
+
+    private static final String QUEUE_URL = "http://localhost:4566/000000000000/feedback-analysis-queue";
+
+    /** Relógio manual: sleep só avança o tempo. */
+    static class ManualClock implements RatePacer.Clock {
+
+        long now;
+        final List<Long> sleeps = new ArrayList<>();
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void sleep(long nanos) {
+            sleeps.add(nanos);
+            now += nanos;
+        }
+    }
+
+    private static List<Feedback> feedbacks(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> {
+            Feedback feedback = new Feedback("Feedback " + i, i % 11);
+            feedback.setId((long) i);
+            return feedback;
+        }).toList();
+    }
+
+    private static SendMessageBatchResponse accepted(SendMessageBatchRequest request) {
+        return SendMessageBatchResponse.builder()
+                .successful(request.entries().stream()
+                        .map(entry -> SendMessageBatchResultEntry.builder().id(entry.id()).build()).toList())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Envio em lotes")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Deve enviar lotes de até 10 mensagens com os atributos da ingestão")
+        void shouldSendBatchesOfTen() {
+            SqsClient sqsClient = mock(SqsClient.class);
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenAnswer(invocation -> accepted(invocation.getArgument(0)));
+            SqsEventPublisher publisher = new SqsEventPublisher(sqsClient, QUEUE_URL,
+                    new FeedbackEventCodec(new JsonConfig().objectMapper()), new RatePacer(1_000_000));
+
+            int sent = publisher.publish(feedbacks(23));
+
+            ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+            verify(sqsClient, times(3)).sendMessageBatch(captor.capture());
+            assertThat(captor.getAllValues()).extracting(request -> request.entries().size())
+                    .containsExactly(10, 10, 3);
+            SendMessageBatchRequestEntry entry = captor.getAllValues().get(0).entries().get(0);
+            assertThat(entry.messageBody()).contains("\"id\":1");
+            assertThat(entry.messageAttributes().get(EventEnvelope.TYPE_ATTRIBUTE).stringValue())
+                    .isEqualTo(EventEnvelope.FEEDBACK_RECEIVED);
+            assertThat(entry.messageAttributes()).containsKey(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE);
+            assertThat(sent).isEqualTo(23);
+        }
+
+        @Test
+        @DisplayName("Deve contar mensagens recusadas e lotes com erro sem interromper o envio")
+        void shouldCountFailures() {
+            SqsClient sqsClient = mock(SqsClient.class);
+            when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                    .thenReturn(SendMessageBatchResponse.builder()
+                            .successful(SendMessageBatchResultEntry.builder().id("0").build())
+                            .failed(BatchResultErrorEntry.builder().id("1").message("throttled").build())
+                            .build())
+                    .thenThrow(SqsException.builder().message("indisponível").build());
+            SqsEventPublisher publisher = new SqsEventPublisher(sqsClient, QUEUE_URL,
+                    new FeedbackEventCodec(new JsonConfig().objectMapper()), new RatePacer(1_000_000));
+
+            int sent = publisher.publish(feedbacks(12));
+
+            assertThat(sent).isEqualTo(1);
+            verify(sqsClient, times(2)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Ritmo de envio")
+    class PacerTests {
+
+        @Test
+        @DisplayName("Deve espaçar as permissões conforme a taxa, sem rajada inicial")
+        void shouldSpacePermits() {
+            ManualClock clock = new ManualClock();
+            RatePacer pacer = new RatePacer(50, clock);
+
+            pacer.acquire(10);
+            pacer.acquire(10);
+            pacer.acquire(5);
+
+            // 10 eventos a 50/s ocupam 200ms
+            assertThat(clock.sleeps).containsExactly(200_000_000L, 200_000_000L);
+        }
+    }
+}
@@ -9,15 +9,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 import java.util.function.Function;
 
 @SpringBootApplication(scanBasePackages = "br.com.postech.feedback")
-@EnableJpaRepositories(basePackages = "br.com.postech.feedback.core.repository")
-@EntityScan(basePackages = "br.com.postech.feedback.core.domain")
 public class FeedbackIngestionApplication {
 
 	private static final Logger logger = LoggerFactory.getLogger(FeedbackIngestionApplication.class);
@@ -0,0 +1,14 @@
+package br.com.postech.feedback.ingestion.config;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// Fora da classe da aplicação para que o perfil lean suba sem repositórios JPA
+@Configuration
+@Profile("!lean")
+@EnableJpaRepositories(basePackages = "br.com.postech.feedback.core.repository")
+@EntityScan(basePackages = "br.com.postech.feedback.core.domain")
+public class JpaConfig {
+}
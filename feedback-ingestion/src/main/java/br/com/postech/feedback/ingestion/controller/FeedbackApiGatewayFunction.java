@@ -0,0 +1,190 @@
+package br.com.postech.feedback.ingestion.controller;
+
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.ingestion.domain.FeedbackResponse;
+import br.com.postech.feedback.ingestion.domain.dto.FeedbackRequest;
+import br.com.postech.feedback.ingestion.domain.mapper.FeedbackInjectionApiMapper;
+import br.com.postech.feedback.ingestion.domain.service.FeedbackQueryService;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * API Gateway entry point of the ingestion Lambda ({@code SPRING_CLOUD_FUNCTION_DEFINITION=feedbackApi}).
+ * One function serves every route of template.yaml: {@code POST /feedbacks} goes through the
+ * same ingestion as {@code ingestFeedback}, and the GET routes through {@link FeedbackQueryService}
+ * with the same ETag handling as {@link FeedbackInjectionController}.
+ */
+@Component("feedbackApi")
+public class FeedbackApiGatewayFunction implements Function<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackApiGatewayFunction.class);
+
+    private static final String NO_CACHE = "no-cache";
+
+    private final Function<FeedbackRequest, FeedbackResponse> ingestFeedback;
+    private final FeedbackQueryService feedbackQueryService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final FeedbackInjectionApiMapper mapper = FeedbackInjectionApiMapper.INSTANCE;
+
+    public FeedbackApiGatewayFunction(Function<FeedbackRequest, FeedbackResponse> ingestFeedback,
+                                      FeedbackQueryService feedbackQueryService,
+                                      ObjectMapper objectMapper,
+                                      Validator validator) {
+        this.ingestFeedback = ingestFeedback;
+        this.feedbackQueryService = feedbackQueryService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @Override
+    public APIGatewayProxyResponseEvent apply(APIGatewayProxyRequestEvent request) {
+        String method = request.getHttpMethod() == null ? "" : request.getHttpMethod();
+        String id = request.getPathParameters() != null ? request.getPathParameters().get("id") : null;
+        logger.info("🔧 [LAMBDA] {} {}", method, request.getPath());
+
+        try {
+            return switch (method) {
+                case "POST" -> create(request);
+                case "GET" -> {
+                    if (id != null) {
+                        yield findById(id, header(request, HttpHeaders.IF_NONE_MATCH));
+                    }
+                    yield isSearch(request) ? search(request) : findPage(request);
+                }
+                default -> error(HttpStatus.METHOD_NOT_ALLOWED, "Método não suportado: " + method);
+            };
+        } catch (IllegalArgumentException e) {
+            return error(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            logger.error("❌ [LAMBDA] Erro na função feedbackApi: {}", e.getMessage(), e);
+            // O detalhe fica no log: mensagens de exceção podem trazer SQL, hosts ou dados de outros registros
+            return error(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno no servidor");
+        }
+    }
+
+    private APIGatewayProxyResponseEvent create(APIGatewayProxyRequestEvent request) throws JsonProcessingException {
+        FeedbackRequest feedbackRequest;
+        try {
+            feedbackRequest = objectMapper.readValue(request.getBody() == null ? "" : request.getBody(), FeedbackRequest.class);
+        } catch (JsonProcessingException e) {
+            return error(HttpStatus.BAD_REQUEST, "JSON inválido");
+        }
+        Set<ConstraintViolation<FeedbackRequest>> violations = validator.validate(feedbackRequest);
+        if (!violations.isEmpty()) {
+            return error(HttpStatus.BAD_REQUEST, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return json(HttpStatus.CREATED, ingestFeedback.apply(feedbackRequest), Map.of());
+    }
+
+    private APIGatewayProxyResponseEvent findById(String rawId, String ifNoneMatch) throws JsonProcessingException {
+        long id;
+        try {
+            id = Long.parseLong(rawId);
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, "Id inválido: " + rawId);
+        }
+
+        FeedbackView view = feedbackQueryService.findById(id).orElse(null);
+        if (view == null) {
+            return error(HttpStatus.NOT_FOUND, "Feedback não encontrado: " + id);
+        }
+        String etag = FeedbackQueryService.etag(view);
+        Map<String, String> headers = Map.of(HttpHeaders.ETAG, etag, HttpHeaders.CACHE_CONTROL, NO_CACHE);
+        if (FeedbackQueryService.matches(ifNoneMatch, etag)) {
+            return new APIGatewayProxyResponseEvent()
+                    .withStatusCode(HttpStatus.NOT_MODIFIED.value())
+                    .withHeaders(headers);
+        }
+        return json(HttpStatus.OK, mapper.mapToFeedbackResponse(view), headers);
+    }
+
+    private APIGatewayProxyResponseEvent findPage(APIGatewayProxyRequestEvent request) throws JsonProcessingException {
+        Map<String, String> query = queryParameters(request);
+        FeedbackFilter filter = FeedbackFilter.parse(query.get("status"), query.get("minRating"),
+                query.get("maxRating"), query.get("from"), query.get("to"));
+        return json(HttpStatus.OK, mapper.mapToFeedbackPageResponse(
+                feedbackQueryService.findPage(filter, query.get("cursor"), parseInteger("limit", query.get("limit")))), Map.of());
+    }
+
+    private APIGatewayProxyResponseEvent search(APIGatewayProxyRequestEvent request) throws JsonProcessingException {
+        Map<String, String> query = queryParameters(request);
+        return json(HttpStatus.OK, mapper.mapToFeedbackSearchResponse(feedbackQueryService.search(query.get("q"),
+                parseInteger("page", query.get("page")), parseInteger("size", query.get("size")))), Map.of());
+    }
+
+    private static boolean isSearch(APIGatewayProxyRequestEvent request) {
+        String path = request.getResource() != null ? request.getResource() : request.getPath();
+        return path != null && path.endsWith("/search");
+    }
+
+    private static Map<String, String> queryParameters(APIGatewayProxyRequestEvent request) {
+        return request.getQueryStringParameters() != null ? request.getQueryStringParameters() : Map.of();
+    }
+
+    private static Integer parseInteger(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " deve ser numérico: " + value);
+        }
+    }
+
+    // API Gateway repassa os cabeçalhos como o cliente enviou
+    private static String header(APIGatewayProxyRequestEvent request, String name) {
+        if (request.getHeaders() == null) {
+            return null;
+        }
+        return request.getHeaders().entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private APIGatewayProxyResponseEvent json(HttpStatus status, Object body, Map<String, String> extraHeaders)
+            throws JsonProcessingException {
+        Map<String, String> headers = new LinkedHashMap<>(extraHeaders);
+        headers.put(HttpHeaders.CONTENT_TYPE, "application/json");
+        return new APIGatewayProxyResponseEvent()
+                .withStatusCode(status.value())
+                .withHeaders(headers)
+                .withBody(objectMapper.writeValueAsString(body));
+    }
+
+    private APIGatewayProxyResponseEvent error(HttpStatus status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        try {
+            return json(status, body, Map.of());
+        } catch (JsonProcessingException e) {
+            return new APIGatewayProxyResponseEvent().withStatusCode(status.value());
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package br.com.postech.feedback.ingestion.controller;
 
 import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.ingestion.domain.FeedbackPageResponse;
 import br.com.postech.feedback.ingestion.domain.FeedbackResponse;
+import br.com.postech.feedback.ingestion.domain.FeedbackSearchResponse;
 import br.com.postech.feedback.ingestion.domain.dto.FeedbackRequest;
 import br.com.postech.feedback.ingestion.domain.mapper.FeedbackInjectionApiMapper;
 import br.com.postech.feedback.ingestion.domain.service.FeedbackInjectionService;
+import br.com.postech.feedback.ingestion.domain.service.FeedbackQueryService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -22,10 +33,13 @@ public class FeedbackInjectionController {
     private static final Logger logger = LoggerFactory.getLogger(FeedbackInjectionController.class);
 
     private final FeedbackInjectionService feedbackInjectionService;
+    private final FeedbackQueryService feedbackQueryService;
     private final FeedbackInjectionApiMapper MAPPER_FEEDBACK_INJECTION = FeedbackInjectionApiMapper.INSTANCE;
 
-    public FeedbackInjectionController(FeedbackInjectionService feedbackInjectionService) {
+    public FeedbackInjectionController(FeedbackInjectionService feedbackInjectionService,
+                                       FeedbackQueryService feedbackQueryService) {
         this.feedbackInjectionService = feedbackInjectionService;
+        this.feedbackQueryService = feedbackQueryService;
     }
 
     @PostMapping
@@ -57,4 +71,52 @@ public class FeedbackInjectionController {
         }
     }
 
+    @GetMapping("/{id}")
+    public ResponseEntity<FeedbackResponse> findById(@PathVariable Long id,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                     String ifNoneMatch) {
+        logger.info("🔎 [HTTP] GET /rest/feedback/{}", id);
+
+        return feedbackQueryService.findById(id)
+                .map(view -> conditionalResponse(view, ifNoneMatch))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping
+    public ResponseEntity<FeedbackPageResponse> findPage(@RequestParam(required = false) String status,
+                                                         @RequestParam(required = false) String minRating,
+                                                         @RequestParam(required = false) String maxRating,
+                                                         @RequestParam(required = false) String from,
+                                                         @RequestParam(required = false) String to,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer limit) {
+        logger.info("🔎 [HTTP] GET /rest/feedback - status: {}, rating: {}..{}, período: {}..{}, limit: {}",
+                status, minRating, maxRating, from, to, limit);
+
+        FeedbackFilter filter = FeedbackFilter.parse(status, minRating, maxRating, from, to);
+        return ResponseEntity.ok(MAPPER_FEEDBACK_INJECTION.mapToFeedbackPageResponse(
+                feedbackQueryService.findPage(filter, cursor, limit)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<FeedbackSearchResponse> search(@RequestParam String q,
+                                                         @RequestParam(required = false) Integer page,
+                                                         @RequestParam(required = false) Integer size) {
+        logger.info("🔎 [HTTP] GET /rest/feedback/search - q: '{}', page: {}, size: {}", q, page, size);
+
+        return ResponseEntity.ok(MAPPER_FEEDBACK_INJECTION.mapToFeedbackSearchResponse(
+                feedbackQueryService.search(q, page, size)));
+    }
+
+    // no-cache: o cliente sempre revalida, e a revalidação de quem já tem a versão atual é um 304 sem corpo
+    private ResponseEntity<FeedbackResponse> conditionalResponse(FeedbackView view, String ifNoneMatch) {
+        String etag = FeedbackQueryService.etag(view);
+        if (FeedbackQueryService.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(MAPPER_FEEDBACK_INJECTION.mapToFeedbackResponse(view));
+    }
 }
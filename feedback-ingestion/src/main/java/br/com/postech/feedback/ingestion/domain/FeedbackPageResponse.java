@@ -0,0 +1,9 @@
+package br.com.postech.feedback.ingestion.domain;
+
+import java.util.List;
+
+public record FeedbackPageResponse(
+        List<FeedbackResponse> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,7 @@
+package br.com.postech.feedback.ingestion.domain;
+
+public record FeedbackSearchHitResponse(
+        FeedbackResponse feedback,
+        double rank
+) {
+}
@@ -0,0 +1,9 @@
+package br.com.postech.feedback.ingestion.domain;
+
+import java.util.List;
+
+public record FeedbackSearchResponse(
+        List<FeedbackSearchHitResponse> hits,
+        Integer nextPage
+) {
+}
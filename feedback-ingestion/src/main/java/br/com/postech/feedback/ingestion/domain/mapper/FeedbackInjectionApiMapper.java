@@ -1,7 +1,12 @@
 package br.com.postech.feedback.ingestion.domain.mapper;
 
 import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackPage;
+import br.com.postech.feedback.core.dto.FeedbackSearchPage;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.ingestion.domain.FeedbackPageResponse;
 import br.com.postech.feedback.ingestion.domain.FeedbackResponse;
+import br.com.postech.feedback.ingestion.domain.FeedbackSearchResponse;
 import br.com.postech.feedback.ingestion.domain.dto.CreateFeedback;
 import br.com.postech.feedback.ingestion.domain.dto.FeedbackRequest;
 import org.mapstruct.Mapper;
@@ -13,4 +18,7 @@ public interface FeedbackInjectionApiMapper {
 
     CreateFeedback mapToCreateFeedback(FeedbackRequest feedbackRequest);
     FeedbackResponse mapToFeedbackResponse(Feedback feedback);
+    FeedbackResponse mapToFeedbackResponse(FeedbackView feedbackView);
+    FeedbackPageResponse mapToFeedbackPageResponse(FeedbackPage feedbackPage);
+    FeedbackSearchResponse mapToFeedbackSearchResponse(FeedbackSearchPage feedbackSearchPage);
 }
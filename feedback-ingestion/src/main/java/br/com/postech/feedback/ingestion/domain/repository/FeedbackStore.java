@@ -0,0 +1,29 @@
+package br.com.postech.feedback.ingestion.domain.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackView;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Everything the ingestion Lambda does with the database. {@link JpaFeedbackStore} by default; the
+ * {@code lean} profile swaps in {@link JdbcFeedbackStore} and starts without Hibernate, and
+ * {@link ShardedFeedbackStore} takes over from either when sharding is configured.
+ */
+public interface FeedbackStore {
+
+    /** Inserts a new feedback and sets its generated id. */
+    Feedback save(Feedback feedback);
+
+    Optional<FeedbackView> findViewById(Long id);
+
+    /** @see br.com.postech.feedback.core.repository.FeedbackRepositoryCustom#findViews */
+    List<FeedbackView> findViews(FeedbackFilter filter, FeedbackCursor after, int limit);
+
+    /** @see br.com.postech.feedback.core.repository.FeedbackRepositoryCustom#searchViews */
+    List<FeedbackSearchHit> searchViews(String query, int candidates, int offset, int limit);
+}
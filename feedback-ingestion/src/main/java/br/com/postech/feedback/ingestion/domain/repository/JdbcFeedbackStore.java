@@ -0,0 +1,80 @@
+package br.com.postech.feedback.ingestion.domain.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.core.repository.JdbcFeedbackViews;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC for the {@code lean} profile: the statements the JPA path runs, without bootstrapping
+ * Hibernate, scanning entities or building Spring Data proxies on a cold start.
+ * <p>
+ * The insert is one {@code INSERT ... RETURNING id} round trip. Its text never changes, so the
+ * PostgreSQL driver keeps it prepared on each pooled connection ({@code prepareThreshold} in
+ * {@code application-lean.yaml}) and warm invocations skip parsing and planning. Reads are the
+ * shared {@link JdbcFeedbackViews} queries.
+ */
+@Repository
+@Profile("lean")
+public class JdbcFeedbackStore implements FeedbackStore {
+
+    static final String INSERT = "INSERT INTO feedbacks "
+            + "(description, rating, status, sentiment_score, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public JdbcFeedbackStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public Feedback save(Feedback feedback) {
+        // Mesmo preenchimento de datas que o @PrePersist faria
+        feedback.prePersist();
+        Long id = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT);
+            statement.setString(1, feedback.getDescription());
+            statement.setInt(2, feedback.getRating());
+            statement.setString(3, feedback.getStatus().name());
+            // Tipo explícito: sem ele um nulo custaria uma ida ao banco para descobrir o tipo do parâmetro
+            statement.setObject(4, feedback.getSentimentScore(), Types.DOUBLE);
+            statement.setObject(5, feedback.getCreatedAt(), Types.TIMESTAMP);
+            statement.setObject(6, feedback.getUpdatedAt(), Types.TIMESTAMP);
+            return statement;
+        }, result -> result.next() ? result.getLong(1) : null);
+        if (id == null) {
+            throw new IllegalStateException("Failed to insert feedback: no id returned");
+        }
+        feedback.setId(id);
+        return feedback;
+    }
+
+    @Override
+    public Optional<FeedbackView> findViewById(Long id) {
+        return JdbcFeedbackViews.findViewById(jdbcTemplate, id);
+    }
+
+    @Override
+    public List<FeedbackView> findViews(FeedbackFilter filter, FeedbackCursor after, int limit) {
+        return JdbcFeedbackViews.findViews(jdbcTemplate, filter, after, limit);
+    }
+
+    @Override
+    public List<FeedbackSearchHit> searchViews(String query, int candidates, int offset, int limit) {
+        return JdbcFeedbackViews.searchViews(namedParameterJdbcTemplate, query, candidates, offset, limit);
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.postech.feedback.ingestion.domain.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.core.repository.FeedbackRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("!lean")
+public class JpaFeedbackStore implements FeedbackStore {
+
+    private final FeedbackRepository feedbackRepository;
+
+    public JpaFeedbackStore(FeedbackRepository feedbackRepository) {
+        this.feedbackRepository = feedbackRepository;
+    }
+
+    @Override
+    public Feedback save(Feedback feedback) {
+        return feedbackRepository.save(feedback);
+    }
+
+    @Override
+    public Optional<FeedbackView> findViewById(Long id) {
+        return feedbackRepository.findViewById(id);
+    }
+
+    @Override
+    public List<FeedbackView> findViews(FeedbackFilter filter, FeedbackCursor after, int limit) {
+        return feedbackRepository.findViews(filter, after, limit);
+    }
+
+    @Override
+    public List<FeedbackSearchHit> searchViews(String query, int candidates, int offset, int limit) {
+        return feedbackRepository.searchViews(query, candidates, offset, limit);
+    }
+}
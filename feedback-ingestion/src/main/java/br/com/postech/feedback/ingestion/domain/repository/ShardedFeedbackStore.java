@@ -0,0 +1,50 @@
+package br.com.postech.feedback.ingestion.domain.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.core.shard.ShardedFeedbackRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Takes over from the JPA and {@code lean} stores when {@code feedback.shards.additional-urls} is
+ * set: writes spread over the shards and reads go through {@link ShardedFeedbackRepository}.
+ */
+@Repository
+@Primary
+@ConditionalOnExpression("!'${feedback.shards.additional-urls:}'.isBlank()")
+public class ShardedFeedbackStore implements FeedbackStore {
+
+    private final ShardedFeedbackRepository shardedRepository;
+
+    public ShardedFeedbackStore(ShardedFeedbackRepository shardedRepository) {
+        this.shardedRepository = shardedRepository;
+    }
+
+    @Override
+    public Feedback save(Feedback feedback) {
+        return shardedRepository.save(feedback);
+    }
+
+    @Override
+    public Optional<FeedbackView> findViewById(Long id) {
+        return shardedRepository.findViewById(id);
+    }
+
+    @Override
+    public List<FeedbackView> findViews(FeedbackFilter filter, FeedbackCursor after, int limit) {
+        return shardedRepository.findViews(filter, after, limit);
+    }
+
+    @Override
+    public List<FeedbackSearchHit> searchViews(String query, int candidates, int offset, int limit) {
+        return shardedRepository.searchViews(query, candidates, offset, limit);
+    }
+}
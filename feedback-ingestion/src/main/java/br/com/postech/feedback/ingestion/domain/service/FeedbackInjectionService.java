@@ -1,37 +1,53 @@
 package br.com.postech.feedback.ingestion.domain.service;
 
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
 import br.com.postech.feedback.core.domain.Feedback;
 import br.com.postech.feedback.core.dto.FeedbackEventDTO;
-import br.com.postech.feedback.core.repository.FeedbackRepository;
+import br.com.postech.feedback.core.event.EventEnvelope;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.core.sentiment.SentimentScorer;
 import br.com.postech.feedback.core.utils.FeedbackMapper;
 import br.com.postech.feedback.ingestion.domain.dto.CreateFeedback;
+import br.com.postech.feedback.ingestion.domain.repository.FeedbackStore;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 public class FeedbackInjectionService {
 
     private static final Logger logger = LoggerFactory.getLogger(FeedbackInjectionService.class);
 
-    private final FeedbackRepository feedbackRepository;
+    private final FeedbackStore feedbackStore;
     private final SqsClient sqsClient;
-    private final ObjectMapper objectMapper;
+    private final FeedbackEventCodec feedbackEventCodec;
+    private final FeedbackRules feedbackRules;
+    private final SentimentScorer sentimentScorer;
+    private final FeedbackQueryService feedbackQueryService;
 
     @Value("${SQS_QUEUE_URL:}")
     private String queueUrl;
 
-    public FeedbackInjectionService(FeedbackRepository feedbackRepository,
+    public FeedbackInjectionService(FeedbackStore feedbackStore,
                                     SqsClient sqsClient,
-                                    ObjectMapper objectMapper) {
-        this.feedbackRepository = feedbackRepository;
+                                    FeedbackEventCodec feedbackEventCodec,
+                                    FeedbackRules feedbackRules,
+                                    SentimentScorer sentimentScorer,
+                                    FeedbackQueryService feedbackQueryService) {
+        this.feedbackStore = feedbackStore;
         this.sqsClient = sqsClient;
-        this.objectMapper = objectMapper;
+        this.feedbackEventCodec = feedbackEventCodec;
+        this.feedbackRules = feedbackRules;
+        this.sentimentScorer = sentimentScorer;
+        this.feedbackQueryService = feedbackQueryService;
     }
 
     private void validateConfiguration() {
@@ -56,25 +72,34 @@ public class FeedbackInjectionService {
                 createFeedback.description(),
                 createFeedback.rating()
         );
+        // Status ainda não atribuído: a decisão vem só das regras
+        feedback.setStatus(feedbackRules.classify(
+                feedback.getRating(), null, feedback.getDescription(), feedback.getCreatedAt()).status());
+        // Calculado uma vez aqui: o mesmo valor vai para o banco e para o evento
+        feedback.setSentimentScore(sentimentScorer.score(feedback.getDescription()));
 
         logger.info("💾 [DATABASE] Iniciando salvamento no PostgreSQL...");
-        feedbackRepository.save(feedback);
+        feedbackStore.save(feedback);
         logger.info("✅ [DATABASE] Feedback salvo! ID: {}", feedback.getId());
+        feedbackQueryService.cache(feedback);
 
         try {
             logger.info("📤 [SQS] Preparando envio para URL: '{}'", queueUrl);
 
             FeedbackEventDTO feedbackEventDTO = FeedbackMapper.toEvent(feedback);
-            String messageBody = objectMapper.writeValueAsString(feedbackEventDTO);
+            String messageBody = feedbackEventCodec.encode(feedbackEventDTO);
+            EventEnvelope envelope = EventEnvelope.create(EventEnvelope.FEEDBACK_RECEIVED, 1);
 
             SendMessageRequest sendMsgRequest = SendMessageRequest.builder()
                     .queueUrl(queueUrl)
                     .messageBody(messageBody)
+                    .messageAttributes(messageAttributes(envelope))
                     .build();
 
             var response = sqsClient.sendMessage(sendMsgRequest);
 
-            logger.info("✅ [SQS] Enviado com sucesso! MessageId: {}", response.messageId());
+            logger.info("✅ [SQS] Enviado com sucesso! MessageId: {} | TraceId: {}",
+                    response.messageId(), envelope.traceId());
 
             return feedback;
 
@@ -87,4 +112,15 @@ public class FeedbackInjectionService {
             throw new RuntimeException("Erro ao enviar mensagem para o SQS", e);
         }
     }
-}
\ No newline at end of file
+
+    private Map<String, MessageAttributeValue> messageAttributes(EventEnvelope envelope) {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        attributes.put(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE, stringAttribute(feedbackEventCodec.getContentType()));
+        envelope.toAttributes().forEach((name, value) -> attributes.put(name, stringAttribute(value)));
+        return attributes;
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
+}
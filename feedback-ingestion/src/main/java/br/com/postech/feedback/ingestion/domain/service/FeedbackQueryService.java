@@ -0,0 +1,158 @@
+package br.com.postech.feedback.ingestion.domain.service;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackPage;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackSearchPage;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.ingestion.domain.repository.FeedbackStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read side of the feedback API.
+ * <p>
+ * Lookups by id go through a bounded cache ({@code feedback.read.cache.max-size} entries, expiring
+ * {@code feedback.read.cache.ttl-seconds} after write) that {@link FeedbackInjectionService} fills
+ * as soon as a feedback is saved, so a client polling what it just created never reaches the
+ * database. Misses load a {@link FeedbackView} projection instead of the entity.
+ * <p>
+ * Listings are keyset-paginated over {@code created_at DESC, id DESC} and never cached: the
+ * opaque cursor carries the last row returned, so deep pages cost the same as the first one.
+ * <p>
+ * Search ranks the {@code feedback.search.max-candidates} most recent matches, which keeps common
+ * terms as fast as rare ones; pages past those candidates are empty.
+ * <p>
+ * ETags are derived from the id and {@code updatedAt} truncated to milliseconds, so a view cached
+ * on write and the same row read back from the database carry the same tag.
+ */
+@Service
+public class FeedbackQueryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackQueryService.class);
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    private final FeedbackStore feedbackStore;
+    private final Cache<Long, FeedbackView> cache;
+    private final int searchCandidates;
+
+    @Autowired
+    public FeedbackQueryService(FeedbackStore feedbackStore,
+                                @Value("${feedback.read.cache.max-size:10000}") long maxSize,
+                                @Value("${feedback.read.cache.ttl-seconds:60}") long ttlSeconds,
+                                @Value("${feedback.search.max-candidates:1000}") int searchCandidates) {
+        this.feedbackStore = feedbackStore;
+        this.searchCandidates = searchCandidates;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        logger.info("📖 [READ] Cache de feedbacks: até {} entradas, TTL {}s", maxSize, ttlSeconds);
+    }
+
+    public Optional<FeedbackView> findById(Long id) {
+        FeedbackView cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Ausentes não são guardados: o id pode ser criado logo depois
+        Optional<FeedbackView> view = feedbackStore.findViewById(id);
+        view.ifPresent(found -> cache.put(id, found));
+        return view;
+    }
+
+    /**
+     * Page of feedbacks matching {@code filter}, newest first, starting after {@code cursor}
+     * ({@code null} for the first page); {@code limit} is clamped to 1..{@value #MAX_LIMIT}.
+     */
+    public FeedbackPage findPage(FeedbackFilter filter, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(MAX_LIMIT, limit));
+        // Uma linha a mais diz se existe próxima página sem precisar de COUNT
+        List<FeedbackView> rows = feedbackStore.findViews(filter, FeedbackCursor.decode(cursor), size + 1);
+        if (rows.size() <= size) {
+            return new FeedbackPage(rows, null);
+        }
+        List<FeedbackView> items = rows.subList(0, size);
+        return new FeedbackPage(List.copyOf(items), FeedbackCursor.after(items.get(size - 1)).encode());
+    }
+
+    /** Ranked full-text search; {@code page} starts at 0 and {@code size} is clamped like {@link #findPage}. */
+    public FeedbackSearchPage search(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("q é obrigatório");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q deve ter no máximo " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("page deve ser maior ou igual a 0");
+        }
+        int pageSize = size == null ? DEFAULT_LIMIT : Math.max(1, Math.min(MAX_LIMIT, size));
+        long offset = (long) pageNumber * pageSize;
+        if (offset >= searchCandidates) {
+            return new FeedbackSearchPage(List.of(), null);
+        }
+
+        List<FeedbackSearchHit> rows =
+                feedbackStore.searchViews(query.trim(), searchCandidates, (int) offset, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new FeedbackSearchPage(rows, null);
+        }
+        return new FeedbackSearchPage(List.copyOf(rows.subList(0, pageSize)), pageNumber + 1);
+    }
+
+    /** Caches a freshly saved feedback. */
+    public void cache(Feedback feedback) {
+        if (feedback.getId() != null) {
+            cache.put(feedback.getId(), FeedbackView.of(feedback));
+        }
+    }
+
+    public long cachedCount() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    public static String etag(FeedbackView view) {
+        long version = view.updatedAt() != null
+                ? view.updatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0L;
+        return "\"" + view.id() + "-" + Long.toHexString(version) + "\"";
+    }
+
+    /** Whether an {@code If-None-Match} header matches the tag; weak comparison, as RFC 9110 asks for. */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,13 +1,71 @@
 package br.com.postech.feedback.ingestion;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-
+import br.com.postech.feedback.ingestion.domain.repository.FeedbackStore;
+import br.com.postech.feedback.ingestion.domain.repository.JdbcFeedbackStore;
+import br.com.postech.feedback.ingestion.domain.repository.JpaFeedbackStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+import static org.junit.jupiter.api.Assertions.*;
 
+// Sobe o contexto inteiro sobre o H2 de teste (SQS simulado): só assim uma fiação errada de um perfil aparece
+@DisplayName("FeedbackIngestionApplication Tests")
 class FeedbackIngestionApplicationTests {
 
+    // Região e credenciais fixas só para o auto-configure do Spring Cloud AWS montar os clientes
+    private static final String REGION = "spring.cloud.aws.region.static=us-east-1";
+    private static final String ACCESS_KEY = "spring.cloud.aws.credentials.access-key=test";
+    private static final String SECRET_KEY = "spring.cloud.aws.credentials.secret-key=test";
+
     @Test
     void applicationClassIsInstantiable() {
         assertNotNull(new FeedbackIngestionApplication());
     }
+
+    @Nested
+    @SpringBootTest(properties = {REGION, ACCESS_KEY, SECRET_KEY})
+    @DisplayName("Default Profile Tests")
+    class DefaultProfileTests {
+
+        @MockBean
+        private SqsClient sqsClient;
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Test
+        @DisplayName("Should persist through Hibernate")
+        void shouldUseJpaStore() {
+            assertInstanceOf(JpaFeedbackStore.class, context.getBean(FeedbackStore.class));
+            assertEquals(1, context.getBeanNamesForType(EntityManagerFactory.class).length);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {REGION, ACCESS_KEY, SECRET_KEY})
+    @ActiveProfiles("lean")
+    @DisplayName("Lean Profile Tests")
+    class LeanProfileTests {
+
+        @MockBean
+        private SqsClient sqsClient;
+
+        @Autowired
+        private ApplicationContext context;
+
+        @Test
+        @DisplayName("Should persist over plain JDBC without starting Hibernate")
+        void shouldUseJdbcStoreWithoutHibernate() {
+            assertInstanceOf(JdbcFeedbackStore.class, context.getBean(FeedbackStore.class));
+            assertEquals(0, context.getBeanNamesForType(EntityManagerFactory.class).length);
+        }
+    }
 }
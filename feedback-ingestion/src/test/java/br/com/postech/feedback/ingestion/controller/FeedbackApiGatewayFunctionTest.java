@@ -0,0 +1,228 @@
+package br.com.postech.feedback.ingestion.controller;
+
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackPage;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackSearchPage;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.ingestion.domain.FeedbackResponse;
+import br.com.postech.feedback.ingestion.domain.dto.FeedbackRequest;
+import br.com.postech.feedback.ingestion.domain.service.FeedbackQueryService;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedbackApiGatewayFunction Tests")
+class FeedbackApiGatewayFunctionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 15, 10, 30);
+    private static final FeedbackView VIEW = new FeedbackView(5L, "Aula ótima", 9, StatusFeedback.NORMAL, 0.7, NOW, NOW);
+
+    @Mock
+    private Function<FeedbackRequest, FeedbackResponse> ingestFeedback;
+
+    @Mock
+    private FeedbackQueryService feedbackQueryService;
+
+    private final ObjectMapper objectMapper = new JsonConfig().objectMapper();
+    private FeedbackApiGatewayFunction function;
+
+    @BeforeEach
+    void setUp() {
+        function = new FeedbackApiGatewayFunction(ingestFeedback, feedbackQueryService, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Nested
+    @DisplayName("POST /feedbacks")
+    class PostTests {
+
+        @Test
+        @DisplayName("Should ingest valid feedback and return 201")
+        void shouldIngestValidFeedback() throws Exception {
+            // Arrange
+            when(ingestFeedback.apply(new FeedbackRequest("Aula ótima", 9)))
+                    .thenReturn(new FeedbackResponse(5L, "Aula ótima", 9, StatusFeedback.NORMAL, NOW, NOW));
+
+            // Act
+            APIGatewayProxyResponseEvent response = function.apply(request("POST", null)
+                    .withBody("{\"description\":\"Aula ótima\",\"rating\":9}"));
+
+            // Assert
+            assertEquals(201, response.getStatusCode());
+            assertEquals(5L, objectMapper.readValue(response.getBody(), FeedbackResponse.class).id());
+        }
+
+        @Test
+        @DisplayName("Should return 400 for invalid payloads without ingesting")
+        void shouldRejectInvalidPayloads() {
+            APIGatewayProxyResponseEvent invalid = function.apply(request("POST", null)
+                    .withBody("{\"description\":\"\",\"rating\":11}"));
+            APIGatewayProxyResponseEvent malformed = function.apply(request("POST", null).withBody("{"));
+
+            assertEquals(400, invalid.getStatusCode());
+            assertTrue(invalid.getBody().contains("Rating deve ser no máximo 10"));
+            assertEquals(400, malformed.getStatusCode());
+            verifyNoInteractions(ingestFeedback);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /feedbacks/{id}")
+    class GetByIdTests {
+
+        @Test
+        @DisplayName("Should return feedback with ETag")
+        void shouldReturnFeedbackWithEtag() throws Exception {
+            // Arrange
+            when(feedbackQueryService.findById(5L)).thenReturn(Optional.of(VIEW));
+
+            // Act
+            APIGatewayProxyResponseEvent response = function.apply(request("GET", "5"));
+
+            // Assert
+            assertEquals(200, response.getStatusCode());
+            assertEquals(FeedbackQueryService.etag(VIEW), response.getHeaders().get("ETag"));
+            assertEquals("Aula ótima", objectMapper.readValue(response.getBody(), FeedbackResponse.class).description());
+        }
+
+        @Test
+        @DisplayName("Should return 304 when If-None-Match matches, whatever the header case")
+        void shouldReturnNotModified() {
+            // Arrange
+            when(feedbackQueryService.findById(5L)).thenReturn(Optional.of(VIEW));
+
+            // Act
+            APIGatewayProxyResponseEvent response = function.apply(request("GET", "5")
+                    .withHeaders(Map.of("if-none-match", FeedbackQueryService.etag(VIEW))));
+
+            // Assert
+            assertEquals(304, response.getStatusCode());
+            assertNull(response.getBody());
+        }
+
+        @Test
+        @DisplayName("Should return 404 for unknown and 400 for malformed ids")
+        void shouldHandleUnknownAndMalformedIds() {
+            when(feedbackQueryService.findById(6L)).thenReturn(Optional.empty());
+
+            assertEquals(404, function.apply(request("GET", "6")).getStatusCode());
+            assertEquals(400, function.apply(request("GET", "abc")).getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should return 500 without exposing the error detail")
+        void shouldHideErrorDetailOnFailure() {
+            // Arrange
+            when(feedbackQueryService.findById(7L))
+                    .thenThrow(new IllegalStateException("Connection to db-primary.internal:5432 refused"));
+
+            // Act
+            APIGatewayProxyResponseEvent response = function.apply(request("GET", "7"));
+
+            // Assert
+            assertEquals(500, response.getStatusCode());
+            assertTrue(response.getBody().contains("Erro interno no servidor"));
+            assertFalse(response.getBody().contains("db-primary"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /feedbacks")
+    class ListTests {
+
+        @Test
+        @DisplayName("Should list a filtered page with the requested limit and cursor")
+        void shouldListFilteredPage() {
+            // Arrange
+            FeedbackFilter filter = new FeedbackFilter(null, null, 3, LocalDateTime.of(2026, 1, 1, 0, 0), null);
+            when(feedbackQueryService.findPage(filter, "abc", 10)).thenReturn(new FeedbackPage(List.of(VIEW), "def"));
+
+            // Act
+            APIGatewayProxyResponseEvent response = function.apply(request("GET", null)
+                    .withQueryStringParameters(Map.of("limit", "10", "cursor", "abc",
+                            "maxRating", "3", "from", "2026-01-01T00:00")));
+
+            // Assert
+            assertEquals(200, response.getStatusCode());
+            assertTrue(response.getBody().startsWith("{\"items\":[{\"id\":5"));
+            assertTrue(response.getBody().endsWith("\"nextCursor\":\"def\"}"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for malformed parameters and 405 for other methods")
+        void shouldRejectBadLimitAndMethods() {
+            assertEquals(400, function.apply(request("GET", null)
+                    .withQueryStringParameters(Map.of("limit", "muitos"))).getStatusCode());
+            assertEquals(400, function.apply(request("GET", null)
+                    .withQueryStringParameters(Map.of("from", "ontem"))).getStatusCode());
+            assertEquals(405, function.apply(request("DELETE", "5")).getStatusCode());
+            verify(feedbackQueryService, never()).findPage(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /feedbacks/search")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should route the search resource to the search")
+        void shouldRouteSearch() {
+            // Arrange
+            when(feedbackQueryService.search("login", 2, null))
+                    .thenReturn(new FeedbackSearchPage(List.of(new FeedbackSearchHit(VIEW, 0.25)), null));
+
+            // Act
+            APIGatewayProxyResponseEvent response = function.apply(new APIGatewayProxyRequestEvent()
+                    .withHttpMethod("GET")
+                    .withResource("/feedbacks/search")
+                    .withPath("/Prod/feedbacks/search")
+                    .withQueryStringParameters(Map.of("q", "login", "page", "2")));
+
+            // Assert
+            assertEquals(200, response.getStatusCode());
+            assertTrue(response.getBody().startsWith("{\"hits\":[{\"feedback\":{\"id\":5"));
+            assertTrue(response.getBody().contains("\"rank\":0.25"));
+            verify(feedbackQueryService, never()).findPage(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return 400 without a query")
+        void shouldRejectMissingQuery() {
+            when(feedbackQueryService.search(null, null, null)).thenThrow(new IllegalArgumentException("q é obrigatório"));
+
+            APIGatewayProxyResponseEvent response = function.apply(request("GET", null).withPath("/feedbacks/search"));
+
+            assertEquals(400, response.getStatusCode());
+            assertTrue(response.getBody().contains("q é obrigatório"));
+        }
+    }
+
+    private static APIGatewayProxyRequestEvent request(String method, String id) {
+        return new APIGatewayProxyRequestEvent()
+                .withHttpMethod(method)
+                .withPath(id != null ? "/feedbacks/" + id : "/feedbacks")
+                .withPathParameters(id != null ? Map.of("id", id) : null);
+    }
+}
@@ -2,10 +2,18 @@ package br.com.postech.feedback.ingestion.controller;
 
 import br.com.postech.feedback.core.domain.Feedback;
 import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackPage;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackSearchPage;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.ingestion.domain.FeedbackPageResponse;
 import br.com.postech.feedback.ingestion.domain.FeedbackResponse;
+import br.com.postech.feedback.ingestion.domain.FeedbackSearchResponse;
 import br.com.postech.feedback.ingestion.domain.dto.CreateFeedback;
 import br.com.postech.feedback.ingestion.domain.dto.FeedbackRequest;
 import br.com.postech.feedback.ingestion.domain.service.FeedbackInjectionService;
+import br.com.postech.feedback.ingestion.domain.service.FeedbackQueryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,11 +21,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,11 +41,14 @@ class FeedbackInjectionControllerTest {
     @Mock
     private FeedbackInjectionService feedbackInjectionService;
 
+    @Mock
+    private FeedbackQueryService feedbackQueryService;
+
     private FeedbackInjectionController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new FeedbackInjectionController(feedbackInjectionService);
+        controller = new FeedbackInjectionController(feedbackInjectionService, feedbackQueryService);
     }
 
     @Nested
@@ -439,6 +453,98 @@ class FeedbackInjectionControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET Tests")
+    class ReadTests {
+
+        private final FeedbackView view = new FeedbackView(30L, "Aula ótima", 9, StatusFeedback.NORMAL, 0.8,
+                LocalDateTime.of(2026, 1, 15, 10, 30), LocalDateTime.of(2026, 1, 15, 10, 30));
+
+        @Test
+        @DisplayName("Should return feedback with ETag")
+        void shouldReturnFeedbackWithEtag() {
+            // Arrange
+            when(feedbackQueryService.findById(30L)).thenReturn(Optional.of(view));
+
+            // Act
+            ResponseEntity<FeedbackResponse> response = controller.findById(30L, null);
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(FeedbackQueryService.etag(view), response.getHeaders().getETag());
+            assertEquals("no-cache", response.getHeaders().getCacheControl());
+            assertEquals("Aula ótima", response.getBody().description());
+        }
+
+        @Test
+        @DisplayName("Should return 304 without body when If-None-Match matches")
+        void shouldReturnNotModifiedWhenEtagMatches() {
+            // Arrange
+            when(feedbackQueryService.findById(30L)).thenReturn(Optional.of(view));
+
+            // Act
+            ResponseEntity<FeedbackResponse> response = controller.findById(30L, FeedbackQueryService.etag(view));
+
+            // Assert
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            assertEquals(FeedbackQueryService.etag(view), response.getHeaders().getFirst(HttpHeaders.ETAG));
+            assertNull(response.getBody());
+        }
+
+        @Test
+        @DisplayName("Should return 404 for unknown id")
+        void shouldReturnNotFoundForUnknownId() {
+            when(feedbackQueryService.findById(99L)).thenReturn(Optional.empty());
+
+            assertEquals(HttpStatus.NOT_FOUND, controller.findById(99L, null).getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should list a filtered page with its next cursor")
+        void shouldListFilteredPage() {
+            // Arrange
+            FeedbackFilter filter = new FeedbackFilter(StatusFeedback.NORMAL, 5, null, null, null);
+            when(feedbackQueryService.findPage(filter, "abc", 5)).thenReturn(new FeedbackPage(List.of(view), "def"));
+
+            // Act
+            ResponseEntity<FeedbackPageResponse> response =
+                    controller.findPage("normal", "5", null, null, null, "abc", 5);
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(1, response.getBody().items().size());
+            assertEquals(30L, response.getBody().items().get(0).id());
+            assertEquals("def", response.getBody().nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should search with rank and next page")
+        void shouldSearch() {
+            // Arrange
+            when(feedbackQueryService.search("pagamento", 0, 10))
+                    .thenReturn(new FeedbackSearchPage(List.of(new FeedbackSearchHit(view, 0.4)), 1));
+
+            // Act
+            ResponseEntity<FeedbackSearchResponse> response = controller.search("pagamento", 0, 10);
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(30L, response.getBody().hits().get(0).feedback().id());
+            assertEquals(0.4, response.getBody().hits().get(0).rank());
+            assertEquals(1, response.getBody().nextPage());
+        }
+
+        @Test
+        @DisplayName("Should reject malformed filters")
+        void shouldRejectMalformedFilters() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> controller.findPage("URGENTE", null, null, null, null, null, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> controller.findPage(null, "8", "2", null, null, null, null));
+            verifyNoInteractions(feedbackQueryService);
+        }
+    }
+
     // Helper method
     private Feedback createMockFeedback(Long id, String description, Integer rating, StatusFeedback status) {
         Feedback feedback = new Feedback();
@@ -0,0 +1,237 @@
+package br.com.postech.feedback.ingestion.domain.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JdbcFeedbackStore Tests")
+class JdbcFeedbackStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Nested
+    @ExtendWith(MockitoExtension.class)
+    @DisplayName("save() Tests")
+    class SaveTests {
+
+        @Mock
+        private DataSource dataSource;
+
+        @Mock
+        private Connection connection;
+
+        @Mock
+        private PreparedStatement statement;
+
+        @Mock
+        private ResultSet result;
+
+        private JdbcFeedbackStore store;
+
+        @BeforeEach
+        void setUp() throws SQLException {
+            when(dataSource.getConnection()).thenReturn(connection);
+            when(connection.prepareStatement(JdbcFeedbackStore.INSERT)).thenReturn(statement);
+            when(statement.executeQuery()).thenReturn(result);
+            store = new JdbcFeedbackStore(new JdbcTemplate(dataSource));
+        }
+
+        @Test
+        @DisplayName("Should insert with RETURNING id and set the generated id")
+        void shouldInsertAndSetGeneratedId() throws SQLException {
+            // Arrange
+            Feedback feedback = new Feedback("Atendimento excelente", 9);
+            feedback.setStatus(StatusFeedback.NORMAL);
+            when(result.next()).thenReturn(true);
+            when(result.getLong(1)).thenReturn(42L);
+
+            // Act
+            Feedback saved = store.save(feedback);
+
+            // Assert
+            assertSame(feedback, saved);
+            assertEquals(42L, saved.getId());
+            verify(statement).setString(1, "Atendimento excelente");
+            verify(statement).setInt(2, 9);
+            verify(statement).setString(3, "NORMAL");
+            verify(statement).setObject(4, null, Types.DOUBLE);
+            verify(statement).setObject(5, feedback.getCreatedAt(), Types.TIMESTAMP);
+            verify(statement).setObject(6, feedback.getUpdatedAt(), Types.TIMESTAMP);
+            verify(statement).close();
+        }
+
+        @Test
+        @DisplayName("Should fill missing timestamps like @PrePersist")
+        void shouldFillMissingTimestamps() throws SQLException {
+            // Arrange
+            Feedback feedback = new Feedback("Demorou", 4);
+            feedback.setCreatedAt(null);
+            feedback.setUpdatedAt(null);
+            feedback.setSentimentScore(-0.5);
+            when(result.next()).thenReturn(true);
+            when(result.getLong(1)).thenReturn(1L);
+
+            // Act
+            store.save(feedback);
+
+            // Assert
+            assertNotNull(feedback.getCreatedAt());
+            assertEquals(feedback.getCreatedAt(), feedback.getUpdatedAt());
+            verify(statement).setObject(4, -0.5, Types.DOUBLE);
+        }
+
+        @Test
+        @DisplayName("Should fail when the database returns no id")
+        void shouldFailWithoutGeneratedId() throws SQLException {
+            Feedback feedback = new Feedback("Sem id", 5);
+            when(result.next()).thenReturn(false);
+
+            assertThrows(IllegalStateException.class, () -> store.save(feedback));
+            assertNull(feedback.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        private JdbcTemplate jdbcTemplate;
+        private JdbcFeedbackStore store;
+
+        @BeforeEach
+        void setUp() {
+            jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:jdbcstore;DB_CLOSE_DELAY=-1"));
+            jdbcTemplate.execute("DROP TABLE IF EXISTS feedbacks");
+            jdbcTemplate.execute("CREATE TABLE feedbacks (id BIGINT PRIMARY KEY, description VARCHAR(255) NOT NULL, "
+                    + "rating INTEGER NOT NULL, status VARCHAR(255) NOT NULL, sentiment_score DOUBLE PRECISION, "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP)");
+            // Linha x: nota x % 11, CRITICAL quando a nota é no máximo 3, criada x horas após BASE
+            for (long x = 1; x <= 10; x++) {
+                jdbcTemplate.update("INSERT INTO feedbacks VALUES (?, ?, ?, ?, ?, ?, ?)",
+                        x, "Feedback " + x, (int) (x % 11), x % 11 <= 3 ? "CRITICAL" : "NORMAL",
+                        x == 1 ? null : 0.5, BASE.plusHours(x), BASE.plusHours(x));
+            }
+            store = new JdbcFeedbackStore(jdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("Should map a row to a view, including a null sentiment score")
+        void shouldFindViewById() {
+            Optional<FeedbackView> view = store.findViewById(1L);
+
+            assertEquals(Optional.of(new FeedbackView(1L, "Feedback 1", 1, StatusFeedback.CRITICAL, null,
+                    BASE.plusHours(1), BASE.plusHours(1))), view);
+            assertTrue(store.findViewById(99L).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should list newest first up to the limit")
+        void shouldListNewestFirst() {
+            List<FeedbackView> page = store.findViews(FeedbackFilter.none(), null, 3);
+
+            assertEquals(List.of(10L, 9L, 8L), page.stream().map(FeedbackView::id).toList());
+        }
+
+        @Test
+        @DisplayName("Should apply only the filters present")
+        void shouldApplyFilters() {
+            // Arrange
+            FeedbackFilter filter = new FeedbackFilter(StatusFeedback.NORMAL, 5, 8, BASE.plusHours(6), BASE.plusHours(9));
+
+            // Act
+            List<FeedbackView> page = store.findViews(filter, null, 10);
+
+            // Assert
+            assertEquals(List.of(8L, 7L, 6L), page.stream().map(FeedbackView::id).toList());
+        }
+
+        @Test
+        @DisplayName("Should continue strictly after the cursor")
+        void shouldContinueAfterCursor() {
+            // Arrange
+            FeedbackView last = store.findViews(FeedbackFilter.none(), null, 3).get(2);
+
+            // Act
+            List<FeedbackView> page = store.findViews(FeedbackFilter.none(), FeedbackCursor.after(last), 3);
+
+            // Assert
+            assertEquals(List.of(7L, 6L, 5L), page.stream().map(FeedbackView::id).toList());
+        }
+    }
+
+    @Nested
+    @ExtendWith(MockitoExtension.class)
+    @DisplayName("searchViews() Tests")
+    class SearchViewsTests {
+
+        @Mock
+        private DataSource dataSource;
+
+        @Mock
+        private Connection connection;
+
+        @Mock
+        private PreparedStatement statement;
+
+        @Mock
+        private ResultSet result;
+
+        @Test
+        @DisplayName("Should bind the named parameters of the shared search query and map the rank")
+        void shouldBindParametersAndMapRank() throws SQLException {
+            // Arrange
+            when(dataSource.getConnection()).thenReturn(connection);
+            when(connection.prepareStatement(anyString())).thenReturn(statement);
+            when(statement.executeQuery()).thenReturn(result);
+            when(result.next()).thenReturn(true, false);
+            when(result.getLong("id")).thenReturn(3L);
+            when(result.getString("description")).thenReturn("Pagamento recusado");
+            when(result.getInt("rating")).thenReturn(2);
+            when(result.getString("status")).thenReturn("CRITICAL");
+            when(result.getObject("sentiment_score", Double.class)).thenReturn(-0.8);
+            when(result.getObject("created_at", LocalDateTime.class)).thenReturn(BASE);
+            when(result.getObject("updated_at", LocalDateTime.class)).thenReturn(BASE);
+            when(result.getDouble("rank")).thenReturn(0.25);
+
+            // Act
+            List<FeedbackSearchHit> hits = new JdbcFeedbackStore(new JdbcTemplate(dataSource))
+                    .searchViews("pagamento", 1000, 20, 21);
+
+            // Assert
+            assertEquals(List.of(new FeedbackSearchHit(new FeedbackView(3L, "Pagamento recusado", 2,
+                    StatusFeedback.CRITICAL, -0.8, BASE, BASE), 0.25)), hits);
+            verify(connection).prepareStatement(contains("websearch_to_tsquery('portuguese', ?)"));
+            verify(statement).setString(1, "pagamento");
+            verify(statement).setObject(2, 1000);
+            verify(statement).setObject(3, 20);
+            verify(statement).setObject(4, 21);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.postech.feedback.ingestion.domain.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.repository.FeedbackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JpaFeedbackStore Tests")
+class JpaFeedbackStoreTest {
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    private JpaFeedbackStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JpaFeedbackStore(feedbackRepository);
+    }
+
+    @Test
+    @DisplayName("Should save through the Spring Data repository")
+    void shouldSaveThroughRepository() {
+        // Arrange
+        Feedback feedback = new Feedback("Bom", 8);
+        when(feedbackRepository.save(feedback)).thenReturn(feedback);
+
+        // Act
+        Feedback saved = store.save(feedback);
+
+        // Assert
+        assertSame(feedback, saved);
+        verify(feedbackRepository).save(feedback);
+    }
+
+    @Test
+    @DisplayName("Should delegate reads to the repository projections")
+    void shouldDelegateReads() {
+        when(feedbackRepository.findViewById(1L)).thenReturn(Optional.empty());
+        when(feedbackRepository.findViews(FeedbackFilter.none(), null, 21)).thenReturn(List.of());
+        when(feedbackRepository.searchViews("login", 1000, 0, 21)).thenReturn(List.of());
+
+        assertTrue(store.findViewById(1L).isEmpty());
+        assertTrue(store.findViews(FeedbackFilter.none(), null, 21).isEmpty());
+        assertTrue(store.searchViews("login", 1000, 0, 21).isEmpty());
+
+        verify(feedbackRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.postech.feedback.ingestion.domain.repository;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.shard.ShardedFeedbackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShardedFeedbackStore Tests")
+class ShardedFeedbackStoreTest {
+
+    @Mock
+    private ShardedFeedbackRepository shardedRepository;
+
+    private ShardedFeedbackStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ShardedFeedbackStore(shardedRepository);
+    }
+
+    @Test
+    @DisplayName("Should save through the sharded repository")
+    void shouldSaveThroughShardedRepository() {
+        // Arrange
+        Feedback feedback = new Feedback("Bom", 8);
+        when(shardedRepository.save(feedback)).thenReturn(feedback);
+
+        // Act
+        Feedback saved = store.save(feedback);
+
+        // Assert
+        assertSame(feedback, saved);
+        verify(shardedRepository).save(feedback);
+    }
+
+    @Test
+    @DisplayName("Should delegate reads to the sharded repository")
+    void shouldDelegateReads() {
+        when(shardedRepository.findViewById(1L)).thenReturn(Optional.empty());
+        when(shardedRepository.findViews(FeedbackFilter.none(), null, 21)).thenReturn(List.of());
+        when(shardedRepository.searchViews("login", 1000, 0, 21)).thenReturn(List.of());
+
+        assertTrue(store.findViewById(1L).isEmpty());
+        assertTrue(store.findViews(FeedbackFilter.none(), null, 21).isEmpty());
+        assertTrue(store.searchViews("login", 1000, 0, 21).isEmpty());
+    }
+}
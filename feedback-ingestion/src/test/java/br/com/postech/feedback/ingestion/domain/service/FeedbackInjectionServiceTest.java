@@ -1,9 +1,20 @@
 package br.com.postech.feedback.ingestion.domain.service;
 
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.codec.WireFormat;
 import br.com.postech.feedback.core.domain.Feedback;
 import br.com.postech.feedback.core.domain.StatusFeedback;
-import br.com.postech.feedback.core.repository.FeedbackRepository;
+import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.core.event.EventEnvelope;
+import br.com.postech.feedback.core.rules.Classification;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.core.rules.RuleDefinition;
+import br.com.postech.feedback.core.rules.RuleSetDefinition;
+import br.com.postech.feedback.core.rules.Urgency;
+import br.com.postech.feedback.core.sentiment.SentimentScorer;
 import br.com.postech.feedback.ingestion.domain.dto.CreateFeedback;
+import br.com.postech.feedback.ingestion.domain.repository.FeedbackStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +31,8 @@ import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,13 +43,14 @@ import static org.mockito.Mockito.*;
 class FeedbackInjectionServiceTest {
 
     @Mock
-    private FeedbackRepository feedbackRepository;
+    private FeedbackStore feedbackStore;
 
     @Mock
     private SqsClient sqsClient;
 
     private ObjectMapper objectMapper;
     private FeedbackInjectionService service;
+    private FeedbackQueryService queryService;
 
     private static final String VALID_QUEUE_URL = "https://sqs.us-east-2.amazonaws.com/123456789012/feedback-analysis-queue";
 
@@ -45,7 +59,9 @@ class FeedbackInjectionServiceTest {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
 
-        service = new FeedbackInjectionService(feedbackRepository, sqsClient, objectMapper);
+        queryService = new FeedbackQueryService(feedbackStore, 100, 60, 1000);
+        service = new FeedbackInjectionService(feedbackStore, sqsClient, new FeedbackEventCodec(objectMapper),
+                new FeedbackRules(), SentimentScorer.defaults(), queryService);
         ReflectionTestUtils.setField(service, "queueUrl", VALID_QUEUE_URL);
     }
 
@@ -59,7 +75,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Great product", 8);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 1L);
                 return feedback;
@@ -75,7 +91,7 @@ class FeedbackInjectionServiceTest {
             assertNotNull(result);
             assertEquals("Great product", result.getDescription());
             assertEquals(8, result.getRating());
-            verify(feedbackRepository, times(1)).save(any(Feedback.class));
+            verify(feedbackStore, times(1)).save(any(Feedback.class));
         }
 
         @Test
@@ -84,7 +100,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Good experience", 7);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 2L);
                 return feedback;
@@ -106,7 +122,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Bad product", 2);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 3L);
                 return feedback;
@@ -128,7 +144,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Average product", 5);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 4L);
                 return feedback;
@@ -150,7 +166,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Test feedback", 6);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 5L);
                 return feedback;
@@ -174,7 +190,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Excellent service", 9);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 6L);
                 return feedback;
@@ -193,6 +209,158 @@ class FeedbackInjectionServiceTest {
             assertTrue(messageBody.contains("Excellent service"));
             assertTrue(messageBody.contains("9"));
         }
+
+        @Test
+        @DisplayName("Should persist and publish the same sentiment score")
+        void shouldPersistAndPublishSentimentScore() throws Exception {
+            // Arrange
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            ArgumentCaptor<SendMessageRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageRequest.class);
+            when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                    .thenReturn(SendMessageResponse.builder().messageId("msg-305").build());
+
+            // Act
+            Feedback feedback = service.processFeedback(new CreateFeedback("Aula excelente, aprendi muito", 9));
+
+            // Assert
+            verify(sqsClient).sendMessage(requestCaptor.capture());
+            assertNotNull(feedback.getSentimentScore());
+            assertTrue(feedback.getSentimentScore() > 0);
+            FeedbackEventDTO event = objectMapper.readValue(requestCaptor.getValue().messageBody(), FeedbackEventDTO.class);
+            assertEquals(feedback.getSentimentScore(), event.sentimentScore());
+        }
+
+        @Test
+        @DisplayName("Should cache the saved feedback for reads")
+        void shouldCacheSavedFeedbackForReads() {
+            // Arrange
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
+                Feedback feedback = invocation.getArgument(0);
+                ReflectionTestUtils.setField(feedback, "id", 42L);
+                return feedback;
+            });
+            when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                    .thenReturn(SendMessageResponse.builder().messageId("msg-307").build());
+
+            // Act
+            service.processFeedback(new CreateFeedback("Aula ótima", 9));
+            Optional<FeedbackView> view = queryService.findById(42L);
+
+            // Assert
+            assertTrue(view.isPresent());
+            assertEquals("Aula ótima", view.get().description());
+            verify(feedbackStore, never()).findViewById(any());
+        }
+
+        @Test
+        @DisplayName("Should omit sentiment score when the model is disabled")
+        void shouldOmitSentimentScoreWhenDisabled() {
+            // Arrange
+            service = new FeedbackInjectionService(feedbackStore, sqsClient, new FeedbackEventCodec(objectMapper),
+                    new FeedbackRules(), new SentimentScorer(false, SentimentScorer.DEFAULT_MODEL),
+                    queryService);
+            ReflectionTestUtils.setField(service, "queueUrl", VALID_QUEUE_URL);
+
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            ArgumentCaptor<SendMessageRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageRequest.class);
+            when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                    .thenReturn(SendMessageResponse.builder().messageId("msg-306").build());
+
+            // Act
+            Feedback feedback = service.processFeedback(new CreateFeedback("Aula excelente", 9));
+
+            // Assert
+            verify(sqsClient).sendMessage(requestCaptor.capture());
+            assertNull(feedback.getSentimentScore());
+            assertFalse(requestCaptor.getValue().messageBody().contains("sentimentScore"));
+        }
+
+        @Test
+        @DisplayName("Should tag SQS message with the codec content type")
+        void shouldTagSqsMessageWithContentType() {
+            // Arrange
+            service = new FeedbackInjectionService(feedbackStore, sqsClient,
+                    new FeedbackEventCodec(objectMapper, WireFormat.SMILE), new FeedbackRules(),
+                    SentimentScorer.defaults(), queryService);
+            ReflectionTestUtils.setField(service, "queueUrl", VALID_QUEUE_URL);
+            CreateFeedback createFeedback = new CreateFeedback("Binary payload", 2);
+
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
+                Feedback feedback = invocation.getArgument(0);
+                ReflectionTestUtils.setField(feedback, "id", 7L);
+                return feedback;
+            });
+
+            ArgumentCaptor<SendMessageRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageRequest.class);
+            when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                    .thenReturn(SendMessageResponse.builder().messageId("msg-404").build());
+
+            // Act
+            service.processFeedback(createFeedback);
+
+            // Assert
+            verify(sqsClient).sendMessage(requestCaptor.capture());
+            SendMessageRequest request = requestCaptor.getValue();
+            assertEquals(WireFormat.SMILE.getContentType(),
+                    request.messageAttributes().get(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE).stringValue());
+            assertFalse(request.messageBody().contains("Binary payload"));
+        }
+
+        @Test
+        @DisplayName("Should classify status with the configured rules")
+        void shouldClassifyStatusWithConfiguredRules() {
+            // Arrange
+            FeedbackRules rules = new FeedbackRules();
+            rules.update(new RuleSetDefinition(List.of(new RuleDefinition("plataforma",
+                    new RuleDefinition.Condition(null, null, null, List.of("caiu"), null, null),
+                    new Classification(StatusFeedback.CRITICAL, Urgency.HIGH))),
+                    new Classification(StatusFeedback.NORMAL, Urgency.LOW)));
+            service = new FeedbackInjectionService(feedbackStore, sqsClient,
+                    new FeedbackEventCodec(objectMapper), rules, SentimentScorer.defaults(), queryService);
+            ReflectionTestUtils.setField(service, "queueUrl", VALID_QUEUE_URL);
+
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                    .thenReturn(SendMessageResponse.builder().messageId("msg-606").build());
+
+            // Act
+            Feedback critical = service.processFeedback(new CreateFeedback("A plataforma caiu na prova", 9));
+            Feedback normal = service.processFeedback(new CreateFeedback("Nota baixa, sem incidente", 1));
+
+            // Assert
+            assertEquals(StatusFeedback.CRITICAL, critical.getStatus());
+            assertEquals(StatusFeedback.NORMAL, normal.getStatus());
+        }
+
+        @Test
+        @DisplayName("Should send event envelope as SQS message attributes")
+        void shouldSendEventEnvelopeAsAttributes() {
+            // Arrange
+            CreateFeedback createFeedback = new CreateFeedback("Envelope", 8);
+
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
+                Feedback feedback = invocation.getArgument(0);
+                ReflectionTestUtils.setField(feedback, "id", 8L);
+                return feedback;
+            });
+
+            ArgumentCaptor<SendMessageRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageRequest.class);
+            when(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                    .thenReturn(SendMessageResponse.builder().messageId("msg-505").build());
+
+            // Act
+            service.processFeedback(createFeedback);
+
+            // Assert
+            verify(sqsClient).sendMessage(requestCaptor.capture());
+            var attributes = requestCaptor.getValue().messageAttributes();
+            assertEquals(EventEnvelope.FEEDBACK_RECEIVED, attributes.get(EventEnvelope.TYPE_ATTRIBUTE).stringValue());
+            assertEquals("1", attributes.get(EventEnvelope.VERSION_ATTRIBUTE).stringValue());
+            assertNotNull(attributes.get(EventEnvelope.ID_ATTRIBUTE));
+            assertNotNull(attributes.get(EventEnvelope.TIMESTAMP_ATTRIBUTE));
+            assertNotNull(attributes.get(EventEnvelope.TRACE_ID_ATTRIBUTE));
+        }
     }
 
     @Nested
@@ -243,7 +411,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Test feedback", 5);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 7L);
                 return feedback;
@@ -262,7 +430,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Test feedback", 5);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 8L);
                 return feedback;
@@ -278,7 +446,7 @@ class FeedbackInjectionServiceTest {
             }
 
             // Assert
-            verify(feedbackRepository, times(1)).save(any(Feedback.class));
+            verify(feedbackStore, times(1)).save(any(Feedback.class));
         }
     }
 
@@ -292,7 +460,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Terrible experience", 0);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 9L);
                 return feedback;
@@ -315,7 +483,7 @@ class FeedbackInjectionServiceTest {
             // Arrange
             CreateFeedback createFeedback = new CreateFeedback("Perfect experience", 10);
 
-            when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> {
+            when(feedbackStore.save(any(Feedback.class))).thenAnswer(invocation -> {
                 Feedback feedback = invocation.getArgument(0);
                 ReflectionTestUtils.setField(feedback, "id", 10L);
                 return feedback;
@@ -0,0 +1,265 @@
+package br.com.postech.feedback.ingestion.domain.service;
+
+import br.com.postech.feedback.core.domain.Feedback;
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackFilter;
+import br.com.postech.feedback.core.dto.FeedbackPage;
+import br.com.postech.feedback.core.dto.FeedbackSearchHit;
+import br.com.postech.feedback.core.dto.FeedbackSearchPage;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.ingestion.domain.repository.FeedbackStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedbackQueryService Tests")
+class FeedbackQueryServiceTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 15, 10, 30, 0, 123_456_789);
+
+    @Mock
+    private FeedbackStore feedbackStore;
+
+    private FeedbackQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FeedbackQueryService(feedbackStore, 2, 60, 50);
+    }
+
+    @Nested
+    @DisplayName("findById() Tests")
+    class FindByIdTests {
+
+        @Test
+        @DisplayName("Should load the projection once and serve repeats from cache")
+        void shouldServeRepeatsFromCache() {
+            // Arrange
+            FeedbackView view = view(1L, UPDATED_AT);
+            when(feedbackStore.findViewById(1L)).thenReturn(Optional.of(view));
+
+            // Act
+            Optional<FeedbackView> first = service.findById(1L);
+            Optional<FeedbackView> second = service.findById(1L);
+
+            // Assert
+            assertEquals(Optional.of(view), first);
+            assertEquals(Optional.of(view), second);
+            verify(feedbackStore, times(1)).findViewById(1L);
+        }
+
+        @Test
+        @DisplayName("Should not cache missing ids")
+        void shouldNotCacheMissingIds() {
+            when(feedbackStore.findViewById(7L)).thenReturn(Optional.empty());
+
+            assertTrue(service.findById(7L).isEmpty());
+            assertTrue(service.findById(7L).isEmpty());
+
+            verify(feedbackStore, times(2)).findViewById(7L);
+        }
+
+        @Test
+        @DisplayName("Should serve feedback cached on write without querying")
+        void shouldServeFeedbackCachedOnWrite() {
+            // Arrange
+            Feedback feedback = new Feedback("Aula ótima", 9);
+            ReflectionTestUtils.setField(feedback, "id", 3L);
+
+            // Act
+            service.cache(feedback);
+
+            // Assert
+            assertEquals("Aula ótima", service.findById(3L).orElseThrow().description());
+            verifyNoInteractions(feedbackStore);
+        }
+
+        @Test
+        @DisplayName("Should bound the cache size")
+        void shouldBoundCacheSize() {
+            for (long id = 1; id <= 10; id++) {
+                Feedback feedback = new Feedback("Feedback " + id, 5);
+                ReflectionTestUtils.setField(feedback, "id", id);
+                service.cache(feedback);
+            }
+
+            assertTrue(service.cachedCount() <= 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("findPage() Tests")
+    class FindPageTests {
+
+        @Test
+        @DisplayName("Should fetch one extra row and clamp the limit")
+        void shouldFetchOneExtraRowAndClampLimit() {
+            // Arrange
+            ArgumentCaptor<Integer> limit = ArgumentCaptor.forClass(Integer.class);
+            when(feedbackStore.findViews(any(), any(), limit.capture())).thenReturn(List.of());
+
+            // Act
+            service.findPage(FeedbackFilter.none(), null, null);
+            service.findPage(FeedbackFilter.none(), null, 1000);
+            service.findPage(FeedbackFilter.none(), null, 0);
+
+            // Assert
+            assertEquals(List.of(FeedbackQueryService.DEFAULT_LIMIT + 1, FeedbackQueryService.MAX_LIMIT + 1, 2),
+                    limit.getAllValues());
+        }
+
+        @Test
+        @DisplayName("Should return a cursor after the last item when there are more rows")
+        void shouldReturnCursorWhenThereAreMoreRows() {
+            // Arrange
+            FeedbackView newest = view(3L, UPDATED_AT);
+            FeedbackView middle = view(2L, UPDATED_AT.minusMinutes(1));
+            FeedbackView oldest = view(1L, UPDATED_AT.minusMinutes(2));
+            when(feedbackStore.findViews(eq(FeedbackFilter.none()), isNull(), eq(3)))
+                    .thenReturn(List.of(newest, middle, oldest));
+
+            // Act
+            FeedbackPage page = service.findPage(FeedbackFilter.none(), null, 2);
+
+            // Assert
+            assertEquals(List.of(newest, middle), page.items());
+            assertEquals(FeedbackCursor.after(middle), FeedbackCursor.decode(page.nextCursor()));
+        }
+
+        @Test
+        @DisplayName("Should resume from the decoded cursor and end without a next cursor")
+        void shouldResumeFromCursor() {
+            // Arrange
+            FeedbackCursor cursor = new FeedbackCursor(UPDATED_AT, 2L);
+            FeedbackFilter filter = new FeedbackFilter(StatusFeedback.CRITICAL, null, 3, null, null);
+            FeedbackView last = view(1L, UPDATED_AT.minusMinutes(2));
+            when(feedbackStore.findViews(filter, cursor, 3)).thenReturn(List.of(last));
+
+            // Act
+            FeedbackPage page = service.findPage(filter, cursor.encode(), 2);
+
+            // Assert
+            assertEquals(List.of(last), page.items());
+            assertNull(page.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should reject a tampered cursor without querying")
+        void shouldRejectTamperedCursor() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.findPage(FeedbackFilter.none(), "não-é-cursor", 10));
+            verify(feedbackStore, never()).findViews(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("search() Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should rank among the configured candidates and return the next page")
+        void shouldReturnNextPage() {
+            // Arrange
+            List<FeedbackSearchHit> hits = List.of(
+                    new FeedbackSearchHit(view(3L, UPDATED_AT), 0.3),
+                    new FeedbackSearchHit(view(1L, UPDATED_AT), 0.2),
+                    new FeedbackSearchHit(view(2L, UPDATED_AT), 0.1));
+            when(feedbackStore.searchViews("pagamento", 50, 2, 3)).thenReturn(hits);
+
+            // Act
+            FeedbackSearchPage page = service.search(" pagamento ", 1, 2);
+
+            // Assert
+            assertEquals(hits.subList(0, 2), page.hits());
+            assertEquals(2, page.nextPage());
+        }
+
+        @Test
+        @DisplayName("Should end without a next page")
+        void shouldEndWithoutNextPage() {
+            when(feedbackStore.searchViews("login", 50, 0, FeedbackQueryService.DEFAULT_LIMIT + 1))
+                    .thenReturn(List.of(new FeedbackSearchHit(view(1L, UPDATED_AT), 0.5)));
+
+            FeedbackSearchPage page = service.search("login", null, null);
+
+            assertEquals(1, page.hits().size());
+            assertNull(page.nextPage());
+        }
+
+        @Test
+        @DisplayName("Should return an empty page past the candidates without querying")
+        void shouldReturnEmptyPagePastCandidates() {
+            FeedbackSearchPage page = service.search("login", 5, 10);
+
+            assertTrue(page.hits().isEmpty());
+            assertNull(page.nextPage());
+            verify(feedbackStore, never()).searchViews(any(), anyInt(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should reject blank, oversized queries and negative pages")
+        void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> service.search(" ", null, null));
+            assertThrows(IllegalArgumentException.class, () -> service.search("a".repeat(201), null, null));
+            assertThrows(IllegalArgumentException.class, () -> service.search("login", -1, null));
+            verifyNoInteractions(feedbackStore);
+        }
+    }
+
+    @Nested
+    @DisplayName("ETag Tests")
+    class EtagTests {
+
+        @Test
+        @DisplayName("Should ignore sub-millisecond precision lost by the database")
+        void shouldIgnoreSubMillisecondPrecision() {
+            String cachedOnWrite = FeedbackQueryService.etag(view(1L, UPDATED_AT));
+            String readBack = FeedbackQueryService.etag(view(1L, UPDATED_AT.withNano(123_456_000)));
+
+            assertEquals(cachedOnWrite, readBack);
+            assertTrue(cachedOnWrite.startsWith("\"1-") && cachedOnWrite.endsWith("\""));
+        }
+
+        @Test
+        @DisplayName("Should change when the feedback is updated")
+        void shouldChangeWhenUpdated() {
+            assertNotEquals(FeedbackQueryService.etag(view(1L, UPDATED_AT)),
+                    FeedbackQueryService.etag(view(1L, UPDATED_AT.plusSeconds(1))));
+        }
+
+        @Test
+        @DisplayName("Should match If-None-Match lists, weak tags and wildcard")
+        void shouldMatchIfNoneMatchVariants() {
+            String etag = FeedbackQueryService.etag(view(1L, UPDATED_AT));
+
+            assertTrue(FeedbackQueryService.matches(etag, etag));
+            assertTrue(FeedbackQueryService.matches("\"other\", W/" + etag, etag));
+            assertTrue(FeedbackQueryService.matches("*", etag));
+            assertFalse(FeedbackQueryService.matches("\"other\"", etag));
+            assertFalse(FeedbackQueryService.matches(null, etag));
+        }
+    }
+
+    private static FeedbackView view(Long id, LocalDateTime updatedAt) {
+        return new FeedbackView(id, "Aula ótima", 9, StatusFeedback.NORMAL, 0.8, updatedAt, updatedAt);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.postech.feedback.loadtest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Epoch microseconds derived from {@link System#nanoTime()}, so harness timestamps are monotonic
+ * but still comparable with the wall-clock timestamps reported by SNS and SES.
+ */
+final class Clock {
+
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final long ORIGIN_MICROS = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+
+    private Clock() {
+    }
+
+    static long nowMicros() {
+        return toMicros(System.nanoTime());
+    }
+
+    static long toMicros(long nanoTime) {
+        return ORIGIN_MICROS + (nanoTime - ORIGIN_NANOS) / 1_000;
+    }
+
+    static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.postech.feedback.loadtest;
+
+/**
+ * Timestamps of one feedback across the pipeline, in epoch microseconds. Stages are written by
+ * different threads and may arrive in any order (SNS can beat the HTTP response), so every field
+ * is volatile and {@code 0} means "not observed".
+ */
+final class FeedbackTrace {
+
+    volatile int step = -1;
+    volatile int rating = -1;
+    volatile long intendedAt;
+    volatile long acceptedAt;
+    volatile long publishedAt;
+    volatile long trackerReceivedAt;
+    volatile long emailedAt;
+
+    boolean isCritical() {
+        return rating >= 0 && rating < 5;
+    }
+}
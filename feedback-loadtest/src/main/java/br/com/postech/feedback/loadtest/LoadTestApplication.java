@@ -0,0 +1,143 @@
+package br.com.postech.feedback.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Open-loop load test of the whole pipeline running on docker-compose: POST through nginx into
+ * ingestion, SQS -> analysis -> SNS observed by a tracker queue, and the notification e-mail
+ * observed in LocalStack's SES mailbox.
+ */
+public final class LoadTestApplication {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestApplication.class);
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(LoadTestConfig.USAGE);
+            return;
+        }
+
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        PipelineTracker tracker = new PipelineTracker();
+        List<StepCounters> steps = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             SnsClient snsClient = snsClient(config);
+             SqsClient sqsClient = sqsClient(config)) {
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            SnsPublicationTracker snsTracker = new SnsPublicationTracker(
+                    snsClient, sqsClient, objectMapper, tracker, config.topicName());
+            SesMailboxPoller sesPoller = new SesMailboxPoller(httpClient, objectMapper, tracker, config.awsEndpoint());
+            try {
+                if (config.trackSns()) {
+                    snsTracker.start();
+                }
+                if (config.trackSes()) {
+                    sesPoller.start();
+                }
+
+                logger.info("Alvo {} | taxas {} req/s | {} por etapa | notas {}",
+                        config.targetUrl(), config.rates(), config.stepDuration(), config.ratings());
+
+                OpenLoopGenerator generator = new OpenLoopGenerator(config, tracker, httpClient, objectMapper);
+                for (int i = 0; i < config.rates().size(); i++) {
+                    steps.add(generator.runStep(i, config.rates().get(i)));
+                }
+                generator.awaitInFlight();
+                drain(config, tracker);
+            } finally {
+                sesPoller.close();
+                snsTracker.close();
+            }
+        }
+
+        LoadTestReport.Summary summary = LoadTestReport.build(config, steps, tracker.traces());
+        LoadTestReport.print(summary, System.out);
+        LoadTestReport.write(summary, Path.of(config.output()));
+        logger.info("Relatório salvo em {}", Path.of(config.output()).toAbsolutePath());
+    }
+
+    /** Waits until every accepted critical feedback reached the tracked stages, or the drain timeout. */
+    private static void drain(LoadTestConfig config, PipelineTracker tracker) throws InterruptedException {
+        if (!config.trackSns() && !config.trackSes()) {
+            return;
+        }
+        long deadline = System.nanoTime() + config.drainTimeout().toNanos();
+        long pending = pending(config, tracker);
+        while (pending > 0 && System.nanoTime() < deadline) {
+            logger.info("Aguardando {} feedbacks críticos no pipeline...", pending);
+            Thread.sleep(2_000);
+            pending = pending(config, tracker);
+        }
+        if (pending > 0) {
+            logger.warn("{} feedbacks críticos não foram observados em todas as etapas após {}",
+                    pending, config.drainTimeout());
+        }
+    }
+
+    private static long pending(LoadTestConfig config, PipelineTracker tracker) {
+        return tracker.traces().stream()
+                .filter(trace -> trace.acceptedAt > 0 && trace.isCritical())
+                .filter(trace -> (config.trackSns() && trace.publishedAt == 0)
+                        || (config.trackSes() && trace.emailedAt == 0))
+                .count();
+    }
+
+    private static SnsClient snsClient(LoadTestConfig config) {
+        return SnsClient.builder()
+                .endpointOverride(URI.create(config.awsEndpoint()))
+                .region(Region.of(config.region()))
+                .credentialsProvider(localStackCredentials())
+                .httpClient(UrlConnectionHttpClient.create())
+                .build();
+    }
+
+    private static SqsClient sqsClient(LoadTestConfig config) {
+        return SqsClient.builder()
+                .endpointOverride(URI.create(config.awsEndpoint()))
+                .region(Region.of(config.region()))
+                .credentialsProvider(localStackCredentials())
+                .httpClient(UrlConnectionHttpClient.create())
+                .build();
+    }
+
+    private static StaticCredentialsProvider localStackCredentials() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+    }
+}
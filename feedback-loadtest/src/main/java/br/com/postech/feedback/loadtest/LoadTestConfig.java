@@ -0,0 +1,119 @@
+package br.com.postech.feedback.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options. Every option is {@code --name=value}; unspecified ones keep the defaults
+ * that match docker-compose.
+ */
+record LoadTestConfig(
+        String targetUrl,
+        List<Double> rates,
+        Duration stepDuration,
+        ArrivalProcess arrivals,
+        int maxInFlight,
+        Duration requestTimeout,
+        Duration drainTimeout,
+        Duration sloP99,
+        RatingDistribution ratings,
+        String awsEndpoint,
+        String region,
+        String topicName,
+        boolean trackSns,
+        boolean trackSes,
+        String output
+) {
+
+    enum ArrivalProcess { CONSTANT, POISSON }
+
+    static final String USAGE = """
+            Uso: java -jar loadtest.jar [opções]
+
+              --url=URL               endpoint de criação (padrão: http://localhost/api/feedbacks)
+              --rates=5,10,20         taxas oferecidas em req/s, uma etapa por taxa (padrão: 5,10,20,50)
+              --duration=60s          duração de cada etapa (padrão: 60s)
+              --arrivals=poisson      constant | poisson (padrão: poisson)
+              --max-in-flight=2000    requisições simultâneas antes de descartar no cliente (padrão: 2000)
+              --request-timeout=30s   timeout de cada POST (padrão: 30s)
+              --drain=60s             espera por SNS/SES após a última etapa (padrão: 60s)
+              --slo-p99=500ms         p99 HTTP máximo para considerar a etapa sustentável (padrão: 500ms)
+              --ratings=w0,...,w10    pesos das notas 0..10 (padrão: distribuição em J)
+              --aws-endpoint=URL      LocalStack (padrão: http://localhost:4566)
+              --region=us-east-2      região AWS (padrão: us-east-2)
+              --topic=NOME            tópico SNS das notificações (padrão: feedback-notification-topic)
+              --no-sns                não acompanha a etapa SQS -> análise -> SNS
+              --no-ses                não acompanha a etapa de notificação (SES)
+              --output=arquivo.json   relatório JSON (padrão: loadtest-report.json)
+            """;
+
+    static LoadTestConfig parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                options.getOrDefault("url", "http://localhost/api/feedbacks"),
+                parseRates(options.getOrDefault("rates", "5,10,20,50")),
+                parseDuration(options.getOrDefault("duration", "60s")),
+                ArrivalProcess.valueOf(options.getOrDefault("arrivals", "poisson").toUpperCase(Locale.ROOT)),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "2000")),
+                parseDuration(options.getOrDefault("request-timeout", "30s")),
+                parseDuration(options.getOrDefault("drain", "60s")),
+                parseDuration(options.getOrDefault("slo-p99", "500ms")),
+                options.containsKey("ratings")
+                        ? RatingDistribution.parse(options.get("ratings"))
+                        : RatingDistribution.DEFAULT,
+                options.getOrDefault("aws-endpoint", "http://localhost:4566"),
+                options.getOrDefault("region", "us-east-2"),
+                options.getOrDefault("topic", "feedback-notification-topic"),
+                !options.containsKey("no-sns"),
+                !options.containsKey("no-ses"),
+                options.getOrDefault("output", "loadtest-report.json"));
+
+        if (config.rates.isEmpty() || config.rates.stream().anyMatch(rate -> rate <= 0)) {
+            throw new IllegalArgumentException("Rates must be positive: " + config.rates);
+        }
+        if (config.maxInFlight <= 0) {
+            throw new IllegalArgumentException("max-in-flight must be positive");
+        }
+        return config;
+    }
+
+    static List<Double> parseRates(String value) {
+        List<Double> rates = new ArrayList<>();
+        for (String rate : value.split(",")) {
+            if (!rate.isBlank()) {
+                rates.add(Double.parseDouble(rate.trim()));
+            }
+        }
+        return rates;
+    }
+
+    static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+}
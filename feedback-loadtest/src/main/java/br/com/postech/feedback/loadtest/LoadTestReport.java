@@ -0,0 +1,214 @@
+package br.com.postech.feedback.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-step latency distributions and the sustainable-throughput verdict. A step is sustainable
+ * when the client dropped nothing, under 1% of the requests failed, at least 95% of the offered
+ * rate was achieved and the HTTP p99 stayed within the SLO.
+ */
+final class LoadTestReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MAX_ERROR_RATE = 0.01;
+    private static final double MIN_ACHIEVED_RATIO = 0.95;
+
+    record Latency(long count, double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    record Step(
+            int step,
+            double offeredRate,
+            double durationSeconds,
+            long sent,
+            long droppedByClient,
+            long accepted,
+            Map<String, Long> rejectedByStatus,
+            long failed,
+            double achievedRate,
+            double errorRate,
+            Latency http,
+            long criticalAccepted,
+            double expectedCriticalShare,
+            long published,
+            Latency queueToSns,
+            Latency trackerDelivery,
+            long emailed,
+            Latency notification,
+            Latency endToEnd,
+            boolean sustainable
+    ) {
+    }
+
+    record Summary(
+            String generatedAt,
+            String targetUrl,
+            String arrivals,
+            double sloP99Ms,
+            boolean snsTracked,
+            boolean sesTracked,
+            Double sustainableRate,
+            List<Step> steps
+    ) {
+    }
+
+    private LoadTestReport() {
+    }
+
+    static Summary build(LoadTestConfig config, List<StepCounters> counters, Collection<FeedbackTrace> traces) {
+        double sloMicros = config.sloP99().toNanos() / 1_000.0;
+        List<Step> steps = new ArrayList<>();
+        Double sustainableRate = null;
+
+        for (StepCounters step : counters) {
+            Histogram http = histogram();
+            Histogram queueToSns = histogram();
+            Histogram trackerDelivery = histogram();
+            Histogram notification = histogram();
+            Histogram endToEnd = histogram();
+            long critical = 0;
+
+            for (FeedbackTrace trace : traces) {
+                if (trace.step != step.index) {
+                    continue;
+                }
+                record(http, trace.intendedAt, trace.acceptedAt);
+                if (trace.isCritical()) {
+                    critical++;
+                }
+                if (trace.publishedAt > 0) {
+                    record(queueToSns, trace.acceptedAt, trace.publishedAt);
+                    record(trackerDelivery, trace.publishedAt, trace.trackerReceivedAt);
+                }
+                if (trace.emailedAt > 0) {
+                    if (trace.publishedAt > 0) {
+                        record(notification, trace.publishedAt, trace.emailedAt);
+                    }
+                    record(endToEnd, trace.intendedAt, trace.emailedAt);
+                }
+            }
+
+            long completed = step.accepted.sum() + step.rejectedTotal() + step.failed.sum();
+            long offered = step.sent.sum() + step.dropped.sum();
+            double errorRate = completed > 0 ? (double) (step.rejectedTotal() + step.failed.sum()) / completed : 0;
+            double achievedRate = step.accepted.sum() / step.durationSeconds;
+            boolean sustainable = offered > 0
+                    && step.dropped.sum() == 0
+                    && errorRate < MAX_ERROR_RATE
+                    && achievedRate >= step.offeredRate * MIN_ACHIEVED_RATIO
+                    && http.getTotalCount() > 0
+                    && http.getValueAtPercentile(99) <= sloMicros;
+            if (sustainable && (sustainableRate == null || step.offeredRate > sustainableRate)) {
+                sustainableRate = step.offeredRate;
+            }
+
+            steps.add(new Step(
+                    step.index + 1,
+                    step.offeredRate,
+                    step.durationSeconds,
+                    step.sent.sum(),
+                    step.dropped.sum(),
+                    step.accepted.sum(),
+                    step.rejectedByStatus(),
+                    step.failed.sum(),
+                    achievedRate,
+                    errorRate,
+                    latency(http),
+                    critical,
+                    config.ratings().criticalShare(),
+                    queueToSns.getTotalCount(),
+                    latency(queueToSns),
+                    latency(trackerDelivery),
+                    endToEnd.getTotalCount(),
+                    latency(notification),
+                    latency(endToEnd),
+                    sustainable));
+        }
+
+        return new Summary(Instant.now().toString(), config.targetUrl(), config.arrivals().name(), sloMicros / 1_000.0,
+                config.trackSns(), config.trackSes(), sustainableRate, steps);
+    }
+
+    static void print(Summary summary, PrintStream out) {
+        out.println();
+        out.println("=== RESULTADO DO TESTE DE CARGA ===");
+        out.printf("%-5s %9s %9s %8s %8s %8s %8s %10s %10s %10s %10s%n",
+                "etapa", "oferecido", "atingido", "erros%", "descart.", "críticos", "SNS", "http p50", "http p99",
+                "SNS p99", "e2e p99");
+        for (Step step : summary.steps()) {
+            out.printf("%-5d %9.1f %9.1f %8.2f %8d %8d %8s %10.1f %10.1f %10s %10s %s%n",
+                    step.step(),
+                    step.offeredRate(),
+                    step.achievedRate(),
+                    step.errorRate() * 100,
+                    step.droppedByClient(),
+                    step.criticalAccepted(),
+                    summary.snsTracked() ? String.valueOf(step.published()) : "-",
+                    step.http().p50Ms(),
+                    step.http().p99Ms(),
+                    optional(summary.snsTracked(), step.queueToSns()),
+                    optional(summary.sesTracked(), step.endToEnd()),
+                    step.sustainable() ? "" : "(não sustentável)");
+            if (!step.rejectedByStatus().isEmpty()) {
+                out.printf("      respostas rejeitadas por status: %s%n", step.rejectedByStatus());
+            }
+        }
+        out.println();
+        out.println(summary.sustainableRate() != null
+                ? String.format("Maior taxa sustentável: %.1f req/s (p99 HTTP <= %.0f ms)",
+                        summary.sustainableRate(), summary.sloP99Ms())
+                : "Nenhuma etapa foi sustentável");
+    }
+
+    static void write(Summary summary, Path output) throws IOException {
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), summary);
+    }
+
+    private static String optional(boolean tracked, Latency latency) {
+        return tracked && latency.count() > 0 ? String.format("%.1f", latency.p99Ms()) : "-";
+    }
+
+    private static Histogram histogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    // Relógios diferentes (host x LocalStack) podem produzir intervalos levemente negativos
+    private static void record(Histogram histogram, long from, long to) {
+        if (from <= 0 || to <= 0) {
+            return;
+        }
+        histogram.recordValue(Math.min(Math.max(to - from, 0), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private static Latency latency(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return new Latency(0, 0, 0, 0, 0, 0);
+        }
+        return new Latency(
+                histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
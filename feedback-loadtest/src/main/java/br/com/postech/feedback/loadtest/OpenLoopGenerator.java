@@ -0,0 +1,137 @@
+package br.com.postech.feedback.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fires POSTs on a precomputed schedule regardless of how fast the service answers (open loop),
+ * so a slow system accumulates in-flight requests instead of silently lowering the offered rate.
+ * Latency is measured from the intended send time to avoid coordinated omission.
+ */
+final class OpenLoopGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenLoopGenerator.class);
+
+    private static final String[] DESCRIPTIONS = {
+            "Ótima aula, conteúdo muito claro e bem organizado",
+            "Professor atrasou e o áudio estava ruim",
+            "Poderia ter mais exercícios práticos sobre o tema da semana",
+            "Excelente didática, parabéns",
+            "Não consegui acessar a gravação da aula",
+            "Material complementar muito bom, recomendo",
+            "A plataforma caiu duas vezes durante a prova",
+            "Gostei, mas o ritmo foi rápido demais"
+    };
+
+    private final LoadTestConfig config;
+    private final PipelineTracker tracker;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Semaphore inFlight;
+    private final SplittableRandom random = new SplittableRandom();
+
+    OpenLoopGenerator(LoadTestConfig config, PipelineTracker tracker, HttpClient httpClient, ObjectMapper objectMapper) {
+        this.config = config;
+        this.tracker = tracker;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.inFlight = new Semaphore(config.maxInFlight());
+    }
+
+    StepCounters runStep(int index, double rate) {
+        long durationNanos = config.stepDuration().toNanos();
+        StepCounters counters = new StepCounters(index, rate, durationNanos / 1e9);
+        double meanIntervalNanos = 1e9 / rate;
+
+        logger.info("Etapa {}: {} req/s por {}s ({})", index + 1, rate, durationNanos / 1_000_000_000L,
+                config.arrivals());
+
+        long start = System.nanoTime();
+        double offset = 0;
+        while (offset < durationNanos) {
+            long intended = start + (long) offset;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(counters, Clock.toMicros(intended));
+
+            offset += config.arrivals() == LoadTestConfig.ArrivalProcess.POISSON
+                    ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos
+                    : meanIntervalNanos;
+        }
+        return counters;
+    }
+
+    /** Waits for every outstanding request, bounded by the request timeout. */
+    void awaitInFlight() throws InterruptedException {
+        long timeoutMillis = config.requestTimeout().toMillis() + 1_000;
+        if (inFlight.tryAcquire(config.maxInFlight(), timeoutMillis, TimeUnit.MILLISECONDS)) {
+            inFlight.release(config.maxInFlight());
+        } else {
+            logger.warn("{} requisições ainda pendentes após {} ms",
+                    config.maxInFlight() - inFlight.availablePermits(), timeoutMillis);
+        }
+    }
+
+    private void send(StepCounters counters, long intendedAt) {
+        if (!inFlight.tryAcquire()) {
+            counters.dropped.increment();
+            return;
+        }
+        counters.sent.increment();
+
+        int rating = config.ratings().sample(random);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.targetUrl()))
+                .timeout(config.requestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(rating)))
+                .build();
+
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    try {
+                        long completedAt = Clock.nowMicros();
+                        if (error != null) {
+                            counters.failed.increment();
+                        } else if (response.statusCode() / 100 != 2) {
+                            counters.rejected(response.statusCode());
+                        } else {
+                            counters.accepted.increment();
+                            tracker.accepted(feedbackId(response.body()), counters.index, rating, intendedAt, completedAt);
+                        }
+                    } catch (Exception e) {
+                        counters.failed.increment();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    private String body(int rating) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("description", DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+        body.put("rating", rating);
+        return body.toString();
+    }
+
+    private long feedbackId(String responseBody) throws Exception {
+        JsonNode id = objectMapper.readTree(responseBody).path("id");
+        if (!id.canConvertToLong()) {
+            throw new IllegalStateException("Response without feedback id: " + responseBody);
+        }
+        return id.asLong();
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.postech.feedback.loadtest;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Correlates the observations of every stage by feedback id.
+ */
+final class PipelineTracker {
+
+    private final ConcurrentHashMap<Long, FeedbackTrace> traces = new ConcurrentHashMap<>();
+
+    void accepted(long id, int step, int rating, long intendedAt, long acceptedAt) {
+        FeedbackTrace trace = trace(id);
+        trace.step = step;
+        trace.rating = rating;
+        trace.intendedAt = intendedAt;
+        trace.acceptedAt = acceptedAt;
+    }
+
+    void published(long id, long publishedAt, long receivedAt) {
+        FeedbackTrace trace = trace(id);
+        trace.publishedAt = publishedAt;
+        trace.trackerReceivedAt = receivedAt;
+    }
+
+    void emailed(long id, long emailedAt) {
+        trace(id).emailedAt = emailedAt;
+    }
+
+    Collection<FeedbackTrace> traces() {
+        return traces.values();
+    }
+
+    private FeedbackTrace trace(long id) {
+        return traces.computeIfAbsent(id, ignored -> new FeedbackTrace());
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.postech.feedback.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted sampler for ratings 0..10.
+ * <p>
+ * The default is the J-shaped curve typical of course evaluations: most students give 7-10 and
+ * roughly 14% give less than 5, which is what makes a feedback CRITICAL and triggers the
+ * notification path.
+ */
+final class RatingDistribution {
+
+    static final RatingDistribution DEFAULT = new RatingDistribution(
+            new double[]{3, 2, 2, 3, 4, 6, 8, 14, 20, 18, 20});
+
+    private static final int RATINGS = 11;
+
+    private final double[] weights;
+    private final double[] cumulative;
+
+    RatingDistribution(double[] weights) {
+        if (weights.length != RATINGS) {
+            throw new IllegalArgumentException("Expected " + RATINGS + " weights (ratings 0..10), got " + weights.length);
+        }
+        this.weights = weights.clone();
+        this.cumulative = new double[RATINGS];
+        double total = 0;
+        for (int i = 0; i < RATINGS; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        for (int i = 0; i < RATINGS; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    static RatingDistribution parse(String value) {
+        return new RatingDistribution(Arrays.stream(value.split(","))
+                .map(String::trim)
+                .mapToDouble(Double::parseDouble)
+                .toArray());
+    }
+
+    int sample(SplittableRandom random) {
+        double point = random.nextDouble();
+        for (int rating = 0; rating < RATINGS; rating++) {
+            if (point < cumulative[rating]) {
+                return rating;
+            }
+        }
+        return RATINGS - 1;
+    }
+
+    /** Share of feedbacks expected to be CRITICAL (rating below 5). */
+    double criticalShare() {
+        return cumulative[4];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(weights);
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.postech.feedback.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Observes the notification stage through LocalStack's SES mailbox ({@code GET /_aws/ses}),
+ * matching critical-feedback e-mails to feedbacks by the id rendered in the template.
+ */
+final class SesMailboxPoller implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SesMailboxPoller.class);
+
+    private static final Pattern FEEDBACK_ID =
+            Pattern.compile("ID do Feedback:</span>\\s*<span class=\"value\">(\\d+)</span>");
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final PipelineTracker tracker;
+    private final URI mailboxUri;
+    private final Set<String> seen = new HashSet<>();
+
+    private Thread poller;
+    private volatile boolean running;
+
+    SesMailboxPoller(HttpClient httpClient, ObjectMapper objectMapper, PipelineTracker tracker, String awsEndpoint) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.tracker = tracker;
+        this.mailboxUri = URI.create(awsEndpoint.replaceAll("/+$", "") + "/_aws/ses");
+    }
+
+    void start() throws Exception {
+        // E-mails de execuções anteriores continuam na caixa do LocalStack
+        for (JsonNode message : fetch()) {
+            seen.add(message.path("Id").asText());
+        }
+        logger.info("Acompanhando {} ({} e-mails pré-existentes ignorados)", mailboxUri, seen.size());
+
+        running = true;
+        poller = Thread.ofPlatform().name("ses-mailbox").daemon().start(this::poll);
+    }
+
+    private void poll() {
+        while (running) {
+            try {
+                for (JsonNode message : fetch()) {
+                    if (!seen.add(message.path("Id").asText())) {
+                        continue;
+                    }
+                    OptionalLong feedbackId = feedbackId(message.path("Body").path("html_part").asText(""));
+                    if (feedbackId.isPresent()) {
+                        tracker.emailed(feedbackId.getAsLong(), parseTimestamp(message.path("Timestamp").asText()));
+                    }
+                }
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (running) {
+                    logger.warn("Falha ao consultar {}: {}", mailboxUri, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private JsonNode fetch() throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(mailboxUri).timeout(Duration.ofSeconds(10)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " from " + mailboxUri);
+        }
+        return objectMapper.readTree(response.body()).path("messages");
+    }
+
+    static OptionalLong feedbackId(String html) {
+        Matcher matcher = FEEDBACK_ID.matcher(html);
+        return matcher.find() ? OptionalLong.of(Long.parseLong(matcher.group(1))) : OptionalLong.empty();
+    }
+
+    static long parseTimestamp(String value) {
+        try {
+            return Clock.toMicros(Instant.parse(value));
+        } catch (Exception ignored) {
+            // LocalStack já usou formatos com offset e sem zona
+        }
+        try {
+            return Clock.toMicros(OffsetDateTime.parse(value).toInstant());
+        } catch (Exception ignored) {
+            // segue para o formato local
+        }
+        return Clock.toMicros(LocalDateTime.parse(value).toInstant(ZoneOffset.UTC));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+            poller.join(5_000);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.postech.feedback.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.CreateTopicRequest;
+import software.amazon.awssdk.services.sns.model.SubscribeRequest;
+import software.amazon.awssdk.services.sns.model.UnsubscribeRequest;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Observes the analysis output by subscribing a temporary SQS queue to the notification topic.
+ * The SNS envelope carries the publish timestamp, which closes the SQS -> analysis -> SNS stage
+ * without touching the queue the analysis service consumes.
+ */
+final class SnsPublicationTracker implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnsPublicationTracker.class);
+
+    record Publication(long feedbackId, long publishedAt) {
+    }
+
+    private final SnsClient snsClient;
+    private final SqsClient sqsClient;
+    private final ObjectMapper objectMapper;
+    private final PipelineTracker tracker;
+    private final String topicName;
+
+    private String queueUrl;
+    private String subscriptionArn;
+    private Thread poller;
+    private volatile boolean running;
+
+    SnsPublicationTracker(SnsClient snsClient, SqsClient sqsClient, ObjectMapper objectMapper,
+                          PipelineTracker tracker, String topicName) {
+        this.snsClient = snsClient;
+        this.sqsClient = sqsClient;
+        this.objectMapper = objectMapper;
+        this.tracker = tracker;
+        this.topicName = topicName;
+    }
+
+    void start() {
+        String topicArn = snsClient.createTopic(CreateTopicRequest.builder().name(topicName).build()).topicArn();
+        queueUrl = sqsClient.createQueue(CreateQueueRequest.builder()
+                .queueName("feedback-loadtest-tracker-" + System.currentTimeMillis())
+                .build()).queueUrl();
+        String queueArn = sqsClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                        .queueUrl(queueUrl)
+                        .attributeNames(QueueAttributeName.QUEUE_ARN)
+                        .build())
+                .attributes().get(QueueAttributeName.QUEUE_ARN);
+        subscriptionArn = snsClient.subscribe(SubscribeRequest.builder()
+                .topicArn(topicArn)
+                .protocol("sqs")
+                .endpoint(queueArn)
+                .build()).subscriptionArn();
+        logger.info("Fila de rastreamento {} inscrita em {}", queueArn, topicArn);
+
+        running = true;
+        poller = Thread.ofPlatform().name("sns-tracker").daemon().start(this::poll);
+    }
+
+    private void poll() {
+        while (running) {
+            try {
+                List<Message> messages = sqsClient.receiveMessage(ReceiveMessageRequest.builder()
+                        .queueUrl(queueUrl)
+                        .maxNumberOfMessages(10)
+                        .waitTimeSeconds(1)
+                        .build()).messages();
+                if (messages.isEmpty()) {
+                    continue;
+                }
+                long receivedAt = Clock.nowMicros();
+                for (Message message : messages) {
+                    parseEnvelope(objectMapper, message.body())
+                            .ifPresent(p -> tracker.published(p.feedbackId(), p.publishedAt(), receivedAt));
+                }
+                sqsClient.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                        .queueUrl(queueUrl)
+                        .entries(messages.stream()
+                                .map(m -> DeleteMessageBatchRequestEntry.builder()
+                                        .id(m.messageId())
+                                        .receiptHandle(m.receiptHandle())
+                                        .build())
+                                .toList())
+                        .build());
+            } catch (Exception e) {
+                if (running) {
+                    logger.warn("Falha ao ler a fila de rastreamento: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    static Optional<Publication> parseEnvelope(ObjectMapper objectMapper, String body) {
+        try {
+            JsonNode envelope = objectMapper.readTree(body);
+            JsonNode event = objectMapper.readTree(envelope.path("Message").asText());
+            JsonNode id = event.path("id");
+            if (!id.canConvertToLong() || !envelope.hasNonNull("Timestamp")) {
+                return Optional.empty();
+            }
+            Instant publishedAt = Instant.parse(envelope.get("Timestamp").asText());
+            return Optional.of(new Publication(id.asLong(), Clock.toMicros(publishedAt)));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        if (poller != null) {
+            poller.join(5_000);
+        }
+        try {
+            if (subscriptionArn != null) {
+                snsClient.unsubscribe(UnsubscribeRequest.builder().subscriptionArn(subscriptionArn).build());
+            }
+            if (queueUrl != null) {
+                sqsClient.deleteQueue(DeleteQueueRequest.builder().queueUrl(queueUrl).build());
+            }
+        } catch (Exception e) {
+            logger.warn("Falha ao remover a fila de rastreamento {}: {}", queueUrl, e.getMessage());
+        }
+    }
+}
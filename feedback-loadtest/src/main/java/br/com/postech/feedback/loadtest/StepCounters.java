@@ -0,0 +1,43 @@
+package br.com.postech.feedback.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side outcome of one rate step. Responses that arrive after the step ended still count for
+ * the step in which they were scheduled.
+ */
+final class StepCounters {
+
+    final int index;
+    final double offeredRate;
+    final double durationSeconds;
+
+    final LongAdder sent = new LongAdder();
+    final LongAdder dropped = new LongAdder();
+    final LongAdder accepted = new LongAdder();
+    final LongAdder failed = new LongAdder();
+    private final ConcurrentHashMap<Integer, LongAdder> rejectedByStatus = new ConcurrentHashMap<>();
+
+    StepCounters(int index, double offeredRate, double durationSeconds) {
+        this.index = index;
+        this.offeredRate = offeredRate;
+        this.durationSeconds = durationSeconds;
+    }
+
+    void rejected(int status) {
+        rejectedByStatus.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+    }
+
+    long rejectedTotal() {
+        return rejectedByStatus.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    Map<String, Long> rejectedByStatus() {
+        Map<String, Long> result = new TreeMap<>();
+        rejectedByStatus.forEach((status, count) -> result.put(String.valueOf(status), count.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.postech.feedback.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadTestConfigTest {
+
+    @Nested
+    @DisplayName("Opções de linha de comando")
+    class ParseTests {
+
+        @Test
+        @DisplayName("Deve usar os padrões do docker-compose")
+        void shouldUseDefaults() {
+            LoadTestConfig config = LoadTestConfig.parse();
+
+            assertThat(config.targetUrl()).isEqualTo("http://localhost/api/feedbacks");
+            assertThat(config.rates()).containsExactly(5.0, 10.0, 20.0, 50.0);
+            assertThat(config.arrivals()).isEqualTo(LoadTestConfig.ArrivalProcess.POISSON);
+            assertThat(config.trackSns()).isTrue();
+            assertThat(config.trackSes()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve interpretar taxas, durações e flags")
+        void shouldParseOptions() {
+            LoadTestConfig config = LoadTestConfig.parse(
+                    "--rates=1, 2.5", "--duration=2m", "--slo-p99=250ms", "--arrivals=constant", "--no-ses");
+
+            assertThat(config.rates()).containsExactly(1.0, 2.5);
+            assertThat(config.stepDuration()).isEqualTo(Duration.ofMinutes(2));
+            assertThat(config.sloP99()).isEqualTo(Duration.ofMillis(250));
+            assertThat(config.arrivals()).isEqualTo(LoadTestConfig.ArrivalProcess.CONSTANT);
+            assertThat(config.trackSes()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar taxas não positivas")
+        void shouldRejectInvalidRates() {
+            assertThatThrownBy(() -> LoadTestConfig.parse("--rates=10,0"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Distribuição de notas")
+    class RatingDistributionTests {
+
+        @Test
+        @DisplayName("Deve amostrar apenas notas com peso")
+        void shouldSampleOnlyWeightedRatings() {
+            RatingDistribution distribution = RatingDistribution.parse("0,0,0,1,0,0,0,0,0,0,1");
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(distribution.sample(random)).isIn(3, 10);
+            }
+            assertThat(distribution.criticalShare()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("Deve exigir onze pesos")
+        void shouldRequireElevenWeights() {
+            assertThatThrownBy(() -> RatingDistribution.parse("1,2,3"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
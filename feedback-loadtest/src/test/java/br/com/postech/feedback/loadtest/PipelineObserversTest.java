@@ -0,0 +1,70 @@
+package br.com.postech.feedback.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineObserversTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("Envelope SNS")
+    class SnsEnvelopeTests {
+
+        @Test
+        @DisplayName("Deve extrair o id do feedback e o horário de publicação")
+        void shouldParseEnvelope() {
+            String body = """
+                    {"Type":"Notification","Timestamp":"2026-01-15T10:30:00.250Z",
+                     "Message":"{\\"id\\":42,\\"status\\":\\"CRITICAL\\"}"}
+                    """;
+
+            assertThat(SnsPublicationTracker.parseEnvelope(objectMapper, body))
+                    .contains(new SnsPublicationTracker.Publication(42,
+                            Clock.toMicros(Instant.parse("2026-01-15T10:30:00.250Z"))));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar mensagens que não são eventos de feedback")
+        void shouldIgnoreOtherMessages() {
+            String body = """
+                    {"Type":"Notification","Timestamp":"2026-01-15T10:30:00Z","Message":"relatório pronto"}
+                    """;
+
+            assertThat(SnsPublicationTracker.parseEnvelope(objectMapper, body)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Caixa de e-mail do SES")
+    class SesMailboxTests {
+
+        @Test
+        @DisplayName("Deve extrair o id do feedback do template de alerta")
+        void shouldExtractFeedbackId() {
+            String html = """
+                    <div class="field"><span class="label">ID do Feedback:</span>
+                        <span class="value">1234</span></div>
+                    """;
+
+            assertThat(SesMailboxPoller.feedbackId(html)).hasValue(1234);
+            assertThat(SesMailboxPoller.feedbackId("<p>Relatório semanal</p>")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve aceitar timestamps com e sem zona")
+        void shouldParseTimestamps() {
+            long expected = Clock.toMicros(Instant.parse("2026-01-15T10:30:00.123Z"));
+
+            assertThat(SesMailboxPoller.parseTimestamp("2026-01-15T10:30:00.123Z")).isEqualTo(expected);
+            assertThat(SesMailboxPoller.parseTimestamp("2026-01-15T10:30:00.123+00:00")).isEqualTo(expected);
+            assertThat(SesMailboxPoller.parseTimestamp("2026-01-15T10:30:00.123")).isEqualTo(expected);
+        }
+    }
+}
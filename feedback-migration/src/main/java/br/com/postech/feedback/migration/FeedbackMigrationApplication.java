@@ -0,0 +1,13 @@
+package br.com.postech.feedback.migration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class FeedbackMigrationApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(FeedbackMigrationApplication.class, args);
+	}
+
+}
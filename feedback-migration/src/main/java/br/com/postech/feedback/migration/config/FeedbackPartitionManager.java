@@ -0,0 +1,310 @@
+package br.com.postech.feedback.migration.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Monthly range partitioning of {@code feedbacks} on {@code created_at} (PostgreSQL only).
+ * <p>
+ * {@link #partition} converts the plain table once (migration {@code V3}): a partitioned copy with
+ * one partition per month of existing data plus {@code feedbacks_default}, filled under an
+ * {@code EXCLUSIVE} lock (reads continue, writes wait) and swapped in by rename. The id sequence
+ * moves to the new table; the old one is kept as {@code feedbacks_unpartitioned} until someone
+ * drops it, unless it was empty.
+ * <p>
+ * {@link #createFuturePartitions} keeps {@code feedback.schema.partitioning.months-ahead} months
+ * ready so rows never land in the default partition, and {@link #detachExpired} detaches months
+ * older than {@code feedback.schema.partitioning.retention-months} (0 keeps everything). Both run
+ * after the migrations on every invocation of the migration function. Detaching is a catalog
+ * change: the month stays as a standalone table, which the archiver no longer reads, so the
+ * retention must outlast {@code feedback.schema.partitioning.archive-age-days} (checked at
+ * startup). {@link #createPartitions} does the same ahead of bulk imports of historical months
+ * ({@code feedback-importer}).
+ */
+@Component
+public class FeedbackPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackPartitionManager.class);
+
+    static final String DEFAULT_PARTITION = "feedbacks_default";
+    static final String UNPARTITIONED_TABLE = "feedbacks_unpartitioned";
+
+    // Linhas com datas absurdas não devem gerar milhares de partições: vão para a default
+    private static final int MAX_MONTHS_BACK = 120;
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String RELKIND =
+            "SELECT c.relkind FROM pg_class c WHERE c.oid = to_regclass('feedbacks')";
+    private static final String COPY_COLUMNS = "SELECT column_name FROM information_schema.columns "
+            + "WHERE table_schema = current_schema() AND table_name = 'feedbacks' AND is_generated = 'NEVER' "
+            + "ORDER BY ordinal_position";
+    private static final String ID_SEQUENCE = "SELECT pg_get_serial_sequence('feedbacks', 'id')";
+    private static final String MONTHLY_PARTITIONS = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass('feedbacks') "
+            + "AND c.relname ~ '^feedbacks_[0-9]{4}_[0-9]{2}$' ORDER BY c.relname";
+
+    // Mesmo limite do SnowflakeIdGenerator (feedback-core): acima dele os ids levam shard e worker,
+    // e a sequência original não pode chegar lá
+    static final long LEGACY_ID_LIMIT = 1L << 40;
+
+    // Mês mais curto: o intervalo de retention-months meses tem pelo menos isso de dias
+    private static final int MIN_DAYS_PER_MONTH = 28;
+
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Clock clock;
+
+    @Autowired
+    public FeedbackPartitionManager(@Value("${feedback.schema.partitioning.months-ahead:3}") int monthsAhead,
+                                    @Value("${feedback.schema.partitioning.retention-months:0}") int retentionMonths,
+                                    @Value("${feedback.schema.partitioning.archive-age-days:0}") int archiveAgeDays) {
+        this(monthsAhead, retentionMonths, archiveAgeDays, Clock.systemUTC());
+    }
+
+    public FeedbackPartitionManager(int monthsAhead, int retentionMonths, Clock clock) {
+        this(monthsAhead, retentionMonths, 0, clock);
+    }
+
+    /** {@code archiveAgeDays} is the archiver's {@code reporting.archive.age-days}, 0 when nothing is archived. */
+    public FeedbackPartitionManager(int monthsAhead, int retentionMonths, int archiveAgeDays, Clock clock) {
+        if (monthsAhead < 0 || retentionMonths < 0 || archiveAgeDays < 0) {
+            throw new IllegalArgumentException(
+                    "months-ahead, retention-months and archive-age-days must not be negative");
+        }
+        // Estrito: o arquivamento roda uma vez por dia e precisa de uma execução depois que as linhas envelhecem
+        if (retentionMonths > 0 && (long) retentionMonths * MIN_DAYS_PER_MONTH <= archiveAgeDays) {
+            throw new IllegalArgumentException("retention-months (" + retentionMonths
+                    + ") must outlast archive-age-days (" + archiveAgeDays
+                    + "): detached months are never archived. Use at least "
+                    + (archiveAgeDays / MIN_DAYS_PER_MONTH + 1) + " months or 0 to keep every month");
+        }
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.clock = clock;
+    }
+
+    public boolean isPartitioned(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(RELKIND)) {
+            return result.next() && "p".equals(result.getString(1));
+        }
+    }
+
+    /**
+     * Converts a plain {@code feedbacks} table into the partitioned layout, in one transaction.
+     * {@code indexNames} are dropped from the old table first so the caller can recreate them, with
+     * the same names, on the partitioned one. Returns {@code false} when there was nothing to do.
+     */
+    public boolean partition(Connection connection, Collection<String> indexNames) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LOCK TABLE feedbacks IN EXCLUSIVE MODE");
+            // Outra instância pode ter convertido enquanto esperávamos o lock
+            if (isPartitioned(connection)) {
+                connection.rollback();
+                return false;
+            }
+            long start = System.currentTimeMillis();
+            statement.execute("CREATE TABLE feedbacks_partitioned (LIKE feedbacks INCLUDING DEFAULTS "
+                    + "INCLUDING IDENTITY INCLUDING GENERATED INCLUDING CONSTRAINTS) PARTITION BY RANGE (created_at)");
+            statement.execute("ALTER TABLE feedbacks_partitioned ADD PRIMARY KEY (id, created_at)");
+            for (YearMonth month : monthsToCreate(connection)) {
+                statement.execute(createPartitionSql("feedbacks_partitioned", month));
+            }
+            statement.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF feedbacks_partitioned DEFAULT");
+
+            List<String> columns = copyColumns(connection);
+            String target = String.join(", ", columns);
+            String source = String.join(", ", columns.stream().map(FeedbackPartitionManager::copySource).toList());
+            int copied = statement.executeUpdate(
+                    "INSERT INTO feedbacks_partitioned (" + target + ") SELECT " + source + " FROM feedbacks");
+            // O default copiado pelo LIKE continua usando a sequência; sem mudar o dono, ela cairia
+            // junto com a tabela antiga
+            String sequence = idSequence(connection);
+            if (sequence != null) {
+                statement.execute("ALTER SEQUENCE " + sequence + " OWNED BY feedbacks_partitioned.id");
+                statement.execute("SELECT setval('" + sequence + "', "
+                        + "(SELECT COALESCE(MAX(id), 0) + 1 FROM feedbacks_partitioned WHERE id < " + LEGACY_ID_LIMIT
+                        + "), false)");
+            }
+
+            for (String index : indexNames) {
+                statement.execute("DROP INDEX IF EXISTS " + index);
+            }
+            statement.execute("ALTER TABLE feedbacks RENAME TO " + UNPARTITIONED_TABLE);
+            statement.execute("ALTER TABLE feedbacks_partitioned RENAME TO feedbacks");
+            if (copied == 0) {
+                statement.execute("DROP TABLE " + UNPARTITIONED_TABLE);
+            } else {
+                statement.execute("ALTER TABLE " + UNPARTITIONED_TABLE + " RENAME CONSTRAINT feedbacks_pkey TO "
+                        + UNPARTITIONED_TABLE + "_pkey");
+            }
+            statement.execute("ALTER TABLE feedbacks RENAME CONSTRAINT feedbacks_partitioned_pkey TO feedbacks_pkey");
+            connection.commit();
+
+            logger.info("✅ [SCHEMA] feedbacks particionada por mês: {} linhas copiadas em {}ms", copied,
+                    System.currentTimeMillis() - start);
+            if (copied > 0) {
+                logger.warn("⚠️  [SCHEMA] Tabela original mantida como {}; remova após conferir os dados",
+                        UNPARTITIONED_TABLE);
+            }
+            return true;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /** Creates the partitions from the current month to {@code months-ahead} months from now. */
+    public int createFuturePartitions(Connection connection) throws SQLException {
+        YearMonth current = YearMonth.now(clock);
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        int created = createPartitions(connection, months);
+        if (created > 0) {
+            logger.info("✅ [SCHEMA] {} partições futuras de feedbacks criadas", created);
+        }
+        return created;
+    }
+
+    /**
+     * Creates the missing partitions of {@code months}. Months older than ten years or beyond
+     * {@code months-ahead} are left to the default partition, as are months whose rows already
+     * landed there.
+     */
+    public int createPartitions(Connection connection, Collection<YearMonth> months) throws SQLException {
+        YearMonth current = YearMonth.now(clock);
+        YearMonth first = current.minusMonths(MAX_MONTHS_BACK);
+        YearMonth last = current.plusMonths(monthsAhead);
+        int created = 0;
+        try (Statement statement = connection.createStatement()) {
+            for (YearMonth month : months) {
+                if (month.isBefore(first) || month.isAfter(last) || exists(connection, partitionName(month))) {
+                    continue;
+                }
+                try {
+                    statement.execute(createPartitionSql("feedbacks", month));
+                    created++;
+                } catch (SQLException e) {
+                    // Linhas do mês já caíram na default: a partição só pode ser criada depois de movê-las
+                    logger.warn("⚠️  [SCHEMA] Não foi possível criar a partição {}: {}", partitionName(month),
+                            e.getMessage());
+                }
+            }
+        }
+        return created;
+    }
+
+    /** Detaches monthly partitions older than the retention; returns their names. */
+    public List<String> detachExpired(Connection connection) throws SQLException {
+        if (retentionMonths == 0) {
+            return List.of();
+        }
+        String oldestKept = partitionName(YearMonth.now(clock).minusMonths(retentionMonths));
+        List<String> detached = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            for (String partition : monthlyPartitions(connection)) {
+                // yyyy_MM ordena como data
+                if (partition.compareTo(oldestKept) < 0) {
+                    statement.execute("ALTER TABLE feedbacks DETACH PARTITION " + partition);
+                    detached.add(partition);
+                }
+            }
+        }
+        if (!detached.isEmpty()) {
+            logger.info("📦 [SCHEMA] Partições desanexadas de feedbacks: {}", detached);
+        }
+        return detached;
+    }
+
+    static String partitionName(YearMonth month) {
+        return "feedbacks_" + month.format(SUFFIX);
+    }
+
+    static String createPartitionSql(String parent, YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + parent
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    // Do mês mais antigo com dados (limitado a MAX_MONTHS_BACK) até months-ahead à frente
+    private List<YearMonth> monthsToCreate(Connection connection) throws SQLException {
+        YearMonth current = YearMonth.now(clock);
+        YearMonth first = current;
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT MIN(created_at) FROM feedbacks")) {
+            if (result.next() && result.getTimestamp(1) != null) {
+                YearMonth oldest = YearMonth.from(result.getTimestamp(1).toLocalDateTime());
+                YearMonth limit = current.minusMonths(MAX_MONTHS_BACK);
+                first = oldest.isBefore(limit) ? limit : oldest.isAfter(current) ? current : oldest;
+            }
+        }
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(current.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    private static List<String> copyColumns(Connection connection) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(COPY_COLUMNS)) {
+            while (result.next()) {
+                columns.add(result.getString(1));
+            }
+        }
+        return columns;
+    }
+
+    // created_at é a chave de partição: não pode ficar nulo na tabela nova
+    static String copySource(String column) {
+        return column.equals("created_at") ? "COALESCE(created_at, updated_at, LOCALTIMESTAMP)" : column;
+    }
+
+    private static String idSequence(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(ID_SEQUENCE)) {
+            return result.next() ? result.getString(1) : null;
+        }
+    }
+
+    private static List<String> monthlyPartitions(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(MONTHLY_PARTITIONS)) {
+            while (result.next()) {
+                partitions.add(result.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    private static boolean exists(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            statement.setString(1, table);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.postech.feedback.migration.db;
+
+import br.com.postech.feedback.migration.config.FeedbackPartitionManager;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+
+/**
+ * Converts {@code feedbacks} into monthly partitions with {@link FeedbackPartitionManager#partition}
+ * when {@code feedback.schema.partitioning.enabled}. Runs outside Flyway's transaction because the
+ * conversion manages its own. With partitioning disabled the version is still recorded, so enabling
+ * it later needs a new migration.
+ */
+public class V3__Partition_feedbacks extends BaseJavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(V3__Partition_feedbacks.class);
+
+    private final FeedbackPartitionManager partitionManager;
+    private final boolean enabled;
+
+    public V3__Partition_feedbacks(FeedbackPartitionManager partitionManager, boolean enabled) {
+        this.partitionManager = partitionManager;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        if (!enabled) {
+            logger.info("ℹ️  [SCHEMA] Particionamento desligado: feedbacks continua como tabela simples");
+            return;
+        }
+        Connection connection = context.getConnection();
+        if (!partitionManager.isPartitioned(connection)) {
+            partitionManager.partition(connection, V4__Create_feedback_indexes.INDEXES.keySet());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.postech.feedback.migration.db;
+
+import br.com.postech.feedback.migration.config.FeedbackPartitionManager;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Indexes of the feedback listing and search:
+ * <ul>
+ *   <li>{@code idx_feedbacks_created_at_id}: listing without status filter; rating is checked from the
+ *       included column. Also bounds the full-text candidates to the most recent matches</li>
+ *   <li>{@code idx_feedbacks_status_created_at_id}: listing with status filter, optionally with rating</li>
+ *   <li>{@code idx_feedbacks_description_tsv}: GIN index for full-text search</li>
+ * </ul>
+ * Built {@code CONCURRENTLY}, outside Flyway's transaction, so an existing table keeps taking writes;
+ * an invalid leftover from an interrupted build is dropped and rebuilt. Indexes on a partitioned
+ * table cannot be built concurrently, so there they are created normally and cascade to every
+ * partition.
+ */
+public class V4__Create_feedback_indexes extends BaseJavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(V4__Create_feedback_indexes.class);
+
+    static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("idx_feedbacks_created_at_id",
+                "ON feedbacks (created_at DESC, id DESC) INCLUDE (status, rating)");
+        INDEXES.put("idx_feedbacks_status_created_at_id",
+                "ON feedbacks (status, created_at DESC, id DESC) INCLUDE (rating)");
+        INDEXES.put("idx_feedbacks_description_tsv",
+                "ON feedbacks USING GIN (description_tsv)");
+    }
+
+    private static final String INDEX_VALID =
+            "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?";
+
+    private final FeedbackPartitionManager partitionManager;
+
+    public V4__Create_feedback_indexes(FeedbackPartitionManager partitionManager) {
+        this.partitionManager = partitionManager;
+    }
+
+    // CREATE INDEX CONCURRENTLY não roda dentro de transação
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean partitioned = partitionManager.isPartitioned(connection);
+        for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+            ensureIndex(connection, index.getKey(), index.getValue(), partitioned);
+        }
+    }
+
+    private void ensureIndex(Connection connection, String name, String definition, boolean partitioned)
+            throws SQLException {
+        Boolean valid = isValid(connection, name);
+        if (Boolean.TRUE.equals(valid)) {
+            return;
+        }
+        String concurrently = partitioned ? "" : "CONCURRENTLY ";
+        try (Statement statement = connection.createStatement()) {
+            if (valid != null) {
+                logger.warn("⚠️  [SCHEMA] Índice {} inválido (criação interrompida), recriando", name);
+                statement.execute("DROP INDEX " + concurrently + "IF EXISTS " + name);
+            }
+            long start = System.currentTimeMillis();
+            statement.execute("CREATE INDEX " + concurrently + "IF NOT EXISTS " + name + " " + definition);
+            logger.info("✅ [SCHEMA] Índice {} criado em {}ms", name, System.currentTimeMillis() - start);
+        }
+    }
+
+    // null quando o índice não existe
+    private Boolean isValid(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INDEX_VALID)) {
+            statement.setString(1, name);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getBoolean(1) : null;
+            }
+        }
+    }
+}
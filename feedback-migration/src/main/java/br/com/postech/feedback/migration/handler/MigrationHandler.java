@@ -0,0 +1,64 @@
+package br.com.postech.feedback.migration.handler;
+
+import br.com.postech.feedback.migration.service.SchemaMigrationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class MigrationHandler {
+
+    private final SchemaMigrationService schemaMigrationService;
+
+    @Bean
+    public Function<Map<String, Object>, Map<String, Object>> migrateSchema() {
+        return event -> {
+            log.info("Starting schema migration - trigger: {}", event);
+
+            try {
+                SchemaMigrationService.MigrationRun run = schemaMigrationService.migrate();
+                // Shards adicionais depois do banco principal, um resumo por shard
+                List<Map<String, Object>> shards = schemaMigrationService.migrateShards().stream()
+                        .map(shard -> Map.<String, Object>of(
+                                "version", shard.version() != null ? shard.version() : "",
+                                "applied", shard.applied(),
+                                "partitionsCreated", shard.partitionsCreated()))
+                        .toList();
+
+                return Map.of(
+                        "statusCode", 200,
+                        "message", "Schema migration complete",
+                        "version", run.version() != null ? run.version() : "",
+                        "applied", run.applied(),
+                        "partitionsCreated", run.partitionsCreated(),
+                        "partitionsDetached", run.partitionsDetached(),
+                        "durationMs", run.durationMs(),
+                        "shards", shards
+                );
+
+            } catch (Exception e) {
+                log.error("Schema migration failed: {}", e.getMessage(), e);
+                throw new RuntimeException("Schema migration failed: " + e.getMessage(), e);
+            }
+        };
+    }
+
+    // Ambiente local (docker-compose): migra na subida do container e encerra
+    @Bean
+    public CommandLineRunner migrateOnStartup(@Value("${feedback.migration.run-on-start:false}") boolean runOnStart) {
+        return args -> {
+            if (runOnStart) {
+                migrateSchema().apply(Map.of("source", "startup"));
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.postech.feedback.migration.service;
+
+import br.com.postech.feedback.migration.config.FeedbackPartitionManager;
+import br.com.postech.feedback.migration.db.V3__Partition_feedbacks;
+import br.com.postech.feedback.migration.db.V4__Create_feedback_indexes;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applies the versioned schema migrations ({@code db/migration} plus the Java migrations in
+ * {@code br.com.postech.feedback.migration.db}) and then the partition maintenance. This is the
+ * only place that changes the schema: the other Lambdas start with {@code ddl-auto: none}.
+ * <p>
+ * Flyway holds a PostgreSQL advisory lock while migrating, so concurrent invocations run one after
+ * the other. Databases created by the old {@code ddl-auto: update} have tables but no history
+ * table: they are baselined at version 0 and every migration runs, all of them idempotent.
+ * <p>
+ * With sharding ({@code feedback.shards.additional-urls}) every shard gets the same schema and
+ * partitions through {@link #migrateShards()}, with the {@code spring.datasource} credentials.
+ */
+@Service
+@Slf4j
+public class SchemaMigrationService {
+
+    static final String LOCATION = "classpath:db/migration";
+
+    public record MigrationRun(String version, int applied, int partitionsCreated, List<String> partitionsDetached,
+                               long durationMs) {
+    }
+
+    private final DataSource dataSource;
+    private final FeedbackPartitionManager partitionManager;
+    private final boolean partitioning;
+    private final List<String> shardUrls;
+    private final String username;
+    private final String password;
+
+    public SchemaMigrationService(DataSource dataSource, FeedbackPartitionManager partitionManager, boolean partitioning) {
+        this(dataSource, partitionManager, partitioning, "", null, null);
+    }
+
+    @Autowired
+    public SchemaMigrationService(DataSource dataSource,
+                                  FeedbackPartitionManager partitionManager,
+                                  @Value("${feedback.schema.partitioning.enabled:true}") boolean partitioning,
+                                  @Value("${feedback.shards.additional-urls:}") String shardUrls,
+                                  @Value("${spring.datasource.username:}") String username,
+                                  @Value("${spring.datasource.password:}") String password) {
+        this.dataSource = dataSource;
+        this.partitionManager = partitionManager;
+        this.partitioning = partitioning;
+        this.shardUrls = Arrays.stream(shardUrls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        this.username = username;
+        this.password = password;
+    }
+
+    public MigrationRun migrate() {
+        return migrate(dataSource);
+    }
+
+    /** Migrates the additional shards, in order; empty without sharding. */
+    public List<MigrationRun> migrateShards() {
+        List<MigrationRun> runs = new ArrayList<>();
+        for (int i = 0; i < shardUrls.size(); i++) {
+            log.info("Migrating shard {}", i + 1);
+            runs.add(migrate(new DriverManagerDataSource(shardUrls.get(i), username, password)));
+        }
+        return runs;
+    }
+
+    private MigrationRun migrate(DataSource target) {
+        long start = System.currentTimeMillis();
+        MigrateResult result = configure().dataSource(target).load().migrate();
+        // Sem migrações pendentes o Flyway não preenche a versão alvo
+        String version = result.targetSchemaVersion != null ? result.targetSchemaVersion : result.initialSchemaVersion;
+        log.info("Schema at version {} - {} migrations applied", version, result.migrationsExecuted);
+
+        int created = 0;
+        List<String> detached = List.of();
+        if (partitioning) {
+            try (Connection connection = target.getConnection()) {
+                if (partitionManager.isPartitioned(connection)) {
+                    created = partitionManager.createFuturePartitions(connection);
+                    detached = partitionManager.detachExpired(connection);
+                }
+            } catch (SQLException e) {
+                log.error("Failed to maintain feedback partitions: {}", e.getMessage());
+                throw new RuntimeException("Failed to maintain feedback partitions", e);
+            }
+        }
+        return new MigrationRun(version, result.migrationsExecuted, created, detached,
+                System.currentTimeMillis() - start);
+    }
+
+    FluentConfiguration configure() {
+        return Flyway.configure()
+                .locations(LOCATION)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .javaMigrations(new V3__Partition_feedbacks(partitionManager, partitioning),
+                        new V4__Create_feedback_indexes(partitionManager));
+    }
+}
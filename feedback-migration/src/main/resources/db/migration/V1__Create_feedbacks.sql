@@ -0,0 +1,22 @@
+-- Tabela de feedbacks, equivalente à que o ddl-auto gerava a partir da entidade Feedback.
+-- Bancos criados pelo ddl-auto já têm a tabela, as restrições (mesmos nomes) e a sequência:
+-- tudo aqui é idempotente para que a V1 rode também neles.
+
+CREATE SEQUENCE IF NOT EXISTS feedbacks_id_seq AS BIGINT START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS feedbacks (
+    id              BIGINT           NOT NULL DEFAULT nextval('feedbacks_id_seq'),
+    description     VARCHAR(255)     NOT NULL,
+    rating          INTEGER          NOT NULL,
+    status          VARCHAR(255)     NOT NULL,
+    sentiment_score DOUBLE PRECISION,
+    -- Chave de partição (V3): a entidade preenche no @PrePersist
+    created_at      TIMESTAMP(6)     NOT NULL,
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT feedbacks_pkey PRIMARY KEY (id),
+    CONSTRAINT feedbacks_rating_check CHECK (rating >= 0 AND rating <= 10),
+    CONSTRAINT feedbacks_status_check CHECK (status IN ('CRITICAL', 'NORMAL'))
+);
+
+-- Também corrige bancos já particionados, em que a sequência ficou presa à feedbacks_unpartitioned
+ALTER SEQUENCE feedbacks_id_seq OWNED BY feedbacks.id;
@@ -0,0 +1,5 @@
+-- Busca textual: tsvector mantido pelo próprio banco em todo insert e update.
+-- Reescreve a tabela uma vez, sob lock exclusivo.
+
+ALTER TABLE feedbacks ADD COLUMN IF NOT EXISTS description_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('portuguese', coalesce(description, ''))) STORED;
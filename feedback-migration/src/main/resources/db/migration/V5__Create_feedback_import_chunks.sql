@@ -0,0 +1,12 @@
+-- Checkpoints do feedback-importer: cada lote de registros do arquivo é gravado na mesma transação
+-- do COPY, então uma importação interrompida retoma sem duplicar nem perder linhas.
+CREATE TABLE IF NOT EXISTS feedback_import_chunks (
+    import_id    VARCHAR(255) NOT NULL,
+    -- Intervalo de registros do arquivo (1 = primeiro registro), incluindo os rejeitados
+    first_record BIGINT       NOT NULL,
+    last_record  BIGINT       NOT NULL,
+    imported     INTEGER      NOT NULL,
+    rejected     INTEGER      NOT NULL,
+    committed_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    CONSTRAINT feedback_import_chunks_pkey PRIMARY KEY (import_id, first_record)
+);
@@ -0,0 +1,12 @@
+-- Ids distribuídos entre shards (SnowflakeIdGenerator): cada instância da ingestão arrenda aqui, no
+-- shard 0, o número de worker que entra nos ids que gera (WorkerLease). Uma linha por worker; a
+-- instância toma uma com o prazo vencido e o renova enquanto gera ids. Nos demais shards fica sem uso.
+CREATE TABLE IF NOT EXISTS feedback_id_worker_slots (
+    worker       SMALLINT PRIMARY KEY,
+    owner        VARCHAR(64),
+    leased_until TIMESTAMPTZ NOT NULL DEFAULT '-infinity'
+);
+
+INSERT INTO feedback_id_worker_slots (worker)
+SELECT generate_series(0, 255)
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,13 @@
+package br.com.postech.feedback.migration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class FeedbackMigrationApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
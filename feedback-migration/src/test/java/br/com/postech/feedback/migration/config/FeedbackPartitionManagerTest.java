@@ -0,0 +1,343 @@
+package br.com.postech.feedback.migration.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedbackPartitionManager Tests")
+class FeedbackPartitionManagerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PreparedStatement lookup;
+
+    @Mock
+    private ResultSet result;
+
+    @Nested
+    @DisplayName("Naming Tests")
+    class NamingTests {
+
+        @Test
+        @DisplayName("Should name partitions by year and month")
+        void shouldNamePartitionsByYearAndMonth() {
+            assertEquals("feedbacks_2026_01", FeedbackPartitionManager.partitionName(YearMonth.of(2026, 1)));
+            assertEquals("feedbacks_2026_12", FeedbackPartitionManager.partitionName(YearMonth.of(2026, 12)));
+        }
+
+        @Test
+        @DisplayName("Should bound each partition from the first day of the month to the first day of the next")
+        void shouldBoundPartitionByMonth() {
+            assertEquals("CREATE TABLE IF NOT EXISTS feedbacks_2026_12 PARTITION OF feedbacks "
+                            + "FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')",
+                    FeedbackPartitionManager.createPartitionSql("feedbacks", YearMonth.of(2026, 12)));
+        }
+
+        @Test
+        @DisplayName("Should reject negative settings")
+        void shouldRejectNegativeSettings() {
+            assertThrows(IllegalArgumentException.class, () -> new FeedbackPartitionManager(-1, 0, CLOCK));
+            assertThrows(IllegalArgumentException.class, () -> new FeedbackPartitionManager(3, -1, CLOCK));
+            assertThrows(IllegalArgumentException.class, () -> new FeedbackPartitionManager(3, 0, -1, CLOCK));
+        }
+
+        @Test
+        @DisplayName("Should reject a retention that detaches months before they are archived")
+        void shouldRejectRetentionShorterThanArchiveAge() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new FeedbackPartitionManager(3, 12, 365, CLOCK));
+
+            assertTrue(exception.getMessage().contains("at least 14 months"));
+            assertDoesNotThrow(() -> new FeedbackPartitionManager(3, 14, 365, CLOCK));
+            assertDoesNotThrow(() -> new FeedbackPartitionManager(3, 0, 365, CLOCK));
+            assertDoesNotThrow(() -> new FeedbackPartitionManager(3, 3, 0, CLOCK));
+        }
+    }
+
+    @Nested
+    @DisplayName("isPartitioned() Tests")
+    class IsPartitionedTests {
+
+        @BeforeEach
+        void setUp() throws SQLException {
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(result);
+        }
+
+        @Test
+        @DisplayName("Should recognize a partitioned table by its relkind")
+        void shouldRecognizePartitionedTable() throws SQLException {
+            when(result.next()).thenReturn(true);
+            when(result.getString(1)).thenReturn("p", "r");
+
+            FeedbackPartitionManager manager = new FeedbackPartitionManager(3, 0, CLOCK);
+
+            assertTrue(manager.isPartitioned(connection));
+            assertFalse(manager.isPartitioned(connection));
+        }
+
+        @Test
+        @DisplayName("Should not treat a missing table as partitioned")
+        void shouldNotTreatMissingTableAsPartitioned() throws SQLException {
+            when(result.next()).thenReturn(false);
+
+            assertFalse(new FeedbackPartitionManager(3, 0, CLOCK).isPartitioned(connection));
+        }
+    }
+
+    @Nested
+    @DisplayName("partition() Tests")
+    class PartitionTests {
+
+        @Test
+        @DisplayName("Should give up, after taking the lock, when another instance already converted the table")
+        void shouldGiveUpWhenAlreadyConverted() throws SQLException {
+            // Arrange
+            when(connection.getAutoCommit()).thenReturn(true);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(result);
+            when(result.next()).thenReturn(true);
+            when(result.getString(1)).thenReturn("p");
+
+            // Act
+            boolean converted = new FeedbackPartitionManager(3, 0, CLOCK).partition(connection, List.of("idx"));
+
+            // Assert
+            assertFalse(converted);
+            verify(statement).execute("LOCK TABLE feedbacks IN EXCLUSIVE MODE");
+            verify(statement, never()).execute(startsWith("CREATE"));
+            verify(connection).rollback();
+            verify(connection).setAutoCommit(true);
+        }
+
+        @Test
+        @DisplayName("Should hand the id sequence to the new table and drop an empty old one")
+        void shouldMoveSequenceAndDropEmptyTable() throws SQLException {
+            // Arrange
+            ResultSet kind = mock(ResultSet.class);
+            ResultSet sequence = mock(ResultSet.class);
+            when(connection.getAutoCommit()).thenReturn(true);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(result);
+            when(statement.executeQuery(startsWith("SELECT c.relkind"))).thenReturn(kind);
+            when(statement.executeQuery(startsWith("SELECT pg_get_serial_sequence"))).thenReturn(sequence);
+            when(kind.next()).thenReturn(true);
+            when(kind.getString(1)).thenReturn("r");
+            when(sequence.next()).thenReturn(true);
+            when(sequence.getString(1)).thenReturn("public.feedbacks_id_seq");
+            when(statement.executeUpdate(startsWith("INSERT INTO feedbacks_partitioned"))).thenReturn(0);
+
+            // Act
+            boolean converted = new FeedbackPartitionManager(3, 0, CLOCK).partition(connection, List.of("idx"));
+
+            // Assert
+            assertTrue(converted);
+            InOrder order = inOrder(statement, connection);
+            order.verify(statement).execute("ALTER SEQUENCE public.feedbacks_id_seq OWNED BY feedbacks_partitioned.id");
+            order.verify(statement).execute("DROP INDEX IF EXISTS idx");
+            order.verify(statement).execute("ALTER TABLE feedbacks_partitioned RENAME TO feedbacks");
+            order.verify(statement).execute("DROP TABLE feedbacks_unpartitioned");
+            order.verify(statement).execute("ALTER TABLE feedbacks RENAME CONSTRAINT feedbacks_partitioned_pkey TO feedbacks_pkey");
+            order.verify(connection).commit();
+        }
+
+        @Test
+        @DisplayName("Should restart the id sequence after the legacy ids only, ignoring snowflake ids")
+        void shouldRestartSequenceBelowSnowflakeIds() throws SQLException {
+            // Arrange
+            ResultSet kind = mock(ResultSet.class);
+            ResultSet sequence = mock(ResultSet.class);
+            when(connection.getAutoCommit()).thenReturn(true);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(result);
+            when(statement.executeQuery(startsWith("SELECT c.relkind"))).thenReturn(kind);
+            when(statement.executeQuery(startsWith("SELECT pg_get_serial_sequence"))).thenReturn(sequence);
+            when(kind.next()).thenReturn(true);
+            when(kind.getString(1)).thenReturn("r");
+            when(sequence.next()).thenReturn(true);
+            when(sequence.getString(1)).thenReturn("public.feedbacks_id_seq");
+            // Shard já com ids do SnowflakeIdGenerator (~2^57) ao lado dos ids antigos da sequência
+            when(statement.executeUpdate(startsWith("INSERT INTO feedbacks_partitioned"))).thenReturn(2);
+
+            // Act
+            new FeedbackPartitionManager(3, 0, CLOCK).partition(connection, List.of());
+
+            // Assert
+            verify(statement).execute("SELECT setval('public.feedbacks_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 "
+                    + "FROM feedbacks_partitioned WHERE id < 1099511627776), false)");
+        }
+
+        @Test
+        @DisplayName("Should fill a null created_at only in that column, not in columns named after it")
+        void shouldFillOnlyCreatedAtColumn() throws SQLException {
+            // Arrange
+            ResultSet kind = mock(ResultSet.class);
+            ResultSet columns = mock(ResultSet.class);
+            when(connection.getAutoCommit()).thenReturn(true);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(result);
+            when(statement.executeQuery(startsWith("SELECT c.relkind"))).thenReturn(kind);
+            when(statement.executeQuery(startsWith("SELECT column_name"))).thenReturn(columns);
+            when(kind.next()).thenReturn(true);
+            when(kind.getString(1)).thenReturn("r");
+            when(columns.next()).thenReturn(true, true, true, true, false);
+            when(columns.getString(1)).thenReturn("id", "created_at", "source_created_at", "updated_at");
+
+            // Act
+            new FeedbackPartitionManager(3, 0, CLOCK).partition(connection, List.of());
+
+            // Assert
+            verify(statement).executeUpdate("INSERT INTO feedbacks_partitioned (id, created_at, source_created_at, "
+                    + "updated_at) SELECT id, COALESCE(created_at, updated_at, LOCALTIMESTAMP), source_created_at, "
+                    + "updated_at FROM feedbacks");
+        }
+
+        @Test
+        @DisplayName("Should roll back and rethrow when the copy fails")
+        void shouldRollBackOnFailure() throws SQLException {
+            when(connection.getAutoCommit()).thenReturn(true);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.execute(anyString())).thenThrow(new SQLException("lock timeout"));
+
+            FeedbackPartitionManager manager = new FeedbackPartitionManager(3, 0, CLOCK);
+
+            assertThrows(SQLException.class, () -> manager.partition(connection, List.of()));
+            verify(connection).rollback();
+            verify(connection, never()).commit();
+            verify(connection).setAutoCommit(true);
+        }
+    }
+
+    @Nested
+    @DisplayName("createFuturePartitions() Tests")
+    class CreateFuturePartitionsTests {
+
+        @BeforeEach
+        void setUp() throws SQLException {
+            when(connection.createStatement()).thenReturn(statement);
+            when(connection.prepareStatement(anyString())).thenReturn(lookup);
+            when(lookup.executeQuery()).thenReturn(result);
+            when(result.next()).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should create only the missing months up to months-ahead")
+        void shouldCreateMissingMonths() throws SQLException {
+            // Arrange
+            when(result.getBoolean(1)).thenReturn(true, true, false, false);
+
+            // Act
+            int created = new FeedbackPartitionManager(3, 0, CLOCK).createFuturePartitions(connection);
+
+            // Assert
+            assertEquals(2, created);
+            verify(lookup).setString(1, "feedbacks_2026_10");
+            verify(lookup).setString(1, "feedbacks_2027_01");
+            verify(statement).execute(startsWith("CREATE TABLE IF NOT EXISTS feedbacks_2026_12 PARTITION OF feedbacks"));
+            verify(statement).execute(startsWith("CREATE TABLE IF NOT EXISTS feedbacks_2027_01 PARTITION OF feedbacks"));
+            verify(statement, times(2)).execute(anyString());
+        }
+
+        @Test
+        @DisplayName("Should keep going when a month conflicts with rows in the default partition")
+        void shouldKeepGoingOnConflict() throws SQLException {
+            when(result.getBoolean(1)).thenReturn(false);
+            when(statement.execute(anyString()))
+                    .thenThrow(new SQLException("updated partition constraint for default partition would be violated"))
+                    .thenReturn(false);
+
+            int created = new FeedbackPartitionManager(1, 0, CLOCK).createFuturePartitions(connection);
+
+            assertEquals(1, created);
+            verify(statement, times(2)).execute(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("createPartitions() Tests")
+    class CreatePartitionsTests {
+
+        @Test
+        @DisplayName("Should create past months of an import but leave absurd dates to the default partition")
+        void shouldCreateImportedMonthsWithinBounds() throws SQLException {
+            // Arrange
+            when(connection.createStatement()).thenReturn(statement);
+            when(connection.prepareStatement(anyString())).thenReturn(lookup);
+            when(lookup.executeQuery()).thenReturn(result);
+            when(result.next()).thenReturn(true);
+            when(result.getBoolean(1)).thenReturn(false);
+
+            // Act
+            int created = new FeedbackPartitionManager(0, 0, CLOCK).createPartitions(connection,
+                    List.of(YearMonth.of(1999, 1), YearMonth.of(2024, 2), YearMonth.of(2026, 11)));
+
+            // Assert
+            assertEquals(1, created);
+            verify(statement).execute("CREATE TABLE IF NOT EXISTS feedbacks_2024_02 PARTITION OF feedbacks "
+                    + "FOR VALUES FROM ('2024-02-01') TO ('2024-03-01')");
+            verify(statement, times(1)).execute(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("detachExpired() Tests")
+    class DetachExpiredTests {
+
+        @Test
+        @DisplayName("Should keep every partition when retention is 0")
+        void shouldKeepEverythingWithoutRetention() throws SQLException {
+            assertTrue(new FeedbackPartitionManager(3, 0, CLOCK).detachExpired(connection).isEmpty());
+
+            verifyNoInteractions(connection);
+        }
+
+        @Test
+        @DisplayName("Should detach months older than the retention")
+        void shouldDetachOldMonths() throws SQLException {
+            // Arrange
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(anyString())).thenReturn(result);
+            when(result.next()).thenReturn(true, true, true, true, false);
+            when(result.getString(1))
+                    .thenReturn("feedbacks_2026_05", "feedbacks_2026_06", "feedbacks_2026_07", "feedbacks_2026_08");
+
+            // Act
+            List<String> detached = new FeedbackPartitionManager(3, 3, CLOCK).detachExpired(connection);
+
+            // Assert
+            assertEquals(List.of("feedbacks_2026_05", "feedbacks_2026_06"), detached);
+            verify(statement).execute("ALTER TABLE feedbacks DETACH PARTITION feedbacks_2026_05");
+            verify(statement).execute("ALTER TABLE feedbacks DETACH PARTITION feedbacks_2026_06");
+            verify(statement, times(2)).execute(anyString());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.postech.feedback.migration.db;
+
+import br.com.postech.feedback.migration.config.FeedbackPartitionManager;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("V4__Create_feedback_indexes Tests")
+class CreateFeedbackIndexesMigrationTest {
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement lookup;
+
+    @Mock
+    private ResultSet result;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private FeedbackPartitionManager partitionManager;
+
+    private V4__Create_feedback_indexes migration;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        migration = new V4__Create_feedback_indexes(partitionManager);
+        lenient().when(context.getConnection()).thenReturn(connection);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(lookup);
+        lenient().when(lookup.executeQuery()).thenReturn(result);
+        lenient().when(connection.createStatement()).thenReturn(statement);
+    }
+
+    @Test
+    @DisplayName("Should run outside Flyway's transaction")
+    void shouldRunOutsideTransaction() {
+        assertFalse(migration.canExecuteInTransaction());
+        assertEquals("4", migration.getVersion().getVersion());
+    }
+
+    @Nested
+    @DisplayName("Plain Table Tests")
+    class PlainTableTests {
+
+        @Test
+        @DisplayName("Should create missing indexes concurrently")
+        void shouldCreateMissingIndexes() throws Exception {
+            // Arrange
+            when(result.next()).thenReturn(false);
+
+            // Act
+            migration.migrate(context);
+
+            // Assert
+            verify(statement).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedbacks_created_at_id "
+                    + "ON feedbacks (created_at DESC, id DESC) INCLUDE (status, rating)");
+            verify(statement).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedbacks_status_created_at_id "
+                    + "ON feedbacks (status, created_at DESC, id DESC) INCLUDE (rating)");
+            verify(statement).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedbacks_description_tsv "
+                    + "ON feedbacks USING GIN (description_tsv)");
+            verify(statement, never()).execute(startsWith("DROP"));
+        }
+
+        @Test
+        @DisplayName("Should leave valid indexes alone")
+        void shouldLeaveValidIndexesAlone() throws Exception {
+            when(result.next()).thenReturn(true);
+            when(result.getBoolean(1)).thenReturn(true);
+
+            migration.migrate(context);
+
+            verify(statement, never()).execute(startsWith("CREATE"));
+        }
+
+        @Test
+        @DisplayName("Should drop and rebuild an invalid index left by an interrupted build")
+        void shouldRebuildInvalidIndex() throws Exception {
+            // Arrange
+            when(result.next()).thenReturn(true);
+            when(result.getBoolean(1)).thenReturn(false, true);
+
+            // Act
+            migration.migrate(context);
+
+            // Assert
+            verify(statement).execute("DROP INDEX CONCURRENTLY IF EXISTS idx_feedbacks_created_at_id");
+            verify(statement).execute(startsWith("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedbacks_created_at_id"));
+            verify(statement, times(1)).execute(startsWith("CREATE"));
+        }
+
+        @Test
+        @DisplayName("Should propagate database errors so Flyway marks the migration as failed")
+        void shouldPropagateDatabaseErrors() throws SQLException {
+            when(result.next()).thenReturn(false);
+            when(statement.execute(anyString())).thenThrow(new SQLException("relation \"feedbacks\" does not exist"));
+
+            assertThrows(SQLException.class, () -> migration.migrate(context));
+        }
+    }
+
+    @Nested
+    @DisplayName("Partitioned Table Tests")
+    class PartitionedTableTests {
+
+        @BeforeEach
+        void setUp() throws SQLException {
+            when(partitionManager.isPartitioned(connection)).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should build indexes without CONCURRENTLY on a partitioned table")
+        void shouldBuildIndexesWithoutConcurrently() throws Exception {
+            when(result.next()).thenReturn(false);
+
+            migration.migrate(context);
+
+            verify(statement, times(3)).execute(startsWith("CREATE INDEX IF NOT EXISTS"));
+            verify(statement, never()).execute(contains("CONCURRENTLY"));
+        }
+
+        @Test
+        @DisplayName("Should drop an invalid partitioned index without CONCURRENTLY")
+        void shouldRebuildInvalidPartitionedIndex() throws Exception {
+            when(result.next()).thenReturn(true);
+            when(result.getBoolean(1)).thenReturn(true, false, true);
+
+            migration.migrate(context);
+
+            verify(statement).execute("DROP INDEX IF EXISTS idx_feedbacks_status_created_at_id");
+            verify(statement, times(1)).execute(startsWith("CREATE INDEX IF NOT EXISTS"));
+        }
+    }
+}
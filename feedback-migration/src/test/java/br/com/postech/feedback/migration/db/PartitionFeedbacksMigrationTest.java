@@ -0,0 +1,64 @@
+package br.com.postech.feedback.migration.db;
+
+import br.com.postech.feedback.migration.config.FeedbackPartitionManager;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("V3__Partition_feedbacks Tests")
+class PartitionFeedbacksMigrationTest {
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private FeedbackPartitionManager partitionManager;
+
+    @Test
+    @DisplayName("Should convert a plain table, dropping the indexes that V4 recreates")
+    void shouldConvertPlainTable() throws Exception {
+        // Arrange
+        when(context.getConnection()).thenReturn(connection);
+        when(partitionManager.isPartitioned(connection)).thenReturn(false);
+        V3__Partition_feedbacks migration = new V3__Partition_feedbacks(partitionManager, true);
+
+        // Act
+        migration.migrate(context);
+
+        // Assert
+        assertFalse(migration.canExecuteInTransaction());
+        verify(partitionManager).partition(connection, V4__Create_feedback_indexes.INDEXES.keySet());
+    }
+
+    @Test
+    @DisplayName("Should leave an already partitioned table alone")
+    void shouldSkipPartitionedTable() throws Exception {
+        when(context.getConnection()).thenReturn(connection);
+        when(partitionManager.isPartitioned(connection)).thenReturn(true);
+
+        new V3__Partition_feedbacks(partitionManager, true).migrate(context);
+
+        verify(partitionManager, never()).partition(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when partitioning is disabled")
+    void shouldDoNothingWhenDisabled() throws Exception {
+        new V3__Partition_feedbacks(partitionManager, false).migrate(context);
+
+        verifyNoInteractions(context, partitionManager);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.postech.feedback.migration.handler;
+
+import br.com.postech.feedback.migration.service.SchemaMigrationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MigrationHandlerTest {
+
+    @Mock
+    private SchemaMigrationService schemaMigrationService;
+
+    @InjectMocks
+    private MigrationHandler migrationHandler;
+
+    @Test
+    void shouldReturnMigrationSummary() {
+        // Arrange
+        when(schemaMigrationService.migrate()).thenReturn(
+                new SchemaMigrationService.MigrationRun("4", 2, 1, List.of("feedbacks_2025_01"), 850));
+        Function<Map<String, Object>, Map<String, Object>> function = migrationHandler.migrateSchema();
+
+        // Act
+        Map<String, Object> result = function.apply(Map.of());
+
+        // Assert
+        assertThat(result)
+                .containsEntry("statusCode", 200)
+                .containsEntry("version", "4")
+                .containsEntry("applied", 2)
+                .containsEntry("partitionsCreated", 1)
+                .containsEntry("partitionsDetached", List.of("feedbacks_2025_01"))
+                .containsEntry("shards", List.of());
+    }
+
+    @Test
+    void shouldSummarizeEachShard() {
+        // Arrange
+        when(schemaMigrationService.migrate()).thenReturn(
+                new SchemaMigrationService.MigrationRun("6", 0, 0, List.of(), 120));
+        when(schemaMigrationService.migrateShards()).thenReturn(List.of(
+                new SchemaMigrationService.MigrationRun("6", 6, 4, List.of(), 900)));
+
+        // Act
+        Map<String, Object> result = migrationHandler.migrateSchema().apply(Map.of());
+
+        // Assert
+        assertThat(result).containsEntry("shards",
+                List.of(Map.of("version", "6", "applied", 6, "partitionsCreated", 4)));
+    }
+
+    @Test
+    void shouldWrapMigrationFailures() {
+        // Arrange
+        when(schemaMigrationService.migrate()).thenThrow(new IllegalStateException("Validate failed"));
+        Function<Map<String, Object>, Map<String, Object>> function = migrationHandler.migrateSchema();
+
+        // Act & Assert
+        assertThatThrownBy(() -> function.apply(Map.of()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Schema migration failed: Validate failed");
+    }
+
+    @Test
+    void shouldOnlyMigrateOnStartupWhenEnabled() throws Exception {
+        migrationHandler.migrateOnStartup(false).run();
+
+        verify(schemaMigrationService, never()).migrate();
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.postech.feedback.migration.service;
+
+import br.com.postech.feedback.migration.config.FeedbackPartitionManager;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchemaMigrationService Tests")
+class SchemaMigrationServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private FeedbackPartitionManager partitionManager;
+
+    @Test
+    @DisplayName("Should combine the SQL migrations with the Java ones, in version order")
+    void shouldRegisterJavaMigrations() {
+        // Act
+        FluentConfiguration configuration = new SchemaMigrationService(dataSource, partitionManager, true).configure();
+
+        // Assert
+        List<String> versions = Arrays.stream(configuration.getJavaMigrations())
+                .map(JavaMigration::getVersion)
+                .map(MigrationVersion::getVersion)
+                .toList();
+        assertEquals(List.of("3", "4"), versions);
+        assertEquals("classpath:db/migration", configuration.getLocations()[0].getDescriptor());
+    }
+
+    @Test
+    @DisplayName("Should baseline databases created by ddl-auto below the first migration")
+    void shouldBaselineBelowFirstMigration() {
+        FluentConfiguration configuration = new SchemaMigrationService(dataSource, partitionManager, true).configure();
+
+        assertTrue(configuration.isBaselineOnMigrate());
+        assertEquals(MigrationVersion.fromVersion("0"), configuration.getBaselineVersion());
+    }
+
+    @Test
+    @DisplayName("Should have no shards to migrate without additional URLs")
+    void shouldSkipShardsWithoutUrls() {
+        SchemaMigrationService service = new SchemaMigrationService(dataSource, partitionManager, true, " , ", "u", "p");
+
+        assertTrue(service.migrateShards().isEmpty());
+    }
+}
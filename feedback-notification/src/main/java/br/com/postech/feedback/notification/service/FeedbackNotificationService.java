@@ -1,6 +1,9 @@
 package br.com.postech.feedback.notification.service;
 
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.codec.WireFormat;
 import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import br.com.postech.feedback.core.event.EventEnvelope;
 import br.com.postech.feedback.notification.dto.NotificationEmailDTO;
 import br.com.postech.feedback.notification.dto.NotificationResponseDTO;
 import br.com.postech.feedback.notification.dto.ReportReadyEventDTO;
@@ -29,10 +32,14 @@ public class FeedbackNotificationService {
 
     private final SesClient sesClient;
     private final ObjectMapper objectMapper;
+    private final FeedbackEventCodec feedbackEventCodec;
     private final TemplateEngine templateEngine;
     private final NotificationMetrics metrics;
     private final Validator validator;
 
+    // Marcado pela análise em alertas quase duplicados de um já enviado
+    static final String DUPLICATE_OF_ATTRIBUTE = "duplicate-of";
+
     @Value("${SES_FROM_EMAIL:}")
     private String senderEmail;
 
@@ -76,13 +83,30 @@ public class FeedbackNotificationService {
             }
 
             try {
-                String messageBody = extractMessageBody(snsMessage);
-
-                if (isReportReadyEvent(messageBody)) {
+                InboundMessage inbound = extractMessage(snsMessage);
+                String messageBody = inbound.body();
+                EventEnvelope envelope = inbound.envelope();
+
+                // Com envelope, o tipo vem dos atributos e o corpo só é lido pelo handler certo
+                if (envelope != null) {
+                    if (EventEnvelope.REPORT_READY.equals(envelope.type())) {
+                        return processReportReadyEvent(messageBody);
+                    }
+                    if (!EventEnvelope.FEEDBACK_CRITICAL.equals(envelope.type())) {
+                        log.warn("Evento do tipo {} não é tratado pela notificação. Ignorando...", envelope.type());
+                        return NotificationResponseDTO.rejected("Tipo de evento não suportado: " + envelope.type());
+                    }
+                    // A assinatura filtra esses alertas na AWS; aqui cobre quem assina sem o filtro
+                    if (inbound.duplicateOf() != null) {
+                        log.info("Alerta quase duplicado do feedback {}. Email não enviado.", inbound.duplicateOf());
+                        return NotificationResponseDTO.rejected("Alerta duplicado do feedback " + inbound.duplicateOf());
+                    }
+                } else if (WireFormat.fromContentType(inbound.contentType()) == WireFormat.JSON
+                        && isReportReadyEvent(messageBody)) {
                     return processReportReadyEvent(messageBody);
                 }
 
-                FeedbackEventDTO feedbackEvent = objectMapper.readValue(messageBody, FeedbackEventDTO.class);
+                FeedbackEventDTO feedbackEvent = feedbackEventCodec.decode(messageBody, inbound.contentType());
 
                 var violations = validator.validate(feedbackEvent);
                 if (!violations.isEmpty()) {
@@ -97,8 +121,8 @@ public class FeedbackNotificationService {
 
                 metrics.incrementMessagesReceived();
 
-                log.info("Processando notificação para Feedback ID: {} com status: {}",
-                        feedbackEvent.id(), feedbackEvent.status());
+                log.info("Processando notificação para Feedback ID: {} com status: {} | TraceId: {}",
+                        feedbackEvent.id(), feedbackEvent.status(), envelope != null ? envelope.traceId() : "-");
 
                 NotificationEmailDTO emailData = NotificationEmailDTO.fromCriticalFeedback(
                         feedbackEvent.id(),
@@ -130,22 +154,35 @@ public class FeedbackNotificationService {
         };
     }
 
-    private String extractMessageBody(String message) throws Exception {
+    private record InboundMessage(String body, String contentType, EventEnvelope envelope, String duplicateOf) {
+    }
+
+    private InboundMessage extractMessage(String message) throws Exception {
         JsonNode rootNode = objectMapper.readTree(message);
 
         if (rootNode.has("Records")) {
             JsonNode records = rootNode.path("Records");
             if (records.isArray() && !records.isEmpty()) {
                 JsonNode snsNode = records.get(0).path("Sns");
-                return snsNode.path("Message").asText();
+                return inboundMessage(snsNode);
             }
         }
 
         if (rootNode.has("Message")) {
-            return rootNode.path("Message").asText();
+            return inboundMessage(rootNode);
         }
 
-        return message;
+        return new InboundMessage(message, null, null, null);
+    }
+
+    private static InboundMessage inboundMessage(JsonNode snsNode) {
+        JsonNode attributes = snsNode.path("MessageAttributes");
+        Function<String, String> attribute = name -> attributes.path(name).path("Value").textValue();
+        return new InboundMessage(
+                snsNode.path("Message").asText(),
+                attribute.apply(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE),
+                EventEnvelope.fromAttributes(attribute).orElse(null),
+                attribute.apply(DUPLICATE_OF_ATTRIBUTE));
     }
 
     private boolean isReportReadyEvent(String messageBody) {
@@ -1,7 +1,10 @@
 package br.com.postech.feedback.notification.service;
 
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.codec.WireFormat;
 import br.com.postech.feedback.core.domain.StatusFeedback;
 import br.com.postech.feedback.core.dto.FeedbackEventDTO;
+import br.com.postech.feedback.core.event.EventEnvelope;
 import br.com.postech.feedback.notification.dto.NotificationResponseDTO;
 import br.com.postech.feedback.notification.metrics.NotificationMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,6 +28,8 @@ import software.amazon.awssdk.services.ses.model.SendEmailRequest;
 import software.amazon.awssdk.services.ses.model.SendEmailResponse;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -58,7 +63,8 @@ class FeedbackNotificationServiceTest {
 
         validator = Validation.buildDefaultValidatorFactory().getValidator();
 
-        service = new FeedbackNotificationService(sesClient, objectMapper, templateEngine, metrics, validator);
+        service = new FeedbackNotificationService(sesClient, objectMapper,
+                new FeedbackEventCodec(objectMapper), templateEngine, metrics, validator);
 
         ReflectionTestUtils.setField(service, "senderEmail", "noreply@test.com");
         ReflectionTestUtils.setField(service, "recipientEmail", "admin@test.com");
@@ -345,5 +351,134 @@ class FeedbackNotificationServiceTest {
             assertEquals("SUCCESS", response.getStatus());
             assertEquals(20L, response.getFeedbackId());
         }
+
+        @Test
+        @DisplayName("Should decode Smile message using the SNS content type attribute")
+        void shouldDecodeSmileMessageUsingContentTypeAttribute() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    30L,
+                    "Smile via SNS",
+                    2,
+                    StatusFeedback.CRITICAL,
+                    LocalDateTime.now()
+            );
+
+            String body = new FeedbackEventCodec(objectMapper, WireFormat.SMILE).encode(feedbackEvent);
+            String snsEvent = objectMapper.writeValueAsString(Map.of("Records", List.of(Map.of("Sns", Map.of(
+                    "Message", body,
+                    "MessageAttributes", Map.of(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE,
+                            Map.of("Type", "String", "Value", WireFormat.SMILE.getContentType())))))));
+
+            when(templateEngine.process(eq("critical-feedback-email"), any(Context.class)))
+                    .thenReturn("<html>Email</html>");
+
+            when(sesClient.sendEmail(any(SendEmailRequest.class)))
+                    .thenReturn(SendEmailResponse.builder().messageId("msg-3").build());
+
+            // Act
+            NotificationResponseDTO response = service.processNotification().apply(snsEvent);
+
+            // Assert
+            assertEquals("SUCCESS", response.getStatus());
+            assertEquals(30L, response.getFeedbackId());
+        }
+
+        @Test
+        @DisplayName("Should process FeedbackCritical envelope")
+        void shouldProcessFeedbackCriticalEnvelope() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    31L,
+                    "Com envelope",
+                    1,
+                    StatusFeedback.CRITICAL,
+                    LocalDateTime.now()
+            );
+
+            String snsEvent = snsEventWithAttributes(objectMapper.writeValueAsString(feedbackEvent),
+                    EventEnvelope.create(EventEnvelope.FEEDBACK_CRITICAL, 1).toAttributes());
+
+            when(templateEngine.process(eq("critical-feedback-email"), any(Context.class)))
+                    .thenReturn("<html>Email</html>");
+
+            when(sesClient.sendEmail(any(SendEmailRequest.class)))
+                    .thenReturn(SendEmailResponse.builder().messageId("msg-4").build());
+
+            // Act
+            NotificationResponseDTO response = service.processNotification().apply(snsEvent);
+
+            // Assert
+            assertEquals("SUCCESS", response.getStatus());
+            assertEquals(31L, response.getFeedbackId());
+        }
+
+        @Test
+        @DisplayName("Should route ReportReady envelope to the report path")
+        void shouldRouteReportReadyEnvelope() throws Exception {
+            // Arrange
+            String message = objectMapper.writeValueAsString(Map.of(
+                    "eventType", EventEnvelope.REPORT_READY,
+                    "reportLink", "https://bucket.s3.amazonaws.com/report.csv",
+                    "s3Key", "reports/report.csv",
+                    "generatedAt", "2026-02-10T15:30:00Z"));
+            String snsEvent = snsEventWithAttributes(message,
+                    EventEnvelope.create(EventEnvelope.REPORT_READY, 1).toAttributes());
+
+            when(templateEngine.process(eq("weekly-report-email"), any(Context.class)))
+                    .thenReturn("<html>Relatório</html>");
+
+            when(sesClient.sendEmail(any(SendEmailRequest.class)))
+                    .thenReturn(SendEmailResponse.builder().messageId("msg-5").build());
+
+            // Act
+            NotificationResponseDTO response = service.processNotification().apply(snsEvent);
+
+            // Assert
+            assertEquals("SUCCESS", response.getStatus());
+            verify(templateEngine).process(eq("weekly-report-email"), any(Context.class));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown event types without parsing the body")
+        void shouldRejectUnknownEventTypes() throws Exception {
+            // Arrange
+            String snsEvent = snsEventWithAttributes("not json at all",
+                    EventEnvelope.create("FeedbackArchived", 1).toAttributes());
+
+            // Act
+            NotificationResponseDTO response = service.processNotification().apply(snsEvent);
+
+            // Assert
+            assertEquals("REJECTED", response.getStatus());
+            verify(sesClient, never()).sendEmail(any(SendEmailRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should not email alerts tagged as near duplicates")
+        void shouldNotEmailDuplicateAlerts() throws Exception {
+            // Arrange
+            FeedbackEventDTO feedbackEvent = new FeedbackEventDTO(
+                    302L, "a plataforma caiu de novo", 2, StatusFeedback.CRITICAL, LocalDateTime.now());
+            Map<String, String> attributes = new java.util.HashMap<>(
+                    EventEnvelope.create(EventEnvelope.FEEDBACK_CRITICAL, 1).toAttributes());
+            attributes.put(FeedbackNotificationService.DUPLICATE_OF_ATTRIBUTE, "301");
+            String snsEvent = snsEventWithAttributes(objectMapper.writeValueAsString(feedbackEvent), attributes);
+
+            // Act
+            NotificationResponseDTO response = service.processNotification().apply(snsEvent);
+
+            // Assert
+            assertEquals("REJECTED", response.getStatus());
+            verify(sesClient, never()).sendEmail(any(SendEmailRequest.class));
+        }
+    }
+
+    private String snsEventWithAttributes(String message, Map<String, String> attributes) throws Exception {
+        Map<String, Object> messageAttributes = new java.util.LinkedHashMap<>();
+        attributes.forEach((name, value) -> messageAttributes.put(name, Map.of("Type", "String", "Value", value)));
+        return objectMapper.writeValueAsString(Map.of("Records", List.of(Map.of("Sns", Map.of(
+                "Message", message,
+                "MessageAttributes", messageAttributes)))));
     }
 }
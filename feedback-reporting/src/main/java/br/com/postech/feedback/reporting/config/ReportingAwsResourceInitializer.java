@@ -24,12 +24,12 @@ public class ReportingAwsResourceInitializer extends AwsResourceInitializer {
 
     @Override
     protected void initializeResources() {
-        createBucketIfNotExists();
+        createBucketIfNotExists(AwsConfigConstants.BUCKET_REPORTS);
+        createBucketIfNotExists(AwsConfigConstants.BUCKET_ARCHIVE);
         createTopicIfNotExists();
     }
 
-    private void createBucketIfNotExists() {
-        String bucketName = AwsConfigConstants.BUCKET_REPORTS;
+    private void createBucketIfNotExists(String bucketName) {
         try {
             s3Client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
             logger.info("✓ S3 bucket '{}' already exists", bucketName);
@@ -0,0 +1,34 @@
+package br.com.postech.feedback.reporting.dto;
+
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of an unfinished archival run, saved after every batch is uploaded and before its rows
+ * are deleted.
+ *
+ * @param lastCreatedAt last archived row, where the next batch starts ({@code null} at the beginning)
+ * @param pendingIds    rows uploaded but maybe not deleted yet; deleting them again is harmless
+ * @param objects       objects uploaded since the last manifest was written
+ */
+public record ArchiveCheckpoint(LocalDateTime lastCreatedAt,
+                                Long lastId,
+                                List<Long> pendingIds,
+                                LocalDateTime pendingFrom,
+                                LocalDateTime pendingTo,
+                                List<ArchiveObject> objects) {
+
+    public static ArchiveCheckpoint start() {
+        return new ArchiveCheckpoint(null, null, List.of(), null, null, List.of());
+    }
+
+    public FeedbackCursor cursor() {
+        return lastCreatedAt != null && lastId != null ? new FeedbackCursor(lastCreatedAt, lastId) : null;
+    }
+
+    public boolean hasPending() {
+        return pendingIds != null && !pendingIds.isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.postech.feedback.reporting.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Objects written by one archival run. Readers list every manifest under the archive prefix
+ * instead of the data objects themselves; a key listed by two manifests holds the same rows.
+ */
+public record ArchiveManifest(String runId, LocalDateTime cutoff, LocalDateTime createdAt, List<ArchiveObject> objects) {
+}
@@ -0,0 +1,10 @@
+package br.com.postech.feedback.reporting.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One archived NDJSON object: the feedbacks created on {@code day} with ids from {@code firstId}
+ * to {@code lastId}, in {@code created_at, id} order.
+ */
+public record ArchiveObject(String key, LocalDate day, int rows, long firstId, long lastId, long bytes) {
+}
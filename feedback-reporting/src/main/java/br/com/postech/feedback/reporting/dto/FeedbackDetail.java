@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -13,5 +15,10 @@ public class FeedbackDetail {
     private String description;
     private String urgency;
     private String createdAt;
+
+    private Long id;
+    private Integer rating;
+    private String status;
+    private LocalDateTime createdAtDateTime;
 }
 
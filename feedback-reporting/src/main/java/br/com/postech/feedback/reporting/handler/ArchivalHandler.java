@@ -0,0 +1,43 @@
+package br.com.postech.feedback.reporting.handler;
+
+import br.com.postech.feedback.reporting.service.FeedbackArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.function.Function;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ArchivalHandler {
+
+    private final FeedbackArchiveService feedbackArchiveService;
+
+    @Bean
+    public Function<Map<String, Object>, Map<String, Object>> archiveFeedbacks() {
+        return event -> {
+            log.info("Starting feedback archival - trigger: {}", event);
+
+            try {
+                FeedbackArchiveService.ArchiveRun run = feedbackArchiveService.archive();
+
+                return Map.of(
+                        "statusCode", 200,
+                        "message", run.complete() ? "Feedback archival complete" : "Feedback archival paused, will resume",
+                        "archived", run.archived(),
+                        "deleted", run.deleted(),
+                        "objects", run.objects(),
+                        "complete", run.complete(),
+                        "manifests", run.manifests()
+                );
+
+            } catch (Exception e) {
+                log.error("Feedback archival failed: {}", e.getMessage(), e);
+                throw new RuntimeException("Feedback archival failed: " + e.getMessage(), e);
+            }
+        };
+    }
+}
@@ -1,7 +1,9 @@
 package br.com.postech.feedback.reporting.handler;
 
 import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import br.com.postech.feedback.reporting.service.ColumnarExportService;
 import br.com.postech.feedback.reporting.service.DatabaseQueryService;
+import br.com.postech.feedback.reporting.service.ReportCompressionService;
 import br.com.postech.feedback.reporting.service.ReportGeneratorService;
 import br.com.postech.feedback.reporting.service.S3UploadService;
 import br.com.postech.feedback.reporting.service.SnsPublishService;
@@ -10,6 +12,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Map;
@@ -20,10 +27,14 @@ import java.util.function.Function;
 @Slf4j
 public class ReportingHandler {
 
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
     private final DatabaseQueryService databaseQueryService;
     private final ReportGeneratorService reportGeneratorService;
+    private final ReportCompressionService reportCompressionService;
     private final S3UploadService s3UploadService;
     private final SnsPublishService snsPublishService;
+    private final ColumnarExportService columnarExportService;
 
     @Bean
     public Function<Map<String, Object>, Map<String, Object>> generateReport() {
@@ -34,13 +45,14 @@ public class ReportingHandler {
             try {
                 ReportMetrics metrics = databaseQueryService.fetchMetrics();
 
-                byte[] reportContent = reportGeneratorService.generateReportAsBytes(metrics, generatedAt);
                 String s3Key = reportGeneratorService.generateS3Key(generatedAt);
                 String contentType = reportGeneratorService.getContentType();
 
-                String reportUrl = s3UploadService.uploadReport(reportContent, s3Key, contentType);
+                String reportUrl = uploadReport(metrics, generatedAt, s3Key, contentType);
                 log.info("Report uploaded to S3: {}", reportUrl);
 
+                exportColumnar(metrics, generatedAt);
+
                 snsPublishService.publishReportReadyEvent(
                         reportUrl,
                         s3Key,
@@ -65,4 +77,38 @@ public class ReportingHandler {
             }
         };
     }
+
+    private String uploadReport(ReportMetrics metrics, LocalDateTime generatedAt, String s3Key, String contentType)
+            throws IOException {
+        Path reportFile = Files.createTempFile("relatorio-", "." + reportGeneratorService.getFileExtension());
+        try {
+            try (OutputStream out = reportCompressionService.wrap(
+                    new BufferedOutputStream(Files.newOutputStream(reportFile), OUTPUT_BUFFER_SIZE))) {
+                reportGeneratorService.writeReport(metrics, generatedAt, out);
+            }
+            return s3UploadService.uploadReport(reportFile, s3Key, contentType,
+                    reportCompressionService.getContentEncoding());
+        } finally {
+            Files.deleteIfExists(reportFile);
+        }
+    }
+
+    private void exportColumnar(ReportMetrics metrics, LocalDateTime generatedAt) {
+        if (!columnarExportService.isEnabled() || metrics.getFeedbacks() == null) {
+            return;
+        }
+
+        Path parquetFile = null;
+        try {
+            parquetFile = columnarExportService.writeParquet(metrics.getFeedbacks());
+            String parquetKey = columnarExportService.generateS3Key(generatedAt);
+            s3UploadService.uploadReport(parquetFile, parquetKey, ColumnarExportService.CONTENT_TYPE);
+            log.info("Columnar export uploaded to S3: {}", parquetKey);
+        } catch (Exception e) {
+            // A exportação colunar é complementar: falhas não devem impedir o envio do relatório
+            log.warn("Columnar export failed, continuing with report notification: {}", e.getMessage());
+        } finally {
+            columnarExportService.deleteQuietly(parquetFile);
+        }
+    }
 }
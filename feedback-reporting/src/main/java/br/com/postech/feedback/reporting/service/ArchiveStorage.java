@@ -0,0 +1,112 @@
+package br.com.postech.feedback.reporting.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Objects of the cold archive, kept in their own bucket ({@code reporting.archive.bucket-name}) so
+ * the expiration rule of the reports bucket never applies to them.
+ */
+@Service
+@Slf4j
+public class ArchiveStorage {
+
+    private final S3Client s3Client;
+
+    @Value("${reporting.archive.bucket-name:}")
+    private String bucketName;
+
+    public ArchiveStorage(S3Client s3Client) {
+        this.s3Client = s3Client;
+    }
+
+    public boolean isConfigured() {
+        return bucketName != null && !bucketName.isBlank();
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public void put(String key, byte[] content, String contentType) {
+        validateBucketConfiguration();
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                            .build(),
+                    RequestBody.fromBytes(content));
+            log.debug("Archive object written - Key: {}, Size: {} bytes", key, content.length);
+        } catch (Exception e) {
+            log.error("Failed to write archive object {}: {}", key, e.getMessage());
+            throw new RuntimeException("Failed to write archive object " + key, e);
+        }
+    }
+
+    public Optional<byte[]> get(String key) {
+        validateBucketConfiguration();
+        try {
+            return Optional.of(s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build()).asByteArray());
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Failed to read archive object {}: {}", key, e.getMessage());
+            throw new RuntimeException("Failed to read archive object " + key, e);
+        }
+    }
+
+    /** Keys under {@code prefix}, in lexicographic order. */
+    public List<String> list(String prefix) {
+        validateBucketConfiguration();
+        try {
+            return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                            .bucket(bucketName)
+                            .prefix(prefix)
+                            .build())
+                    .contents()
+                    .stream()
+                    .map(S3Object::key)
+                    .toList();
+        } catch (Exception e) {
+            log.error("Failed to list archive objects under {}: {}", prefix, e.getMessage());
+            throw new RuntimeException("Failed to list archive objects under " + prefix, e);
+        }
+    }
+
+    public void delete(String key) {
+        validateBucketConfiguration();
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (Exception e) {
+            log.error("Failed to delete archive object {}: {}", key, e.getMessage());
+            throw new RuntimeException("Failed to delete archive object " + key, e);
+        }
+    }
+
+    private void validateBucketConfiguration() {
+        if (!isConfigured()) {
+            throw new IllegalStateException("Archive bucket name not configured. Set ARCHIVE_BUCKET_NAME environment variable.");
+        }
+    }
+}
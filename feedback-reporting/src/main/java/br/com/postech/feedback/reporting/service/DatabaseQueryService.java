@@ -1,20 +1,26 @@
 package br.com.postech.feedback.reporting.service;
 
 import br.com.postech.feedback.core.domain.Feedback;
-import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackTotals;
 import br.com.postech.feedback.core.repository.FeedbackRepository;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.core.shard.ShardedFeedbackRepository;
 import br.com.postech.feedback.reporting.dto.FeedbackDetail;
 import br.com.postech.feedback.reporting.dto.ReportMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,18 +29,46 @@ import java.util.stream.Collectors;
 public class DatabaseQueryService {
 
     private final FeedbackRepository feedbackRepository;
+    private final FeedbackRules feedbackRules;
+    // Presente só com feedback.shards.additional-urls: as consultas vão a todos os shards em paralelo
+    private final Optional<ShardedFeedbackRepository> shardedRepository;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
 
+    // Dias corridos do relatório, incluindo hoje; 0 lê todo o histórico
+    @Value("${reporting.window-days:7}")
+    private int windowDays;
+
     @Transactional(readOnly = true)
     public ReportMetrics fetchMetrics() {
         log.info("Fetching metrics from database");
 
         try {
-            Long totalFeedbacks = feedbackRepository.countTotalFeedbacks();
-            Double averageScore = feedbackRepository.calculateAverageScore();
-            List<Feedback> allFeedbacks = feedbackRepository.findAllFeedbacksForReport();
+            Long totalFeedbacks;
+            Double averageScore;
+            List<Feedback> allFeedbacks;
+            LocalDateTime since = null;
+            if (windowDays > 0) {
+                // Filtro em created_at: com a tabela particionada só os meses da janela são lidos
+                since = LocalDate.now().minusDays(windowDays - 1L).atStartOfDay();
+                log.info("Report window starts at {}", since);
+            }
+            if (shardedRepository.isPresent()) {
+                // Contagem e soma das notas por shard: a média sai dos totais, não da média de cada shard
+                FeedbackTotals totals = shardedRepository.get().totalsSince(since);
+                totalFeedbacks = totals.count();
+                averageScore = totals.averageRating();
+                allFeedbacks = shardedRepository.get().findFeedbacksSince(since);
+            } else if (since != null) {
+                totalFeedbacks = feedbackRepository.countFeedbacksSince(since);
+                averageScore = feedbackRepository.calculateAverageScoreSince(since);
+                allFeedbacks = feedbackRepository.findFeedbacksSince(since);
+            } else {
+                totalFeedbacks = feedbackRepository.countTotalFeedbacks();
+                averageScore = feedbackRepository.calculateAverageScore();
+                allFeedbacks = feedbackRepository.findAllFeedbacksForReport();
+            }
 
             Map<String, Long> feedbacksByDay = groupFeedbacksByDay(allFeedbacks);
             Map<String, Long> feedbacksByUrgency = groupFeedbacksByUrgency(allFeedbacks);
@@ -73,34 +107,33 @@ public class DatabaseQueryService {
         result.put("HIGH", 0L);
 
         for (Feedback feedback : feedbacks) {
-            String urgency = mapStatusToUrgency(feedback.getStatus(), feedback.getRating());
+            String urgency = urgencyOf(feedback);
             result.merge(urgency, 1L, Long::sum);
         }
         return result;
     }
 
-    private String mapStatusToUrgency(StatusFeedback status, Integer rating) {
-        if (status == StatusFeedback.CRITICAL || (rating != null && rating <= 2)) {
-            return "HIGH";
-        } else if (rating != null && rating <= 4) {
-            return "MEDIUM";
-        }
-        return "LOW";
+    private String urgencyOf(Feedback feedback) {
+        return feedbackRules.classify(feedback).urgency().name();
     }
 
     private List<FeedbackDetail> buildFeedbackDetails(List<Feedback> feedbacks) {
         List<FeedbackDetail> details = new ArrayList<>();
 
         for (Feedback feedback : feedbacks) {
-            String urgency = mapStatusToUrgency(feedback.getStatus(), feedback.getRating());
+            String urgency = urgencyOf(feedback);
             String createdAt = feedback.getCreatedAt() != null
                     ? feedback.getCreatedAt().format(ISO_FORMATTER)
                     : null;
 
             details.add(FeedbackDetail.builder()
+                    .id(feedback.getId())
                     .description(feedback.getDescription())
+                    .rating(feedback.getRating())
+                    .status(feedback.getStatus() != null ? feedback.getStatus().name() : null)
                     .urgency(urgency)
                     .createdAt(createdAt)
+                    .createdAtDateTime(feedback.getCreatedAt())
                     .build());
         }
         return details;
@@ -0,0 +1,331 @@
+package br.com.postech.feedback.reporting.service;
+
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.core.repository.FeedbackRepository;
+import br.com.postech.feedback.core.shard.ShardedFeedbackRepository;
+import br.com.postech.feedback.reporting.dto.ArchiveCheckpoint;
+import br.com.postech.feedback.reporting.dto.ArchiveManifest;
+import br.com.postech.feedback.reporting.dto.ArchiveObject;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Moves feedbacks older than {@code reporting.archive.age-days} out of the database into gzipped
+ * NDJSON objects, one {@link FeedbackView} per line, under Hive-style date keys
+ * ({@code <prefix>/year=2025/month=01/day=15/feedbacks-<firstId>-<lastId>.ndjson.gz}).
+ * <p>
+ * Each batch of {@code reporting.archive.batch-size} rows, oldest first, is uploaded, recorded in
+ * the checkpoint and only then deleted, in its own short transaction, by id and {@code created_at}
+ * range. A run stops after {@code reporting.archive.max-duration-seconds} and the next one resumes
+ * from the checkpoint, first deleting the rows of a batch that was uploaded but maybe not deleted.
+ * Keys depend only on the rows, so a batch uploaded twice overwrites the same objects.
+ * <p>
+ * With {@code feedback.shards.additional-urls} set, the shards are archived one after the other, each
+ * with its own checkpoint ({@code _checkpoint.json} for shard 0, {@code _checkpoint-shard-<n>.json}
+ * for the others); a run that stops early resumes the next time from the shard it stopped in.
+ * <p>
+ * Every run ends by writing a manifest of the objects it uploaded (long runs also write one every
+ * {@value #MANIFEST_MAX_OBJECTS} objects, which keeps the checkpoint small); {@link #read} goes
+ * through the manifests to read the archive back.
+ */
+@Service
+@Slf4j
+public class FeedbackArchiveService {
+
+    public static final String CONTENT_TYPE = "application/gzip";
+    static final String CHECKPOINT = "_checkpoint.json";
+    static final String SHARD_CHECKPOINT = "_checkpoint-shard-%d.json";
+    static final String MANIFESTS = "_manifests/";
+    static final int MANIFEST_MAX_OBJECTS = 500;
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    public record ArchiveRun(long archived, long deleted, int objects, boolean complete, List<String> manifests) {
+    }
+
+    private final FeedbackRepository feedbackRepository;
+    // Presente só com feedback.shards.additional-urls: os shards além do 0 são arquivados por ele
+    private final Optional<ShardedFeedbackRepository> shardedRepository;
+    private final ArchiveStorage storage;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+    private final String prefix;
+    private final int ageDays;
+    private final int batchSize;
+    private final Duration maxDuration;
+    private final Clock clock;
+
+    @Autowired
+    public FeedbackArchiveService(FeedbackRepository feedbackRepository,
+                                  Optional<ShardedFeedbackRepository> shardedRepository,
+                                  ArchiveStorage storage,
+                                  ObjectMapper objectMapper,
+                                  @Value("${reporting.archive.prefix:feedbacks}") String prefix,
+                                  @Value("${reporting.archive.age-days:365}") int ageDays,
+                                  @Value("${reporting.archive.batch-size:1000}") int batchSize,
+                                  @Value("${reporting.archive.max-duration-seconds:600}") long maxDurationSeconds) {
+        this(feedbackRepository, shardedRepository, storage, objectMapper, prefix, ageDays, batchSize,
+                Duration.ofSeconds(maxDurationSeconds), Clock.systemUTC());
+    }
+
+    public FeedbackArchiveService(FeedbackRepository feedbackRepository,
+                                  Optional<ShardedFeedbackRepository> shardedRepository, ArchiveStorage storage,
+                                  ObjectMapper objectMapper, String prefix, int ageDays, int batchSize,
+                                  Duration maxDuration, Clock clock) {
+        if (ageDays < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("reporting.archive.age-days and batch-size must be positive");
+        }
+        this.feedbackRepository = feedbackRepository;
+        this.shardedRepository = shardedRepository;
+        this.storage = storage;
+        this.objectMapper = objectMapper.copy()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.INDENT_OUTPUT)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.lineWriter = this.objectMapper.writerFor(FeedbackView.class);
+        this.prefix = prefix.endsWith("/") ? prefix : prefix + "/";
+        this.ageDays = ageDays;
+        this.batchSize = batchSize;
+        this.maxDuration = maxDuration;
+        this.clock = clock;
+    }
+
+    public ArchiveRun archive() {
+        Instant deadline = clock.instant().plus(maxDuration);
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDateTime cutoff = startedAt.toLocalDate().minusDays(ageDays).atStartOfDay();
+        String runId = startedAt.format(RUN_ID);
+        int shards = shardedRepository.map(ShardedFeedbackRepository::shards).orElse(1);
+        log.info("Archiving feedbacks created before {} - batch size {}, {} shard(s)", cutoff, batchSize, shards);
+
+        List<String> manifests = new ArrayList<>();
+        long archived = 0;
+        long deleted = 0;
+        int objects = 0;
+        boolean complete = true;
+        for (int shard = 0; shard < shards && complete; shard++) {
+            ArchiveRun run = archive(shard, deadline, cutoff, runId, manifests);
+            archived += run.archived();
+            deleted += run.deleted();
+            objects += run.objects();
+            complete = run.complete();
+        }
+
+        log.info("Archival {} - {} rows archived, {} deleted, {} objects, manifests {}",
+                complete ? "complete" : "paused", archived, deleted, objects, manifests);
+        return new ArchiveRun(archived, deleted, objects, complete, manifests);
+    }
+
+    // Um shard até o fim ou até o prazo; os manifestos da execução são numerados em sequência entre shards
+    private ArchiveRun archive(int shard, Instant deadline, LocalDateTime cutoff, String runId,
+                               List<String> manifests) {
+        String checkpointKey = checkpointKey(shard);
+        ArchiveCheckpoint checkpoint = loadCheckpoint(checkpointKey);
+        long deleted = 0;
+        if (checkpoint.hasPending()) {
+            deleted += deleteArchived(shard, checkpoint.pendingIds(), checkpoint.pendingFrom(), checkpoint.pendingTo());
+            log.info("Resumed archival of shard {} after {} - {} pending rows deleted",
+                    shard, checkpoint.cursor(), deleted);
+        }
+
+        List<ArchiveObject> written = new ArrayList<>(checkpoint.objects());
+        FeedbackCursor cursor = checkpoint.cursor();
+        long archived = 0;
+        int objects = 0;
+        boolean complete = false;
+
+        while (clock.instant().isBefore(deadline)) {
+            List<FeedbackView> batch = findArchivable(shard, cutoff, cursor);
+            if (batch.isEmpty()) {
+                complete = true;
+                break;
+            }
+            List<ArchiveObject> uploaded = upload(batch);
+            written.addAll(uploaded);
+            objects += uploaded.size();
+
+            FeedbackView first = batch.get(0);
+            FeedbackView last = batch.get(batch.size() - 1);
+            List<Long> ids = batch.stream().map(FeedbackView::id).toList();
+            cursor = FeedbackCursor.after(last);
+            saveCheckpoint(checkpointKey, new ArchiveCheckpoint(last.createdAt(), last.id(), ids,
+                    first.createdAt(), last.createdAt(), written));
+
+            deleted += deleteArchived(shard, ids, first.createdAt(), last.createdAt());
+            archived += batch.size();
+
+            if (written.size() >= MANIFEST_MAX_OBJECTS) {
+                manifests.add(writeManifest(runId, manifests.size(), cutoff, written));
+                written.clear();
+                saveCheckpoint(checkpointKey,
+                        new ArchiveCheckpoint(last.createdAt(), last.id(), List.of(), null, null, List.of()));
+            }
+        }
+
+        if (!written.isEmpty()) {
+            manifests.add(writeManifest(runId, manifests.size(), cutoff, written));
+        }
+        // Se a execução cair entre o manifesto e o checkpoint, o próximo manifesto repete as chaves
+        if (complete) {
+            storage.delete(prefix + checkpointKey);
+        } else if (cursor != null) {
+            saveCheckpoint(checkpointKey,
+                    new ArchiveCheckpoint(cursor.createdAt(), cursor.id(), List.of(), null, null, List.of()));
+        }
+        return new ArchiveRun(archived, deleted, objects, complete, List.of());
+    }
+
+    // Shard 0 é o DataSource do serviço: continua pelo repositório JPA, como sem sharding
+    private List<FeedbackView> findArchivable(int shard, LocalDateTime cutoff, FeedbackCursor cursor) {
+        return shard == 0
+                ? feedbackRepository.findArchivable(cutoff, cursor, batchSize)
+                : shardedRepository.orElseThrow().findArchivable(shard, cutoff, cursor, batchSize);
+    }
+
+    private long deleteArchived(int shard, List<Long> ids, LocalDateTime from, LocalDateTime to) {
+        return shard == 0
+                ? feedbackRepository.deleteArchived(ids, from, to)
+                : shardedRepository.orElseThrow().deleteArchived(shard, ids, from, to);
+    }
+
+    static String checkpointKey(int shard) {
+        return shard == 0 ? CHECKPOINT : String.format(SHARD_CHECKPOINT, shard);
+    }
+
+    /**
+     * Streams the archived feedbacks created from {@code from} to {@code to} (inclusive), oldest
+     * first, and returns how many were read.
+     */
+    public long read(LocalDate from, LocalDate to, Consumer<FeedbackView> consumer) {
+        Map<String, ArchiveObject> objects = new LinkedHashMap<>();
+        for (String key : storage.list(prefix + MANIFESTS)) {
+            ArchiveManifest manifest = fromJson(storage.get(key).orElseThrow(), ArchiveManifest.class);
+            for (ArchiveObject object : manifest.objects()) {
+                if (!object.day().isBefore(from) && !object.day().isAfter(to)) {
+                    objects.putIfAbsent(object.key(), object);
+                }
+            }
+        }
+
+        long count = 0;
+        List<ArchiveObject> ordered = objects.values().stream()
+                .sorted(Comparator.comparing(ArchiveObject::day).thenComparingLong(ArchiveObject::firstId))
+                .toList();
+        for (ArchiveObject object : ordered) {
+            byte[] content = storage.get(object.key())
+                    .orElseThrow(() -> new IllegalStateException("Archive object missing: " + object.key()));
+            try (MappingIterator<FeedbackView> rows = objectMapper.readerFor(FeedbackView.class)
+                    .readValues(new GZIPInputStream(new ByteArrayInputStream(content)))) {
+                while (rows.hasNext()) {
+                    consumer.accept(rows.next());
+                    count++;
+                }
+            } catch (IOException e) {
+                log.error("Failed to read archive object {}: {}", object.key(), e.getMessage());
+                throw new RuntimeException("Failed to read archive object " + object.key(), e);
+            }
+        }
+        return count;
+    }
+
+    static String objectKey(String prefix, LocalDate day, long firstId, long lastId) {
+        return String.format("%syear=%04d/month=%02d/day=%02d/feedbacks-%d-%d.ndjson.gz",
+                prefix, day.getYear(), day.getMonthValue(), day.getDayOfMonth(), firstId, lastId);
+    }
+
+    // Uma chave por dia do lote, para que o prefixo de data contenha só linhas daquele dia
+    private List<ArchiveObject> upload(List<FeedbackView> batch) {
+        Map<LocalDate, List<FeedbackView>> byDay = new LinkedHashMap<>();
+        for (FeedbackView row : batch) {
+            byDay.computeIfAbsent(row.createdAt().toLocalDate(), day -> new ArrayList<>()).add(row);
+        }
+
+        List<ArchiveObject> objects = new ArrayList<>(byDay.size());
+        for (Map.Entry<LocalDate, List<FeedbackView>> day : byDay.entrySet()) {
+            List<FeedbackView> rows = day.getValue();
+            long firstId = rows.get(0).id();
+            long lastId = rows.get(rows.size() - 1).id();
+            String key = objectKey(prefix, day.getKey(), firstId, lastId);
+            byte[] content = compress(rows);
+            storage.put(key, content, CONTENT_TYPE);
+            objects.add(new ArchiveObject(key, day.getKey(), rows.size(), firstId, lastId, content.length));
+        }
+        return objects;
+    }
+
+    private byte[] compress(List<FeedbackView> rows) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(rows.size() * 64);
+            try (OutputStream out = ReportCompression.GZIP.wrap(buffer)) {
+                for (FeedbackView row : rows) {
+                    out.write(lineWriter.writeValueAsBytes(row));
+                    out.write('\n');
+                }
+            }
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            log.error("Failed to compress archive batch: {}", e.getMessage());
+            throw new RuntimeException("Failed to compress archive batch", e);
+        }
+    }
+
+    private String writeManifest(String runId, int part, LocalDateTime cutoff, List<ArchiveObject> objects) {
+        String key = prefix + MANIFESTS + runId + "-" + part + ".json";
+        storage.put(key, toJson(new ArchiveManifest(runId, cutoff, LocalDateTime.now(clock), List.copyOf(objects))),
+                "application/json");
+        return key;
+    }
+
+    private ArchiveCheckpoint loadCheckpoint(String checkpointKey) {
+        return storage.get(prefix + checkpointKey)
+                .map(content -> fromJson(content, ArchiveCheckpoint.class))
+                .orElseGet(ArchiveCheckpoint::start);
+    }
+
+    private void saveCheckpoint(String checkpointKey, ArchiveCheckpoint checkpoint) {
+        storage.put(prefix + checkpointKey, toJson(checkpoint), "application/json");
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize archive metadata", e);
+        }
+    }
+
+    private <T> T fromJson(byte[] content, Class<T> type) {
+        try {
+            return objectMapper.readValue(content, type);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse archive metadata", e);
+        }
+    }
+}
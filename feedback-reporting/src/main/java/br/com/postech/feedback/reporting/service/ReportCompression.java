@@ -0,0 +1,57 @@
+package br.com.postech.feedback.reporting.service;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+public enum ReportCompression {
+
+    NONE(null) {
+        @Override
+        public OutputStream wrap(OutputStream out) {
+            return out;
+        }
+    },
+    GZIP("gzip") {
+        @Override
+        public OutputStream wrap(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+    },
+    ZSTD("zstd") {
+        @Override
+        public OutputStream wrap(OutputStream out) throws IOException {
+            return new ZstdOutputStream(out, ZSTD_LEVEL);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int ZSTD_LEVEL = 3;
+
+    private final String contentEncoding;
+
+    ReportCompression(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public abstract OutputStream wrap(OutputStream out) throws IOException;
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public static ReportCompression from(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "none", "identity" -> NONE;
+            case "gzip", "gz" -> GZIP;
+            case "zstd", "zst" -> ZSTD;
+            default -> throw new IllegalArgumentException("Unsupported report compression: " + value);
+        };
+    }
+}
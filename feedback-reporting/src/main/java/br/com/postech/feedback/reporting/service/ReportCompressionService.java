@@ -0,0 +1,38 @@
+package br.com.postech.feedback.reporting.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+@Slf4j
+public class ReportCompressionService {
+
+    private final ReportCompression compression;
+
+    @Autowired
+    public ReportCompressionService(@Value("${reporting.compression:none}") String compression) {
+        this(ReportCompression.from(compression));
+    }
+
+    public ReportCompressionService(ReportCompression compression) {
+        this.compression = compression;
+        log.info("Report compression: {}", compression);
+    }
+
+    public OutputStream wrap(OutputStream out) throws IOException {
+        return compression.wrap(out);
+    }
+
+    public String getContentEncoding() {
+        return compression.getContentEncoding();
+    }
+
+    public ReportCompression getCompression() {
+        return compression;
+    }
+}
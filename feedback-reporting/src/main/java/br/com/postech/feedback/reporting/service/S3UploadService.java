@@ -1,27 +1,71 @@
 package br.com.postech.feedback.reporting.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.regions.Region;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @Slf4j
 public class S3UploadService {
 
+    /**
+     * S3 rejects every part except the last one when it is smaller than 5 MiB.
+     */
+    static final long MIN_PART_SIZE_BYTES = 5L * 1024 * 1024;
+
+    /**
+     * S3 rejects parts larger than 5 GiB.
+     */
+    static final long MAX_PART_SIZE_BYTES = 5L * 1024 * 1024 * 1024;
+
+    /**
+     * Largest byte array the JVM allocates. The stream head and every part are buffered in one, so
+     * this, not the S3 maximum, bounds both the threshold and the part size.
+     */
+    static final long MAX_BUFFER_BYTES = Integer.MAX_VALUE - 8;
+
     private final S3Client s3Client;
     private S3Presigner s3Presigner;
 
@@ -34,6 +78,15 @@ public class S3UploadService {
     @Value("${aws.s3.presigned-url-expiration-days:7}")
     private int presignedUrlExpirationDays;
 
+    @Value("${aws.s3.multipart.threshold-bytes:16777216}")
+    private long multipartThresholdBytes;
+
+    @Value("${aws.s3.multipart.part-size-bytes:8388608}")
+    private long multipartPartSizeBytes;
+
+    @Value("${aws.s3.multipart.concurrency:4}")
+    private int multipartConcurrency;
+
     @Autowired
     public S3UploadService(S3Client s3Client) {
         this.s3Client = s3Client;
@@ -45,11 +98,34 @@ public class S3UploadService {
         this.s3Presigner = s3Presigner;
     }
 
+    @PostConstruct
+    void validateMultipartSettings() {
+        if (multipartThresholdBytes < 0 || multipartThresholdBytes > MAX_BUFFER_BYTES) {
+            throw new IllegalArgumentException("aws.s3.multipart.threshold-bytes must be between 0 and "
+                    + MAX_BUFFER_BYTES + ": " + multipartThresholdBytes);
+        }
+        long maxPartSize = Math.min(MAX_PART_SIZE_BYTES, MAX_BUFFER_BYTES);
+        if (multipartPartSizeBytes > maxPartSize) {
+            throw new IllegalArgumentException("aws.s3.multipart.part-size-bytes must be at most " + maxPartSize
+                    + ": " + multipartPartSizeBytes);
+        }
+    }
+
     public String uploadReport(byte[] content, String s3Key, String contentType) {
+        return uploadReport(content, s3Key, contentType, null);
+    }
+
+    /**
+     * Uploads report bytes, tagging the object with {@code contentEncoding} (e.g. {@code gzip}) when
+     * the payload is compressed. S3 returns the header on download, so clients following the presigned
+     * link decode the content transparently and still see the original content type.
+     */
+    public String uploadReport(byte[] content, String s3Key, String contentType, String contentEncoding) {
         validateBucketConfiguration();
 
         log.info("Uploading report to S3 - Bucket: {}, Key: {}", bucketName, s3Key);
-        log.info("Report content size: {} bytes", content.length);
+        log.info("Report content size: {} bytes, Content-Encoding: {}", content.length,
+                contentEncoding != null ? contentEncoding : "identity");
         log.info("S3 Client configured - Region: {}", region);
 
         try {
@@ -57,6 +133,7 @@ public class S3UploadService {
                     .bucket(bucketName)
                     .key(s3Key)
                     .contentType(contentType)
+                    .contentEncoding(contentEncoding)
                     .build();
 
             log.info("Initiating S3 PutObject request...");
@@ -92,6 +169,210 @@ public class S3UploadService {
         return uploadReport(content.getBytes(StandardCharsets.UTF_8), s3Key, contentType);
     }
 
+    /**
+     * Uploads a report already spooled to disk. Files above the multipart threshold are sent as
+     * parallel parts read straight from the file, so the report never has to fit in the heap.
+     */
+    public String uploadReport(Path file, String s3Key, String contentType) {
+        return uploadReport(file, s3Key, contentType, null);
+    }
+
+    public String uploadReport(Path file, String s3Key, String contentType, String contentEncoding) {
+        validateBucketConfiguration();
+
+        try {
+            long size = Files.size(file);
+            log.info("Uploading report file to S3 - Bucket: {}, Key: {}, Size: {} bytes", bucketName, s3Key, size);
+
+            if (size < multipartThresholdBytes) {
+                PutObjectResponse response = s3Client.putObject(newPutObjectRequest(s3Key, contentType, contentEncoding),
+                        RequestBody.fromFile(file));
+                log.info("S3 PutObject completed - ETag: {}", response.eTag());
+            } else {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    uploadMultipart(s3Key, contentType, contentEncoding, new FilePartSource(channel, size, partSize()));
+                }
+            }
+
+            return generatePresignedUrl(s3Key);
+        } catch (SdkClientException e) {
+            throw sdkClientFailure(s3Key, e);
+        } catch (Exception e) {
+            throw uploadFailure(s3Key, e);
+        }
+    }
+
+    /**
+     * Uploads a report of unknown length. Content smaller than the multipart threshold goes out as
+     * a single PutObject; anything larger switches to a parallel multipart upload that keeps at
+     * most {@code concurrency} parts in memory once the threshold-sized head has been sent.
+     */
+    public String uploadReport(InputStream content, String s3Key, String contentType) {
+        return uploadReport(content, s3Key, contentType, null);
+    }
+
+    public String uploadReport(InputStream content, String s3Key, String contentType, String contentEncoding) {
+        validateBucketConfiguration();
+
+        log.info("Uploading report stream to S3 - Bucket: {}, Key: {}", bucketName, s3Key);
+
+        try {
+            byte[] head = content.readNBytes(Math.toIntExact(multipartThresholdBytes));
+
+            if (head.length < multipartThresholdBytes) {
+                PutObjectResponse response = s3Client.putObject(newPutObjectRequest(s3Key, contentType, contentEncoding),
+                        RequestBody.fromBytes(head));
+                log.info("S3 PutObject completed - ETag: {}, Size: {} bytes", response.eTag(), head.length);
+            } else {
+                uploadMultipart(s3Key, contentType, contentEncoding, new StreamPartSource(head, content, partSize()));
+            }
+
+            return generatePresignedUrl(s3Key);
+        } catch (SdkClientException e) {
+            throw sdkClientFailure(s3Key, e);
+        } catch (Exception e) {
+            throw uploadFailure(s3Key, e);
+        }
+    }
+
+    private void uploadMultipart(String s3Key, String contentType, String contentEncoding,
+                                 PartSource parts) throws Exception {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .contentEncoding(contentEncoding)
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                        .build())
+                .uploadId();
+
+        log.info("Multipart upload started - Key: {}, UploadId: {}, PartSize: {} bytes, Concurrency: {}",
+                s3Key, uploadId, partSize(), concurrency());
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency());
+        Semaphore inFlight = new Semaphore(concurrency());
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<CompletedPart>> futures = new ArrayList<>();
+
+        try {
+            int partNumber = 1;
+            while (true) {
+                inFlight.acquire();
+                // Depois de uma parte falhar o upload será abortado: não lê nem envia as seguintes
+                ByteBuffer payload = failed.get() ? null : parts.next();
+                if (payload == null) {
+                    inFlight.release();
+                    break;
+                }
+                int currentPart = partNumber++;
+                futures.add(executor.submit(() -> {
+                    try {
+                        return uploadPart(s3Key, uploadId, currentPart, payload);
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            List<CompletedPart> completedParts = new ArrayList<>(futures.size());
+            for (Future<CompletedPart> future : futures) {
+                completedParts.add(future.get());
+            }
+            completedParts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+            CompleteMultipartUploadResponse response = s3Client.completeMultipartUpload(
+                    CompleteMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(s3Key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                            .build());
+
+            log.info("Multipart upload completed - Key: {}, Parts: {}, ETag: {}",
+                    s3Key, completedParts.size(), response.eTag());
+        } catch (Exception e) {
+            futures.forEach(future -> future.cancel(true));
+            abortMultipartUpload(s3Key, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw e instanceof ExecutionException && e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompletedPart uploadPart(String s3Key, String uploadId, int partNumber, ByteBuffer payload) {
+        UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) payload.remaining())
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                        .build(),
+                RequestBody.fromByteBuffer(payload));
+
+        log.debug("Uploaded part {} of {} ({} bytes)", partNumber, s3Key, payload.remaining());
+
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .checksumCRC32(response.checksumCRC32())
+                .build();
+    }
+
+    private void abortMultipartUpload(String s3Key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("Multipart upload aborted - Key: {}, UploadId: {}", s3Key, uploadId);
+        } catch (Exception e) {
+            log.error("Failed to abort multipart upload - Key: {}, UploadId: {}: {}", s3Key, uploadId, e.getMessage());
+        }
+    }
+
+    private PutObjectRequest newPutObjectRequest(String s3Key, String contentType, String contentEncoding) {
+        return PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .contentEncoding(contentEncoding)
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                .build();
+    }
+
+    private long partSize() {
+        return Math.max(multipartPartSizeBytes, MIN_PART_SIZE_BYTES);
+    }
+
+    private int concurrency() {
+        return Math.max(multipartConcurrency, 1);
+    }
+
+    private RuntimeException sdkClientFailure(String s3Key, SdkClientException e) {
+        log.error("=== S3 SDK CLIENT ERROR ===");
+        log.error("This usually indicates network/timeout issues");
+        log.error("Bucket: {}, Key: {}", bucketName, s3Key);
+        log.error("Error: {}", e.getMessage(), e);
+        log.error("===========================");
+        return new RuntimeException("Failed to upload report to S3 - SDK client error", e);
+    }
+
+    private RuntimeException uploadFailure(String s3Key, Exception e) {
+        log.error("=== S3 UPLOAD FAILED ===");
+        log.error("Bucket: {}, Key: {}", bucketName, s3Key);
+        log.error("Error: {}", e.getMessage(), e);
+        log.error("========================");
+        return new RuntimeException("Failed to upload report to S3", e);
+    }
+
     private void validateBucketConfiguration() {
         if (bucketName == null || bucketName.isBlank()) {
             log.error("=== S3 CONFIGURATION ERROR ===");
@@ -130,4 +411,54 @@ public class S3UploadService {
         log.info("Generated presigned URL for key: {}", s3Key);
         return presignedUrl;
     }
+
+    private interface PartSource {
+        ByteBuffer next() throws IOException;
+    }
+
+    private static final class FilePartSource implements PartSource {
+
+        private final FileChannel channel;
+        private final long size;
+        private final long partSize;
+        private long position;
+
+        private FilePartSource(FileChannel channel, long size, long partSize) {
+            this.channel = channel;
+            this.size = size;
+            this.partSize = partSize;
+        }
+
+        @Override
+        public ByteBuffer next() throws IOException {
+            if (position >= size) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(Math.min(partSize, size - position)));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file while reading part");
+                }
+            }
+            position += buffer.capacity();
+            return buffer.flip();
+        }
+    }
+
+    private static final class StreamPartSource implements PartSource {
+
+        private final InputStream stream;
+        private final int partSize;
+
+        private StreamPartSource(byte[] head, InputStream rest, long partSize) {
+            this.stream = new SequenceInputStream(new ByteArrayInputStream(head), rest);
+            this.partSize = Math.toIntExact(partSize);
+        }
+
+        @Override
+        public ByteBuffer next() throws IOException {
+            byte[] chunk = stream.readNBytes(partSize);
+            return chunk.length == 0 ? null : ByteBuffer.wrap(chunk);
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package br.com.postech.feedback.reporting.service;
 
+import br.com.postech.feedback.core.codec.FeedbackEventCodec;
+import br.com.postech.feedback.core.codec.WireFormat;
+import br.com.postech.feedback.core.event.EventEnvelope;
 import br.com.postech.feedback.reporting.dto.ReportReadyEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -7,10 +10,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sns.model.PublishRequest;
 import software.amazon.awssdk.services.sns.model.PublishResponse;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @Slf4j
@@ -51,7 +57,7 @@ public class SnsPublishService {
 
         try {
             ReportReadyEvent event = ReportReadyEvent.builder()
-                    .eventType("ReportReady")
+                    .eventType(EventEnvelope.REPORT_READY)
                     .message("Relatório semanal disponível")
                     .reportLink(reportUrl)
                     .bucketName(bucketName)
@@ -67,6 +73,7 @@ public class SnsPublishService {
                     .topicArn(topicArn)
                     .message(messageJson)
                     .subject("Weekly Report Ready")
+                    .messageAttributes(messageAttributes(EventEnvelope.create(EventEnvelope.REPORT_READY, 1)))
                     .build();
 
             PublishResponse response = snsClient.publish(publishRequest);
@@ -76,4 +83,15 @@ public class SnsPublishService {
             throw new RuntimeException("Failed to publish event to SNS", e);
         }
     }
+
+    private Map<String, MessageAttributeValue> messageAttributes(EventEnvelope envelope) {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        attributes.put(FeedbackEventCodec.CONTENT_TYPE_ATTRIBUTE, stringAttribute(WireFormat.JSON.getContentType()));
+        envelope.toAttributes().forEach((name, value) -> attributes.put(name, stringAttribute(value)));
+        return attributes;
+    }
+
+    private static MessageAttributeValue stringAttribute(String value) {
+        return MessageAttributeValue.builder().dataType("String").stringValue(value).build();
+    }
 }
@@ -0,0 +1,330 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+
+import static br.com.postech.feedback.reporting.writer.ReportLabels.*;
+
+/**
+ * CSV no layout do Excel brasileiro (separador ";" e BOM UTF-8).
+ * <p>
+ * The detail loop runs once per feedback, so it encodes straight into a reusable byte buffer: the
+ * description is sanitized and UTF-8 encoded in a single pass, dates come from the
+ * {@link LocalDateTime} instead of re-parsing the ISO string, and the known urgency cells are
+ * precomputed byte arrays.
+ */
+@Component
+public class CsvReportWriter implements ReportWriter {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte SEPARATOR = ';';
+    private static final byte NEWLINE = '\n';
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final String SECTION_RULE =
+            "═══════════════════════════════════════════════════════════════════════════════";
+
+    private static final byte[] EMPTY_URGENCY_CELLS = urgencyCells("");
+    private static final byte[] CRITICAL_CELLS = urgencyCells("CRITICAL");
+    private static final byte[] HIGH_CELLS = urgencyCells("HIGH");
+    private static final byte[] MEDIUM_CELLS = urgencyCells("MEDIUM");
+    private static final byte[] LOW_CELLS = urgencyCells("LOW");
+
+    @Override
+    public String getFormat() {
+        return "csv";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "csv";
+    }
+
+    @Override
+    public String getContentType() {
+        return "text/csv; charset=UTF-8";
+    }
+
+    @Override
+    public void write(ReportMetrics metrics, LocalDateTime generatedAt, OutputStream out) throws IOException {
+        CsvOutput csv = new CsvOutput(out);
+        char decimalSeparator = DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT))
+                .getDecimalSeparator();
+
+        csv.bytes(BOM);
+
+        csv.line("RELATÓRIO SEMANAL DE FEEDBACKS");
+        csv.line("Gerado em:", generatedAt.format(DATE_TIME_FORMATTER));
+        csv.line("Período:", "Últimos 7 dias");
+        csv.newline();
+
+        section(csv, "RESUMO EXECUTIVO");
+        csv.line("Indicador", "Valor", "Observação");
+        csv.line("Total de Feedbacks",
+                String.valueOf(metrics.getTotalFeedbacks() != null ? metrics.getTotalFeedbacks() : 0),
+                "Total de avaliações recebidas");
+        Double avgScore = metrics.getAverageScore();
+        csv.line("Nota Média", decimal(avgScore != null ? avgScore : 0.0, 2, decimalSeparator), "Escala de 1 a 5");
+        csv.line("Nível de Satisfação", satisfactionLevel(avgScore), satisfactionNote(avgScore));
+        csv.newline();
+
+        section(csv, "QUANTIDADE DE AVALIAÇÕES POR URGÊNCIA");
+        csv.line("Urgência", "Quantidade", "Percentual", "Indicador");
+        if (metrics.getFeedbacksByUrgency() != null && !metrics.getFeedbacksByUrgency().isEmpty()) {
+            long total = metrics.getTotalFeedbacks() != null ? metrics.getTotalFeedbacks() : 1;
+            for (Map.Entry<String, Long> entry : metrics.getFeedbacksByUrgency().entrySet().stream()
+                    .sorted(Comparator.comparingInt(e -> urgencyPriority(e.getKey())))
+                    .toList()) {
+                String urgency = entry.getKey();
+                Long count = entry.getValue();
+                double percentage = total > 0 ? (count * 100.0 / total) : 0;
+                csv.line(urgency, String.valueOf(count), decimal(percentage, 1, decimalSeparator) + "%",
+                        urgencyIndicator(urgency));
+            }
+        } else {
+            csv.line("Nenhum dado", "0", "0%", "-");
+        }
+        csv.newline();
+
+        section(csv, "QUANTIDADE DE AVALIAÇÕES POR DIA");
+        csv.line("Data de Envio", "Dia da Semana", "Quantidade");
+        if (metrics.getFeedbacksByDay() != null && !metrics.getFeedbacksByDay().isEmpty()) {
+            for (Map.Entry<String, Long> entry : metrics.getFeedbacksByDay().entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .toList()) {
+                String dateStr = entry.getKey();
+                csv.line(formatDate(dateStr), dayOfWeek(dateStr), String.valueOf(entry.getValue()));
+            }
+        } else {
+            csv.line("Nenhum dado", "-", "0");
+        }
+        csv.newline();
+
+        section(csv, "DETALHES DOS FEEDBACKS");
+        csv.line("Data de Envio", "Urgência", "Indicador", "Descrição");
+        if (metrics.getFeedbacks() != null && !metrics.getFeedbacks().isEmpty()) {
+            for (FeedbackDetail feedback : metrics.getFeedbacks()) {
+                writeDetail(csv, feedback);
+            }
+        } else {
+            csv.line("-", "-", "-", "Nenhum feedback registrado no período");
+        }
+
+        csv.newline();
+        csv.line(SECTION_RULE);
+        csv.line("FIM DO RELATÓRIO");
+        csv.line(SECTION_RULE);
+
+        csv.flush();
+    }
+
+    private void writeDetail(CsvOutput csv, FeedbackDetail feedback) throws IOException {
+        LocalDateTime createdAt = feedback.getCreatedAtDateTime();
+        if (createdAt != null) {
+            csv.date(createdAt);
+        } else {
+            csv.text(formatDate(feedback.getCreatedAt()));
+        }
+        csv.separator();
+
+        String urgency = feedback.getUrgency();
+        byte[] urgencyCells = knownUrgencyCells(urgency);
+        if (urgencyCells != null) {
+            csv.bytes(urgencyCells);
+        } else {
+            csv.text(urgency);
+            csv.separator();
+            csv.text(urgencyIndicator(urgency));
+            csv.separator();
+        }
+
+        csv.sanitized(feedback.getDescription());
+        csv.newline();
+    }
+
+    private void section(CsvOutput csv, String title) throws IOException {
+        csv.line(SECTION_RULE);
+        csv.line(title);
+        csv.line(SECTION_RULE);
+    }
+
+    private static byte[] knownUrgencyCells(String urgency) {
+        if (urgency == null || urgency.isEmpty()) {
+            return EMPTY_URGENCY_CELLS;
+        }
+        return switch (urgency) {
+            case "CRITICAL" -> CRITICAL_CELLS;
+            case "HIGH" -> HIGH_CELLS;
+            case "MEDIUM" -> MEDIUM_CELLS;
+            case "LOW" -> LOW_CELLS;
+            default -> null;
+        };
+    }
+
+    private static byte[] urgencyCells(String urgency) {
+        return (urgency + ";" + urgencyIndicator(urgency) + ";").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Mesmo arredondamento de String.format("%.Nf"), sem passar pelo Formatter
+    static String decimal(double value, int scale, char decimalSeparator) {
+        String plain = BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP).toPlainString();
+        return decimalSeparator == '.' ? plain : plain.replace('.', decimalSeparator);
+    }
+
+    /**
+     * Buffered UTF-8 encoder over the target stream. Not thread-safe; one instance per write.
+     */
+    static final class CsvOutput {
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+
+        CsvOutput(OutputStream out) {
+            this.out = out;
+        }
+
+        void line(String... cells) throws IOException {
+            for (int i = 0; i < cells.length; i++) {
+                if (i > 0) {
+                    separator();
+                }
+                text(cells[i]);
+            }
+            newline();
+        }
+
+        void separator() throws IOException {
+            ensure(1);
+            buffer[position++] = SEPARATOR;
+        }
+
+        void newline() throws IOException {
+            ensure(1);
+            buffer[position++] = NEWLINE;
+        }
+
+        void bytes(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length) {
+                flush();
+                out.write(bytes);
+                return;
+            }
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void text(String text) throws IOException {
+            if (text == null) {
+                return;
+            }
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                i = encode(text, i, text.charAt(i));
+            }
+        }
+
+        /**
+         * Equivalent to replacing ";" with ",", line breaks with spaces and double quotes with
+         * single quotes, then trimming, but done in one pass without intermediate strings.
+         */
+        void sanitized(String text) throws IOException {
+            if (text == null) {
+                return;
+            }
+            int start = 0;
+            int end = text.length();
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case ';' -> c = ',';
+                    case '\n', '\r' -> c = ' ';
+                    case '"' -> c = '\'';
+                    default -> {
+                    }
+                }
+                i = encode(text, i, c);
+            }
+        }
+
+        /** Writes dd/MM/yyyy directly from the date fields. */
+        void date(LocalDateTime dateTime) throws IOException {
+            int year = dateTime.getYear();
+            if (year < 0 || year > 9999) {
+                text(dateTime.format(DATE_FORMATTER));
+                return;
+            }
+            ensure(10);
+            twoDigits(dateTime.getDayOfMonth());
+            buffer[position++] = '/';
+            twoDigits(dateTime.getMonthValue());
+            buffer[position++] = '/';
+            twoDigits(year / 100);
+            twoDigits(year % 100);
+        }
+
+        void flush() throws IOException {
+            if (position > 0) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+            out.flush();
+        }
+
+        private void twoDigits(int value) {
+            buffer[position++] = (byte) ('0' + value / 10);
+            buffer[position++] = (byte) ('0' + value % 10);
+        }
+
+        private int encode(String text, int index, char c) throws IOException {
+            ensure(4);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)
+                    && index + 1 < text.length() && Character.isLowSurrogate(text.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(index + 1));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return index + 1;
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+            return index;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.core.config.JsonConfig;
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.ReportFeedbackItem;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import br.com.postech.feedback.reporting.dto.ReportSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Writes the {@link br.com.postech.feedback.reporting.dto.Report} document field by field with the
+ * streaming generator, so the feedback array is never materialized as a second object graph.
+ */
+@Component
+public class JsonReportWriter implements ReportWriter {
+
+    static final String REPORT_TYPE = "WEEKLY_REPORT";
+    static final String REPORT_PERIOD = "LAST_7_DAYS";
+    private static final DateTimeFormatter GENERATED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    private final ObjectWriter objectWriter;
+
+    public JsonReportWriter(@Qualifier(JsonConfig.PRETTY_OBJECT_MAPPER) ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public String getFormat() {
+        return "json";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "json";
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json; charset=UTF-8";
+    }
+
+    @Override
+    public void write(ReportMetrics metrics, LocalDateTime generatedAt, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectWriter.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", REPORT_TYPE);
+            generator.writeStringField("generatedAt", generatedAt.format(GENERATED_AT_FORMATTER));
+            generator.writeStringField("period", REPORT_PERIOD);
+            generator.writeFieldName("summary");
+            objectWriter.writeValue(generator, toSummary(metrics));
+            writeCounts(generator, "feedbacksByDay", metrics.getFeedbacksByDay());
+            writeCounts(generator, "feedbacksByUrgency", metrics.getFeedbacksByUrgency());
+
+            generator.writeArrayFieldStart("feedbacks");
+            if (metrics.getFeedbacks() != null) {
+                for (FeedbackDetail feedback : metrics.getFeedbacks()) {
+                    objectWriter.writeValue(generator, toItem(feedback));
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeCounts(JsonGenerator generator, String field, Map<String, Long> counts) throws IOException {
+        generator.writeObjectFieldStart(field);
+        if (counts != null) {
+            for (Map.Entry<String, Long> entry : counts.entrySet()) {
+                generator.writeNumberField(entry.getKey(), entry.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    static ReportSummary toSummary(ReportMetrics metrics) {
+        return ReportSummary.builder()
+                .totalFeedbacks(metrics.getTotalFeedbacks() != null ? metrics.getTotalFeedbacks() : 0L)
+                .averageScore(metrics.getAverageScore() != null ? metrics.getAverageScore() : 0.0)
+                .build();
+    }
+
+    static ReportFeedbackItem toItem(FeedbackDetail feedback) {
+        return ReportFeedbackItem.builder()
+                .description(feedback.getDescription())
+                .urgency(feedback.getUrgency())
+                .createdAt(feedback.getCreatedAt())
+                .build();
+    }
+}
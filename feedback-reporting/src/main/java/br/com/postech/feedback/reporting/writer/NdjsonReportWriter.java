@@ -0,0 +1,72 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.Report;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Newline-delimited JSON: the first line is the {@link Report} header without feedbacks, followed
+ * by one {@link br.com.postech.feedback.reporting.dto.ReportFeedbackItem} per line.
+ */
+@Component
+public class NdjsonReportWriter implements ReportWriter {
+
+    private final ObjectWriter objectWriter;
+
+    public NdjsonReportWriter(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+    }
+
+    @Override
+    public String getFormat() {
+        return "ndjson";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "ndjson";
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/x-ndjson; charset=UTF-8";
+    }
+
+    @Override
+    public void write(ReportMetrics metrics, LocalDateTime generatedAt, OutputStream out) throws IOException {
+        Report header = Report.builder()
+                .type(JsonReportWriter.REPORT_TYPE)
+                .generatedAt(generatedAt)
+                .period(JsonReportWriter.REPORT_PERIOD)
+                .summary(JsonReportWriter.toSummary(metrics))
+                .feedbacksByDay(metrics.getFeedbacksByDay())
+                .feedbacksByUrgency(metrics.getFeedbacksByUrgency())
+                .build();
+
+        try (JsonGenerator generator = objectWriter.createGenerator(out)) {
+            objectWriter.writeValue(generator, header);
+            if (metrics.getFeedbacks() != null) {
+                for (FeedbackDetail feedback : metrics.getFeedbacks()) {
+                    objectWriter.writeValue(generator, JsonReportWriter.toItem(feedback));
+                }
+            }
+            generator.writeRaw('\n');
+        }
+    }
+}
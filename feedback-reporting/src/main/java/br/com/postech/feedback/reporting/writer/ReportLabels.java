@@ -0,0 +1,90 @@
+package br.com.postech.feedback.reporting.writer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Rótulos em português compartilhados pelos formatos tabulares (CSV e XLSX).
+ */
+final class ReportLabels {
+
+    static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private ReportLabels() {
+    }
+
+    static String satisfactionLevel(Double averageScore) {
+        if (averageScore == null) return "N/A";
+        if (averageScore >= 4.5) return "EXCELENTE";
+        if (averageScore >= 4.0) return "MUITO BOM";
+        if (averageScore >= 3.0) return "BOM";
+        if (averageScore >= 2.0) return "REGULAR";
+        return "CRÍTICO";
+    }
+
+    static String satisfactionNote(Double averageScore) {
+        if (averageScore == null) return "Sem dados";
+        if (averageScore >= 4.5) return "Clientes muito satisfeitos!";
+        if (averageScore >= 4.0) return "Boa satisfação geral";
+        if (averageScore >= 3.0) return "Satisfação moderada";
+        if (averageScore >= 2.0) return "Necessita atenção";
+        return "Situação crítica!";
+    }
+
+    static String urgencyIndicator(String urgency) {
+        if (urgency == null || urgency.isBlank()) return "-";
+        return switch (urgency.toUpperCase()) {
+            case "CRITICAL", "CRITICO", "CRÍTICO" -> "[!!!] CRÍTICO";
+            case "HIGH", "ALTA", "ALTO" -> "[!!] ALTO";
+            case "MEDIUM", "MEDIA", "MÉDIO", "MÉDIA" -> "[!] MÉDIO";
+            case "LOW", "BAIXA", "BAIXO" -> "[ ] BAIXO";
+            default -> "[-] " + urgency;
+        };
+    }
+
+    static int urgencyPriority(String urgency) {
+        if (urgency == null) return 99;
+        return switch (urgency.toUpperCase()) {
+            case "CRITICAL", "CRITICO", "CRÍTICO" -> 1;
+            case "HIGH", "ALTA", "ALTO" -> 2;
+            case "MEDIUM", "MEDIA", "MÉDIO", "MÉDIA" -> 3;
+            case "LOW", "BAIXA", "BAIXO" -> 4;
+            default -> 99;
+        };
+    }
+
+    static String dayOfWeek(String dateStr) {
+        if (dateStr == null || dateStr.isBlank()) return "-";
+        try {
+            LocalDate date = LocalDate.parse(dateStr);
+            return switch (date.getDayOfWeek()) {
+                case MONDAY -> "Segunda-feira";
+                case TUESDAY -> "Terça-feira";
+                case WEDNESDAY -> "Quarta-feira";
+                case THURSDAY -> "Quinta-feira";
+                case FRIDAY -> "Sexta-feira";
+                case SATURDAY -> "Sábado";
+                case SUNDAY -> "Domingo";
+            };
+        } catch (Exception e) {
+            return "-";
+        }
+    }
+
+    static String formatDate(String dateStr) {
+        if (dateStr == null || dateStr.isBlank()) return "-";
+        try {
+            if (dateStr.contains("T") || dateStr.contains(" ")) {
+                LocalDateTime dateTime = LocalDateTime.parse(
+                        dateStr.replace(" ", "T").substring(0, Math.min(19, dateStr.length())));
+                return dateTime.format(DATE_FORMATTER);
+            }
+            LocalDate date = LocalDate.parse(dateStr);
+            return date.format(DATE_FORMATTER);
+        } catch (Exception e) {
+            return dateStr;
+        }
+    }
+}
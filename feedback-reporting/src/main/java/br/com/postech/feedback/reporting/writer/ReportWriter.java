@@ -0,0 +1,25 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Serializes the weekly report in one output format.
+ * <p>
+ * Implementations write straight into the given stream and must not close it, so the caller can
+ * chain compression and decide where the bytes end up.
+ */
+public interface ReportWriter {
+
+    /** Value of {@code reporting.format} that selects this writer. */
+    String getFormat();
+
+    String getFileExtension();
+
+    String getContentType();
+
+    void write(ReportMetrics metrics, LocalDateTime generatedAt, OutputStream out) throws IOException;
+}
@@ -0,0 +1,119 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+
+import static br.com.postech.feedback.reporting.writer.ReportLabels.*;
+
+/**
+ * Streaming XLSX: only {@link #ROW_WINDOW} rows per sheet stay in memory, older rows are flushed to
+ * compressed temporary files until the workbook is written out.
+ */
+@Component
+public class XlsxReportWriter implements ReportWriter {
+
+    static final int ROW_WINDOW = 100;
+
+    @Override
+    public String getFormat() {
+        return "xlsx";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "xlsx";
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    }
+
+    @Override
+    public void write(ReportMetrics metrics, LocalDateTime generatedAt, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            writeSummarySheet(workbook.createSheet("Resumo"), metrics, generatedAt);
+            writeFeedbackSheet(workbook.createSheet("Feedbacks"), metrics);
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void writeSummarySheet(SXSSFSheet sheet, ReportMetrics metrics, LocalDateTime generatedAt) {
+        int rowIndex = 0;
+        row(sheet, rowIndex++, "RELATÓRIO SEMANAL DE FEEDBACKS");
+        row(sheet, rowIndex++, "Gerado em:", generatedAt.format(DATE_TIME_FORMATTER));
+        row(sheet, rowIndex++, "Período:", "Últimos 7 dias");
+        rowIndex++;
+
+        Double avgScore = metrics.getAverageScore();
+        row(sheet, rowIndex++, "Indicador", "Valor", "Observação");
+        Row total = row(sheet, rowIndex++, "Total de Feedbacks");
+        total.createCell(1).setCellValue(metrics.getTotalFeedbacks() != null ? metrics.getTotalFeedbacks() : 0);
+        total.createCell(2).setCellValue("Total de avaliações recebidas");
+        Row average = row(sheet, rowIndex++, "Nota Média");
+        average.createCell(1).setCellValue(avgScore != null ? avgScore : 0.0);
+        average.createCell(2).setCellValue("Escala de 1 a 5");
+        row(sheet, rowIndex++, "Nível de Satisfação", satisfactionLevel(avgScore), satisfactionNote(avgScore));
+        rowIndex++;
+
+        row(sheet, rowIndex++, "Urgência", "Quantidade", "Percentual", "Indicador");
+        if (metrics.getFeedbacksByUrgency() != null) {
+            long totalFeedbacks = metrics.getTotalFeedbacks() != null ? metrics.getTotalFeedbacks() : 0;
+            for (Map.Entry<String, Long> entry : metrics.getFeedbacksByUrgency().entrySet().stream()
+                    .sorted(Comparator.comparingInt(e -> urgencyPriority(e.getKey())))
+                    .toList()) {
+                Row row = row(sheet, rowIndex++, entry.getKey());
+                row.createCell(1).setCellValue(entry.getValue());
+                row.createCell(2).setCellValue(totalFeedbacks > 0 ? entry.getValue() * 100.0 / totalFeedbacks : 0);
+                row.createCell(3).setCellValue(urgencyIndicator(entry.getKey()));
+            }
+        }
+        rowIndex++;
+
+        row(sheet, rowIndex++, "Data de Envio", "Dia da Semana", "Quantidade");
+        if (metrics.getFeedbacksByDay() != null) {
+            for (Map.Entry<String, Long> entry : metrics.getFeedbacksByDay().entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .toList()) {
+                Row row = row(sheet, rowIndex++, formatDate(entry.getKey()), dayOfWeek(entry.getKey()));
+                row.createCell(2).setCellValue(entry.getValue());
+            }
+        }
+    }
+
+    private void writeFeedbackSheet(SXSSFSheet sheet, ReportMetrics metrics) {
+        int rowIndex = 0;
+        row(sheet, rowIndex++, "Data de Envio", "Urgência", "Indicador", "Descrição");
+        if (metrics.getFeedbacks() == null) {
+            return;
+        }
+        for (FeedbackDetail feedback : metrics.getFeedbacks()) {
+            String urgency = feedback.getUrgency() != null ? feedback.getUrgency() : "";
+            row(sheet, rowIndex++, formatDate(feedback.getCreatedAt()), urgency, urgencyIndicator(urgency),
+                    feedback.getDescription() != null ? feedback.getDescription() : "");
+        }
+    }
+
+    private Row row(SXSSFSheet sheet, int index, String... cells) {
+        Row row = sheet.createRow(index);
+        for (int i = 0; i < cells.length; i++) {
+            row.createCell(i).setCellValue(cells[i]);
+        }
+        return row;
+    }
+}
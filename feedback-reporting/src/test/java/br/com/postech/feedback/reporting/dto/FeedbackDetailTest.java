@@ -2,6 +2,7 @@ package br.com.postech.feedback.reporting.dto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
 import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("FeedbackDetail Tests")
 class FeedbackDetailTest {
@@ -60,14 +61,23 @@ class FeedbackDetailTest {
         @Test
         @DisplayName("Should create FeedbackDetail with all args")
         void shouldCreateFeedbackDetailWithAllArgs() {
+            LocalDateTime createdAt = LocalDateTime.of(2026, 2, 9, 10, 0);
             FeedbackDetail detail = new FeedbackDetail(
                     "Test description",
                     "MEDIUM",
-                    "2026-02-09T10:00:00Z"
+                    "2026-02-09T10:00:00Z",
+                    1L,
+                    7,
+                    "NORMAL",
+                    createdAt
             );
             assertEquals("Test description", detail.getDescription());
             assertEquals("MEDIUM", detail.getUrgency());
             assertEquals("2026-02-09T10:00:00Z", detail.getCreatedAt());
+            assertEquals(1L, detail.getId());
+            assertEquals(7, detail.getRating());
+            assertEquals("NORMAL", detail.getStatus());
+            assertEquals(createdAt, detail.getCreatedAtDateTime());
         }
     }
     @Nested
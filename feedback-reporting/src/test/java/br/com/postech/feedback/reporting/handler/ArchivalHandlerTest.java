@@ -0,0 +1,57 @@
+package br.com.postech.feedback.reporting.handler;
+
+import br.com.postech.feedback.reporting.service.FeedbackArchiveService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArchivalHandlerTest {
+
+    @Mock
+    private FeedbackArchiveService feedbackArchiveService;
+
+    @InjectMocks
+    private ArchivalHandler archivalHandler;
+
+    @Test
+    void shouldReturnArchivalSummary() {
+        // Arrange
+        when(feedbackArchiveService.archive()).thenReturn(new FeedbackArchiveService.ArchiveRun(
+                1200, 1200, 3, false, List.of("feedbacks/_manifests/20261019T040000-0.json")));
+        Function<Map<String, Object>, Map<String, Object>> function = archivalHandler.archiveFeedbacks();
+
+        // Act
+        Map<String, Object> result = function.apply(Map.of());
+
+        // Assert
+        assertThat(result)
+                .containsEntry("statusCode", 200)
+                .containsEntry("archived", 1200L)
+                .containsEntry("objects", 3)
+                .containsEntry("complete", false)
+                .containsEntry("message", "Feedback archival paused, will resume");
+    }
+
+    @Test
+    void shouldWrapArchivalFailures() {
+        // Arrange
+        when(feedbackArchiveService.archive()).thenThrow(new IllegalStateException("Archive bucket name not configured"));
+        Function<Map<String, Object>, Map<String, Object>> function = archivalHandler.archiveFeedbacks();
+
+        // Act & Assert
+        assertThatThrownBy(() -> function.apply(Map.of()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Feedback archival failed: Archive bucket name not configured");
+    }
+}
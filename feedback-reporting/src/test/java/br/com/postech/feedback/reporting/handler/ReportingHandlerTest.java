@@ -1,7 +1,10 @@
 package br.com.postech.feedback.reporting.handler;
 
 import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import br.com.postech.feedback.reporting.service.ColumnarExportService;
 import br.com.postech.feedback.reporting.service.DatabaseQueryService;
+import br.com.postech.feedback.reporting.service.ReportCompression;
+import br.com.postech.feedback.reporting.service.ReportCompressionService;
 import br.com.postech.feedback.reporting.service.ReportGeneratorService;
 import br.com.postech.feedback.reporting.service.S3UploadService;
 import br.com.postech.feedback.reporting.service.SnsPublishService;
@@ -11,12 +14,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,12 +42,18 @@ class ReportingHandlerTest {
     @Mock
     private ReportGeneratorService reportGeneratorService;
 
+    @Spy
+    private ReportCompressionService reportCompressionService = new ReportCompressionService(ReportCompression.NONE);
+
     @Mock
     private S3UploadService s3UploadService;
 
     @Mock
     private SnsPublishService snsPublishService;
 
+    @Mock
+    private ColumnarExportService columnarExportService;
+
     @InjectMocks
     private ReportingHandler reportingHandler;
 
@@ -60,12 +75,12 @@ class ReportingHandlerTest {
     void shouldExecuteCompleteWeeklyReportGenerationFlow() {
         // Arrange
         when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(ReportMetrics.class), any(LocalDateTime.class)))
-                .thenReturn("CSV content".getBytes());
+        doAnswer(writesReport("CSV content".getBytes()))
+                .when(reportGeneratorService).writeReport(any(ReportMetrics.class), any(LocalDateTime.class), any());
         when(reportGeneratorService.generateS3Key(any(LocalDateTime.class)))
                 .thenReturn("reports/2026/01/relatorio-semanal-2026-01-15.csv");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenReturn("https://bucket.s3.amazonaws.com/reports/2026/01/relatorio-semanal-2026-01-15.csv");
 
         Map<String, Object> event = new HashMap<>();
@@ -84,11 +99,60 @@ class ReportingHandlerTest {
 
         // Verify all services were called in correct order
         verify(databaseQueryService, times(1)).fetchMetrics();
-        verify(reportGeneratorService, times(1)).generateReportAsBytes(any(), any());
-        verify(s3UploadService, times(1)).uploadReport(any(byte[].class), anyString(), anyString());
+        verify(reportGeneratorService, times(1)).writeReport(any(), any(), any());
+        verify(s3UploadService, times(1)).uploadReport(any(Path.class), anyString(), anyString(), any());
         verify(snsPublishService, times(1)).publishReportReadyEvent(anyString(), anyString(), any(), anyLong(), anyDouble());
     }
 
+    @Test
+    @DisplayName("Deve enviar a exportação Parquet quando habilitada")
+    void shouldUploadParquetExportWhenEnabled() {
+        // Arrange
+        Path parquetFile = Path.of("/tmp/feedbacks.parquet");
+        when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
+        when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
+        when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
+                .thenReturn("https://bucket.s3.amazonaws.com/key");
+        when(columnarExportService.isEnabled()).thenReturn(true);
+        when(columnarExportService.writeParquet(anyList())).thenReturn(parquetFile);
+        when(columnarExportService.generateS3Key(any())).thenReturn("reports/2026/01/feedbacks-2026-01-15.parquet");
+
+        // Act
+        Map<String, Object> result = reportingHandler.generateReport().apply(new HashMap<>());
+
+        // Assert
+        assertThat(result.get("statusCode")).isEqualTo(200);
+        verify(s3UploadService).uploadReport(parquetFile, "reports/2026/01/feedbacks-2026-01-15.parquet",
+                ColumnarExportService.CONTENT_TYPE);
+        verify(columnarExportService).deleteQuietly(parquetFile);
+        verify(snsPublishService).publishReportReadyEvent(anyString(), anyString(), any(), anyLong(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Deve concluir o relatório mesmo quando a exportação Parquet falhar")
+    void shouldCompleteReportWhenParquetExportFails() {
+        // Arrange
+        when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
+        when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
+        when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
+                .thenReturn("https://bucket.s3.amazonaws.com/key");
+        when(columnarExportService.isEnabled()).thenReturn(true);
+        when(columnarExportService.writeParquet(anyList()))
+                .thenThrow(new RuntimeException("Failed to write Parquet export"));
+
+        // Act
+        Map<String, Object> result = reportingHandler.generateReport().apply(new HashMap<>());
+
+        // Assert
+        assertThat(result.get("statusCode")).isEqualTo(200);
+        verify(s3UploadService, never()).uploadReport(any(Path.class), anyString(), anyString());
+        verify(snsPublishService).publishReportReadyEvent(anyString(), anyString(), any(), anyLong(), anyDouble());
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando o banco de dados falhar")
     void shouldThrowExceptionWhenDatabaseFails() {
@@ -106,7 +170,7 @@ class ReportingHandlerTest {
                 .hasMessageContaining("Report generation failed");
 
         // Verify S3 and SNS were not called
-        verify(s3UploadService, never()).uploadReport(any(byte[].class), anyString(), anyString());
+        verify(s3UploadService, never()).uploadReport(any(Path.class), anyString(), anyString(), any());
         verify(snsPublishService, never()).publishReportReadyEvent(anyString(), anyString(), any(), anyLong(), anyDouble());
     }
 
@@ -115,10 +179,10 @@ class ReportingHandlerTest {
     void shouldThrowExceptionWhenS3UploadFails() {
         // Arrange
         when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any())).thenReturn("CSV".getBytes());
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
         when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenThrow(new RuntimeException("S3 upload failed"));
 
         Map<String, Object> event = new HashMap<>();
@@ -139,10 +203,10 @@ class ReportingHandlerTest {
     void shouldThrowExceptionWhenSnsPublishFails() {
         // Arrange
         when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any())).thenReturn("CSV".getBytes());
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
         when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenReturn("https://bucket.s3.amazonaws.com/key");
         doThrow(new RuntimeException("SNS publish failed"))
                 .when(snsPublishService).publishReportReadyEvent(anyString(), anyString(), any(), anyLong(), anyDouble());
@@ -162,8 +226,8 @@ class ReportingHandlerTest {
     void shouldThrowExceptionWhenReportGenerationFails() {
         // Arrange
         when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any()))
-                .thenThrow(new RuntimeException("Failed to generate CSV"));
+        doThrow(new RuntimeException("Failed to generate report"))
+                .when(reportGeneratorService).writeReport(any(), any(), any());
 
         Map<String, Object> event = new HashMap<>();
 
@@ -175,7 +239,7 @@ class ReportingHandlerTest {
                 .hasMessageContaining("Report generation failed");
 
         // Verify S3 and SNS were not called
-        verify(s3UploadService, never()).uploadReport(any(byte[].class), anyString(), anyString());
+        verify(s3UploadService, never()).uploadReport(any(Path.class), anyString(), anyString(), any());
         verify(snsPublishService, never()).publishReportReadyEvent(anyString(), anyString(), any(), anyLong(), anyDouble());
     }
 
@@ -184,10 +248,10 @@ class ReportingHandlerTest {
     void shouldProcessEmptyEventCorrectly() {
         // Arrange
         when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any())).thenReturn("CSV".getBytes());
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
         when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenReturn("https://bucket.s3.amazonaws.com/key");
 
         Map<String, Object> emptyEvent = new HashMap<>();
@@ -205,10 +269,10 @@ class ReportingHandlerTest {
     void shouldIncludeGeneratedAtInResult() {
         // Arrange
         when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any())).thenReturn("CSV".getBytes());
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
         when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenReturn("https://bucket.s3.amazonaws.com/key");
 
         Map<String, Object> event = new HashMap<>();
@@ -235,10 +299,10 @@ class ReportingHandlerTest {
                 .build();
 
         when(databaseQueryService.fetchMetrics()).thenReturn(zeroMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any())).thenReturn("CSV".getBytes());
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
         when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenReturn("https://bucket.s3.amazonaws.com/key");
 
         Map<String, Object> event = new HashMap<>();
@@ -266,10 +330,10 @@ class ReportingHandlerTest {
                 .build();
 
         when(databaseQueryService.fetchMetrics()).thenReturn(highMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any())).thenReturn("CSV".getBytes());
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
         when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenReturn("https://bucket.s3.amazonaws.com/key");
 
         Map<String, Object> event = new HashMap<>();
@@ -289,10 +353,10 @@ class ReportingHandlerTest {
     void shouldVerifyGenerateS3KeyIsCalled() {
         // Arrange
         when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any())).thenReturn("CSV".getBytes());
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
         when(reportGeneratorService.generateS3Key(any())).thenReturn("reports/2026/02/report.csv");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenReturn("https://bucket.s3.amazonaws.com/key");
 
         Map<String, Object> event = new HashMap<>();
@@ -310,10 +374,10 @@ class ReportingHandlerTest {
     void shouldVerifyContentTypeIsPassedToS3() {
         // Arrange
         when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
-        when(reportGeneratorService.generateReportAsBytes(any(), any())).thenReturn("CSV".getBytes());
+        doAnswer(writesReport("CSV".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
         when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
         when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
-        when(s3UploadService.uploadReport(any(byte[].class), anyString(), anyString()))
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
                 .thenReturn("https://bucket.s3.amazonaws.com/key");
 
         Map<String, Object> event = new HashMap<>();
@@ -323,6 +387,68 @@ class ReportingHandlerTest {
         function.apply(event);
 
         // Assert
-        verify(s3UploadService).uploadReport(any(byte[].class), anyString(), eq("text/csv; charset=UTF-8"));
+        verify(s3UploadService).uploadReport(any(Path.class), anyString(), eq("text/csv; charset=UTF-8"), isNull());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o relatório comprimido com o Content-Encoding configurado")
+    void shouldUploadCompressedReportWithContentEncoding() {
+        // Arrange
+        ReportingHandler gzipHandler = new ReportingHandler(databaseQueryService, reportGeneratorService,
+                new ReportCompressionService(ReportCompression.GZIP), s3UploadService, snsPublishService,
+                columnarExportService);
+        byte[] csv = "CSV;CSV;CSV;CSV;CSV;CSV;CSV;CSV;CSV;CSV".getBytes();
+
+        when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
+        doAnswer(writesReport(csv)).when(reportGeneratorService).writeReport(any(), any(), any());
+        when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
+        when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
+        AtomicReference<byte[]> uploaded = new AtomicReference<>();
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    uploaded.set(Files.readAllBytes(invocation.getArgument(0)));
+                    return "https://bucket.s3.amazonaws.com/key";
+                });
+
+        // Act
+        gzipHandler.generateReport().apply(new HashMap<>());
+
+        // Assert
+        verify(s3UploadService).uploadReport(any(Path.class), eq("key"), eq("text/csv; charset=UTF-8"), eq("gzip"));
+        assertThat(uploaded.get()[0]).isEqualTo((byte) 0x1f);
+        assertThat(uploaded.get()[1]).isEqualTo((byte) 0x8b);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o conteúdo gerado pelo writer e remover o arquivo temporário")
+    void shouldUploadWrittenReportAndDeleteTemporaryFile() {
+        // Arrange
+        AtomicReference<Path> uploadedFile = new AtomicReference<>();
+        AtomicReference<byte[]> uploaded = new AtomicReference<>();
+        when(databaseQueryService.fetchMetrics()).thenReturn(mockMetrics);
+        doAnswer(writesReport("CSV content".getBytes())).when(reportGeneratorService).writeReport(any(), any(), any());
+        when(reportGeneratorService.generateS3Key(any())).thenReturn("key");
+        when(reportGeneratorService.getContentType()).thenReturn("text/csv; charset=UTF-8");
+        when(s3UploadService.uploadReport(any(Path.class), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    uploadedFile.set(invocation.getArgument(0));
+                    uploaded.set(Files.readAllBytes(invocation.getArgument(0)));
+                    return "https://bucket.s3.amazonaws.com/key";
+                });
+
+        // Act
+        reportingHandler.generateReport().apply(new HashMap<>());
+
+        // Assert
+        assertThat(uploaded.get()).isEqualTo("CSV content".getBytes());
+        assertThat(uploadedFile.get()).doesNotExist();
+    }
+
+    private static Answer<Void> writesReport(byte[] content) {
+        return invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write(content);
+            return null;
+        };
     }
 }
@@ -0,0 +1,78 @@
+package br.com.postech.feedback.reporting.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveStorage Tests")
+class ArchiveStorageTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    private ArchiveStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ArchiveStorage(s3Client);
+        ReflectionTestUtils.setField(storage, "bucketName", "archive-bucket");
+    }
+
+    @Test
+    @DisplayName("Should put objects into the archive bucket with a checksum")
+    void shouldPutObjectsWithChecksum() {
+        // Arrange
+        byte[] content = "{}".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        storage.put("feedbacks/_checkpoint.json", content, "application/json");
+
+        // Assert
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(captor.capture(), any(RequestBody.class));
+        assertEquals("archive-bucket", captor.getValue().bucket());
+        assertEquals("feedbacks/_checkpoint.json", captor.getValue().key());
+        assertEquals(ChecksumAlgorithm.CRC32, captor.getValue().checksumAlgorithm());
+    }
+
+    @Test
+    @DisplayName("Should return empty for a missing key")
+    void shouldReturnEmptyForMissingKey() {
+        // Arrange
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("missing").build());
+
+        // Act & Assert
+        assertTrue(storage.get("feedbacks/_checkpoint.json").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the archive bucket is not configured")
+    void shouldFailWhenBucketNotConfigured() {
+        // Arrange
+        ReflectionTestUtils.setField(storage, "bucketName", "");
+
+        // Act & Assert
+        assertFalse(storage.isConfigured());
+        assertThrows(IllegalStateException.class, () -> storage.list("feedbacks/"));
+        verifyNoInteractions(s3Client);
+    }
+}
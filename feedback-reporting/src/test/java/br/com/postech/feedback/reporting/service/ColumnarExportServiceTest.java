@@ -0,0 +1,169 @@
+package br.com.postech.feedback.reporting.service;
+
+import blue.strategic.parquet.Hydrator;
+import blue.strategic.parquet.HydratorSupplier;
+import blue.strategic.parquet.ParquetReader;
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ColumnarExportService Tests")
+class ColumnarExportServiceTest {
+
+    private ColumnarExportService columnarExportService;
+
+    @BeforeEach
+    void setUp() {
+        columnarExportService = new ColumnarExportService();
+        ReflectionTestUtils.setField(columnarExportService, "enabled", true);
+    }
+
+    @Nested
+    @DisplayName("Parquet Writing Tests")
+    class ParquetWritingTests {
+
+        @Test
+        @DisplayName("Should write all rows and columns to a Parquet file")
+        void shouldWriteAllRowsAndColumns() throws IOException {
+            LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 10, 30);
+            List<FeedbackDetail> feedbacks = List.of(
+                    FeedbackDetail.builder()
+                            .id(1L).description("Aula excelente").rating(9).status("NORMAL")
+                            .urgency("LOW").createdAt("2026-01-15T10:30:00").createdAtDateTime(createdAt)
+                            .build(),
+                    FeedbackDetail.builder()
+                            .id(2L).description("Aula ruim").rating(2).status("CRITICAL")
+                            .urgency("HIGH").createdAt("2026-01-15T10:30:00").createdAtDateTime(createdAt)
+                            .build()
+            );
+
+            Path file = columnarExportService.writeParquet(feedbacks);
+            try {
+                List<Map<String, Object>> rows = readRows(file);
+
+                assertThat(rows).hasSize(2);
+                assertThat(rows.get(0))
+                        .containsEntry("id", 1L)
+                        .containsEntry("description", "Aula excelente")
+                        .containsEntry("rating", 9)
+                        .containsEntry("status", "NORMAL")
+                        .containsEntry("urgency", "LOW")
+                        .containsEntry("created_at", createdAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+                assertThat(rows.get(1))
+                        .containsEntry("id", 2L)
+                        .containsEntry("status", "CRITICAL")
+                        .containsEntry("urgency", "HIGH");
+            } finally {
+                columnarExportService.deleteQuietly(file);
+            }
+        }
+
+        @Test
+        @DisplayName("Should leave missing values as nulls")
+        void shouldHandleNullValues() throws IOException {
+            Path file = columnarExportService.writeParquet(List.of(
+                    FeedbackDetail.builder().description("Sem data").urgency("MEDIUM").build()));
+            try {
+                List<Map<String, Object>> rows = readRows(file);
+
+                assertThat(rows).hasSize(1);
+                assertThat(rows.get(0))
+                        .containsEntry("description", "Sem data")
+                        .containsEntry("urgency", "MEDIUM")
+                        .containsEntry("id", null)
+                        .containsEntry("rating", null)
+                        .containsEntry("created_at", null);
+            } finally {
+                columnarExportService.deleteQuietly(file);
+            }
+        }
+
+        @Test
+        @DisplayName("Should write a valid file for an empty week")
+        void shouldWriteEmptyFile() throws IOException {
+            Path file = columnarExportService.writeParquet(List.of());
+            try {
+                byte[] content = Files.readAllBytes(file);
+                assertThat(new String(content, 0, 4)).isEqualTo("PAR1");
+                assertThat(readRows(file)).isEmpty();
+            } finally {
+                columnarExportService.deleteQuietly(file);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("S3 Key Tests")
+    class S3KeyTests {
+
+        @Test
+        @DisplayName("Should place the Parquet export next to the weekly report")
+        void shouldGenerateKeyWithDatePrefix() {
+            String key = columnarExportService.generateS3Key(LocalDateTime.of(2026, 1, 15, 10, 30));
+
+            assertThat(key).isEqualTo("reports/2026/01/feedbacks-2026-01-15.parquet");
+        }
+    }
+
+    @Nested
+    @DisplayName("Temporary File Tests")
+    class TemporaryFileTests {
+
+        @Test
+        @DisplayName("Should delete the temporary file")
+        void shouldDeleteTemporaryFile() throws IOException {
+            Path file = Files.createTempFile("feedbacks-", ".parquet");
+
+            columnarExportService.deleteQuietly(file);
+
+            assertThat(file).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Should ignore null path")
+        void shouldIgnoreNullPath() {
+            columnarExportService.deleteQuietly(null);
+        }
+    }
+
+    private static List<Map<String, Object>> readRows(Path file) throws IOException {
+        Hydrator<Map<String, Object>, Map<String, Object>> hydrator = new Hydrator<>() {
+            @Override
+            public Map<String, Object> start() {
+                return new HashMap<>();
+            }
+
+            @Override
+            public Map<String, Object> add(Map<String, Object> target, String heading, Object value) {
+                target.put(heading, value);
+                return target;
+            }
+
+            @Override
+            public Map<String, Object> finish(Map<String, Object> target) {
+                return target;
+            }
+        };
+
+        try (Stream<Map<String, Object>> rows =
+                     ParquetReader.streamContent(file.toFile(), HydratorSupplier.constantly(hydrator))) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package br.com.postech.feedback.reporting.service;
 import br.com.postech.feedback.core.domain.Feedback;
 import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackTotals;
 import br.com.postech.feedback.core.repository.FeedbackRepository;
+import br.com.postech.feedback.core.rules.FeedbackRules;
+import br.com.postech.feedback.core.shard.ShardedFeedbackRepository;
 import br.com.postech.feedback.reporting.dto.ReportMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,10 +12,14 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
@@ -23,7 +30,7 @@ class DatabaseQueryServiceTest {
     private DatabaseQueryService service;
     @BeforeEach
     void setUp() {
-        service = new DatabaseQueryService(feedbackRepository);
+        service = new DatabaseQueryService(feedbackRepository, new FeedbackRules(), Optional.empty());
     }
     private Feedback createFeedback(Long id, String desc, Integer rating, StatusFeedback status, LocalDateTime createdAt) {
         Feedback feedback = new Feedback();
@@ -108,6 +115,91 @@ class DatabaseQueryServiceTest {
             assertTrue(result.getFeedbacks().isEmpty());
         }
     }
+    @Nested
+    @DisplayName("Report Window Tests")
+    class ReportWindowTests {
+        @Test
+        @DisplayName("Should query only the window, starting at midnight of the first day")
+        void shouldQueryOnlyTheWindow() {
+            // Arrange
+            ReflectionTestUtils.setField(service, "windowDays", 7);
+            List<Feedback> feedbacks = List.of(
+                    createFeedback(1L, "Great", 5, StatusFeedback.NORMAL, LocalDateTime.now()));
+            ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+            when(feedbackRepository.countFeedbacksSince(since.capture())).thenReturn(1L);
+            when(feedbackRepository.calculateAverageScoreSince(any(LocalDateTime.class))).thenReturn(5.0);
+            when(feedbackRepository.findFeedbacksSince(any(LocalDateTime.class))).thenReturn(feedbacks);
+
+            // Act
+            ReportMetrics result = service.fetchMetrics();
+
+            // Assert
+            assertEquals(1L, result.getTotalFeedbacks());
+            assertEquals(LocalDate.now().minusDays(6).atStartOfDay(), since.getValue());
+            verify(feedbackRepository).findFeedbacksSince(since.getValue());
+            verify(feedbackRepository, never()).findAllFeedbacksForReport();
+            verify(feedbackRepository, never()).countTotalFeedbacks();
+        }
+
+        @Test
+        @DisplayName("Should read the whole history when the window is 0")
+        void shouldReadWholeHistoryWithoutWindow() {
+            ReflectionTestUtils.setField(service, "windowDays", 0);
+            when(feedbackRepository.countTotalFeedbacks()).thenReturn(0L);
+            when(feedbackRepository.calculateAverageScore()).thenReturn(0.0);
+            when(feedbackRepository.findAllFeedbacksForReport()).thenReturn(new ArrayList<>());
+
+            service.fetchMetrics();
+
+            verify(feedbackRepository, never()).findFeedbacksSince(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sharding Tests")
+    class ShardingTests {
+
+        @Mock
+        private ShardedFeedbackRepository shardedRepository;
+
+        @Test
+        @DisplayName("Should take totals and feedbacks from the shards instead of the JPA repository")
+        void shouldFanOutToShards() {
+            // Arrange
+            DatabaseQueryService sharded = new DatabaseQueryService(feedbackRepository, new FeedbackRules(),
+                    Optional.of(shardedRepository));
+            ReflectionTestUtils.setField(sharded, "windowDays", 7);
+            LocalDateTime since = LocalDate.now().minusDays(6).atStartOfDay();
+            when(shardedRepository.totalsSince(since)).thenReturn(new FeedbackTotals(3, 10));
+            when(shardedRepository.findFeedbacksSince(since)).thenReturn(List.of(
+                    createFeedback(1L, "Great", 5, StatusFeedback.NORMAL, LocalDateTime.now())));
+
+            // Act
+            ReportMetrics result = sharded.fetchMetrics();
+
+            // Assert
+            assertEquals(3L, result.getTotalFeedbacks());
+            assertEquals(3.33, result.getAverageScore());
+            assertEquals(1, result.getFeedbacks().size());
+            verifyNoInteractions(feedbackRepository);
+        }
+
+        @Test
+        @DisplayName("Should ask the shards for the whole history when the window is 0")
+        void shouldReadWholeHistoryFromShards() {
+            DatabaseQueryService sharded = new DatabaseQueryService(feedbackRepository, new FeedbackRules(),
+                    Optional.of(shardedRepository));
+            ReflectionTestUtils.setField(sharded, "windowDays", 0);
+            when(shardedRepository.totalsSince(null)).thenReturn(FeedbackTotals.EMPTY);
+            when(shardedRepository.findFeedbacksSince(null)).thenReturn(List.of());
+
+            ReportMetrics result = sharded.fetchMetrics();
+
+            assertEquals(0L, result.getTotalFeedbacks());
+            assertEquals(0.0, result.getAverageScore());
+        }
+    }
+
     @Nested
     @DisplayName("Error Handling Tests")
     class ErrorHandlingTests {
@@ -0,0 +1,396 @@
+package br.com.postech.feedback.reporting.service;
+
+import br.com.postech.feedback.core.domain.StatusFeedback;
+import br.com.postech.feedback.core.dto.FeedbackCursor;
+import br.com.postech.feedback.core.dto.FeedbackView;
+import br.com.postech.feedback.core.repository.FeedbackRepository;
+import br.com.postech.feedback.core.shard.ShardedFeedbackRepository;
+import br.com.postech.feedback.reporting.dto.ArchiveCheckpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedbackArchiveService Tests")
+class FeedbackArchiveServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T04:00:00Z");
+    private static final LocalDateTime OLD = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private ShardedFeedbackRepository shardedRepository;
+
+    private InMemoryArchiveStorage storage;
+    private List<FeedbackView> table;
+    private List<FeedbackView> shardTable;
+
+    @BeforeEach
+    void setUp() {
+        storage = new InMemoryArchiveStorage();
+        table = new ArrayList<>();
+        shardTable = new ArrayList<>();
+        lenient().when(feedbackRepository.findArchivable(any(), any(), anyInt())).thenAnswer(invocation ->
+                archivable(table, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        lenient().when(feedbackRepository.deleteArchived(any(), any(), any())).thenAnswer(invocation ->
+                delete(table, invocation.getArgument(0)));
+        lenient().when(shardedRepository.shards()).thenReturn(2);
+        lenient().when(shardedRepository.findArchivable(eq(1), any(), any(), anyInt())).thenAnswer(invocation ->
+                archivable(shardTable, invocation.getArgument(1), invocation.getArgument(2),
+                        invocation.getArgument(3)));
+        lenient().when(shardedRepository.deleteArchived(eq(1), any(), any(), any())).thenAnswer(invocation ->
+                delete(shardTable, invocation.getArgument(1)));
+    }
+
+    private static List<FeedbackView> archivable(List<FeedbackView> rows, LocalDateTime before,
+                                                 FeedbackCursor after, int limit) {
+        return rows.stream()
+                .filter(row -> row.createdAt().isBefore(before))
+                .filter(row -> after == null || row.createdAt().isAfter(after.createdAt())
+                        || (row.createdAt().equals(after.createdAt()) && row.id() > after.id()))
+                .sorted(Comparator.comparing(FeedbackView::createdAt).thenComparing(FeedbackView::id))
+                .limit(limit)
+                .toList();
+    }
+
+    private static int delete(List<FeedbackView> rows, Collection<Long> ids) {
+        int before = rows.size();
+        rows.removeIf(row -> ids.contains(row.id()));
+        return before - rows.size();
+    }
+
+    private FeedbackArchiveService service(int batchSize, Duration maxDuration, Clock clock) {
+        return new FeedbackArchiveService(feedbackRepository, Optional.empty(), storage, objectMapper, "feedbacks",
+                365, batchSize, maxDuration, clock);
+    }
+
+    private FeedbackArchiveService service(int batchSize) {
+        return service(batchSize, Duration.ofMinutes(10), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private FeedbackArchiveService shardedService(Duration maxDuration, Clock clock) {
+        return new FeedbackArchiveService(feedbackRepository, Optional.of(shardedRepository), storage, objectMapper,
+                "feedbacks", 365, 2, maxDuration, clock);
+    }
+
+    private void givenRow(long id, LocalDateTime createdAt) {
+        givenRow(table, id, createdAt);
+    }
+
+    private static void givenRow(List<FeedbackView> rows, long id, LocalDateTime createdAt) {
+        rows.add(new FeedbackView(id, "Feedback " + id, 5, StatusFeedback.NORMAL, 0.25, createdAt, createdAt));
+    }
+
+    @Nested
+    @DisplayName("archive() Tests")
+    class ArchiveTests {
+
+        @Test
+        @DisplayName("Should move old rows into one gzipped NDJSON object per day and delete them")
+        void shouldArchiveOldRowsPerDay() throws IOException {
+            // Arrange
+            givenRow(1, OLD);
+            givenRow(2, OLD.plusHours(1));
+            givenRow(3, OLD.plusDays(1));
+            givenRow(4, LocalDateTime.of(2026, 10, 1, 9, 0));
+
+            // Act
+            FeedbackArchiveService.ArchiveRun run = service(10).archive();
+
+            // Assert
+            assertTrue(run.complete());
+            assertEquals(3, run.archived());
+            assertEquals(3, run.deleted());
+            assertEquals(2, run.objects());
+            assertEquals(List.of(4L), table.stream().map(FeedbackView::id).toList());
+            assertEquals(List.of(
+                    "feedbacks/_manifests/20261019T040000-0.json",
+                    "feedbacks/year=2025/month=03/day=10/feedbacks-1-2.ndjson.gz",
+                    "feedbacks/year=2025/month=03/day=11/feedbacks-3-3.ndjson.gz"), storage.keys());
+            String lines = gunzip(storage.objects.get("feedbacks/year=2025/month=03/day=10/feedbacks-1-2.ndjson.gz"));
+            assertEquals(2, lines.lines().count());
+            assertTrue(lines.startsWith("{\"id\":1,\"description\":\"Feedback 1\""));
+            assertTrue(lines.contains("\"createdAt\":\"2025-03-10T09:00:00\""));
+        }
+
+        @Test
+        @DisplayName("Should do nothing when no row is older than the cutoff")
+        void shouldDoNothingWithoutOldRows() {
+            givenRow(1, LocalDateTime.of(2026, 10, 1, 9, 0));
+
+            FeedbackArchiveService.ArchiveRun run = service(10).archive();
+
+            assertTrue(run.complete());
+            assertEquals(0, run.archived());
+            assertTrue(run.manifests().isEmpty());
+            assertTrue(storage.keys().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should stop at the time budget and resume from the checkpoint on the next run")
+        void shouldPauseAndResume() {
+            // Arrange
+            for (long id = 1; id <= 10; id++) {
+                givenRow(id, OLD.plusMinutes(id));
+            }
+            Clock ticking = new TickingClock(NOW, Duration.ofSeconds(1));
+
+            // Act
+            FeedbackArchiveService.ArchiveRun first = service(2, Duration.ofSeconds(4), ticking).archive();
+            FeedbackArchiveService.ArchiveRun second = service(2).archive();
+
+            // Assert
+            assertFalse(first.complete());
+            assertEquals(4, first.archived());
+            assertTrue(second.complete());
+            assertEquals(6, second.archived());
+            assertTrue(table.isEmpty());
+            assertFalse(storage.objects.containsKey("feedbacks/_checkpoint.json"));
+            List<Long> read = new ArrayList<>();
+            assertEquals(10, service(2).read(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 10),
+                    row -> read.add(row.id())));
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), read);
+        }
+
+        @Test
+        @DisplayName("Should first delete the rows of a batch uploaded before a crash")
+        void shouldDeletePendingRowsOnResume() throws IOException {
+            // Arrange
+            givenRow(1, OLD);
+            givenRow(2, OLD.plusMinutes(1));
+            givenRow(3, OLD.plusMinutes(2));
+            storage.put("feedbacks/_checkpoint.json", objectMapper.writeValueAsBytes(new ArchiveCheckpoint(
+                    OLD.plusMinutes(1), 2L, List.of(1L, 2L), OLD, OLD.plusMinutes(1), List.of())), "application/json");
+
+            // Act
+            FeedbackArchiveService.ArchiveRun run = service(10).archive();
+
+            // Assert
+            verify(feedbackRepository).deleteArchived(List.of(1L, 2L), OLD, OLD.plusMinutes(1));
+            assertEquals(1, run.archived());
+            assertEquals(3, run.deleted());
+            assertTrue(table.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should split manifests of long runs")
+        void shouldSplitManifestsOfLongRuns() {
+            for (long id = 1; id <= FeedbackArchiveService.MANIFEST_MAX_OBJECTS + 1; id++) {
+                givenRow(id, OLD.minusYears(2).plusDays(id));
+            }
+
+            FeedbackArchiveService.ArchiveRun run = service(100).archive();
+
+            assertEquals(List.of("feedbacks/_manifests/20261019T040000-0.json",
+                    "feedbacks/_manifests/20261019T040000-1.json"), run.manifests());
+            assertEquals(FeedbackArchiveService.MANIFEST_MAX_OBJECTS + 1, run.objects());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sharded archive() Tests")
+    class ShardedArchiveTests {
+
+        @Test
+        @DisplayName("Should archive every shard, not only shard 0")
+        void shouldArchiveEveryShard() {
+            // Arrange
+            givenRow(1, OLD);
+            givenRow(shardTable, 1L << 40, OLD.plusHours(1));
+            givenRow(shardTable, (1L << 40) + 1, LocalDateTime.of(2026, 10, 1, 9, 0));
+
+            // Act
+            FeedbackArchiveService.ArchiveRun run = shardedService(Duration.ofMinutes(10),
+                    Clock.fixed(NOW, ZoneOffset.UTC)).archive();
+
+            // Assert
+            assertTrue(run.complete());
+            assertEquals(2, run.archived());
+            assertEquals(2, run.deleted());
+            assertTrue(table.isEmpty());
+            assertEquals(List.of((1L << 40) + 1), shardTable.stream().map(FeedbackView::id).toList());
+            assertEquals(List.of("feedbacks/_manifests/20261019T040000-0.json",
+                    "feedbacks/_manifests/20261019T040000-1.json"), run.manifests());
+            List<Long> read = new ArrayList<>();
+            service(10).read(OLD.toLocalDate(), OLD.toLocalDate(), row -> read.add(row.id()));
+            assertEquals(List.of(1L, 1L << 40), read);
+        }
+
+        @Test
+        @DisplayName("Should keep a checkpoint per shard and resume in the shard it stopped in")
+        void shouldResumeInShard() {
+            // Arrange
+            givenRow(1, OLD);
+            for (long id = 1; id <= 6; id++) {
+                givenRow(shardTable, (1L << 40) + id, OLD.plusMinutes(id));
+            }
+            Clock ticking = new TickingClock(NOW, Duration.ofSeconds(1));
+
+            // Act
+            FeedbackArchiveService.ArchiveRun first = shardedService(Duration.ofSeconds(7), ticking).archive();
+            boolean shardCheckpointSaved = storage.objects.containsKey("feedbacks/_checkpoint-shard-1.json");
+            boolean shardZeroCheckpointSaved = storage.objects.containsKey("feedbacks/_checkpoint.json");
+            FeedbackArchiveService.ArchiveRun second = shardedService(Duration.ofMinutes(10),
+                    Clock.fixed(NOW, ZoneOffset.UTC)).archive();
+
+            // Assert
+            assertFalse(first.complete());
+            assertTrue(shardCheckpointSaved);
+            assertFalse(shardZeroCheckpointSaved);
+            assertTrue(second.complete());
+            assertEquals(7, first.archived() + second.archived());
+            assertTrue(table.isEmpty());
+            assertTrue(shardTable.isEmpty());
+            assertFalse(storage.objects.containsKey("feedbacks/_checkpoint-shard-1.json"));
+        }
+    }
+
+    @Nested
+    @DisplayName("read() Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should read back only the requested days, once per key")
+        void shouldReadRequestedDays() {
+            // Arrange
+            givenRow(1, OLD);
+            givenRow(2, OLD.plusDays(1));
+            givenRow(3, OLD.plusDays(2));
+            service(10).archive();
+            // Um manifesto repetido (queda entre manifesto e checkpoint) não duplica linhas
+            storage.objects.put("feedbacks/_manifests/20261019T040000-9.json",
+                    storage.objects.get("feedbacks/_manifests/20261019T040000-0.json"));
+
+            // Act
+            List<FeedbackView> rows = new ArrayList<>();
+            long count = service(10).read(OLD.toLocalDate().plusDays(1), OLD.toLocalDate().plusDays(2), rows::add);
+
+            // Assert
+            assertEquals(2, count);
+            assertEquals(List.of(2L, 3L), rows.stream().map(FeedbackView::id).toList());
+            assertEquals(OLD.plusDays(1), rows.get(0).createdAt());
+            assertEquals(0.25, rows.get(0).sentimentScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should build Hive-style date keys")
+    void shouldBuildDateKeys() {
+        assertEquals("archive/year=2025/month=03/day=01/feedbacks-7-42.ndjson.gz",
+                FeedbackArchiveService.objectKey("archive/", LocalDate.of(2025, 3, 1), 7, 42));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive age or batch size")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new FeedbackArchiveService(feedbackRepository,
+                Optional.empty(), storage, objectMapper, "feedbacks", 0, 10, Duration.ofMinutes(1),
+                Clock.systemUTC()));
+        assertThrows(IllegalArgumentException.class, () -> new FeedbackArchiveService(feedbackRepository,
+                Optional.empty(), storage, objectMapper, "feedbacks", 365, 0, Duration.ofMinutes(1),
+                Clock.systemUTC()));
+    }
+
+    private static String gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class InMemoryArchiveStorage extends ArchiveStorage {
+
+        private final Map<String, byte[]> objects = new TreeMap<>();
+
+        private InMemoryArchiveStorage() {
+            super(null);
+        }
+
+        @Override
+        public void put(String key, byte[] content, String contentType) {
+            objects.put(key, content);
+        }
+
+        @Override
+        public Optional<byte[]> get(String key) {
+            return Optional.ofNullable(objects.get(key));
+        }
+
+        @Override
+        public List<String> list(String prefix) {
+            return objects.keySet().stream().filter(key -> key.startsWith(prefix)).toList();
+        }
+
+        @Override
+        public void delete(String key) {
+            objects.remove(key);
+        }
+
+        private List<String> keys() {
+            return List.copyOf(objects.keySet());
+        }
+    }
+
+    // Avança a cada leitura, simulando o tempo gasto em cada lote
+    private static final class TickingClock extends Clock {
+
+        private Instant now;
+        private final Duration tick;
+
+        private TickingClock(Instant start, Duration tick) {
+            this.now = start;
+            this.tick = tick;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            Instant current = now;
+            now = now.plus(tick);
+            return current;
+        }
+    }
+}
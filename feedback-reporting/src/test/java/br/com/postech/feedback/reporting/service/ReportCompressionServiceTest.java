@@ -0,0 +1,81 @@
+package br.com.postech.feedback.reporting.service;
+
+import com.github.luben.zstd.ZstdInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReportCompressionServiceTest {
+
+    private static final byte[] REPORT = ("═══════════════════════════════════════════════════════════════════════════════\n"
+            .repeat(200) + "FIM DO RELATÓRIO\n").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("Deve manter o conteúdo original quando a compressão está desabilitada")
+    void shouldKeepContentWhenCompressionIsDisabled() throws Exception {
+        ReportCompressionService service = new ReportCompressionService("none");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(service.wrap(out)).isSameAs(out);
+        assertThat(service.getContentEncoding()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve comprimir com gzip e informar o Content-Encoding")
+    void shouldCompressWithGzip() throws Exception {
+        ReportCompressionService service = new ReportCompressionService("gzip");
+
+        byte[] compressed = compress(service, REPORT);
+
+        assertThat(service.getContentEncoding()).isEqualTo("gzip");
+        assertThat(compressed.length).isLessThan(REPORT.length / 4);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes()).isEqualTo(REPORT);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve comprimir com zstd e informar o Content-Encoding")
+    void shouldCompressWithZstd() throws Exception {
+        ReportCompressionService service = new ReportCompressionService("ZSTD");
+
+        byte[] compressed = compress(service, REPORT);
+
+        assertThat(service.getContentEncoding()).isEqualTo("zstd");
+        assertThat(compressed.length).isLessThan(REPORT.length / 4);
+        try (InputStream in = new ZstdInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(in.readAllBytes()).isEqualTo(REPORT);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve tratar configuração vazia como sem compressão")
+    void shouldTreatBlankConfigurationAsNone() {
+        assertThat(new ReportCompressionService("").getCompression()).isEqualTo(ReportCompression.NONE);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar algoritmo de compressão desconhecido")
+    void shouldRejectUnknownCompression() {
+        assertThatThrownBy(() -> new ReportCompressionService("brotli"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("brotli");
+    }
+
+    private static byte[] compress(ReportCompressionService service, byte[] content) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = service.wrap(buffer)) {
+            out.write(content);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -2,10 +2,15 @@ package br.com.postech.feedback.reporting.service;
 
 import br.com.postech.feedback.reporting.dto.FeedbackDetail;
 import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import br.com.postech.feedback.reporting.writer.CsvReportWriter;
+import br.com.postech.feedback.reporting.writer.JsonReportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ReportGeneratorServiceTest {
 
@@ -21,7 +27,7 @@ class ReportGeneratorServiceTest {
 
     @BeforeEach
     void setUp() {
-        reportGeneratorService = new ReportGeneratorService();
+        reportGeneratorService = new ReportGeneratorService("csv", List.of(new CsvReportWriter()));
     }
 
     private ReportMetrics createTestMetrics() {
@@ -488,4 +494,44 @@ class ReportGeneratorServiceTest {
         // Assert
         assertThat(csvContent).contains("09/02/2026");
     }
+
+    @Test
+    @DisplayName("Deve selecionar o writer configurado em reporting.format")
+    void shouldSelectConfiguredWriter() {
+        // Arrange
+        ReportGeneratorService jsonService = new ReportGeneratorService("JSON", List.of(
+                new CsvReportWriter(), new JsonReportWriter(new ObjectMapper().registerModule(new JavaTimeModule()))));
+
+        // Act
+        String s3Key = jsonService.generateS3Key(LocalDateTime.of(2026, 1, 15, 10, 30, 0));
+
+        // Assert
+        assertThat(s3Key).isEqualTo("reports/2026/01/relatorio-semanal-2026-01-15.json");
+        assertThat(jsonService.getContentType()).isEqualTo("application/json; charset=UTF-8");
+        assertThat(jsonService.getFileExtension()).isEqualTo("json");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formato de relatório não suportado")
+    void shouldRejectUnsupportedFormat() {
+        // Act & Assert
+        assertThatThrownBy(() -> new ReportGeneratorService("pdf", List.of(new CsvReportWriter())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported report format: pdf");
+    }
+
+    @Test
+    @DisplayName("Deve escrever o relatório diretamente no OutputStream")
+    void shouldWriteReportToOutputStream() {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportMetrics metrics = createTestMetrics();
+        LocalDateTime generatedAt = LocalDateTime.of(2026, 1, 15, 10, 30, 0);
+
+        // Act
+        reportGeneratorService.writeReport(metrics, generatedAt, out);
+
+        // Assert
+        assertThat(out.toByteArray()).isEqualTo(reportGeneratorService.generateReportAsBytes(metrics, generatedAt));
+    }
 }
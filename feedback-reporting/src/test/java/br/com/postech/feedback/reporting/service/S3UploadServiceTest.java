@@ -5,20 +5,33 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +58,9 @@ class S3UploadServiceTest {
         ReflectionTestUtils.setField(service, "bucketName", "test-bucket");
         ReflectionTestUtils.setField(service, "region", "us-east-2");
         ReflectionTestUtils.setField(service, "presignedUrlExpirationDays", 7);
+        ReflectionTestUtils.setField(service, "multipartThresholdBytes", 16L * 1024 * 1024);
+        ReflectionTestUtils.setField(service, "multipartPartSizeBytes", 8L * 1024 * 1024);
+        ReflectionTestUtils.setField(service, "multipartConcurrency", 4);
 
         // Setup default mock for presigner (lenient because not all tests use these)
         lenient().when(presignedGetObjectRequest.url()).thenReturn(new URL("https://test-bucket.s3.amazonaws.com/test-key"));
@@ -264,6 +280,43 @@ class S3UploadServiceTest {
             assertEquals("text/csv; charset=UTF-8", requestCaptor.getValue().contentType());
         }
 
+        @Test
+        @DisplayName("Should set content encoding for compressed reports")
+        void shouldSetContentEncodingForCompressedReports() {
+            // Arrange
+            byte[] content = "compressed".getBytes();
+
+            ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+            when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                    .thenReturn(PutObjectResponse.builder().eTag("\"test\"").build());
+
+            // Act
+            service.uploadReport(content, "report.csv", "text/csv; charset=UTF-8", "gzip");
+
+            // Assert
+            verify(s3Client).putObject(requestCaptor.capture(), any(RequestBody.class));
+            assertEquals("gzip", requestCaptor.getValue().contentEncoding());
+            assertEquals("text/csv; charset=UTF-8", requestCaptor.getValue().contentType());
+        }
+
+        @Test
+        @DisplayName("Should not set content encoding for uncompressed reports")
+        void shouldNotSetContentEncodingForUncompressedReports() {
+            // Arrange
+            ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+            when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                    .thenReturn(PutObjectResponse.builder().eTag("\"test\"").build());
+
+            // Act
+            service.uploadReport("CSV".getBytes(), "report.csv", "text/csv");
+
+            // Assert
+            verify(s3Client).putObject(requestCaptor.capture(), any(RequestBody.class));
+            assertNull(requestCaptor.getValue().contentEncoding());
+        }
+
         @Test
         @DisplayName("Should set correct content type for Excel")
         void shouldSetCorrectContentTypeForExcel() {
@@ -365,4 +418,210 @@ class S3UploadServiceTest {
             assertNotNull(result);
         }
     }
+
+    @Nested
+    @DisplayName("Multipart Settings Tests")
+    class MultipartSettingsTests {
+
+        @Test
+        @DisplayName("Should accept the default multipart settings")
+        void shouldAcceptDefaults() {
+            assertDoesNotThrow(service::validateMultipartSettings);
+        }
+
+        @Test
+        @DisplayName("Should reject a threshold that does not fit in one buffer")
+        void shouldRejectThresholdAboveBuffer() {
+            // Arrange
+            ReflectionTestUtils.setField(service, "multipartThresholdBytes", 2L * 1024 * 1024 * 1024);
+
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    service::validateMultipartSettings);
+            assertTrue(exception.getMessage().contains("threshold-bytes"));
+        }
+
+        @Test
+        @DisplayName("Should reject a part size above what one part can hold")
+        void shouldRejectPartSizeAboveMaximum() {
+            // Arrange
+            ReflectionTestUtils.setField(service, "multipartPartSizeBytes", S3UploadService.MAX_PART_SIZE_BYTES);
+
+            // Act & Assert
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    service::validateMultipartSettings);
+            assertTrue(exception.getMessage().contains("part-size-bytes"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Multipart Upload Tests")
+    class MultipartUploadTests {
+
+        private static final int PART_SIZE = (int) S3UploadService.MIN_PART_SIZE_BYTES;
+
+        @TempDir
+        Path tempDir;
+
+        @BeforeEach
+        void setUpMultipart() {
+            ReflectionTestUtils.setField(service, "multipartThresholdBytes", (long) PART_SIZE);
+            ReflectionTestUtils.setField(service, "multipartPartSizeBytes", (long) PART_SIZE);
+            ReflectionTestUtils.setField(service, "multipartConcurrency", 2);
+        }
+
+        private void mockMultipartCalls() {
+            when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+            when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                    .thenAnswer(invocation -> UploadPartResponse.builder()
+                            .eTag("\"part-" + invocation.getArgument(0, UploadPartRequest.class).partNumber() + "\"")
+                            .checksumCRC32("crc")
+                            .build());
+            when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                    .thenReturn(CompleteMultipartUploadResponse.builder().eTag("\"final\"").build());
+        }
+
+        @Test
+        @DisplayName("Should use single PutObject for files below the threshold")
+        void shouldUseSinglePutObjectForSmallFiles() throws Exception {
+            // Arrange
+            Path file = Files.writeString(tempDir.resolve("small.csv"), "CSV content");
+
+            when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                    .thenReturn(PutObjectResponse.builder().eTag("\"small\"").build());
+
+            // Act
+            String result = service.uploadReport(file, "reports/small.csv", "text/csv");
+
+            // Assert
+            assertNotNull(result);
+            verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+            verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should split large files into ordered parts with CRC32 checksums")
+        void shouldSplitLargeFilesIntoOrderedParts() throws Exception {
+            // Arrange
+            Path file = tempDir.resolve("large.csv");
+            Files.write(file, new byte[PART_SIZE * 2 + 10]);
+            mockMultipartCalls();
+
+            ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+            ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+                    ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+
+            // Act
+            String result = service.uploadReport(file, "reports/large.csv", "text/csv");
+
+            // Assert
+            assertNotNull(result);
+            verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+            verify(s3Client, times(3)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+            verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+
+            assertTrue(partCaptor.getAllValues().stream()
+                    .allMatch(part -> part.checksumAlgorithm() == ChecksumAlgorithm.CRC32));
+            assertEquals(10L, partCaptor.getAllValues().stream()
+                    .filter(part -> part.partNumber() == 3)
+                    .findFirst().orElseThrow().contentLength());
+            assertEquals(List.of(1, 2, 3), completeCaptor.getValue().multipartUpload().parts().stream()
+                    .map(part -> part.partNumber())
+                    .toList());
+            assertEquals("upload-1", completeCaptor.getValue().uploadId());
+        }
+
+        @Test
+        @DisplayName("Should upload large streams in multiple parts")
+        void shouldUploadLargeStreamsInMultipleParts() {
+            // Arrange
+            mockMultipartCalls();
+            ByteArrayInputStream stream = new ByteArrayInputStream(new byte[PART_SIZE * 2 + 1]);
+
+            // Act
+            String result = service.uploadReport(stream, "reports/stream.csv", "text/csv");
+
+            // Assert
+            assertNotNull(result);
+            verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+            verify(s3Client, times(1)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should use single PutObject for short streams")
+        void shouldUseSinglePutObjectForShortStreams() {
+            // Arrange
+            when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                    .thenReturn(PutObjectResponse.builder().eTag("\"short\"").build());
+            ByteArrayInputStream stream = new ByteArrayInputStream("CSV".getBytes(StandardCharsets.UTF_8));
+
+            // Act
+            service.uploadReport(stream, "reports/short.csv", "text/csv");
+
+            // Assert
+            verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+            verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should abort multipart upload when a part fails")
+        void shouldAbortMultipartUploadWhenPartFails() throws Exception {
+            // Arrange
+            Path file = tempDir.resolve("failing.csv");
+            Files.write(file, new byte[PART_SIZE * 2]);
+
+            when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-2").build());
+            when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                    .thenThrow(new RuntimeException("Part upload failed"));
+
+            ArgumentCaptor<AbortMultipartUploadRequest> abortCaptor =
+                    ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+
+            // Act & Assert
+            RuntimeException exception = assertThrows(RuntimeException.class,
+                    () -> service.uploadReport(file, "reports/failing.csv", "text/csv"));
+            assertTrue(exception.getMessage().contains("Failed to upload report to S3"));
+            verify(s3Client).abortMultipartUpload(abortCaptor.capture());
+            assertEquals("upload-2", abortCaptor.getValue().uploadId());
+            verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should stop sending parts once a part has failed")
+        void shouldStopSendingPartsAfterFailure() {
+            // Arrange
+            ReflectionTestUtils.setField(service, "multipartConcurrency", 1);
+            when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-3").build());
+            when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                    .thenThrow(new RuntimeException("Part upload failed"));
+            ByteArrayInputStream stream = new ByteArrayInputStream(new byte[PART_SIZE * 5]);
+
+            // Act & Assert
+            assertThrows(RuntimeException.class, () -> service.uploadReport(stream, "reports/failing.csv", "text/csv"));
+            verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+            verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should abort and keep the interrupt flag when interrupted")
+        void shouldKeepInterruptFlagWhenInterrupted() {
+            // Arrange
+            when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-4").build());
+            ByteArrayInputStream stream = new ByteArrayInputStream(new byte[PART_SIZE * 2]);
+            Thread.currentThread().interrupt();
+
+            // Act & Assert
+            try {
+                assertThrows(RuntimeException.class, () -> service.uploadReport(stream, "reports/interrupted.csv", "text/csv"));
+            } finally {
+                assertTrue(Thread.interrupted());
+            }
+            verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+            verify(s3Client, never()).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        }
+    }
 }
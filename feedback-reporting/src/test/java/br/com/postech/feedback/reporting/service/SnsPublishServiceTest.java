@@ -1,4 +1,5 @@
 package br.com.postech.feedback.reporting.service;
+import br.com.postech.feedback.core.event.EventEnvelope;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,6 +59,19 @@ class SnsPublishServiceTest {
             verify(snsClient).publish(captor.capture());
             assertEquals("arn:aws:sns:us-east-2:123456789012:test-topic", captor.getValue().topicArn());
         }
+        @Test
+        @DisplayName("Should tag the message with the ReportReady envelope")
+        void shouldTagMessageWithReportReadyEnvelope() {
+            ArgumentCaptor<PublishRequest> captor = ArgumentCaptor.forClass(PublishRequest.class);
+            when(snsClient.publish(any(PublishRequest.class)))
+                    .thenReturn(PublishResponse.builder().messageId("msg-124").build());
+            service.publishReportReadyEvent("https://url.com", "key", LocalDateTime.now(), 50L, 3.5);
+            verify(snsClient).publish(captor.capture());
+            var attributes = captor.getValue().messageAttributes();
+            assertEquals("ReportReady", attributes.get(EventEnvelope.TYPE_ATTRIBUTE).stringValue());
+            assertNotNull(attributes.get(EventEnvelope.TRACE_ID_ATTRIBUTE));
+            assertTrue(captor.getValue().message().contains("\"eventType\":\"ReportReady\""));
+        }
     }
     @Nested
     @DisplayName("Configuration Validation Tests")
@@ -0,0 +1,113 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReportWriterTest {
+
+    private static final LocalDateTime GENERATED_AT = LocalDateTime.of(2026, 1, 15, 10, 30, 0);
+
+    private final CsvReportWriter writer = new CsvReportWriter();
+
+    private String write(List<FeedbackDetail> feedbacks) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(ReportMetrics.builder().totalFeedbacks((long) feedbacks.size()).feedbacks(feedbacks).build(),
+                GENERATED_AT, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Linhas de detalhe")
+    class DetailRowTests {
+
+        @Test
+        @DisplayName("Deve sanitizar a descrição em uma única passada")
+        void shouldSanitizeDescription() throws IOException {
+            String csv = write(List.of(detail("  \"Aula\"; boa\r\nmas longa \n", "LOW", "2026-01-10T10:30:00")));
+
+            assertThat(csv).contains("10/01/2026;LOW;[ ] BAIXO;'Aula', boa  mas longa\n");
+        }
+
+        @Test
+        @DisplayName("Deve formatar a data a partir do LocalDateTime")
+        void shouldFormatDateFromLocalDateTime() throws IOException {
+            FeedbackDetail feedback = FeedbackDetail.builder()
+                    .description("Sem string de data")
+                    .urgency("HIGH")
+                    .createdAtDateTime(LocalDateTime.of(2026, 3, 5, 23, 59, 59))
+                    .build();
+
+            String csv = write(List.of(feedback));
+
+            assertThat(csv).contains("05/03/2026;HIGH;[!!] ALTO;Sem string de data\n");
+        }
+
+        @Test
+        @DisplayName("Deve usar os rótulos pré-calculados e o fallback para urgências desconhecidas")
+        void shouldWriteUrgencyLabels() throws IOException {
+            String csv = write(List.of(
+                    detail("a", "CRITICAL", "2026-01-10"),
+                    detail("b", "MEDIUM", "2026-01-10"),
+                    detail("c", "alta", "2026-01-10"),
+                    detail("d", "URGENTE", "2026-01-10"),
+                    detail("e", null, "2026-01-10")));
+
+            assertThat(csv)
+                    .contains("10/01/2026;CRITICAL;[!!!] CRÍTICO;a\n")
+                    .contains("10/01/2026;MEDIUM;[!] MÉDIO;b\n")
+                    .contains("10/01/2026;alta;[!!] ALTO;c\n")
+                    .contains("10/01/2026;URGENTE;[-] URGENTE;d\n")
+                    .contains("10/01/2026;;-;e\n");
+        }
+
+        @Test
+        @DisplayName("Deve codificar acentos, emojis e surrogates inválidos em UTF-8")
+        void shouldEncodeMultiByteCharacters() throws IOException {
+            String csv = write(List.of(detail("Ótima didática 👍 \uD800fim", "LOW", "2026-01-10")));
+
+            assertThat(csv).contains(";Ótima didática 👍 ?fim\n");
+        }
+
+        @Test
+        @DisplayName("Deve manter o conteúdo íntegro ao ultrapassar o buffer interno")
+        void shouldWriteBeyondBufferSize() throws IOException {
+            List<FeedbackDetail> feedbacks = new ArrayList<>();
+            String description = "Ação " + "x".repeat(997);
+            int rows = CsvReportWriter.BUFFER_SIZE / 1000 * 3;
+            for (int i = 0; i < rows; i++) {
+                feedbacks.add(detail(description, "LOW", "2026-01-10T10:30:00"));
+            }
+
+            String csv = write(feedbacks);
+
+            String row = "10/01/2026;LOW;[ ] BAIXO;" + description + "\n";
+            assertThat(csv.split(Pattern.quote(row), -1)).hasSize(rows + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve formatar decimais como String.format")
+    void shouldFormatDecimalsLikeStringFormat() {
+        assertThat(CsvReportWriter.decimal(4.5, 2, '.')).isEqualTo("4.50");
+        assertThat(CsvReportWriter.decimal(1.45, 1, ',')).isEqualTo("1,5");
+        assertThat(CsvReportWriter.decimal(33.333333, 1, '.')).isEqualTo("33.3");
+        assertThat(CsvReportWriter.decimal(0.0, 1, '.')).isEqualTo(String.format(java.util.Locale.ROOT, "%.1f", 0.0));
+    }
+
+    private static FeedbackDetail detail(String description, String urgency, String createdAt) {
+        return FeedbackDetail.builder().description(description).urgency(urgency).createdAt(createdAt).build();
+    }
+}
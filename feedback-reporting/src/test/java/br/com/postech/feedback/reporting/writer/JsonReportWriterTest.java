@@ -0,0 +1,103 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.Report;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonReportWriterTest {
+
+    private ObjectMapper objectMapper;
+    private JsonReportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = new JsonReportWriter(objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve gerar documento JSON compatível com o DTO Report")
+    void shouldWriteDocumentMatchingReportDto() throws IOException {
+        // Arrange
+        ReportMetrics metrics = ReportMetrics.builder()
+                .totalFeedbacks(2L)
+                .averageScore(3.5)
+                .feedbacksByDay(Map.of("2026-01-10", 2L))
+                .feedbacksByUrgency(Map.of("LOW", 1L, "HIGH", 1L))
+                .feedbacks(List.of(
+                        detail("Ótima aula!", "LOW", "2026-01-10T10:30:00"),
+                        detail("Precisa melhorar", "HIGH", "2026-01-10T14:00:00")))
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.write(metrics, LocalDateTime.of(2026, 1, 15, 10, 30, 0), out);
+        Report report = objectMapper.readValue(out.toByteArray(), Report.class);
+
+        // Assert
+        assertThat(report.getType()).isEqualTo("WEEKLY_REPORT");
+        assertThat(report.getGeneratedAt()).isEqualTo(LocalDateTime.of(2026, 1, 15, 10, 30, 0));
+        assertThat(report.getSummary().getTotalFeedbacks()).isEqualTo(2L);
+        assertThat(report.getSummary().getAverageScore()).isEqualTo(3.5);
+        assertThat(report.getFeedbacksByUrgency()).containsEntry("HIGH", 1L);
+        assertThat(report.getFeedbacks()).hasSize(2);
+        assertThat(report.getFeedbacks().get(0).getDescription()).isEqualTo("Ótima aula!");
+        assertThat(report.getFeedbacks().get(1).getUrgency()).isEqualTo("HIGH");
+    }
+
+    @Test
+    @DisplayName("Deve gerar listas vazias quando não há dados")
+    void shouldWriteEmptyCollectionsForNullMetrics() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.write(ReportMetrics.builder().build(), LocalDateTime.of(2026, 1, 15, 10, 30, 0), out);
+        Report report = objectMapper.readValue(out.toByteArray(), Report.class);
+
+        // Assert
+        assertThat(report.getSummary().getTotalFeedbacks()).isZero();
+        assertThat(report.getFeedbacksByDay()).isEmpty();
+        assertThat(report.getFeedbacks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve fechar o OutputStream recebido")
+    void shouldNotCloseTargetStream() throws IOException {
+        // Arrange
+        boolean[] closed = {false};
+        OutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        // Act
+        writer.write(ReportMetrics.builder().build(), LocalDateTime.of(2026, 1, 15, 10, 30, 0), out);
+
+        // Assert
+        assertThat(closed[0]).isFalse();
+    }
+
+    private static FeedbackDetail detail(String description, String urgency, String createdAt) {
+        return FeedbackDetail.builder().description(description).urgency(urgency).createdAt(createdAt).build();
+    }
+}
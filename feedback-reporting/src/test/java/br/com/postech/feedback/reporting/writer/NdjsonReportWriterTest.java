@@ -0,0 +1,88 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.Report;
+import br.com.postech.feedback.reporting.dto.ReportFeedbackItem;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonReportWriterTest {
+
+    private ObjectMapper objectMapper;
+    private NdjsonReportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // Mesmo mapper do core: saída indentada, que o writer precisa desligar
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        writer = new NdjsonReportWriter(objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve gerar um cabeçalho seguido de um feedback por linha")
+    void shouldWriteHeaderAndOneFeedbackPerLine() throws IOException {
+        // Arrange
+        ReportMetrics metrics = ReportMetrics.builder()
+                .totalFeedbacks(2L)
+                .averageScore(3.5)
+                .feedbacksByDay(Map.of("2026-01-10", 2L))
+                .feedbacksByUrgency(Map.of("LOW", 1L, "HIGH", 1L))
+                .feedbacks(List.of(
+                        detail("Ótima aula!", "LOW", "2026-01-10T10:30:00"),
+                        detail("Linha\ncom quebra", "HIGH", "2026-01-10T14:00:00")))
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.write(metrics, LocalDateTime.of(2026, 1, 15, 10, 30, 0), out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        // Assert
+        assertThat(lines).hasSize(3);
+        Report header = objectMapper.readValue(lines[0], Report.class);
+        assertThat(header.getType()).isEqualTo("WEEKLY_REPORT");
+        assertThat(header.getSummary().getTotalFeedbacks()).isEqualTo(2L);
+        assertThat(header.getFeedbacks()).isNull();
+        assertThat(lines[0]).doesNotContain("\"feedbacks\"");
+
+        ReportFeedbackItem second = objectMapper.readValue(lines[2], ReportFeedbackItem.class);
+        assertThat(second.getDescription()).isEqualTo("Linha\ncom quebra");
+        assertThat(second.getUrgency()).isEqualTo("HIGH");
+    }
+
+    @Test
+    @DisplayName("Deve gerar apenas o cabeçalho quando não há feedbacks")
+    void shouldWriteOnlyHeaderWhenNoFeedbacks() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.write(ReportMetrics.builder().build(), LocalDateTime.of(2026, 1, 15, 10, 30, 0), out);
+
+        // Assert
+        String content = out.toString(StandardCharsets.UTF_8);
+        assertThat(content).endsWith("\n");
+        assertThat(content.split("\n")).hasSize(1);
+    }
+
+    private static FeedbackDetail detail(String description, String urgency, String createdAt) {
+        return FeedbackDetail.builder().description(description).urgency(urgency).createdAt(createdAt).build();
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.postech.feedback.reporting.writer;
+
+import br.com.postech.feedback.reporting.dto.FeedbackDetail;
+import br.com.postech.feedback.reporting.dto.ReportMetrics;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxReportWriterTest {
+
+    private final XlsxReportWriter writer = new XlsxReportWriter();
+
+    @Test
+    @DisplayName("Deve gerar planilha com abas de resumo e feedbacks")
+    void shouldWriteSummaryAndFeedbackSheets() throws IOException {
+        // Arrange
+        ReportMetrics metrics = ReportMetrics.builder()
+                .totalFeedbacks(2L)
+                .averageScore(4.5)
+                .feedbacksByDay(Map.of("2026-01-10", 2L))
+                .feedbacksByUrgency(Map.of("LOW", 1L, "HIGH", 1L))
+                .feedbacks(List.of(
+                        detail("Ótima aula!", "LOW", "2026-01-10T10:30:00"),
+                        detail("Precisa melhorar", "HIGH", "2026-01-10T14:00:00")))
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.write(metrics, LocalDateTime.of(2026, 1, 15, 10, 30, 0), out);
+
+        // Assert
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet summary = workbook.getSheet("Resumo");
+            assertThat(summary.getRow(0).getCell(0).getStringCellValue()).isEqualTo("RELATÓRIO SEMANAL DE FEEDBACKS");
+            assertThat(summary.getRow(5).getCell(1).getNumericCellValue()).isEqualTo(2.0);
+            assertThat(summary.getRow(7).getCell(1).getStringCellValue()).isEqualTo("EXCELENTE");
+            assertThat(summary.getRow(10).getCell(0).getStringCellValue()).isEqualTo("HIGH");
+
+            Sheet feedbacks = workbook.getSheet("Feedbacks");
+            assertThat(feedbacks.getLastRowNum()).isEqualTo(2);
+            assertThat(feedbacks.getRow(1).getCell(0).getStringCellValue()).isEqualTo("10/01/2026");
+            assertThat(feedbacks.getRow(1).getCell(3).getStringCellValue()).isEqualTo("Ótima aula!");
+            assertThat(feedbacks.getRow(2).getCell(2).getStringCellValue()).isEqualTo("[!!] ALTO");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve escrever mais linhas do que a janela em memória")
+    void shouldStreamRowsBeyondWindow() throws IOException {
+        // Arrange
+        List<FeedbackDetail> feedbacks = new ArrayList<>();
+        for (int i = 0; i < XlsxReportWriter.ROW_WINDOW * 3; i++) {
+            feedbacks.add(detail("Feedback " + i, "MEDIUM", "2026-01-10T10:30:00"));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.write(ReportMetrics.builder().feedbacks(feedbacks).build(), LocalDateTime.of(2026, 1, 15, 10, 30, 0), out);
+
+        // Assert
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Feedbacks");
+            assertThat(sheet.getLastRowNum()).isEqualTo(feedbacks.size());
+            assertThat(sheet.getRow(feedbacks.size()).getCell(3).getStringCellValue())
+                    .isEqualTo("Feedback " + (feedbacks.size() - 1));
+        }
+    }
+
+    private static FeedbackDetail detail(String description, String urgency, String createdAt) {
+        return FeedbackDetail.builder().description(description).urgency(urgency).createdAt(createdAt).build();
+    }
+}
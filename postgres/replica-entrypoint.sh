@@ -0,0 +1,17 @@
+#!/bin/sh
+# Réplica de leitura do docker-compose. Na primeira subida clona o primário com pg_basebackup; o -R
+# grava primary_conninfo e standby.signal, e daí em diante ela segue o primário por streaming.
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    mkdir -p "$PGDATA"
+    chown postgres:postgres "$PGDATA"
+    chmod 0700 "$PGDATA"
+    until su-exec postgres pg_basebackup -h "$PRIMARY_HOST" -U "$POSTGRES_USER" -D "$PGDATA" -R -X stream -c fast; do
+        echo "Aguardando o primário em $PRIMARY_HOST..."
+        rm -rf "${PGDATA:?}"/*
+        sleep 2
+    done
+fi
+
+exec su-exec postgres postgres -c hot_standby=on